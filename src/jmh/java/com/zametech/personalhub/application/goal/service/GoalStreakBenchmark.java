@@ -0,0 +1,67 @@
+package com.zametech.personalhub.application.goal.service;
+
+import com.zametech.personalhub.domain.model.GoalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Current and longest streak over daily achievement histories. Roughly 90% of the days are achieved,
+ * and the most recent days form an unbroken run so the current streak walk is exercised too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoalStreakBenchmark {
+
+    private static final int RECENT_STREAK_DAYS = 500;
+
+    @Param({"1000", "100000", "1000000"})
+    private int achievements;
+
+    private GoalStreakService streakService;
+    private Set<LocalDate> achievedDates;
+    private LocalDate referenceDate;
+
+    @Setup
+    public void setUp() {
+        streakService = new GoalStreakService(null, null, null, null, null);
+        Random random = new Random(42);
+        referenceDate = LocalDate.of(2025, 1, 1);
+        achievedDates = new HashSet<>(achievements * 2);
+        LocalDate date = referenceDate;
+        while (achievedDates.size() < achievements) {
+            if (achievedDates.size() < RECENT_STREAK_DAYS || random.nextInt(10) != 0) {
+                achievedDates.add(date);
+            }
+            date = date.minusDays(1);
+        }
+    }
+
+    @Benchmark
+    public int calculateCurrentStreak() {
+        return streakService.calculateCurrentStreak(achievedDates, GoalType.DAILY, referenceDate);
+    }
+
+    @Benchmark
+    public int calculateLongestStreak() {
+        return streakService.calculateLongestStreak(achievedDates, GoalType.DAILY);
+    }
+}
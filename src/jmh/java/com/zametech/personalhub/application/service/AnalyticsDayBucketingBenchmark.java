@@ -0,0 +1,75 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.model.UserDailyActivity;
+import com.zametech.personalhub.presentation.dto.response.DailyCount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Day-bucketing of rollup rows into daily counts, as done by {@link AnalyticsService#getTodoActivity}.
+ * Every other day has a rollup row, so half of the lookups fall back to zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsDayBucketingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int days;
+
+    private AnalyticsService analyticsService;
+    private Map<LocalDate, UserDailyActivity> dailyActivity;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        analyticsService = new AnalyticsService(null, null, null, null, null, null, null, null);
+        UUID userId = UUID.randomUUID();
+        Random random = new Random(42);
+        endDate = LocalDate.of(2025, 1, 1);
+        startDate = endDate.minusDays(days - 1L);
+        dailyActivity = new HashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(2)) {
+            dailyActivity.put(date, new UserDailyActivity(userId, date, random.nextInt(10), random.nextInt(10),
+                    random.nextInt(5), random.nextInt(5), random.nextInt(5), random.nextInt(2)));
+        }
+    }
+
+    @Benchmark
+    public List<DailyCount> toDailyCounts() {
+        return analyticsService.toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getTodosCompleted);
+    }
+
+    @Benchmark
+    public double productivityScore() {
+        List<DailyCount> todos = analyticsService.toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getTodosCompleted);
+        List<DailyCount> events = analyticsService.toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getEventsCount);
+        List<DailyCount> notes = analyticsService.toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getNotesCreated);
+        return analyticsService.calculateProductivityScore(sum(todos), sum(events), sum(notes));
+    }
+
+    private static long sum(List<DailyCount> dailyCounts) {
+        return dailyCounts.stream().mapToLong(DailyCount::count).sum();
+    }
+}
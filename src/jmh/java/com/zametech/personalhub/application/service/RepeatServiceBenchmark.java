@@ -0,0 +1,84 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.model.RecurrenceRule;
+import com.zametech.personalhub.domain.model.RepeatType;
+import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Next due date calculation over a batch of repeatable todos with mixed repeat types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepeatServiceBenchmark {
+
+    private static final String[] DAYS_OF_WEEK = {"1", "1,3,5", "2,4", "1,2,3,4,5", "6,7", "7,1,4"};
+
+    @Param({"1000", "100000", "1000000"})
+    private int todos;
+
+    private RepeatService repeatService;
+    private List<TodoEntity> repeatableTodos;
+    private List<LocalDate> weeklyDates;
+    private List<RecurrenceRule> weeklyRules;
+
+    @Setup
+    public void setUp() {
+        repeatService = new RepeatService(null, null, null);
+        UUID userId = UUID.randomUUID();
+        Random random = new Random(42);
+        RepeatType[] types = {RepeatType.DAILY, RepeatType.WEEKLY, RepeatType.MONTHLY, RepeatType.YEARLY};
+        LocalDate base = LocalDate.of(2025, 1, 1);
+
+        repeatableTodos = new ArrayList<>(todos);
+        weeklyDates = new ArrayList<>(todos);
+        weeklyRules = new ArrayList<>(todos);
+        for (int i = 0; i < todos; i++) {
+            LocalDate dueDate = base.plusDays(random.nextInt(365));
+            String daysOfWeek = DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)];
+            repeatableTodos.add(new TodoEntity(userId, "todo-" + i, null, TodoStatus.TODO, TodoPriority.MEDIUM,
+                    dueDate, null, true, types[random.nextInt(types.length)], 1 + random.nextInt(3),
+                    daysOfWeek, 1 + random.nextInt(31), null, null));
+            weeklyDates.add(dueDate);
+            weeklyRules.add(RecurrenceRule.compile(RepeatType.WEEKLY, 1, daysOfWeek, null, null));
+        }
+    }
+
+    @Benchmark
+    public void calculateNextDueDate(Blackhole blackhole) {
+        for (TodoEntity todo : repeatableTodos) {
+            blackhole.consume(repeatService.calculateNextDueDate(todo));
+        }
+    }
+
+    @Benchmark
+    public void nextWeeklyOccurrence(Blackhole blackhole) {
+        for (int i = 0; i < todos; i++) {
+            blackhole.consume(weeklyRules.get(i).next(weeklyDates.get(i)));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.zametech.personalhub.application.goal.dto;
+
+/**
+ * Encoding of the days in an achievement history response.
+ */
+public enum AchievementHistoryFormat {
+    /** One {@code {date, achieved}} record per day. */
+    VERBOSE("verbose"),
+    /** Alternating run lengths of not achieved and achieved days. */
+    RUNS("rle"),
+    /** Base64 of one bit per day, the first day in the least significant bit of the first byte. */
+    BITMAP("bitmap");
+
+    private final String value;
+
+    AchievementHistoryFormat(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static AchievementHistoryFormat fromValue(String value) {
+        for (AchievementHistoryFormat format : AchievementHistoryFormat.values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported achievement history format: " + value);
+    }
+}
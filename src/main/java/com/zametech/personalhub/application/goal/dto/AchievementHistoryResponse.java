@@ -1,16 +1,28 @@
 package com.zametech.personalhub.application.goal.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * Only the field of the requested format is set: {@code achievements} for verbose, {@code runs} for rle
+ * and {@code bitmap} for bitmap.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record AchievementHistoryResponse(
         List<AchievementRecord> achievements,
         Integer totalDays,
         Integer achievedDays,
-        Double achievementRate
+        Double achievementRate,
+        LocalDate from,
+        LocalDate to,
+        String format,
+        List<Integer> runs,
+        String bitmap
 ) {
     public record AchievementRecord(
             LocalDate date,
             Boolean achieved
     ) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.zametech.personalhub.application.goal.service;
+
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Achieved days of one goal over [from, to] as a bitset whose bit i is {@code from.plusDays(i)}, assembled
+ * from the goal's yearly bitmaps. Counts, period checks and encodings are bit operations on it.
+ */
+final class AchievementCalendar {
+    private final LocalDate from;
+    private final int length;
+    private final BitSet days;
+
+    private AchievementCalendar(LocalDate from, int length, BitSet days) {
+        this.from = from;
+        this.length = length;
+        this.days = days;
+    }
+
+    static AchievementCalendar of(Collection<GoalAchievementYear> years, LocalDate from, LocalDate to) {
+        int length = Math.max(0, (int) ChronoUnit.DAYS.between(from, to) + 1);
+        BitSet days = new BitSet(length);
+        for (GoalAchievementYear year : years) {
+            BitSet yearDays = year.toBitSet();
+            // Index of January 1st in the range, negative when the year starts before from
+            int offset = (int) ChronoUnit.DAYS.between(from, LocalDate.ofYearDay(year.getYear(), 1));
+            int toBit = length - offset;
+            for (int bit = yearDays.nextSetBit(Math.max(0, -offset)); bit >= 0 && bit < toBit;
+                 bit = yearDays.nextSetBit(bit + 1)) {
+                days.set(bit + offset);
+            }
+        }
+        return new AchievementCalendar(from, length, days);
+    }
+
+    int totalDays() {
+        return length;
+    }
+
+    int achievedDays() {
+        return days.cardinality();
+    }
+
+    boolean isAchieved(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(from, date);
+        return index >= 0 && index < length && days.get((int) index);
+    }
+
+    boolean anyAchieved() {
+        return !days.isEmpty();
+    }
+
+    /**
+     * Bytes of the bitset padded to the whole range, bit i of the range in byte i / 8 from the least significant bit.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(days.toByteArray(), (length + 7) / 8);
+    }
+
+    /**
+     * Lengths of the alternating runs of not achieved and achieved days, starting with a possibly empty
+     * not achieved run; they add up to the number of days.
+     */
+    List<Integer> runs() {
+        List<Integer> runs = new ArrayList<>();
+        boolean achieved = false;
+        for (int position = 0; position < length; achieved = !achieved) {
+            int end = achieved ? days.nextClearBit(position) : days.nextSetBit(position);
+            end = end < 0 ? length : Math.min(end, length);
+            runs.add(end - position);
+            position = end;
+        }
+        return runs;
+    }
+}
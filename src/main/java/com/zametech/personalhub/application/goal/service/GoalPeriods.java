@@ -0,0 +1,84 @@
+package com.zametech.personalhub.application.goal.service;
+
+import com.zametech.personalhub.domain.model.GoalType;
+import com.zametech.personalhub.domain.model.User;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Period arithmetic for goal types. A period is identified by its first day; weekly periods start on the
+ * user's week start day (1 = Monday ... 7 = Sunday, 0 also means Sunday).
+ */
+public final class GoalPeriods {
+
+    static final int DEFAULT_WEEK_START_DAY = 1;
+
+    private GoalPeriods() {
+    }
+
+    static int weekStartDay(User user) {
+        return weekStartDay(user.getWeekStartDay());
+    }
+
+    public static int weekStartDay(Integer weekStartDay) {
+        return weekStartDay != null ? weekStartDay : DEFAULT_WEEK_START_DAY;
+    }
+
+    static LocalDate periodStart(LocalDate date, GoalType goalType, int weekStartDay) {
+        return switch (goalType) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(weekStartDayOfWeek(weekStartDay)));
+            case MONTHLY -> date.with(TemporalAdjusters.firstDayOfMonth());
+            case ANNUAL -> date.with(TemporalAdjusters.firstDayOfYear());
+        };
+    }
+
+    static LocalDate periodEnd(LocalDate periodStart, GoalType goalType) {
+        return next(periodStart, goalType).minusDays(1);
+    }
+
+    static LocalDate next(LocalDate periodStart, GoalType goalType) {
+        return switch (goalType) {
+            case DAILY -> periodStart.plusDays(1);
+            case WEEKLY -> periodStart.plusWeeks(1);
+            case MONTHLY -> periodStart.plusMonths(1);
+            case ANNUAL -> periodStart.plusYears(1);
+        };
+    }
+
+    static LocalDate previous(LocalDate periodStart, GoalType goalType) {
+        return switch (goalType) {
+            case DAILY -> periodStart.minusDays(1);
+            case WEEKLY -> periodStart.minusWeeks(1);
+            case MONTHLY -> periodStart.minusMonths(1);
+            case ANNUAL -> periodStart.minusYears(1);
+        };
+    }
+
+    /**
+     * Number of periods from one period start to a later one.
+     */
+    static long periodsBetween(LocalDate fromPeriod, LocalDate toPeriod, GoalType goalType) {
+        return switch (goalType) {
+            case DAILY -> ChronoUnit.DAYS.between(fromPeriod, toPeriod);
+            case WEEKLY -> ChronoUnit.WEEKS.between(fromPeriod, toPeriod);
+            case MONTHLY -> ChronoUnit.MONTHS.between(fromPeriod, toPeriod);
+            case ANNUAL -> ChronoUnit.YEARS.between(fromPeriod, toPeriod);
+        };
+    }
+
+    /**
+     * Whether a period start was normalized with the given week start day. Weekly streaks stored before
+     * the user changed their week start day fail this check.
+     */
+    static boolean isPeriodStart(LocalDate period, GoalType goalType, int weekStartDay) {
+        return periodStart(period, goalType, weekStartDay).equals(period);
+    }
+
+    private static DayOfWeek weekStartDayOfWeek(int weekStartDay) {
+        return DayOfWeek.of(weekStartDay == 0 ? 7 : weekStartDay);
+    }
+}
@@ -1,22 +1,25 @@
 package com.zametech.personalhub.application.goal.service;
 
 import com.zametech.personalhub.application.goal.dto.*;
+import com.zametech.personalhub.application.service.ActivityRollupService;
 import com.zametech.personalhub.application.service.UserContextService;
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
 import com.zametech.personalhub.domain.model.Goal;
 import com.zametech.personalhub.domain.model.GoalAchievementHistory;
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
 import com.zametech.personalhub.domain.model.GoalType;
-import com.zametech.personalhub.domain.model.User;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.domain.repository.GoalAchievementHistoryRepository;
+import com.zametech.personalhub.domain.repository.GoalAchievementYearRepository;
 import com.zametech.personalhub.domain.repository.GoalRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,10 +29,16 @@ import java.util.stream.Collectors;
 public class GoalServiceV2 {
     private final GoalRepository goalRepository;
     private final GoalAchievementHistoryRepository achievementRepository;
+    private final GoalAchievementYearRepository achievementYearRepository;
     private final UserContextService userContextService;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GoalStreakService goalStreakService;
 
+    @Transactional(readOnly = true)
     public GroupedGoalsResponse getGoalsByDateAndFilter(LocalDate date, String filter) {
         UUID userId = userContextService.getCurrentUserId();
+        int weekStartDay = GoalPeriods.weekStartDay(userContextService.getCurrentWeekStartDay());
         LocalDate queryDate = date != null ? date : LocalDate.now();
         
         List<Goal> allGoals = goalRepository.findByUserId(userId);
@@ -37,9 +46,12 @@ public class GoalServiceV2 {
         // Apply filter
         List<Goal> filteredGoals = filterGoals(allGoals, queryDate, filter);
         
-        // Group by type and calculate streaks
+        // Group by type with the completion status and stored streaks, each batched over all goals
+        Set<Long> completedGoalIds = findGoalIdsCompletedForPeriod(filteredGoals, queryDate, weekStartDay);
+        Map<Long, StreakInfo> streaks = goalStreakService.getStreaks(filteredGoals, queryDate, weekStartDay);
         Map<GoalType, List<GoalResponse>> groupedGoals = filteredGoals.stream()
-                .map(goal -> toGoalResponse(goal, queryDate))
+                .map(goal -> toGoalResponse(goal, completedGoalIds.contains(goal.getId()),
+                        streaks.getOrDefault(goal.getId(), StreakInfo.NONE)))
                 .collect(Collectors.groupingBy(GoalResponse::goalType));
         
         return new GroupedGoalsResponse(
@@ -77,7 +89,11 @@ public class GoalServiceV2 {
         goal.setCreatedAt(LocalDateTime.now());
         goal.setUpdatedAt(LocalDateTime.now());
         
-        return goalRepository.save(goal);
+        Goal saved = goalRepository.save(goal);
+        goalStreakService.initialize(saved.getId());
+        eventPublisher.publishEvent(new UserActivityChangedEvent(userId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.GOALS));
+        return saved;
     }
 
     public Goal updateGoal(Long goalId, UpdateGoalRequest request) {
@@ -93,7 +109,10 @@ public class GoalServiceV2 {
         }
         goal.setUpdatedAt(LocalDateTime.now());
         
-        return goalRepository.save(goal);
+        Goal saved = goalRepository.save(goal);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(userId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.GOALS));
+        return saved;
     }
 
     public void deleteGoal(Long goalId) {
@@ -103,11 +122,16 @@ public class GoalServiceV2 {
         }
         
         // Achievement history will be deleted by cascade
+        achievementRepository.findByGoalId(goalId).forEach(achievement ->
+                activityRollupService.recordGoalAchievementRemoved(userId, achievement.getAchievedDate()));
         goalRepository.deleteById(goalId);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(userId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.GOALS));
     }
 
     public void toggleAchievement(Long goalId, LocalDate date) {
         UUID userId = userContextService.getCurrentUserId();
+        int weekStartDay = GoalPeriods.weekStartDay(userContextService.getCurrentWeekStartDay());
         Goal goal = goalRepository.findById(goalId)
                 .filter(g -> g.getUserId().equals(userId))
                 .orElseThrow(() -> new RuntimeException("Goal not found or access denied"));
@@ -121,6 +145,8 @@ public class GoalServiceV2 {
         if (existing.isPresent()) {
             // Remove achievement
             achievementRepository.delete(existing.get());
+            goalStreakService.recordRemoved(goal, achievementDate, weekStartDay);
+            activityRollupService.recordGoalAchievementRemoved(userId, achievementDate);
         } else {
             // Add achievement
             GoalAchievementHistory achievement = new GoalAchievementHistory();
@@ -128,10 +154,15 @@ public class GoalServiceV2 {
             achievement.setAchievedDate(achievementDate);
             achievement.setCreatedAt(LocalDateTime.now());
             achievementRepository.save(achievement);
+            goalStreakService.recordAchieved(goal, achievementDate, weekStartDay);
+            activityRollupService.recordGoalAchieved(userId, achievementDate);
         }
+        eventPublisher.publishEvent(new UserActivityChangedEvent(userId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.GOALS));
     }
 
-    public AchievementHistoryResponse getAchievementHistory(Long goalId, LocalDate from, LocalDate to) {
+    public AchievementHistoryResponse getAchievementHistory(Long goalId, LocalDate from, LocalDate to,
+                                                            AchievementHistoryFormat format) {
         UUID userId = userContextService.getCurrentUserId();
         Goal goal = goalRepository.findById(goalId)
                 .filter(g -> g.getUserId().equals(userId))
@@ -139,34 +170,40 @@ public class GoalServiceV2 {
         
         LocalDate startDate = from != null ? from : goal.getStartDate();
         LocalDate endDate = to != null ? to : LocalDate.now();
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
         
-        List<GoalAchievementHistory> achievements = achievementRepository
-                .findByGoalIdAndAchievedDateBetween(goalId, startDate, endDate);
-        
-        Set<LocalDate> achievedDates = achievements.stream()
-                .map(GoalAchievementHistory::getAchievedDate)
-                .collect(Collectors.toSet());
-        
-        // Build achievement records for the date range
-        List<AchievementHistoryResponse.AchievementRecord> records = new ArrayList<>();
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            records.add(new AchievementHistoryResponse.AchievementRecord(
-                    current,
-                    achievedDates.contains(current)
-            ));
-            current = current.plusDays(1);
+        // One bitmap row per year of the range instead of one row per achieved day
+        AchievementCalendar calendar = AchievementCalendar.of(
+                achievementYearRepository.findByGoalIdAndYearBetween(goalId, startDate.getYear(), endDate.getYear()),
+                startDate, endDate);
+        
+        List<AchievementHistoryResponse.AchievementRecord> records = null;
+        List<Integer> runs = null;
+        String bitmap = null;
+        switch (format) {
+            case VERBOSE -> records = startDate.datesUntil(endDate.plusDays(1))
+                    .map(date -> new AchievementHistoryResponse.AchievementRecord(date, calendar.isAchieved(date)))
+                    .toList();
+            case RUNS -> runs = calendar.runs();
+            case BITMAP -> bitmap = Base64.getEncoder().encodeToString(calendar.toByteArray());
         }
         
-        int totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
-        int achievedDays = achievedDates.size();
+        int totalDays = calendar.totalDays();
+        int achievedDays = calendar.achievedDays();
         double achievementRate = totalDays > 0 ? (double) achievedDays / totalDays : 0.0;
         
         return new AchievementHistoryResponse(
                 records,
                 totalDays,
                 achievedDays,
-                achievementRate
+                achievementRate,
+                startDate,
+                endDate,
+                format.getValue(),
+                runs,
+                bitmap
         );
     }
 
@@ -190,13 +227,7 @@ public class GoalServiceV2 {
                 .collect(Collectors.toList());
     }
 
-    private GoalResponse toGoalResponse(Goal goal, LocalDate referenceDate) {
-        // Calculate completion status
-        boolean completed = isGoalCompletedForPeriod(goal, referenceDate);
-        
-        // Calculate streaks
-        StreakInfo streakInfo = calculateStreak(goal, referenceDate);
-        
+    private GoalResponse toGoalResponse(Goal goal, boolean completed, StreakInfo streakInfo) {
         return new GoalResponse(
                 goal.getId(),
                 goal.getTitle(),
@@ -213,168 +244,34 @@ public class GoalServiceV2 {
         );
     }
 
-    private boolean isGoalCompletedForPeriod(Goal goal, LocalDate referenceDate) {
-        switch (goal.getGoalType()) {
-            case DAILY:
-                // For daily goals, check the specific date
-                return achievementRepository.findByGoalIdAndAchievedDate(goal.getId(), referenceDate).isPresent();
-            
-            case WEEKLY:
-                // For weekly goals, check if achieved any day within the week
-                User user = userContextService.getCurrentUser();
-                Integer weekStartDay = user.getWeekStartDay() != null ? user.getWeekStartDay() : 1;
-                LocalDate weekStart = getWeekStart(referenceDate, weekStartDay);
-                LocalDate weekEnd = weekStart.plusDays(6);
-                return !achievementRepository.findByGoalIdAndAchievedDateBetween(goal.getId(), weekStart, weekEnd).isEmpty();
-            
-            case MONTHLY:
-                // For monthly goals, check if achieved any day within the month
-                LocalDate monthStart = referenceDate.with(TemporalAdjusters.firstDayOfMonth());
-                LocalDate monthEnd = referenceDate.with(TemporalAdjusters.lastDayOfMonth());
-                return !achievementRepository.findByGoalIdAndAchievedDateBetween(goal.getId(), monthStart, monthEnd).isEmpty();
-            
-            case ANNUAL:
-                // For annual goals, check if achieved any day within the year
-                LocalDate yearStart = referenceDate.with(TemporalAdjusters.firstDayOfYear());
-                LocalDate yearEnd = referenceDate.with(TemporalAdjusters.lastDayOfYear());
-                return !achievementRepository.findByGoalIdAndAchievedDateBetween(goal.getId(), yearStart, yearEnd).isEmpty();
-            
-            default:
-                return achievementRepository.findByGoalIdAndAchievedDate(goal.getId(), referenceDate).isPresent();
-        }
-    }
-
-    private LocalDate calculatePeriodDate(GoalType goalType, LocalDate referenceDate) {
-        switch (goalType) {
-            case DAILY:
-                return referenceDate;
-            case WEEKLY:
-                User user = userContextService.getCurrentUser();
-                Integer weekStartDay = user.getWeekStartDay() != null ? user.getWeekStartDay() : 1;
-                return getWeekStart(referenceDate, weekStartDay);
-            case MONTHLY:
-                return referenceDate.with(TemporalAdjusters.firstDayOfMonth());
-            case ANNUAL:
-                return referenceDate.with(TemporalAdjusters.firstDayOfYear());
-            default:
-                return referenceDate;
-        }
-    }
-
-    private StreakInfo calculateStreak(Goal goal, LocalDate referenceDate) {
-        List<GoalAchievementHistory> achievements = achievementRepository.findByGoalId(goal.getId());
-        
-        if (achievements.isEmpty()) {
-            return new StreakInfo(0, 0);
+    /**
+     * Ids of the goals achieved on any day of their period containing the reference date: the day for daily
+     * goals, the week, month or year otherwise. One query reads the yearly bitmaps covering those periods.
+     */
+    private Set<Long> findGoalIdsCompletedForPeriod(List<Goal> goals, LocalDate referenceDate, int weekStartDay) {
+        if (goals.isEmpty()) {
+            return Set.of();
         }
-        
-        Set<LocalDate> achievedDates = achievements.stream()
-                .map(history -> normalizeDate(history.getAchievedDate(), goal.getGoalType()))
+        Map<GoalType, LocalDate> periodStarts = new EnumMap<>(GoalType.class);
+        goals.forEach(goal -> periodStarts.computeIfAbsent(goal.getGoalType(),
+                goalType -> GoalPeriods.periodStart(referenceDate, goalType, weekStartDay)));
+        int fromYear = Collections.min(periodStarts.values()).getYear();
+        int toYear = periodStarts.entrySet().stream()
+                .mapToInt(entry -> GoalPeriods.periodEnd(entry.getValue(), entry.getKey()).getYear())
+                .max()
+                .orElseThrow();
+        
+        Map<Long, List<GoalAchievementYear>> yearsByGoal = achievementYearRepository
+                .findByGoalIdInAndYearBetween(goals.stream().map(Goal::getId).toList(), fromYear, toYear)
+                .stream()
+                .collect(Collectors.groupingBy(GoalAchievementYear::getGoalId));
+        return goals.stream()
+                .filter(goal -> {
+                    LocalDate periodStart = periodStarts.get(goal.getGoalType());
+                    return AchievementCalendar.of(yearsByGoal.getOrDefault(goal.getId(), List.of()),
+                            periodStart, GoalPeriods.periodEnd(periodStart, goal.getGoalType())).anyAchieved();
+                })
+                .map(Goal::getId)
                 .collect(Collectors.toSet());
-        
-        // Calculate current streak
-        int currentStreak = calculateCurrentStreak(achievedDates, goal.getGoalType(), referenceDate);
-        
-        // Calculate longest streak
-        int longestStreak = calculateLongestStreak(achievedDates, goal.getGoalType());
-        
-        return new StreakInfo(currentStreak, longestStreak);
-    }
-
-    private LocalDate normalizeDate(LocalDate date, GoalType goalType) {
-        switch (goalType) {
-            case DAILY:
-                return date;
-            case WEEKLY:
-                User user = userContextService.getCurrentUser();
-                Integer weekStartDay = user.getWeekStartDay() != null ? user.getWeekStartDay() : 1;
-                return getWeekStart(date, weekStartDay);
-            case MONTHLY:
-                return date.with(TemporalAdjusters.firstDayOfMonth());
-            case ANNUAL:
-                return date.with(TemporalAdjusters.firstDayOfYear());
-            default:
-                return date;
-        }
     }
-
-    private int calculateCurrentStreak(Set<LocalDate> achievedDates, GoalType goalType, LocalDate referenceDate) {
-        LocalDate current = normalizeDate(referenceDate, goalType);
-        int streak = 0;
-        
-        while (achievedDates.contains(current)) {
-            streak++;
-            current = getPreviousPeriod(current, goalType);
-        }
-        
-        return streak;
-    }
-
-    private int calculateLongestStreak(Set<LocalDate> achievedDates, GoalType goalType) {
-        if (achievedDates.isEmpty()) {
-            return 0;
-        }
-        
-        List<LocalDate> sortedDates = new ArrayList<>(achievedDates);
-        sortedDates.sort(Comparator.naturalOrder());
-        
-        int longestStreak = 1;
-        int currentStreak = 1;
-        
-        for (int i = 1; i < sortedDates.size(); i++) {
-            LocalDate prevDate = sortedDates.get(i - 1);
-            LocalDate currDate = sortedDates.get(i);
-            
-            if (isConsecutivePeriod(prevDate, currDate, goalType)) {
-                currentStreak++;
-                longestStreak = Math.max(longestStreak, currentStreak);
-            } else {
-                currentStreak = 1;
-            }
-        }
-        
-        return longestStreak;
-    }
-
-    private boolean isConsecutivePeriod(LocalDate date1, LocalDate date2, GoalType goalType) {
-        LocalDate nextPeriod = getNextPeriod(date1, goalType);
-        return nextPeriod.equals(date2);
-    }
-
-    private LocalDate getPreviousPeriod(LocalDate date, GoalType goalType) {
-        switch (goalType) {
-            case DAILY:
-                return date.minusDays(1);
-            case WEEKLY:
-                return date.minusWeeks(1);
-            case MONTHLY:
-                return date.minusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
-            case ANNUAL:
-                return date.minusYears(1).with(TemporalAdjusters.firstDayOfYear());
-            default:
-                return date.minusDays(1);
-        }
-    }
-
-    private LocalDate getNextPeriod(LocalDate date, GoalType goalType) {
-        switch (goalType) {
-            case DAILY:
-                return date.plusDays(1);
-            case WEEKLY:
-                return date.plusWeeks(1);
-            case MONTHLY:
-                return date.plusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
-            case ANNUAL:
-                return date.plusYears(1).with(TemporalAdjusters.firstDayOfYear());
-            default:
-                return date.plusDays(1);
-        }
-    }
-
-    private LocalDate getWeekStart(LocalDate date, int weekStartDay) {
-        DayOfWeek startDay = DayOfWeek.of(weekStartDay == 0 ? 7 : weekStartDay);
-        return date.with(TemporalAdjusters.previousOrSame(startDay));
-    }
-
-    private record StreakInfo(int currentStreak, int longestStreak) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,294 @@
+package com.zametech.personalhub.application.goal.service;
+
+import com.zametech.personalhub.domain.event.WeekStartDayChangedEvent;
+import com.zametech.personalhub.domain.model.Goal;
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
+import com.zametech.personalhub.domain.model.GoalStreak;
+import com.zametech.personalhub.domain.model.GoalType;
+import com.zametech.personalhub.domain.repository.GoalAchievementHistoryRepository;
+import com.zametech.personalhub.domain.repository.GoalAchievementYearRepository;
+import com.zametech.personalhub.domain.repository.GoalRepository;
+import com.zametech.personalhub.domain.repository.GoalStreakRepository;
+import com.zametech.personalhub.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the stored streaks of goals. A toggle that starts or extends the latest streak, or removes its
+ * last period, is applied in constant time. Any other toggle, such as one back-dated into an older streak,
+ * marks the streak for repair; the repair job then recomputes it from the achievement history. Until then,
+ * reads compute the streak from the history in memory, without locking or writing the stored row.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GoalStreakService {
+    private final GoalStreakRepository streakRepository;
+    private final GoalAchievementHistoryRepository achievementRepository;
+    private final GoalAchievementYearRepository achievementYearRepository;
+    private final GoalRepository goalRepository;
+    private final UserRepository userRepository;
+
+    public void initialize(Long goalId) {
+        streakRepository.save(GoalStreak.empty(goalId));
+    }
+
+    /**
+     * Applies an achievement that has just been saved.
+     */
+    public void recordAchieved(Goal goal, LocalDate date, int weekStartDay) {
+        GoalType goalType = goal.getGoalType();
+        LocalDate period = GoalPeriods.periodStart(date, goalType, weekStartDay);
+        GoalStreak streak = lockStreak(goal.getId());
+        if (!isUpToDate(streak, goalType, weekStartDay)) {
+            markForRepair(streak);
+            return;
+        }
+        if (achievementsInPeriod(goal, period) > 1) {
+            // The period was already achieved on another day
+            return;
+        }
+
+        LocalDate last = streak.getLastAchievedPeriod();
+        if (last == null || period.isAfter(GoalPeriods.next(last, goalType))) {
+            streak.setCurrentStreak(1);
+        } else if (period.equals(GoalPeriods.next(last, goalType))) {
+            streak.setCurrentStreak(streak.getCurrentStreak() + 1);
+        } else {
+            // Back-dated into or before the latest streak, which may join or extend older streaks
+            markForRepair(streak);
+            return;
+        }
+        streak.setLastAchievedPeriod(period);
+        streak.setLongestStreak(Math.max(streak.getLongestStreak(), streak.getCurrentStreak()));
+        streakRepository.save(streak);
+    }
+
+    /**
+     * Applies the removal of an achievement that has just been deleted.
+     */
+    public void recordRemoved(Goal goal, LocalDate date, int weekStartDay) {
+        GoalType goalType = goal.getGoalType();
+        LocalDate period = GoalPeriods.periodStart(date, goalType, weekStartDay);
+        GoalStreak streak = lockStreak(goal.getId());
+        if (!isUpToDate(streak, goalType, weekStartDay)) {
+            markForRepair(streak);
+            return;
+        }
+        if (achievementsInPeriod(goal, period) > 0) {
+            // Still achieved on another day of the period
+            return;
+        }
+
+        // Shortening the latest streak keeps the longest one only if another streak is longer;
+        // an empty streak would need the previous achieved period, which is not stored
+        if (period.equals(streak.getLastAchievedPeriod())
+                && streak.getCurrentStreak() > 1
+                && streak.getLongestStreak() > streak.getCurrentStreak()) {
+            streak.setCurrentStreak(streak.getCurrentStreak() - 1);
+            streak.setLastAchievedPeriod(GoalPeriods.previous(period, goalType));
+            streakRepository.save(streak);
+        } else {
+            markForRepair(streak);
+        }
+    }
+
+    /**
+     * Streaks of the goals as of the reference date, with a constant number of queries: the stored streaks
+     * are read at once, and the history is read with one query only for streaks marked for repair and for
+     * goals whose reference date lies before their latest streak.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, StreakInfo> getStreaks(List<Goal> goals, LocalDate referenceDate, int weekStartDay) {
+        if (goals.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, GoalStreak> stored = streakRepository.findByGoalIds(goals.stream().map(Goal::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(GoalStreak::getGoalId, Function.identity()));
+
+        List<Goal> stale = goals.stream()
+                .filter(goal -> !stored.containsKey(goal.getId())
+                        || !isUpToDate(stored.get(goal.getId()), goal.getGoalType(), weekStartDay))
+                .toList();
+        List<Goal> beforeLatestStreak = goals.stream()
+                .filter(goal -> !stale.contains(goal))
+                .filter(goal -> isBeforeLatestStreak(goal, stored.get(goal.getId()), referenceDate, weekStartDay))
+                .toList();
+
+        Map<Long, Set<LocalDate>> periodsByGoal = achievedPeriods(
+                Stream.concat(stale.stream(), beforeLatestStreak.stream()).toList(), weekStartDay);
+        for (Goal goal : stale) {
+            // Persisted by the repair job or the next toggle, so listing goals takes no locks
+            GoalStreak streak = GoalStreak.empty(goal.getId());
+            recompute(goal, streak, periodsByGoal.getOrDefault(goal.getId(), Set.of()));
+            stored.put(goal.getId(), streak);
+        }
+
+        Map<Long, StreakInfo> streaks = new HashMap<>();
+        for (Goal goal : goals) {
+            GoalStreak streak = stored.get(goal.getId());
+            streaks.put(goal.getId(), new StreakInfo(
+                    currentStreakAt(goal, streak, referenceDate, weekStartDay, periodsByGoal.get(goal.getId())),
+                    streak.getLongestStreak()));
+        }
+        return streaks;
+    }
+
+    /**
+     * Recomputes up to limit streaks marked for repair and returns how many were claimed.
+     */
+    public int repairPending(int limit) {
+        List<GoalStreak> pending = streakRepository.lockNeedingRepair(limit);
+        for (GoalStreak streak : pending) {
+            Optional<Goal> goal = goalRepository.findById(streak.getGoalId());
+            if (goal.isEmpty()) {
+                continue;
+            }
+            int weekStartDay = userRepository.findById(goal.get().getUserId())
+                    .map(GoalPeriods::weekStartDay)
+                    .orElse(GoalPeriods.DEFAULT_WEEK_START_DAY);
+            Set<LocalDate> periods = achievedPeriods(List.of(goal.get()), weekStartDay)
+                    .getOrDefault(goal.get().getId(), Set.of());
+            recompute(goal.get(), streak, periods);
+            streakRepository.save(streak);
+        }
+        return pending.size();
+    }
+
+    /**
+     * Weekly periods move with the week start, so the stored weekly streaks of the user are recomputed by
+     * the repair job. Runs in the transaction that saves the new week start day.
+     */
+    @EventListener
+    public void onWeekStartDayChanged(WeekStartDayChangedEvent event) {
+        int marked = streakRepository.markWeeklyForRepair(event.userId());
+        log.debug("Marked {} weekly goal streaks of user {} for repair", marked, event.userId());
+    }
+
+    private void recompute(Goal goal, GoalStreak streak, Set<LocalDate> periods) {
+        LocalDate last = periods.stream().max(Comparator.naturalOrder()).orElse(null);
+        streak.setLastAchievedPeriod(last);
+        streak.setCurrentStreak(last != null ? calculateCurrentStreak(periods, goal.getGoalType(), last) : 0);
+        streak.setLongestStreak(calculateLongestStreak(periods, goal.getGoalType()));
+        streak.setNeedsRepair(false);
+        log.debug("Recomputed streak of goal {} from {} achieved periods", goal.getId(), periods.size());
+    }
+
+    /**
+     * Whether the reference date lies before the latest streak, where the stored values do not tell the streak.
+     */
+    private boolean isBeforeLatestStreak(Goal goal, GoalStreak streak, LocalDate referenceDate, int weekStartDay) {
+        LocalDate referencePeriod = GoalPeriods.periodStart(referenceDate, goal.getGoalType(), weekStartDay);
+        LocalDate last = streak.getLastAchievedPeriod();
+        return last != null && !referencePeriod.isAfter(last)
+                && GoalPeriods.periodsBetween(referencePeriod, last, goal.getGoalType()) > streak.getCurrentStreak();
+    }
+
+    private int currentStreakAt(Goal goal, GoalStreak streak, LocalDate referenceDate, int weekStartDay,
+                                Set<LocalDate> periods) {
+        LocalDate referencePeriod = GoalPeriods.periodStart(referenceDate, goal.getGoalType(), weekStartDay);
+        LocalDate last = streak.getLastAchievedPeriod();
+        if (last == null || referencePeriod.isAfter(last)) {
+            return 0;
+        }
+        long periodsBehind = GoalPeriods.periodsBetween(referencePeriod, last, goal.getGoalType());
+        if (periodsBehind < streak.getCurrentStreak()) {
+            return (int) (streak.getCurrentStreak() - periodsBehind);
+        }
+        if (periodsBehind == streak.getCurrentStreak()) {
+            // The period just before the latest streak is not achieved
+            return 0;
+        }
+        return calculateCurrentStreak(periods != null ? periods : Set.of(), goal.getGoalType(), referencePeriod);
+    }
+
+    /**
+     * Achieved periods of the goals, keyed by goal id, from one query over their yearly bitmaps.
+     */
+    private Map<Long, Set<LocalDate>> achievedPeriods(List<Goal> goals, int weekStartDay) {
+        if (goals.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, GoalType> goalTypes = goals.stream()
+                .collect(Collectors.toMap(Goal::getId, Goal::getGoalType, (first, second) -> first));
+        return achievementYearRepository.findByGoalIdIn(goalTypes.keySet().stream().toList()).stream()
+                .collect(Collectors.groupingBy(GoalAchievementYear::getGoalId, Collectors.flatMapping(
+                        year -> year.achievedDates().map(date ->
+                                GoalPeriods.periodStart(date, goalTypes.get(year.getGoalId()), weekStartDay)),
+                        Collectors.toSet())));
+    }
+
+    private long achievementsInPeriod(Goal goal, LocalDate period) {
+        if (goal.getGoalType() == GoalType.DAILY) {
+            return achievementRepository.findByGoalIdAndAchievedDate(goal.getId(), period).isPresent() ? 1 : 0;
+        }
+        return achievementRepository.countByGoalIdAndAchievedDateBetween(
+                goal.getId(), period, GoalPeriods.periodEnd(period, goal.getGoalType()));
+    }
+
+    private GoalStreak lockStreak(Long goalId) {
+        return streakRepository.findByGoalIdForUpdate(goalId).orElseGet(() -> {
+            // No stored row yet; the history decides
+            GoalStreak streak = GoalStreak.empty(goalId);
+            streak.setNeedsRepair(true);
+            return streak;
+        });
+    }
+
+    private boolean isUpToDate(GoalStreak streak, GoalType goalType, int weekStartDay) {
+        return !streak.isNeedsRepair()
+                && (streak.getLastAchievedPeriod() == null
+                || GoalPeriods.isPeriodStart(streak.getLastAchievedPeriod(), goalType, weekStartDay));
+    }
+
+    private void markForRepair(GoalStreak streak) {
+        streak.setNeedsRepair(true);
+        streakRepository.save(streak);
+    }
+
+    int calculateCurrentStreak(Set<LocalDate> achievedPeriods, GoalType goalType, LocalDate fromPeriod) {
+        LocalDate current = fromPeriod;
+        int streak = 0;
+
+        while (achievedPeriods.contains(current)) {
+            streak++;
+            current = GoalPeriods.previous(current, goalType);
+        }
+
+        return streak;
+    }
+
+    int calculateLongestStreak(Set<LocalDate> achievedPeriods, GoalType goalType) {
+        if (achievedPeriods.isEmpty()) {
+            return 0;
+        }
+
+        List<LocalDate> sortedPeriods = new ArrayList<>(achievedPeriods);
+        sortedPeriods.sort(Comparator.naturalOrder());
+
+        int longestStreak = 1;
+        int currentStreak = 1;
+
+        for (int i = 1; i < sortedPeriods.size(); i++) {
+            if (GoalPeriods.next(sortedPeriods.get(i - 1), goalType).equals(sortedPeriods.get(i))) {
+                currentStreak++;
+                longestStreak = Math.max(longestStreak, currentStreak);
+            } else {
+                currentStreak = 1;
+            }
+        }
+
+        return longestStreak;
+    }
+}
@@ -0,0 +1,9 @@
+package com.zametech.personalhub.application.goal.service;
+
+/**
+ * Current and longest streak of a goal as of a reference date.
+ */
+public record StreakInfo(int currentStreak, int longestStreak) {
+
+    static final StreakInfo NONE = new StreakInfo(0, 0);
+}
@@ -0,0 +1,45 @@
+package com.zametech.personalhub.application.job;
+
+import com.zametech.personalhub.application.service.ActivityRollupService;
+import com.zametech.personalhub.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the daily activity rollup of every user from the source tables.
+ * Repairs drift that incremental updates cannot see, such as children removed by ON DELETE CASCADE.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.analytics.rollup.rebuild.enabled", havingValue = "true", matchIfMissing = true)
+public class ActivityRollupRebuildJob {
+
+    private final ActivityRollupService activityRollupService;
+    private final UserRepository userRepository;
+
+    @Scheduled(cron = "${app.analytics.rollup.rebuild.cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        List<UUID> userIds = userRepository.findAllIds();
+        log.info("Rebuilding daily activity rollup for {} users", userIds.size());
+        
+        int failed = 0;
+        for (UUID userId : userIds) {
+            try {
+                // One transaction per user keeps lock time short
+                activityRollupService.rebuild(userId);
+            } catch (Exception e) {
+                failed++;
+                log.error("Failed to rebuild daily activity rollup for user: {}", userId, e);
+            }
+        }
+        
+        log.info("Daily activity rollup rebuild finished: {} users, {} failed", userIds.size(), failed);
+    }
+}
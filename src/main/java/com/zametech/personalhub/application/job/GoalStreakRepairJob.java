@@ -0,0 +1,59 @@
+package com.zametech.personalhub.application.job;
+
+import com.zametech.personalhub.application.goal.service.GoalStreakService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes goal streaks that a back-dated toggle could not update incrementally, so the next listing of
+ * goals does not have to read their history. Batches lock their rows with SKIP LOCKED, so a streak being
+ * toggled, or repaired on another node, is left for the next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.goals.streak-repair.enabled", havingValue = "true", matchIfMissing = true)
+public class GoalStreakRepairJob {
+
+    private final GoalStreakService goalStreakService;
+    private final int batchSize;
+    private final Counter repairedCounter;
+    private final Counter failedBatchCounter;
+
+    public GoalStreakRepairJob(GoalStreakService goalStreakService,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.goals.streak-repair.batch-size:200}") int batchSize) {
+        this.goalStreakService = goalStreakService;
+        this.batchSize = batchSize;
+        this.repairedCounter = Counter.builder("goals.streak.repair.repaired").register(meterRegistry);
+        this.failedBatchCounter = Counter.builder("goals.streak.repair.failed.batches").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.goals.streak-repair.cron:0 */10 * * * *}")
+    public void repairStreaks() {
+        int repaired = 0;
+        while (true) {
+            int claimed;
+            try {
+                claimed = goalStreakService.repairPending(batchSize);
+            } catch (Exception e) {
+                // The batch rolled back and stays marked for repair
+                failedBatchCounter.increment();
+                log.error("Failed to repair goal streaks", e);
+                break;
+            }
+            repaired += claimed;
+            repairedCounter.increment(claimed);
+            if (claimed < batchSize) {
+                break;
+            }
+        }
+        if (repaired > 0) {
+            log.info("Repaired {} goal streaks", repaired);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.zametech.personalhub.application.job;
+
+import com.zametech.personalhub.application.service.RepeatGenerationChunk;
+import com.zametech.personalhub.application.service.RepeatService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates pending occurrences of repeatable todos for all users, so instances appear without the user
+ * completing a todo or calling the generate endpoint. Every chunk is its own transaction and locks its rows
+ * with SKIP LOCKED, so several nodes can run the job at once without generating the same instance twice.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.todos.repeat.generation.enabled", havingValue = "true", matchIfMissing = true)
+public class RepeatInstanceGenerationJob {
+
+    private final RepeatService repeatService;
+    private final int chunkSize;
+    private final Timer runTimer;
+    private final Counter claimedCounter;
+    private final Counter generatedCounter;
+    private final Counter failedChunkCounter;
+
+    public RepeatInstanceGenerationJob(RepeatService repeatService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.todos.repeat.generation.chunk-size:500}") int chunkSize) {
+        this.repeatService = repeatService;
+        this.chunkSize = chunkSize;
+        this.runTimer = Timer.builder("todos.repeat.generation.run").register(meterRegistry);
+        this.claimedCounter = Counter.builder("todos.repeat.generation.claimed").register(meterRegistry);
+        this.generatedCounter = Counter.builder("todos.repeat.generation.generated").register(meterRegistry);
+        this.failedChunkCounter = Counter.builder("todos.repeat.generation.failed.chunks").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.todos.repeat.generation.cron:0 5 * * * *}")
+    public void generatePendingOccurrences() {
+        LocalDate today = LocalDate.now();
+        long start = System.nanoTime();
+        long afterId = 0;
+        int claimed = 0;
+        int generated = 0;
+        
+        while (true) {
+            RepeatGenerationChunk chunk;
+            try {
+                chunk = repeatService.generatePendingOccurrencesChunk(today, afterId, chunkSize);
+            } catch (Exception e) {
+                // The chunk rolled back, e.g. on a database error; its rows are retried by the next run.
+                // Todos with a malformed repeat rule are skipped inside the chunk and never end up here.
+                failedChunkCounter.increment();
+                log.error("Failed to generate repeat occurrences after todo id: {}", afterId, e);
+                break;
+            }
+            claimed += chunk.claimed();
+            generated += chunk.generated();
+            claimedCounter.increment(chunk.claimed());
+            generatedCounter.increment(chunk.generated());
+            if (chunk.claimed() < chunkSize) {
+                break;
+            }
+            afterId = chunk.lastId();
+        }
+        
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        double seconds = Math.max(elapsedNanos / 1e9, 1e-3);
+        log.info("Repeat occurrence generation finished: {} todos claimed, {} occurrences generated in {} ms ({} todos/s)",
+                claimed, generated, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(claimed / seconds));
+    }
+}
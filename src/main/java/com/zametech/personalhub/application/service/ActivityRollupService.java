@@ -0,0 +1,177 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.model.Event;
+import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.UserDailyActivity;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the per-user daily activity rollup in step with writes to todos, events, notes, moments and goal achievements.
+ * Every method joins the caller's transaction so the rollup commits or rolls back with the write itself.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ActivityRollupService {
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+
+    public void recordTodoCreated(TodoEntity todo) {
+        UserDailyActivity delta = new UserDailyActivity(todo.getUserId(), dateOf(todo.getCreatedAt()));
+        delta.setTodosCreated(1);
+        apply(delta);
+        if (todo.getStatus() == TodoStatus.DONE) {
+            recordTodoCompletion(todo.getUserId(), LocalDate.now(), 1);
+        }
+    }
+
+    /**
+     * Records todos inserted together with one increment per user and day instead of one per todo.
+     */
+    public void recordTodosCreated(Collection<TodoEntity> todos) {
+        Map<UserDay, Long> created = todos.stream()
+                .collect(Collectors.groupingBy(todo -> new UserDay(todo.getUserId(), dateOf(todo.getCreatedAt())),
+                        Collectors.counting()));
+        created.forEach((day, count) -> {
+            UserDailyActivity delta = new UserDailyActivity(day.userId(), day.date());
+            delta.setTodosCreated(Math.toIntExact(count));
+            apply(delta);
+        });
+        
+        todos.stream()
+                .filter(todo -> todo.getStatus() == TodoStatus.DONE)
+                .collect(Collectors.groupingBy(TodoEntity::getUserId, Collectors.counting()))
+                .forEach((userId, count) -> recordTodoCompletion(userId, LocalDate.now(), Math.toIntExact(count)));
+    }
+
+    /**
+     * A DONE todo counts as completed on the date of its last update, so any update of a todo that
+     * is or was DONE moves its completion to today.
+     */
+    public void recordTodoUpdated(UUID userId, TodoStatus previousStatus, ZonedDateTime previousUpdatedAt,
+                                  TodoStatus newStatus) {
+        if (previousStatus == TodoStatus.DONE) {
+            recordTodoCompletion(userId, dateOf(previousUpdatedAt), -1);
+        }
+        if (newStatus == TodoStatus.DONE) {
+            recordTodoCompletion(userId, LocalDate.now(), 1);
+        }
+    }
+
+    public void recordTodoDeleted(TodoEntity todo) {
+        UserDailyActivity delta = new UserDailyActivity(todo.getUserId(), dateOf(todo.getCreatedAt()));
+        delta.setTodosCreated(-1);
+        apply(delta);
+        if (todo.getStatus() == TodoStatus.DONE) {
+            recordTodoCompletion(todo.getUserId(), dateOf(todo.getUpdatedAt()), -1);
+        }
+    }
+
+    public void recordEventCreated(Event event) {
+        recordEventCount(event.getUserId(), event.getStartDateTime(), 1);
+    }
+
+    public void recordEventRescheduled(UUID userId, LocalDateTime previousStart, LocalDateTime newStart) {
+        if (dateOf(previousStart).equals(dateOf(newStart))) {
+            return;
+        }
+        recordEventCount(userId, previousStart, -1);
+        recordEventCount(userId, newStart, 1);
+    }
+
+    public void recordEventDeleted(Event event) {
+        recordEventCount(event.getUserId(), event.getStartDateTime(), -1);
+    }
+
+    public void recordNoteCreated(Note note) {
+        UserDailyActivity delta = new UserDailyActivity(note.getUserId(), dateOf(note.getCreatedAt()));
+        delta.setNotesCreated(1);
+        apply(delta);
+    }
+
+    public void recordNoteDeleted(Note note) {
+        UserDailyActivity delta = new UserDailyActivity(note.getUserId(), dateOf(note.getCreatedAt()));
+        delta.setNotesCreated(-1);
+        apply(delta);
+    }
+
+    public void recordMomentCreated(Moment moment) {
+        UserDailyActivity delta = new UserDailyActivity(moment.getUserId(), dateOf(moment.getCreatedAt()));
+        delta.setMomentsCreated(1);
+        apply(delta);
+    }
+
+    public void recordMomentDeleted(Moment moment) {
+        UserDailyActivity delta = new UserDailyActivity(moment.getUserId(), dateOf(moment.getCreatedAt()));
+        delta.setMomentsCreated(-1);
+        apply(delta);
+    }
+
+    public void recordGoalAchieved(UUID userId, LocalDate achievedDate) {
+        recordGoalAchievement(userId, achievedDate, 1);
+    }
+
+    public void recordGoalAchievementRemoved(UUID userId, LocalDate achievedDate) {
+        recordGoalAchievement(userId, achievedDate, -1);
+    }
+
+    /**
+     * Recomputes the user's rollup from the source tables, repairing drift from cascaded deletes.
+     */
+    public void rebuild(UUID userId) {
+        log.debug("Rebuilding daily activity rollup for user: {}", userId);
+        userDailyActivityRepository.rebuildForUser(userId);
+    }
+
+    private void recordTodoCompletion(UUID userId, LocalDate date, int change) {
+        UserDailyActivity delta = new UserDailyActivity(userId, date);
+        delta.setTodosCompleted(change);
+        apply(delta);
+    }
+
+    private void recordGoalAchievement(UUID userId, LocalDate achievedDate, int change) {
+        UserDailyActivity delta = new UserDailyActivity(userId, achievedDate);
+        delta.setGoalsAchieved(change);
+        apply(delta);
+    }
+
+    private void recordEventCount(UUID userId, LocalDateTime startDateTime, int change) {
+        UserDailyActivity delta = new UserDailyActivity(userId, dateOf(startDateTime));
+        delta.setEventsCount(change);
+        apply(delta);
+    }
+
+    private void apply(UserDailyActivity delta) {
+        if (delta.getUserId() == null || delta.isEmpty()) {
+            return;
+        }
+        userDailyActivityRepository.increment(delta);
+    }
+
+    private LocalDate dateOf(ZonedDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : LocalDate.now();
+    }
+
+    private LocalDate dateOf(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : LocalDate.now();
+    }
+
+    private record UserDay(UUID userId, LocalDate date) {
+    }
+}
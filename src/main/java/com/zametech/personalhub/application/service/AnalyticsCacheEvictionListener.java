@@ -0,0 +1,47 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.infrastructure.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Evicts the cached analytics of a user once a write to their data has committed.
+ * Eviction runs after commit so a concurrent read cannot re-cache the pre-write state.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserActivityChanged(UserActivityChangedEvent event) {
+        UUID userId = event.userId();
+        if (userId == null) {
+            return;
+        }
+        
+        Cache dashboardCache = cacheManager.getCache(CacheConfig.ANALYTICS_DASHBOARD_CACHE);
+        if (dashboardCache != null) {
+            dashboardCache.evict(userId);
+        }
+        
+        // Activity entries are keyed by date range as well, so drop every range of the user
+        Cache activityCache = cacheManager.getCache(CacheConfig.ANALYTICS_TODO_ACTIVITY_CACHE);
+        if (activityCache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().keySet()
+                    .removeIf(key -> key instanceof TodoActivityCacheKey activityKey && userId.equals(activityKey.userId()));
+        }
+        
+        log.debug("Evicted analytics caches for user: {}", userId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.zametech.personalhub.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zametech.personalhub.domain.model.DailyActivityExportRow;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's per-day activity history row by row straight from a database cursor,
+ * so heap use does not grow with the length of the date range.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsExportService {
+
+    static final String CSV_HEADER = "date,todosCreated,todosCompleted,eventsCount,notesCreated,momentsCreated," +
+            "pomodoroSessions,pomodoroCompletedCycles";
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportDailyActivity(UUID userId, LocalDate startDate, LocalDate endDate, ExportFormat format,
+                                    OutputStream outputStream) throws IOException {
+        log.info("Exporting daily activity for user: {} from {} to {} as {}", userId, startDate, endDate, format);
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        try (Stream<DailyActivityExportRow> rows = userDailyActivityRepository.streamExportRows(userId, startDate, endDate)) {
+            rows.forEach(row -> writeRow(writer, row, format));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, DailyActivityExportRow row, ExportFormat format) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(toCsvLine(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsvLine(DailyActivityExportRow row) {
+        return row.date() + "," +
+                row.todosCreated() + "," +
+                row.todosCompleted() + "," +
+                row.eventsCount() + "," +
+                row.notesCreated() + "," +
+                row.momentsCreated() + "," +
+                row.pomodoroSessions() + "," +
+                row.pomodoroCompletedCycles();
+    }
+}
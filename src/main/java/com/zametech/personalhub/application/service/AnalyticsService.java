@@ -1,23 +1,37 @@
 package com.zametech.personalhub.application.service;
 
-import com.zametech.personalhub.domain.model.Event;
-import com.zametech.personalhub.domain.model.Note;
-import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.CompletionTimeDistribution;
+import com.zametech.personalhub.domain.model.EventStatistics;
+import com.zametech.personalhub.domain.model.NoteStatistics;
+import com.zametech.personalhub.domain.model.TodoStatistics;
+import com.zametech.personalhub.domain.model.UserDailyActivity;
 import com.zametech.personalhub.domain.repository.EventRepository;
 import com.zametech.personalhub.domain.repository.NoteRepository;
 import com.zametech.personalhub.domain.repository.TodoRepository;
-import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import com.zametech.personalhub.infrastructure.config.CacheConfig;
 import com.zametech.personalhub.presentation.dto.response.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.UUID;
 
 @Slf4j
@@ -29,154 +43,169 @@ public class AnalyticsService {
     private final EventRepository eventRepository;
     private final NoteRepository noteRepository;
     private final UserContextService userContextService;
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final Executor analyticsExecutor;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
 
+    @Value("${app.analytics.dashboard.deadline-ms:2000}")
+    private long dashboardDeadlineMs;
+
+    @Value("${app.analytics.dashboard.section-timeout-ms:1500}")
+    private long sectionTimeoutMs;
+
+    /**
+     * Sections are computed concurrently. A section that misses its timeout or the request deadline
+     * is left null and the response is flagged partial; partial responses are not cached. Each section
+     * runs in a read-only transaction whose timeout also bounds its queries, so an abandoned section
+     * does not hold a connection past it.
+     */
+    @Cacheable(cacheNames = CacheConfig.ANALYTICS_DASHBOARD_CACHE, key = "@userContextService.getCurrentUserId()",
+            unless = "#result.partial()")
     public DashboardResponse getDashboard() {
         UUID currentUserId = userContextService.getCurrentUserId();
         
         log.info("Generating dashboard for user: {}", currentUserId);
         
-        TodoStatsResponse todoStats = generateTodoStats(currentUserId);
-        EventStatsResponse eventStats = generateEventStats(currentUserId);
-        NoteStatsResponse noteStats = generateNoteStats(currentUserId);
-        ProductivityStatsResponse productivityStats = generateProductivityStats(currentUserId);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(dashboardDeadlineMs);
+        
+        CompletableFuture<TodoStatsResponse> todoStats = startSection("todo", () -> generateTodoStats(currentUserId));
+        CompletableFuture<EventStatsResponse> eventStats = startSection("event", () -> generateEventStats(currentUserId));
+        CompletableFuture<NoteStatsResponse> noteStats = startSection("note", () -> generateNoteStats(currentUserId));
+        CompletableFuture<ProductivityStatsResponse> productivityStats =
+                startSection("productivity", () -> generateProductivityStats(currentUserId));
+        
+        DashboardResponse response = new DashboardResponse(
+                awaitSection("todo", todoStats, deadline),
+                awaitSection("event", eventStats, deadline),
+                awaitSection("note", noteStats, deadline),
+                awaitSection("productivity", productivityStats, deadline)
+        );
+        
+        if (response.partial()) {
+            log.warn("Returning partial dashboard for user: {}", currentUserId);
+        }
         
-        return new DashboardResponse(todoStats, eventStats, noteStats, productivityStats);
+        return response;
     }
 
+    @Cacheable(cacheNames = CacheConfig.ANALYTICS_TODO_ACTIVITY_CACHE,
+            key = "new com.zametech.personalhub.application.service.TodoActivityCacheKey(" +
+                    "@userContextService.getCurrentUserId(), #startDate, #endDate)")
     public TodoActivityResponse getTodoActivity(LocalDate startDate, LocalDate endDate) {
         UUID currentUserId = userContextService.getCurrentUserId();
         
         log.info("Generating TODO activity for user: {} from {} to {}", currentUserId, startDate, endDate);
         
-        List<TodoEntity> allTodos = todoRepository.findByUserId(currentUserId, PageRequest.of(0, 1000)).getContent();
+        // Daily completions and creations come from the pre-aggregated rollup
+        Map<LocalDate, UserDailyActivity> dailyActivity = loadDailyActivity(currentUserId, startDate, endDate);
+        List<DailyCount> dailyCompletionsList = toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getTodosCompleted);
+        List<DailyCount> dailyCreationsList = toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getTodosCreated);
         
-        // Daily completions for the specified date range
-        Map<LocalDate, Long> dailyCompletions = generateDailyCompletionsInRange(allTodos, startDate, endDate);
+        // Distributions and average are aggregated in the database over all of the user's todos
+        Map<String, Integer> priorityDistribution = toDistribution(todoRepository.countByUserIdGroupByPriority(currentUserId));
+        Map<String, Integer> statusDistribution = toDistribution(todoRepository.countByUserIdGroupByStatus(currentUserId));
+        double averageCompletionTime = todoRepository.getStatisticsByUserId(currentUserId, LocalDate.now())
+                .averageCompletionDays();
         
-        // Daily creations for the specified date range
-        Map<LocalDate, Long> dailyCreations = generateDailyCreationsInRange(allTodos, startDate, endDate);
-        
-        // Priority distribution (all todos)
-        Map<String, Integer> priorityDistribution = allTodos.stream()
-                .collect(Collectors.groupingBy(
-                        todo -> todo.getPriority().name(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
-        
-        // Status distribution (all todos)
-        Map<String, Integer> statusDistribution = allTodos.stream()
-                .collect(Collectors.groupingBy(
-                        todo -> todo.getStatus().name(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
-        
-        // Average completion time
-        double averageCompletionTime = calculateAverageCompletionTime(allTodos);
-        
-        // Convert Maps to Lists of DailyCount
-        List<DailyCount> dailyCompletionsList = convertMapToList(dailyCompletions);
-        List<DailyCount> dailyCreationsList = convertMapToList(dailyCreations);
+        Map<String, CompletionTimeDistributionResponse> completionTimeByPriority = new HashMap<>();
+        todoRepository.getCompletionTimeDistributionByPriority(currentUserId)
+                .forEach((priority, distribution) ->
+                        completionTimeByPriority.put(priority.name(), toCompletionTimeResponse(distribution)));
         
         return new TodoActivityResponse(
                 dailyCompletionsList,
                 dailyCreationsList,
                 priorityDistribution,
                 statusDistribution,
-                averageCompletionTime
+                averageCompletionTime,
+                completionTimeByPriority
         );
     }
 
-    private TodoStatsResponse generateTodoStats(UUID userId) {
-        List<TodoEntity> allTodos = todoRepository.findByUserId(userId, PageRequest.of(0, 1000)).getContent();
+    public ActivityHeatmapResponse getActivityHeatmap(LocalDate startDate, LocalDate endDate) {
+        UUID currentUserId = userContextService.getCurrentUserId();
+        
+        log.info("Generating activity heatmap for user: {} from {} to {}", currentUserId, startDate, endDate);
+        
+        int days = Math.toIntExact(ChronoUnit.DAYS.between(startDate, endDate) + 1);
+        int[] todosCompleted = new int[days];
+        int[] eventsCount = new int[days];
+        int[] notesCreated = new int[days];
+        int[] goalsAchieved = new int[days];
+        
+        // Days without a rollup row stay zero
+        for (UserDailyActivity activity : userDailyActivityRepository.findByUserIdAndDateRange(currentUserId, startDate, endDate)) {
+            int day = (int) ChronoUnit.DAYS.between(startDate, activity.getActivityDate());
+            todosCompleted[day] = activity.getTodosCompleted();
+            eventsCount[day] = activity.getEventsCount();
+            notesCreated[day] = activity.getNotesCreated();
+            goalsAchieved[day] = activity.getGoalsAchieved();
+        }
         
-        long totalTodos = allTodos.size();
-        long completedTodos = allTodos.stream()
-                .mapToLong(todo -> todo.getStatus() == TodoStatus.DONE ? 1 : 0)
-                .sum();
-        long inProgressTodos = allTodos.stream()
-                .mapToLong(todo -> todo.getStatus() == TodoStatus.IN_PROGRESS ? 1 : 0)
-                .sum();
-        long pendingTodos = allTodos.stream()
-                .mapToLong(todo -> todo.getStatus() == TodoStatus.TODO ? 1 : 0)
-                .sum();
+        double[] weeklyProductivityScores = new double[(days + 6) / 7];
+        for (int day = 0; day < days; day++) {
+            weeklyProductivityScores[day / 7] += calculateProductivityScore(
+                    todosCompleted[day], eventsCount[day], notesCreated[day]);
+        }
         
-        double completionRate = totalTodos > 0 ? (double) completedTodos / totalTodos * 100 : 0.0;
+        return new ActivityHeatmapResponse(
+                startDate,
+                endDate,
+                todosCompleted,
+                eventsCount,
+                notesCreated,
+                goalsAchieved,
+                weeklyProductivityScores
+        );
+    }
+
+    private TodoStatsResponse generateTodoStats(UUID userId) {
+        TodoStatistics statistics = todoRepository.getStatisticsByUserId(userId, LocalDate.now());
         
-        long overdueCount = allTodos.stream()
-                .mapToLong(todo -> isOverdue(todo) ? 1 : 0)
-                .sum();
+        long totalTodos = statistics.total();
+        double completionRate = totalTodos > 0 ? (double) statistics.completed() / totalTodos * 100 : 0.0;
         
         return new TodoStatsResponse(
                 totalTodos,
-                completedTodos,
-                inProgressTodos,
-                pendingTodos,
+                statistics.completed(),
+                statistics.inProgress(),
+                statistics.pending(),
                 Math.round(completionRate * 100.0) / 100.0,
-                overdueCount
+                statistics.overdue()
         );
     }
 
     private EventStatsResponse generateEventStats(UUID userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
+        EventStatistics statistics = eventRepository.getStatisticsByUserId(userId, LocalDateTime.now());
         
-        List<Event> allEvents = eventRepository.findByUserId(userId, PageRequest.of(0, 1000)).getContent();
-        
-        long totalEvents = allEvents.size();
-        long upcomingEvents = allEvents.stream()
-                .mapToLong(event -> event.getStartDateTime().isAfter(now) ? 1 : 0)
-                .sum();
-        long pastEvents = allEvents.stream()
-                .mapToLong(event -> event.getEndDateTime().isBefore(now) ? 1 : 0)
-                .sum();
-        long todayEvents = allEvents.stream()
-                .mapToLong(event -> isEventToday(event, startOfDay, endOfDay) ? 1 : 0)
-                .sum();
-        
-        return new EventStatsResponse(totalEvents, upcomingEvents, pastEvents, todayEvents);
+        return new EventStatsResponse(statistics.total(), statistics.upcoming(), statistics.past(), statistics.today());
     }
 
     private NoteStatsResponse generateNoteStats(UUID userId) {
-        List<Note> allNotes = noteRepository.findByUserId(userId, PageRequest.of(0, 1000)).getContent();
-        
-        LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
-        LocalDateTime monthAgo = LocalDateTime.now().minusMonths(1);
-        
-        long totalNotes = allNotes.size();
-        long notesThisWeek = allNotes.stream()
-                .mapToLong(note -> note.getCreatedAt().isAfter(weekAgo) ? 1 : 0)
-                .sum();
-        long notesThisMonth = allNotes.stream()
-                .mapToLong(note -> note.getCreatedAt().isAfter(monthAgo) ? 1 : 0)
-                .sum();
-        
-        Set<String> uniqueTags = allNotes.stream()
-                .flatMap(note -> note.getTagList().stream())
-                .collect(Collectors.toSet());
+        LocalDateTime now = LocalDateTime.now();
+        NoteStatistics statistics = noteRepository.getStatisticsByUserId(userId, now.minusWeeks(1), now.minusMonths(1));
         
-        return new NoteStatsResponse(totalNotes, notesThisWeek, notesThisMonth, uniqueTags.size());
+        return new NoteStatsResponse(
+                statistics.total(),
+                statistics.createdThisWeek(),
+                statistics.createdThisMonth(),
+                statistics.uniqueTags()
+        );
     }
 
     private ProductivityStatsResponse generateProductivityStats(UUID userId) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(7);
         
-        List<TodoEntity> todos = todoRepository.findByUserId(userId, PageRequest.of(0, 1000)).getContent();
-        List<Event> events = eventRepository.findByUserId(userId, PageRequest.of(0, 1000)).getContent();
-        List<Note> notes = noteRepository.findByUserId(userId, PageRequest.of(0, 1000)).getContent();
+        Map<LocalDate, UserDailyActivity> dailyActivity = loadDailyActivity(userId, startDate, endDate);
         
-        Map<LocalDate, Long> dailyTodoCompletions = generateDailyCompletionsInRange(todos, startDate, endDate);
-        Map<LocalDate, Long> dailyEventCounts = generateDailyEventCountsInRange(events, startDate, endDate);
-        Map<LocalDate, Long> dailyNoteCreations = generateDailyNoteCreationsInRange(notes, startDate, endDate);
+        List<DailyCount> dailyTodoCompletionsList = toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getTodosCompleted);
+        List<DailyCount> dailyEventCountsList = toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getEventsCount);
+        List<DailyCount> dailyNoteCreationsList = toDailyCounts(dailyActivity, startDate, endDate, UserDailyActivity::getNotesCreated);
         
         double weeklyProductivityScore = calculateWeeklyProductivityScore(
-                dailyTodoCompletions, dailyEventCounts, dailyNoteCreations);
-        
-        // Convert Maps to Lists of DailyCount
-        List<DailyCount> dailyTodoCompletionsList = convertMapToList(dailyTodoCompletions);
-        List<DailyCount> dailyEventCountsList = convertMapToList(dailyEventCounts);
-        List<DailyCount> dailyNoteCreationsList = convertMapToList(dailyNoteCreations);
+                dailyTodoCompletionsList, dailyEventCountsList, dailyNoteCreationsList);
         
         return new ProductivityStatsResponse(
                 dailyTodoCompletionsList,
@@ -186,130 +215,104 @@ public class AnalyticsService {
         );
     }
 
-    private Map<LocalDate, Long> generateDailyCompletions(List<TodoEntity> todos) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(30);
-        return generateDailyCompletionsInRange(todos, startDate, endDate);
+    private <T> CompletableFuture<T> startSection(String section, Supplier<T> generator) {
+        Timer timer = Timer.builder("analytics.dashboard.section")
+                .tag("section", section)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // Transaction timeouts are whole seconds; the remaining time becomes each query's JDBC timeout
+        transaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+        
+        return CompletableFuture.supplyAsync(() -> timer.record(() -> transaction.execute(status -> generator.get())),
+                        analyticsExecutor)
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS);
     }
 
-    private Map<LocalDate, Long> generateDailyCompletionsInRange(List<TodoEntity> todos, LocalDate startDate, LocalDate endDate) {
-        Map<LocalDate, Long> dailyCompletions = new LinkedHashMap<>();
-        
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            dailyCompletions.put(date, 0L);
+    private <T> T awaitSection(String section, CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Keeps a section that is still queued from starting; a running one is stopped by its query timeout
+            future.cancel(true);
+            log.warn("Dashboard section '{}' missed the request deadline", section);
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Dashboard section '{}' timed out after {} ms", section, sectionTimeoutMs);
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to generate dashboard section: " + section, e.getCause());
         }
-        
-        todos.stream()
-                .filter(todo -> todo.getStatus() == TodoStatus.DONE && todo.getUpdatedAt() != null)
-                .forEach(todo -> {
-                    LocalDate completionDate = todo.getUpdatedAt().toLocalDate();
-                    if (!completionDate.isBefore(startDate) && !completionDate.isAfter(endDate)) {
-                        dailyCompletions.merge(completionDate, 1L, Long::sum);
-                    }
-                });
-        
-        return dailyCompletions;
-    }
-
-    private Map<LocalDate, Long> generateDailyCreations(List<TodoEntity> todos) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(30);
-        return generateDailyCreationsInRange(todos, startDate, endDate);
     }
 
-    private Map<LocalDate, Long> generateDailyCreationsInRange(List<TodoEntity> todos, LocalDate startDate, LocalDate endDate) {
-        Map<LocalDate, Long> dailyCreations = new LinkedHashMap<>();
-        
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            dailyCreations.put(date, 0L);
+    private Map<LocalDate, UserDailyActivity> loadDailyActivity(UUID userId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, UserDailyActivity> dailyActivity = new HashMap<>();
+        for (UserDailyActivity activity : userDailyActivityRepository.findByUserIdAndDateRange(userId, startDate, endDate)) {
+            dailyActivity.put(activity.getActivityDate(), activity);
         }
-        
-        todos.stream()
-                .filter(todo -> todo.getCreatedAt() != null)
-                .forEach(todo -> {
-                    LocalDate creationDate = todo.getCreatedAt().toLocalDate();
-                    if (!creationDate.isBefore(startDate) && !creationDate.isAfter(endDate)) {
-                        dailyCreations.merge(creationDate, 1L, Long::sum);
-                    }
-                });
-        
-        return dailyCreations;
+        return dailyActivity;
     }
 
-    private Map<LocalDate, Long> generateDailyEventCountsInRange(List<Event> events, LocalDate startDate, LocalDate endDate) {
-        Map<LocalDate, Long> dailyEventCounts = new LinkedHashMap<>();
+    List<DailyCount> toDailyCounts(Map<LocalDate, UserDailyActivity> dailyActivity, LocalDate startDate,
+                                   LocalDate endDate, ToIntFunction<UserDailyActivity> counter) {
+        List<DailyCount> dailyCounts = new ArrayList<>();
         
+        // Days without a rollup row had no activity
         for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            dailyEventCounts.put(date, 0L);
+            UserDailyActivity activity = dailyActivity.get(date);
+            dailyCounts.add(new DailyCount(date, activity != null ? counter.applyAsInt(activity) : 0));
         }
         
-        events.forEach(event -> {
-            LocalDate eventDate = event.getStartDateTime().toLocalDate();
-            if (!eventDate.isBefore(startDate) && !eventDate.isAfter(endDate)) {
-                dailyEventCounts.merge(eventDate, 1L, Long::sum);
-            }
-        });
-        
-        return dailyEventCounts;
+        return dailyCounts;
     }
 
-    private Map<LocalDate, Long> generateDailyNoteCreationsInRange(List<Note> notes, LocalDate startDate, LocalDate endDate) {
-        Map<LocalDate, Long> dailyNoteCreations = new LinkedHashMap<>();
-        
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            dailyNoteCreations.put(date, 0L);
+    private CompletionTimeDistributionResponse toCompletionTimeResponse(CompletionTimeDistribution distribution) {
+        List<Double> upperBounds = CompletionTimeDistribution.BUCKET_UPPER_BOUNDS_HOURS;
+        List<CompletionTimeDistributionResponse.HistogramBucket> buckets = new ArrayList<>();
+        for (int i = 0; i < distribution.bucketCounts().size(); i++) {
+            Double upperBound = i < upperBounds.size() ? upperBounds.get(i) : null;
+            buckets.add(new CompletionTimeDistributionResponse.HistogramBucket(upperBound, distribution.bucketCounts().get(i)));
         }
         
-        notes.forEach(note -> {
-            LocalDate creationDate = note.getCreatedAt().toLocalDate();
-            if (!creationDate.isBefore(startDate) && !creationDate.isAfter(endDate)) {
-                dailyNoteCreations.merge(creationDate, 1L, Long::sum);
-            }
-        });
-        
-        return dailyNoteCreations;
+        return new CompletionTimeDistributionResponse(
+                distribution.count(),
+                Math.round(distribution.p50Hours() * 100.0) / 100.0,
+                Math.round(distribution.p90Hours() * 100.0) / 100.0,
+                Math.round(distribution.p99Hours() * 100.0) / 100.0,
+                buckets
+        );
     }
 
-    private double calculateAverageCompletionTime(List<TodoEntity> todos) {
-        List<Long> completionTimes = todos.stream()
-                .filter(todo -> todo.getStatus() == TodoStatus.DONE)
-                .filter(todo -> todo.getCreatedAt() != null && todo.getUpdatedAt() != null)
-                .map(todo -> ChronoUnit.DAYS.between(todo.getCreatedAt().toLocalDate(), todo.getUpdatedAt().toLocalDate()))
-                .filter(days -> days >= 0)
-                .toList();
-        
-        return completionTimes.isEmpty() ? 0.0 : completionTimes.stream()
-                .mapToLong(Long::longValue)
-                .average()
-                .orElse(0.0);
+    private Map<String, Integer> toDistribution(Map<? extends Enum<?>, Long> counts) {
+        Map<String, Integer> distribution = new HashMap<>();
+        counts.forEach((key, count) -> distribution.put(key.name(), Math.toIntExact(count)));
+        return distribution;
     }
 
     private double calculateWeeklyProductivityScore(
-            Map<LocalDate, Long> todoCompletions,
-            Map<LocalDate, Long> eventCounts,
-            Map<LocalDate, Long> noteCreations) {
+            List<DailyCount> todoCompletions,
+            List<DailyCount> eventCounts,
+            List<DailyCount> noteCreations) {
         
-        long totalTodoCompletions = todoCompletions.values().stream().mapToLong(Long::longValue).sum();
-        long totalEvents = eventCounts.values().stream().mapToLong(Long::longValue).sum();
-        long totalNotes = noteCreations.values().stream().mapToLong(Long::longValue).sum();
-        
-        // Simple scoring algorithm: weighted sum of activities
-        return (totalTodoCompletions * 3.0) + (totalEvents * 1.0) + (totalNotes * 2.0);
+        return calculateProductivityScore(sumCounts(todoCompletions), sumCounts(eventCounts), sumCounts(noteCreations));
     }
 
-    private boolean isOverdue(TodoEntity todo) {
-        return todo.getDueDate() != null && 
-               todo.getDueDate().isBefore(LocalDate.now()) && 
-               todo.getStatus() != TodoStatus.DONE;
-    }
-
-    private boolean isEventToday(Event event, LocalDateTime startOfDay, LocalDateTime endOfDay) {
-        return (event.getStartDateTime().isBefore(endOfDay) && event.getEndDateTime().isAfter(startOfDay));
+    double calculateProductivityScore(long todoCompletions, long events, long notes) {
+        // Simple scoring algorithm: weighted sum of activities
+        return (todoCompletions * 3.0) + (events * 1.0) + (notes * 2.0);
     }
 
-    private List<DailyCount> convertMapToList(Map<LocalDate, Long> dailyData) {
-        return dailyData.entrySet().stream()
-                .map(entry -> new DailyCount(entry.getKey(), Math.toIntExact(entry.getValue())))
-                .collect(Collectors.toList());
+    private long sumCounts(List<DailyCount> dailyCounts) {
+        return dailyCounts.stream().mapToLong(DailyCount::count).sum();
     }
-}
\ No newline at end of file
+}
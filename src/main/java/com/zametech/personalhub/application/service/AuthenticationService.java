@@ -2,6 +2,7 @@ package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.domain.model.User;
 import com.zametech.personalhub.domain.repository.UserRepository;
+import com.zametech.personalhub.infrastructure.security.AuthenticatedUser;
 import com.zametech.personalhub.infrastructure.security.JwtService;
 import com.zametech.personalhub.presentation.dto.request.LoginRequest;
 import com.zametech.personalhub.presentation.dto.request.RegisterRequest;
@@ -46,11 +47,7 @@ public class AuthenticationService {
         User savedUser = userRepository.save(user);
         log.info("New user registered with email: {} and username: {}", savedUser.getEmail(), savedUser.getUsername());
 
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(savedUser.getEmail())
-                .password(savedUser.getPassword())
-                .authorities(createDefaultAuthorities())
-                .build();
+        UserDetails userDetails = toTokenPrincipal(savedUser);
 
         String accessToken = jwtService.generateToken(userDetails);
         String refreshToken = jwtService.generateRefreshToken(userDetails);
@@ -80,11 +77,7 @@ public class AuthenticationService {
         
         log.info("User logged in with email: {}", user.getEmail());
 
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(createDefaultAuthorities())
-                .build();
+        UserDetails userDetails = toTokenPrincipal(user);
 
         String accessToken = jwtService.generateToken(userDetails);
         String refreshToken = jwtService.generateRefreshToken(userDetails);
@@ -119,8 +112,8 @@ public class AuthenticationService {
 
                 if (jwtService.isTokenValid(refreshTokenString, userDetails)) {
                     // Generate new tokens
-                    String newAccessToken = jwtService.generateToken(userDetails);
-                    String newRefreshToken = jwtService.generateRefreshToken(userDetails);
+                    String newAccessToken = jwtService.generateToken(toTokenPrincipal(user));
+                    String newRefreshToken = jwtService.generateRefreshToken(toTokenPrincipal(user));
 
                     UserResponse userResponse = new UserResponse(
                             user.getId(),
@@ -144,6 +137,13 @@ public class AuthenticationService {
         throw new RuntimeException("Invalid refresh token");
     }
 
+    /**
+     * Principal whose id is written into the tokens, so requests authenticate without a user lookup
+     */
+    private AuthenticatedUser toTokenPrincipal(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), List.copyOf(createDefaultAuthorities()));
+    }
+
     /**
      * Creates default authorities for users
      */
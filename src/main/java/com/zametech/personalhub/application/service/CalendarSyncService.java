@@ -2,6 +2,7 @@ package com.zametech.personalhub.application.service;
 
 import com.google.api.services.calendar.model.CalendarListEntry;
 import com.google.api.services.calendar.model.Event;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
 import com.zametech.personalhub.domain.repository.CalendarSyncSettingsRepository;
 import com.zametech.personalhub.domain.repository.EventRepository;
 import com.zametech.personalhub.domain.repository.UserRepository;
@@ -14,6 +15,7 @@ import com.zametech.personalhub.presentation.dto.response.GoogleSyncStatusRespon
 import com.zametech.personalhub.presentation.dto.request.GoogleSyncSettingsRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,8 @@ public class CalendarSyncService {
     private final UserContextService userContextService;
     private final UserRepository userRepository;
     private final UserSocialAccountRepository socialAccountRepository;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Connect user to Google Calendar using OAuth2
@@ -249,14 +253,18 @@ public class CalendarSyncService {
                     if (existingEvent.isPresent()) {
                         // Update existing event
                         com.zametech.personalhub.domain.model.Event personalHubEvent = existingEvent.get();
+                        LocalDateTime previousStart = personalHubEvent.getStartDateTime();
                         updateEventFromGoogle(personalHubEvent, googleEvent);
                         eventRepository.save(personalHubEvent);
+                        activityRollupService.recordEventRescheduled(
+                            userId, previousStart, personalHubEvent.getStartDateTime());
                     } else {
                         // Create new event
                         com.zametech.personalhub.domain.model.Event personalHubEvent = 
                             convertFromGoogleEvent(googleEvent, userId);
                         personalHubEvent.setGoogleCalendarId(calendarId);
                         eventRepository.save(personalHubEvent);
+                        activityRollupService.recordEventCreated(personalHubEvent);
                     }
                     
                     syncedEvents++;
@@ -266,6 +274,10 @@ public class CalendarSyncService {
                 }
             }
             
+            if (syncedEvents > 0) {
+                eventPublisher.publishEvent(new UserActivityChangedEvent(userId));
+            }
+            
             return new SyncResult(totalEvents, syncedEvents, 0, errorEvents, now);
             
         } catch (Exception e) {
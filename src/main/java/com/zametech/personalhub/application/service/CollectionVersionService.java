@@ -0,0 +1,93 @@
+package com.zametech.personalhub.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.VersionedCollection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counters per user and collection, used to answer conditional GETs without
+ * querying the collection. Versions are bumped once a write has committed, and read before the
+ * data, so a response can carry an older tag than its data but never a newer one.
+ *
+ * <p>A bump stores the next value of one global clock rather than incrementing a per-key counter.
+ * An evicted key therefore comes back as the current clock value, which only equals a tag a client
+ * still holds if nothing was bumped since. The tag also carries a per-process id, so a restart never
+ * produces a false match. Like the analytics caches, this assumes a single application instance.
+ */
+@Slf4j
+@Service
+public class CollectionVersionService {
+
+    /** Matches the analytics dashboard cache TTL, which bounds staleness of time-relative figures. */
+    static final Duration DASHBOARD_BUCKET = Duration.ofMinutes(5);
+
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong clock = new AtomicLong();
+    private final Cache<VersionKey, Long> versions = Caffeine.newBuilder()
+            .expireAfterAccess(1, TimeUnit.DAYS)
+            .maximumSize(100_000)
+            .build();
+    private final Clock wallClock;
+
+    public CollectionVersionService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    CollectionVersionService(Clock wallClock) {
+        this.wallClock = wallClock;
+    }
+
+    /**
+     * Returns the weak ETag for the user's current version of the collection. Goals are keyed by
+     * today's date as well, because they default to today and carry streaks; the dashboard also
+     * changes every {@link #DASHBOARD_BUCKET}.
+     */
+    public String eTag(UUID userId, VersionedCollection collection) {
+        long version = versions.get(new VersionKey(userId, collection), key -> clock.get());
+        StringBuilder tag = new StringBuilder("W/\"")
+                .append(instanceId).append('-').append(Long.toString(version, 36));
+        if (collection == VersionedCollection.GOALS) {
+            tag.append('-').append(LocalDate.now(wallClock));
+        } else if (collection == VersionedCollection.DASHBOARD) {
+            tag.append('-').append(wallClock.millis() / DASHBOARD_BUCKET.toMillis());
+        }
+        return tag.append('"').toString();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCollectionChanged(CollectionChangedEvent event) {
+        bump(event.userId(), event.collection());
+    }
+
+    /**
+     * The dashboard summarizes every collection, so it follows the same event as the analytics cache eviction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserActivityChanged(UserActivityChangedEvent event) {
+        bump(event.userId(), VersionedCollection.DASHBOARD);
+    }
+
+    private void bump(UUID userId, VersionedCollection collection) {
+        if (userId == null) {
+            return;
+        }
+        versions.put(new VersionKey(userId, collection), clock.incrementAndGet());
+        log.debug("Bumped {} version for user: {}", collection, userId);
+    }
+
+    private record VersionKey(UUID userId, VersionedCollection collection) {
+    }
+}
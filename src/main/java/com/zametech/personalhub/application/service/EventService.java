@@ -1,12 +1,16 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.Event;
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.repository.EventRepository;
 import com.zametech.personalhub.presentation.dto.request.CreateEventRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateEventRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -24,6 +28,8 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final UserContextService userContextService;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Event createEvent(CreateEventRequest request) {
@@ -43,7 +49,10 @@ public class EventService {
         event.setUpdatedAt(LocalDateTime.now());
 
         log.info("Creating new event: {} for user: {}", request.title(), currentUserId);
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        activityRollupService.recordEventCreated(event);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        return saved;
     }
 
     public Event getEventById(Long eventId) {
@@ -63,6 +72,15 @@ public class EventService {
         return eventRepository.findByUserId(currentUserId, pageable);
     }
 
+    public CursorPage<Event> getEventsByUserAfterCursor(String cursor, int limit) {
+        CursorPage.validateLimit(limit);
+        UUID currentUserId = userContextService.getCurrentUserId();
+        
+        log.info("Getting events for user: {} with cursor: {}, limit: {}", currentUserId, cursor, limit);
+        List<Event> rows = eventRepository.findKeysetPage(currentUserId, KeysetCursor.decodeOrNull(cursor), limit + 1);
+        return CursorPage.of(rows, limit, event -> KeysetCursor.of(event.getCreatedAt(), event.getId()));
+    }
+
     public List<Event> getEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         UUID currentUserId = userContextService.getCurrentUserId();
         
@@ -76,6 +94,7 @@ public class EventService {
         
         Event event = eventRepository.findByIdAndUserId(eventId, currentUserId)
                 .orElseThrow(() -> new TodoNotFoundException("Event not found with id: " + eventId));
+        LocalDateTime previousStart = event.getStartDateTime();
 
         if (request.title() != null) {
             event.setTitle(request.title());
@@ -103,7 +122,10 @@ public class EventService {
         }
 
         log.info("Updating event with id: {} for user: {}", eventId, currentUserId);
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        activityRollupService.recordEventRescheduled(currentUserId, previousStart, event.getStartDateTime());
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        return saved;
     }
 
     @Transactional
@@ -115,5 +137,7 @@ public class EventService {
 
         log.info("Deleting event with id: {} for user: {}", eventId, currentUserId);
         eventRepository.deleteById(eventId);
+        activityRollupService.recordEventDeleted(event);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
     }
 }
\ No newline at end of file
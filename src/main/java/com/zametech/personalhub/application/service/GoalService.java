@@ -3,6 +3,8 @@ package com.zametech.personalhub.application.service;
 import com.zametech.personalhub.application.goal.dto.GoalTrackingInfo;
 import com.zametech.personalhub.application.goal.dto.GoalWithTrackingResponse;
 import com.zametech.personalhub.application.goal.dto.ToggleAchievementResponse;
+import com.zametech.personalhub.application.goal.service.GoalPeriods;
+import com.zametech.personalhub.application.goal.service.GoalStreakService;
 import com.zametech.personalhub.domain.model.Goal;
 import com.zametech.personalhub.domain.model.GoalAchievementHistory;
 import com.zametech.personalhub.domain.model.GoalType;
@@ -24,6 +26,7 @@ public class GoalService {
     private final GoalRepository goalRepository;
     private final GoalAchievementHistoryRepository achievementHistoryRepository;
     private final UserContextService userContextService;
+    private final GoalStreakService goalStreakService;
 
     public Goal createGoal(Goal goal) {
         UUID userId = userContextService.getCurrentUserId();
@@ -33,7 +36,9 @@ public class GoalService {
         goal.setCreatedAt(LocalDateTime.now());
         goal.setUpdatedAt(LocalDateTime.now());
         
-        return goalRepository.save(goal);
+        Goal saved = goalRepository.save(goal);
+        goalStreakService.initialize(saved.getId());
+        return saved;
     }
 
     public Goal updateGoal(Long goalId, Goal goalUpdate) {
@@ -137,6 +142,7 @@ public class GoalService {
         if (existingAchievement != null) {
             // Delete existing achievement (uncheck)
             achievementHistoryRepository.delete(existingAchievement);
+            goalStreakService.recordRemoved(goal, today, GoalPeriods.weekStartDay(userContextService.getCurrentWeekStartDay()));
             achieved = false;
         } else {
             // Create new achievement (check)
@@ -147,6 +153,7 @@ public class GoalService {
             newAchievement.setCreatedAt(LocalDateTime.now());
             
             GoalAchievementHistory saved = achievementHistoryRepository.save(newAchievement);
+            goalStreakService.recordAchieved(goal, today, GoalPeriods.weekStartDay(userContextService.getCurrentWeekStartDay()));
             achieved = true;
             achievementId = saved.getId();
         }
@@ -159,4 +166,4 @@ public class GoalService {
             achievementId != null ? achievementId.toString() : null  // achievementId as String
         );
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.MomentNotFoundException;
+import com.zametech.personalhub.domain.model.CursorPage;
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.MomentListItem;
 import com.zametech.personalhub.domain.repository.MomentRepository;
 import com.zametech.personalhub.presentation.dto.request.CreateMomentRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateMomentRequest;
@@ -23,6 +26,7 @@ public class MomentService {
 
     private final MomentRepository momentRepository;
     private final UserContextService userContextService;
+    private final ActivityRollupService activityRollupService;
 
     @Transactional
     public Moment createMoment(CreateMomentRequest request) {
@@ -36,7 +40,9 @@ public class MomentService {
         moment.setUpdatedAt(LocalDateTime.now());
 
         log.info("Creating new moment for user: {}", currentUserId);
-        return momentRepository.save(moment);
+        Moment saved = momentRepository.save(moment);
+        activityRollupService.recordMomentCreated(moment);
+        return saved;
     }
 
     public Moment getMomentById(Long momentId) {
@@ -49,11 +55,20 @@ public class MomentService {
         return moment;
     }
 
-    public Page<Moment> getMomentsByUser(Pageable pageable) {
+    public Page<MomentListItem> getMomentsByUser(Pageable pageable) {
         UUID currentUserId = userContextService.getCurrentUserId();
         
         log.info("Getting moments for user: {} with pageable: {}", currentUserId, pageable);
-        return momentRepository.findByUserId(currentUserId, pageable);
+        return momentRepository.findListItemsByUserId(currentUserId, pageable);
+    }
+
+    public CursorPage<MomentListItem> getMomentsByUserAfterCursor(String cursor, int limit) {
+        CursorPage.validateLimit(limit);
+        UUID currentUserId = userContextService.getCurrentUserId();
+        
+        log.info("Getting moments for user: {} with cursor: {}, limit: {}", currentUserId, cursor, limit);
+        List<MomentListItem> rows = momentRepository.findListItemKeysetPage(currentUserId, KeysetCursor.decodeOrNull(cursor), limit + 1);
+        return CursorPage.of(rows, limit, moment -> KeysetCursor.of(moment.createdAt(), moment.id()));
     }
 
     public Page<Moment> getMomentsByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
@@ -111,6 +126,7 @@ public class MomentService {
 
         log.info("Deleting moment with id: {} for user: {}", momentId, currentUserId);
         momentRepository.deleteById(momentId);
+        activityRollupService.recordMomentDeleted(moment);
     }
 
     public List<String> getDefaultTags() {
@@ -1,12 +1,17 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.CursorPage;
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.NoteListItem;
 import com.zametech.personalhub.domain.repository.NoteRepository;
 import com.zametech.personalhub.presentation.dto.request.CreateNoteRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateNoteRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +28,8 @@ public class NoteService {
 
     private final NoteRepository noteRepository;
     private final UserContextService userContextService;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Note createNote(CreateNoteRequest request) {
@@ -37,7 +44,10 @@ public class NoteService {
         note.setUpdatedAt(LocalDateTime.now());
 
         log.info("Creating new note: {} for user: {}", request.title(), currentUserId);
-        return noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        activityRollupService.recordNoteCreated(note);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        return saved;
     }
 
     public Note getNoteById(Long noteId) {
@@ -50,11 +60,21 @@ public class NoteService {
         return note;
     }
 
-    public Page<Note> getNotesByUser(Pageable pageable) {
+    public Page<NoteListItem> getNotesByUser(Pageable pageable, boolean includeContent) {
         UUID currentUserId = userContextService.getCurrentUserId();
         
         log.info("Getting notes for user: {} with pageable: {}", currentUserId, pageable);
-        return noteRepository.findByUserId(currentUserId, pageable);
+        return noteRepository.findListItemsByUserId(currentUserId, includeContent, pageable);
+    }
+
+    public CursorPage<NoteListItem> getNotesByUserAfterCursor(String cursor, int limit, boolean includeContent) {
+        CursorPage.validateLimit(limit);
+        UUID currentUserId = userContextService.getCurrentUserId();
+        
+        log.info("Getting notes for user: {} with cursor: {}, limit: {}", currentUserId, cursor, limit);
+        List<NoteListItem> rows = noteRepository.findListItemKeysetPage(
+                currentUserId, KeysetCursor.decodeOrNull(cursor), limit + 1, includeContent);
+        return CursorPage.of(rows, limit, note -> KeysetCursor.of(note.createdAt(), note.id()));
     }
 
     public List<Note> searchNotes(String query) {
@@ -89,7 +109,9 @@ public class NoteService {
         }
 
         log.info("Updating note with id: {} for user: {}", noteId, currentUserId);
-        return noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        return saved;
     }
 
     @Transactional
@@ -101,5 +123,7 @@ public class NoteService {
 
         log.info("Deleting note with id: {} for user: {}", noteId, currentUserId);
         noteRepository.deleteById(noteId);
+        activityRollupService.recordNoteDeleted(note);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
     }
 }
\ No newline at end of file
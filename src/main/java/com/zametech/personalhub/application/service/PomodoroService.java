@@ -1,5 +1,6 @@
 package com.zametech.personalhub.application.service;
 
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
 import com.zametech.personalhub.domain.exception.ActiveSessionNotFoundException;
 import com.zametech.personalhub.domain.model.*;
 import com.zametech.personalhub.domain.repository.*;
@@ -7,6 +8,7 @@ import com.zametech.personalhub.presentation.dto.request.*;
 import com.zametech.personalhub.presentation.dto.response.*;
 import com.zametech.personalhub.shared.constants.AlarmSound;
 import com.zametech.personalhub.shared.constants.SessionType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -29,17 +31,20 @@ public class PomodoroService {
     private final PomodoroConfigRepository configRepository;
     private final TodoRepository todoRepository;
     private final UserContextService userContextService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PomodoroService(PomodoroSessionRepository sessionRepository,
                           PomodoroTaskRepository taskRepository,
                           PomodoroConfigRepository configRepository,
                           TodoRepository todoRepository,
-                          UserContextService userContextService) {
+                          UserContextService userContextService,
+                          ApplicationEventPublisher eventPublisher) {
         this.sessionRepository = sessionRepository;
         this.taskRepository = taskRepository;
         this.configRepository = configRepository;
         this.todoRepository = todoRepository;
         this.userContextService = userContextService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -70,6 +75,7 @@ public class PomodoroService {
             session.setTasks(tasks);
         }
         
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.POMODORO));
         return toSessionResponse(session);
     }
 
@@ -129,6 +135,7 @@ public class PomodoroService {
         }
         
         session = sessionRepository.save(session);
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.POMODORO));
         return toSessionResponse(session);
     }
 
@@ -180,6 +187,7 @@ public class PomodoroService {
         }
         
         task = taskRepository.save(task);
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.POMODORO));
         return toTaskResponse(task);
     }
 
@@ -225,6 +233,7 @@ public class PomodoroService {
         PomodoroTask task = new PomodoroTask(sessionId, request.getDescription(), maxOrderIndex + 1);
         task.setTodoId(request.getTodoId());
         task = taskRepository.save(task);
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.POMODORO));
         
         return toTaskResponse(task);
     }
@@ -247,6 +256,7 @@ public class PomodoroService {
         }
         
         taskRepository.deleteById(taskId);
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.POMODORO));
     }
 
     /**
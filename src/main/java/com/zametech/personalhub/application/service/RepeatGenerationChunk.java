@@ -0,0 +1,7 @@
+package com.zametech.personalhub.application.service;
+
+/**
+ * Outcome of one chunk of scheduled repeat generation. lastId is where the next chunk starts.
+ */
+public record RepeatGenerationChunk(int claimed, int generated, long lastId) {
+}
@@ -1,19 +1,31 @@
 package com.zametech.personalhub.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.RecurrenceRule;
+import com.zametech.personalhub.domain.model.RepeatOccurrence;
 import com.zametech.personalhub.domain.model.RepeatType;
-import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.domain.repository.TodoRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +38,11 @@ import java.util.stream.Collectors;
 public class RepeatService {
 
     private final TodoRepository todoRepository;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<RuleSource, RecurrenceRule> compiledRules = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
 
     /**
      * Generate next occurrence of a repeatable todo
@@ -38,152 +55,124 @@ public class RepeatService {
 
         LocalDate nextDueDate = calculateNextDueDate(originalTodo);
         
-        if (nextDueDate == null || isRepeatEndReached(originalTodo, nextDueDate)) {
+        if (nextDueDate == null) {
             log.debug("Repeat period ended for todo: {}", originalTodo.getId());
             return null;
         }
         
-        // Check if instance already exists for this date
-        List<TodoEntity> existingInstances = todoRepository.findByOriginalTodoIdAndDueDate(
-            originalTodo.getId(), nextDueDate
-        );
-        if (!existingInstances.isEmpty()) {
+        // Skipped by ON CONFLICT if an instance already exists for this date
+        List<TodoEntity> inserted = todoRepository.insertRepeatInstances(Map.of(originalTodo.getId(), nextDueDate));
+        if (inserted.isEmpty()) {
             log.debug("Instance already exists for date {} for todo: {}", nextDueDate, originalTodo.getId());
             return null;
         }
 
-        TodoEntity nextInstance = new TodoEntity(
-                originalTodo.getUserId(),
-                originalTodo.getTitle(),
-                originalTodo.getDescription(),
-                TodoStatus.TODO,
-                originalTodo.getPriority(),
-                nextDueDate,
-                originalTodo.getParentId(),
-                false, // Generated instances are not repeatable themselves
-                null,
-                null,
-                null,
-                null,
-                null,
-                originalTodo.getId() // Reference to original repeatable todo
-        );
-
-        TodoEntity saved = todoRepository.save(nextInstance);
+        TodoEntity saved = inserted.get(0);
+        activityRollupService.recordTodoCreated(saved);
         log.info("Generated next occurrence {} for repeatable todo {}", saved.getId(), originalTodo.getId());
         
         return saved;
     }
 
     /**
-     * Calculate the next due date based on repeat configuration
+     * Calculate the next due date based on repeat configuration, or null once the repeat end date is passed
      */
     public LocalDate calculateNextDueDate(TodoEntity todo) {
         if (todo.getDueDate() == null || todo.getRepeatType() == null) {
             return null;
         }
-
-        LocalDate currentDueDate = todo.getDueDate();
-        Integer interval = todo.getRepeatInterval() != null ? todo.getRepeatInterval() : 1;
-
-        return switch (todo.getRepeatType()) {
-            case DAILY -> currentDueDate.plusDays(interval);
-            case WEEKLY -> calculateNextWeeklyDate(currentDueDate, todo.getRepeatDaysOfWeek());
-            case MONTHLY -> calculateNextMonthlyDate(currentDueDate, todo.getRepeatDayOfMonth());
-            case YEARLY -> currentDueDate.plusYears(interval);
-            case ONCE -> null; // One-time occurrence, no next date
-        };
+        return recurrenceRuleOf(todo).next(todo.getDueDate());
     }
 
     /**
-     * Calculate next weekly occurrence
+     * Compiled recurrence rule of a repeatable todo. Rules are cached by their source columns,
+     * so editing the repeat settings of a todo yields a newly compiled rule.
      */
-    private LocalDate calculateNextWeeklyDate(LocalDate currentDate, String daysOfWeekStr) {
-        if (daysOfWeekStr == null || daysOfWeekStr.isEmpty()) {
-            return currentDate.plusWeeks(1);
-        }
-
-        List<Integer> daysOfWeek = Arrays.stream(daysOfWeekStr.split(","))
-                .map(String::trim)
-                .map(Integer::parseInt)
-                .sorted()
-                .collect(Collectors.toList());
-
-        int currentDayOfWeek = currentDate.getDayOfWeek().getValue();
-        
-        // Find next occurrence within the same week
-        for (Integer day : daysOfWeek) {
-            if (day > currentDayOfWeek) {
-                return currentDate.plusDays(day - currentDayOfWeek);
-            }
-        }
-        
-        // If no day found in current week, go to first day of next week
-        Integer firstDay = daysOfWeek.get(0);
-        long daysToAdd = 7 - currentDayOfWeek + firstDay;
-        return currentDate.plusDays(daysToAdd);
+    public RecurrenceRule recurrenceRuleOf(TodoEntity todo) {
+        RuleSource source = new RuleSource(todo.getRepeatType(), todo.getRepeatInterval(),
+                todo.getRepeatDaysOfWeek(), todo.getRepeatDayOfMonth(), todo.getRepeatEndDate());
+        return compiledRules.get(source, key -> RecurrenceRule.compile(
+                key.type(), key.interval(), key.daysOfWeek(), key.dayOfMonth(), key.until()));
     }
 
     /**
-     * Calculate next monthly occurrence
+     * Expand the occurrences of a user's repeatable todos within [from, to] without inserting rows.
+     * An occurrence that already exists as a row, either the original todo itself or a generated
+     * instance, carries that row's id and status.
      */
-    private LocalDate calculateNextMonthlyDate(LocalDate currentDate, Integer dayOfMonth) {
-        if (dayOfMonth == null) {
-            return currentDate.plusMonths(1);
+    public List<RepeatOccurrence> expandOccurrences(UUID userId, LocalDate from, LocalDate to) {
+        List<TodoEntity> repeatableTodos = todoRepository.findByUserIdAndIsRepeatableTrue(userId).stream()
+                .filter(todo -> todo.getDueDate() != null && todo.getRepeatType() != null)
+                .toList();
+        if (repeatableTodos.isEmpty()) {
+            return List.of();
         }
-
-        LocalDate nextMonth = currentDate.plusMonths(1);
         
-        // Handle case where target day doesn't exist in next month (e.g., Feb 31st -> Feb 28th)
-        int lastDayOfMonth = nextMonth.lengthOfMonth();
-        int targetDay = Math.min(dayOfMonth, lastDayOfMonth);
+        Map<Long, Map<LocalDate, TodoEntity>> instancesByOriginal = todoRepository
+                .findInstancesByOriginalTodoIdsAndDueDateBetween(
+                        repeatableTodos.stream().map(TodoEntity::getId).toList(), from, to)
+                .stream()
+                .collect(Collectors.groupingBy(TodoEntity::getOriginalTodoId,
+                        Collectors.toMap(TodoEntity::getDueDate, Function.identity(), (first, second) -> first)));
         
-        return nextMonth.withDayOfMonth(targetDay);
-    }
-
-    /**
-     * Check if repeat end date has been reached
-     */
-    private boolean isRepeatEndReached(TodoEntity todo, LocalDate nextDate) {
-        return todo.getRepeatEndDate() != null && nextDate.isAfter(todo.getRepeatEndDate());
+        List<RepeatOccurrence> occurrences = new ArrayList<>();
+        for (TodoEntity todo : repeatableTodos) {
+            Map<LocalDate, TodoEntity> instances = instancesByOriginal.getOrDefault(todo.getId(), Map.of());
+            for (LocalDate date : recurrenceRuleOf(todo).occurrencesBetween(todo.getDueDate(), from, to)) {
+                TodoEntity row = date.equals(todo.getDueDate()) ? todo : instances.get(date);
+                occurrences.add(new RepeatOccurrence(todo.getId(), todo.getTitle(), todo.getPriority(), date,
+                        row != null ? row.getId() : null, row != null ? row.getStatus() : null));
+            }
+        }
+        occurrences.sort(Comparator.comparing(RepeatOccurrence::date).thenComparing(RepeatOccurrence::originalTodoId));
+        return occurrences;
     }
 
     /**
      * Find all repeatable todos that need next occurrences generated
      */
     public List<TodoEntity> findRepeatableTodosNeedingGeneration() {
-        return todoRepository.findByIsRepeatableTrue()
+        List<TodoEntity> repeatableTodos = todoRepository.findByIsRepeatableTrue()
                 .stream()
                 .filter(todo -> todo.getRepeatType() != RepeatType.ONCE)
-                .filter(this::shouldGenerateNextOccurrence)
+                .collect(Collectors.toList());
+        Map<Long, LocalDate> pendingDueDates = findPendingDueDates(repeatableTodos, LocalDate.now());
+        
+        return repeatableTodos.stream()
+                .filter(todo -> pendingDueDates.containsKey(todo.getId()))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Check if a repeatable todo should have its next occurrence generated
+     * Next due date of every todo due by today that has no instance for that date yet, keyed by todo id.
+     * Existing instances of all the todos are read with one query. A todo whose stored repeat rule does not
+     * compile is skipped, so it cannot hold back the todos after it.
      */
-    private boolean shouldGenerateNextOccurrence(TodoEntity todo) {
-        if (todo.getDueDate() == null) {
-            return false;
-        }
-
-        // Check if the current due date has passed or is today
-        LocalDate today = LocalDate.now();
-        if (todo.getDueDate().isAfter(today)) {
-            return false;
+    private Map<Long, LocalDate> findPendingDueDates(List<TodoEntity> repeatableTodos, LocalDate today) {
+        Map<Long, LocalDate> nextDueDates = new LinkedHashMap<>();
+        for (TodoEntity todo : repeatableTodos) {
+            if (todo.getDueDate() == null || todo.getDueDate().isAfter(today)) {
+                continue;
+            }
+            LocalDate nextDueDate;
+            try {
+                nextDueDate = calculateNextDueDate(todo);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping repeatable todo {} with an invalid repeat rule: {}", todo.getId(), e.getMessage());
+                continue;
+            }
+            if (nextDueDate != null) {
+                nextDueDates.put(todo.getId(), nextDueDate);
+            }
         }
-
-        // Check if next occurrence doesn't already exist
-        LocalDate nextDueDate = calculateNextDueDate(todo);
-        if (nextDueDate == null || isRepeatEndReached(todo, nextDueDate)) {
-            return false;
+        if (nextDueDates.isEmpty()) {
+            return nextDueDates;
         }
-
-        // Check if an instance for the next due date already exists
-        List<TodoEntity> existingInstances = todoRepository.findByOriginalTodoIdAndDueDate(
-                todo.getId(), nextDueDate);
         
-        return existingInstances.isEmpty();
+        Map<Long, Set<LocalDate>> existingDueDates = todoRepository.findInstanceDueDatesByOriginalTodoIds(nextDueDates.keySet());
+        nextDueDates.entrySet().removeIf(entry ->
+                existingDueDates.getOrDefault(entry.getKey(), Set.of()).contains(entry.getValue()));
+        return nextDueDates;
     }
 
     /**
@@ -192,12 +181,48 @@ public class RepeatService {
     @Transactional
     public List<TodoEntity> generateAllPendingOccurrences(UUID userId) {
         List<TodoEntity> repeatableTodos = todoRepository.findByUserIdAndIsRepeatableTrue(userId);
+        return generatePendingOccurrences(repeatableTodos, LocalDate.now());
+    }
+
+    /**
+     * Lock the next chunk of due repeatable todos of all users after the given id and generate their pending occurrences.
+     * Rows locked by another transaction, such as the same job on another node, are skipped and left for a later run.
+     */
+    @Transactional
+    public RepeatGenerationChunk generatePendingOccurrencesChunk(LocalDate today, long afterId, int chunkSize) {
+        List<TodoEntity> claimed = todoRepository.lockRepeatableTodosDueBy(today, afterId, chunkSize);
+        if (claimed.isEmpty()) {
+            return new RepeatGenerationChunk(0, 0, afterId);
+        }
         
-        return repeatableTodos.stream()
-                .filter(this::shouldGenerateNextOccurrence)
-                .map(this::generateNextOccurrence)
-                .filter(todo -> todo != null)
-                .collect(Collectors.toList());
+        List<TodoEntity> generated = generatePendingOccurrences(claimed, today);
+        generated.stream()
+                .map(TodoEntity::getUserId)
+                .distinct()
+                .forEach(userId -> {
+                    eventPublisher.publishEvent(new UserActivityChangedEvent(userId));
+                    eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.TODOS));
+                });
+        
+        return new RepeatGenerationChunk(claimed.size(), generated.size(), claimed.get(claimed.size() - 1).getId());
+    }
+
+    /**
+     * Generate the next occurrence of every todo due by today that has no instance for that date yet:
+     * one read of the existing instances and one INSERT ... ON CONFLICT DO NOTHING for the rest, so an
+     * instance created concurrently in between is skipped instead of duplicated.
+     */
+    private List<TodoEntity> generatePendingOccurrences(List<TodoEntity> repeatableTodos, LocalDate today) {
+        Map<Long, LocalDate> pendingDueDates = findPendingDueDates(repeatableTodos, today);
+        if (pendingDueDates.isEmpty()) {
+            return List.of();
+        }
+        
+        List<TodoEntity> inserted = todoRepository.insertRepeatInstances(pendingDueDates);
+        activityRollupService.recordTodosCreated(inserted);
+        log.info("Generated {} repeat occurrences for {} repeatable todos", inserted.size(), repeatableTodos.size());
+        
+        return inserted;
     }
 
     /**
@@ -226,4 +251,7 @@ public class RepeatService {
                 .map(String::valueOf)
                 .collect(Collectors.joining(","));
     }
-}
\ No newline at end of file
+
+    private record RuleSource(RepeatType type, Integer interval, String daysOfWeek, Integer dayOfMonth, LocalDate until) {
+    }
+}
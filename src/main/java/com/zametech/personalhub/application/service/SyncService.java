@@ -0,0 +1,150 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.model.Event;
+import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
+import com.zametech.personalhub.domain.model.SyncTombstone;
+import com.zametech.personalhub.domain.repository.EventRepository;
+import com.zametech.personalhub.domain.repository.MomentRepository;
+import com.zametech.personalhub.domain.repository.NoteRepository;
+import com.zametech.personalhub.domain.repository.SyncTombstoneRepository;
+import com.zametech.personalhub.domain.repository.TodoRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import com.zametech.personalhub.presentation.dto.response.EventResponse;
+import com.zametech.personalhub.presentation.dto.response.MomentResponse;
+import com.zametech.personalhub.presentation.dto.response.NoteResponse;
+import com.zametech.personalhub.presentation.dto.response.SyncChangesResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Delta sync across todos, notes, events and moments. Every insert, update and delete of those rows
+ * records the writing transaction (change_xid) and a value from one shared database sequence (change_seq).
+ * Changes are ordered by that pair, and the position of the last change a client has received is a
+ * complete description of what it already has.
+ *
+ * <p>Both values are taken at write time, not at commit time, so a transaction that is still running may
+ * later commit changes that sort before ones already visible. Only changes of transactions older than the
+ * oldest one still running are returned; everything after them waits for the next call. A long transaction,
+ * such as a large batch or a rollup rebuild, therefore delays delivery of later changes until it finishes,
+ * but never makes a client skip one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    static final int MAX_LIMIT = 1000;
+
+    private final TodoRepository todoRepository;
+    private final NoteRepository noteRepository;
+    private final EventRepository eventRepository;
+    private final MomentRepository momentRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final UserContextService userContextService;
+
+    /**
+     * Returns at most {@code limit} changes after {@code since}, oldest first. Each type is read with
+     * {@code limit + 1} rows, which is enough to know the overall first {@code limit} changes and whether
+     * anything is left. All reads share one snapshot.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncChangesResponse getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        SyncPosition sincePosition = parseToken(since);
+        UUID currentUserId = userContextService.getCurrentUserId();
+
+        log.info("Getting sync changes for user: {} since: {}, limit: {}", currentUserId, sincePosition, limit);
+        // Taken from the same repeatable read snapshot as the changes below
+        long committedBeforeXid = syncTombstoneRepository.findOldestRunningXid();
+        List<SyncChange<TodoEntity>> todos =
+                todoRepository.findChangedSince(currentUserId, sincePosition, committedBeforeXid, limit + 1);
+        List<SyncChange<Note>> notes =
+                noteRepository.findChangedSince(currentUserId, sincePosition, committedBeforeXid, limit + 1);
+        List<SyncChange<Event>> events =
+                eventRepository.findChangedSince(currentUserId, sincePosition, committedBeforeXid, limit + 1);
+        List<SyncChange<Moment>> moments =
+                momentRepository.findChangedSince(currentUserId, sincePosition, committedBeforeXid, limit + 1);
+        List<SyncTombstone> tombstones =
+                syncTombstoneRepository.findByUserIdSince(currentUserId, sincePosition, committedBeforeXid, limit + 1);
+
+        List<SyncPosition> allPositions = Stream.of(
+                        todos.stream().map(SyncChange::position),
+                        notes.stream().map(SyncChange::position),
+                        events.stream().map(SyncChange::position),
+                        moments.stream().map(SyncChange::position),
+                        tombstones.stream().map(SyncTombstone::position))
+                .flatMap(Function.identity())
+                .sorted()
+                .toList();
+        boolean hasMore = allPositions.size() > limit;
+        SyncPosition upTo = hasMore ? allPositions.get(limit - 1)
+                : allPositions.isEmpty() ? sincePosition : allPositions.get(allPositions.size() - 1);
+
+        return new SyncChangesResponse(
+                upTo(todos, upTo, TodoResponse::from),
+                upTo(notes, upTo, NoteResponse::from),
+                upTo(events, upTo, EventResponse::from),
+                upTo(moments, upTo, MomentResponse::from),
+                tombstones.stream()
+                        .filter(tombstone -> tombstone.position().compareTo(upTo) <= 0)
+                        .map(tombstone -> new SyncChangesResponse.DeletedItem(
+                                tombstone.entityType(), tombstone.entityId(), tombstone.deletedAt()))
+                        .toList(),
+                formatToken(upTo),
+                hasMore
+        );
+    }
+
+    private static <T, R> List<R> upTo(List<SyncChange<T>> changes, SyncPosition upTo, Function<T, R> mapper) {
+        return changes.stream()
+                .filter(change -> change.position().compareTo(upTo) <= 0)
+                .map(change -> mapper.apply(change.item()))
+                .toList();
+    }
+
+    /**
+     * A missing token starts a full sync. Tokens are {@code <change_xid>.<change_seq>} from a previous
+     * response. A bare number is a token from before change_xid existed; it cannot be placed in the new
+     * order, so it also starts a full sync.
+     */
+    private static SyncPosition parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return SyncPosition.START;
+        }
+        try {
+            int separator = token.indexOf('.');
+            if (separator < 0) {
+                if (Long.parseLong(token) < 0) {
+                    throw new IllegalArgumentException("Invalid sync token");
+                }
+                return SyncPosition.START;
+            }
+            long changeXid = Long.parseLong(token.substring(0, separator));
+            long changeSeq = Long.parseLong(token.substring(separator + 1));
+            if (changeXid < 0 || changeSeq < 0) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new SyncPosition(changeXid, changeSeq);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid sync token");
+        }
+    }
+
+    private static String formatToken(SyncPosition position) {
+        return position.changeXid() + "." + position.changeSeq();
+    }
+}
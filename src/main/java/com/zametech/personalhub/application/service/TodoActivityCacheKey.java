@@ -0,0 +1,10 @@
+package com.zametech.personalhub.application.service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Cache key of a user's TODO activity for a date range.
+ */
+public record TodoActivityCacheKey(UUID userId, LocalDate startDate, LocalDate endDate) {
+}
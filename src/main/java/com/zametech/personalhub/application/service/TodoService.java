@@ -1,23 +1,44 @@
 package com.zametech.personalhub.application.service;
 
+import com.zametech.personalhub.common.exception.RepeatInstanceConflictException;
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.CursorPage;
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.RepeatType;
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.domain.repository.TodoRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
 import com.zametech.personalhub.presentation.dto.request.RepeatConfigRequest;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchOperation;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateTodoRequest;
+import com.zametech.personalhub.presentation.dto.response.RepeatOccurrenceResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoBatchResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoTreeResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -32,6 +53,11 @@ public class TodoService {
     private final TodoRepository todoRepository;
     private final UserContextService userContextService;
     private final RepeatService repeatService;
+    private final ActivityRollupService activityRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    static final int MAX_TREE_DEPTH = 20;
+    static final int MAX_OCCURRENCE_WINDOW_DAYS = 366;
 
     /**
      * TODO作成
@@ -53,40 +79,12 @@ public class TodoService {
             }
         }
         
-        TodoEntity todo;
-        
-        if (Boolean.TRUE.equals(request.isRepeatable()) && request.repeatConfig() != null) {
-            // 繰り返し設定ありのTODO作成
-            todo = new TodoEntity(
-                currentUserId,
-                request.title(),
-                request.description(),
-                TodoStatus.TODO,
-                request.priority(),
-                request.dueDate(),
-                request.parentId(),
-                request.isRepeatable(),
-                request.repeatConfig().repeatType(),
-                request.repeatConfig().interval(),
-                request.repeatConfig().getDaysOfWeekString(),
-                request.repeatConfig().dayOfMonth(),
-                request.repeatConfig().endDate(),
-                null // originalTodoId - 元となるTODOなのでnull
-            );
-        } else {
-            // 通常のTODO作成
-            todo = new TodoEntity(
-                currentUserId,
-                request.title(),
-                request.description(),
-                TodoStatus.TODO,
-                request.priority(),
-                request.dueDate(),
-                request.parentId()
-            );
-        }
+        TodoEntity todo = newTodoEntity(currentUserId, request);
         
         TodoEntity saved = todoRepository.save(todo);
+        activityRollupService.recordTodoCreated(saved);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(currentUserId, VersionedCollection.TODOS));
         log.info("Created TODO with id: {} for user: {}", saved.getId(), currentUserId);
         log.info("DEBUG: createTodo - saved.getUserId(): {}, currentUserId: {}", 
                 saved.getUserId(), currentUserId);
@@ -116,15 +114,30 @@ public class TodoService {
 
     /**
      * TODO一覧取得（ページング）
+     * エンティティを経由せず一覧に必要な列だけを射影で取得する。説明はincludeDescription指定時のみ含める。
      */
-    public Page<TodoResponse> getTodos(Pageable pageable) {
+    public Page<TodoResponse> getTodos(Pageable pageable, boolean includeDescription) {
         log.debug("Getting TODO list with pageable: {}", pageable);
         
         UUID currentUserId = userContextService.getCurrentUserId();
-        Page<TodoEntity> todos = todoRepository.findByUserId(currentUserId, pageable);
+        Page<TodoListItem> todos = todoRepository.findListItemsByUserId(currentUserId, includeDescription, pageable);
         return todos.map(TodoResponse::from);
     }
 
+    /**
+     * TODO一覧取得（キーセットページング、件数は返さない）
+     */
+    public CursorPage<TodoResponse> getTodosAfterCursor(String cursor, int limit, boolean includeDescription) {
+        log.debug("Getting TODO list with cursor: {}, limit: {}", cursor, limit);
+        CursorPage.validateLimit(limit);
+        
+        UUID currentUserId = userContextService.getCurrentUserId();
+        List<TodoListItem> rows = todoRepository.findListItemKeysetPage(
+            currentUserId, KeysetCursor.decodeOrNull(cursor), limit + 1, includeDescription);
+        return CursorPage.of(rows, limit, todo -> KeysetCursor.of(todo.createdAt(), todo.id()))
+            .map(TodoResponse::from);
+    }
+
     /**
      * ステータスでTODO一覧取得
      */
@@ -169,38 +182,26 @@ public class TodoService {
             }
         }
         
-        // 基本フィールドの更新
-        todo.setTitle(request.title());
-        todo.setDescription(request.description());
-        todo.setStatus(request.status());
-        todo.setPriority(request.priority());
-        todo.setDueDate(request.dueDate());
-        todo.setParentId(request.parentId());
-        
-        // 繰り返し設定の更新
-        if (Boolean.TRUE.equals(request.isRepeatable()) && request.repeatConfig() != null) {
-            todo.setIsRepeatable(true);
-            todo.setRepeatType(request.repeatConfig().repeatType());
-            todo.setRepeatInterval(request.repeatConfig().interval());
-            todo.setRepeatDaysOfWeek(request.repeatConfig().getDaysOfWeekString());
-            todo.setRepeatDayOfMonth(request.repeatConfig().dayOfMonth());
-            todo.setRepeatEndDate(request.repeatConfig().endDate());
-        } else {
-            // 繰り返し設定を無効化
-            todo.setIsRepeatable(false);
-            todo.setRepeatType(null);
-            todo.setRepeatInterval(null);
-            todo.setRepeatDaysOfWeek(null);
-            todo.setRepeatDayOfMonth(null);
-            todo.setRepeatEndDate(null);
+        // 繰り返しインスタンスの期限日は、同じ元TODOの他のインスタンスと重複できない
+        if (movesOntoOtherInstanceDate(todo, request.dueDate())
+                && !todoRepository.findByOriginalTodoIdAndDueDate(todo.getOriginalTodoId(), request.dueDate()).isEmpty()) {
+            throw new RepeatInstanceConflictException(todo.getOriginalTodoId(), request.dueDate());
         }
         
+        TodoStatus previousStatus = todo.getStatus();
+        ZonedDateTime previousUpdatedAt = todo.getUpdatedAt();
+        
+        applyUpdate(todo, request);
+        
         // TODOが完了状態になった場合、次の繰り返しインスタンスを生成
         if (request.status() == TodoStatus.DONE && Boolean.TRUE.equals(todo.getIsRepeatable()) && todo.getOriginalTodoId() == null) {
             handleTodoCompletion(todo);
         }
         
         TodoEntity updated = todoRepository.save(todo);
+        activityRollupService.recordTodoUpdated(currentUserId, previousStatus, previousUpdatedAt, request.status());
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(currentUserId, VersionedCollection.TODOS));
         log.info("Updated TODO with id: {} for user: {}", updated.getId(), currentUserId);
         
         return TodoResponse.from(updated);
@@ -222,6 +223,9 @@ public class TodoService {
         }
         
         todoRepository.deleteById(id);
+        activityRollupService.recordTodoDeleted(todo);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(currentUserId, VersionedCollection.TODOS));
         log.info("Deleted TODO with id: {} for user: {}", id, currentUserId);
     }
     
@@ -246,6 +250,67 @@ public class TodoService {
             .toList();
     }
     
+    /**
+     * サブツリー取得（WITH RECURSIVEで1クエリ取得し、完了状況を集計する）
+     */
+    public TodoTreeResponse getTodoTree(Long rootId, int maxDepth) {
+        log.debug("Getting TODO tree for root id: {} with max depth: {}", rootId, maxDepth);
+        
+        if (maxDepth < 0 || maxDepth > MAX_TREE_DEPTH) {
+            throw new IllegalArgumentException("maxDepth must be between 0 and " + MAX_TREE_DEPTH);
+        }
+        
+        UUID currentUserId = userContextService.getCurrentUserId();
+        
+        // 1階層余分に取得し、深さ制限で省略された子の有無と件数を判定する
+        List<TodoEntity> subtree = todoRepository.findSubtree(rootId, currentUserId, maxDepth + 1);
+        if (subtree.isEmpty()) {
+            // 所有者でない場合も空になるため、存在確認で404と403を区別する
+            TodoEntity todo = todoRepository.findById(rootId)
+                .orElseThrow(() -> new TodoNotFoundException(rootId));
+            throw new AccessDeniedException("Access denied to TODO with id: " + todo.getId());
+        }
+        
+        Map<Long, List<TodoEntity>> childrenByParentId = new HashMap<>();
+        for (TodoEntity todo : subtree) {
+            if (todo.getParentId() != null) {
+                childrenByParentId.computeIfAbsent(todo.getParentId(), id -> new ArrayList<>()).add(todo);
+            }
+        }
+        
+        return buildTree(subtree.get(0), 0, maxDepth, childrenByParentId);
+    }
+    
+    private TodoTreeResponse buildTree(TodoEntity todo, int depth, int maxDepth,
+                                       Map<Long, List<TodoEntity>> childrenByParentId) {
+        List<TodoEntity> childEntities = childrenByParentId.getOrDefault(todo.getId(), List.of());
+        boolean truncated = depth == maxDepth && !childEntities.isEmpty();
+        
+        List<TodoTreeResponse> children = new ArrayList<>();
+        int subtreeSize = 1;
+        int completedCount = todo.getStatus() == TodoStatus.DONE ? 1 : 0;
+        if (!truncated) {
+            for (TodoEntity child : childEntities) {
+                TodoTreeResponse childTree = buildTree(child, depth + 1, maxDepth, childrenByParentId);
+                children.add(childTree);
+                subtreeSize += childTree.subtreeSize();
+                completedCount += childTree.completedCount();
+            }
+        }
+        
+        double completionRate = Math.round(completedCount * 1000.0 / subtreeSize) / 10.0;
+        return new TodoTreeResponse(
+            TodoResponse.from(todo),
+            depth,
+            childEntities.size(),
+            subtreeSize,
+            completedCount,
+            completionRate,
+            truncated,
+            children
+        );
+    }
+    
     /**
      * 繰り返し可能なTODO一覧取得
      */
@@ -280,6 +345,25 @@ public class TodoService {
             .toList();
     }
     
+    /**
+     * 繰り返しTODOの指定期間内の発生日を展開する（インスタンスは生成しない）
+     */
+    public List<RepeatOccurrenceResponse> getRepeatOccurrences(LocalDate from, LocalDate to) {
+        log.debug("Expanding repeat occurrences from {} to {}", from, to);
+        
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_OCCURRENCE_WINDOW_DAYS) {
+            throw new IllegalArgumentException("Window must not exceed " + MAX_OCCURRENCE_WINDOW_DAYS + " days");
+        }
+        
+        UUID currentUserId = userContextService.getCurrentUserId();
+        return repeatService.expandOccurrences(currentUserId, from, to).stream()
+            .map(RepeatOccurrenceResponse::from)
+            .toList();
+    }
+    
     /**
      * 期限到来した繰り返しTODOの新しいインスタンスを生成
      */
@@ -288,15 +372,15 @@ public class TodoService {
         log.debug("Generating pending repeat instances for current user");
         
         UUID currentUserId = userContextService.getCurrentUserId();
+        // RepeatService inserts the instances itself and returns the stored rows
         List<TodoEntity> newInstances = repeatService.generateAllPendingOccurrences(currentUserId);
         
-        List<TodoEntity> savedInstances = newInstances.stream()
-            .map(todoRepository::save)
-            .toList();
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(currentUserId, VersionedCollection.TODOS));
         
-        log.info("Generated {} new repeat instances for user: {}", savedInstances.size(), currentUserId);
+        log.info("Generated {} new repeat instances for user: {}", newInstances.size(), currentUserId);
         
-        return savedInstances.stream()
+        return newInstances.stream()
             .map(TodoResponse::from)
             .toList();
     }
@@ -317,12 +401,10 @@ public class TodoService {
             throw new AccessDeniedException("Access denied to TODO with id: " + id);
         }
         
-        // ステータス切り替えロジック
-        TodoStatus newStatus = switch (todo.getStatus()) {
-            case TODO -> TodoStatus.DONE;
-            case IN_PROGRESS -> TodoStatus.DONE;
-            case DONE -> TodoStatus.TODO;
-        };
+        TodoStatus previousStatus = todo.getStatus();
+        ZonedDateTime previousUpdatedAt = todo.getUpdatedAt();
+        
+        TodoStatus newStatus = toggledStatus(todo.getStatus());
         
         todo.setStatus(newStatus);
         
@@ -337,12 +419,258 @@ public class TodoService {
         }
         
         TodoEntity updated = todoRepository.save(todo);
+        activityRollupService.recordTodoUpdated(currentUserId, previousStatus, previousUpdatedAt, newStatus);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+        eventPublisher.publishEvent(new CollectionChangedEvent(currentUserId, VersionedCollection.TODOS));
         log.info("Toggled TODO status from {} to {} for id: {} (user: {})", 
                  todo.getStatus(), newStatus, id, currentUserId);
         
         return TodoResponse.from(updated);
     }
 
+    /**
+     * TODO一括操作
+     * 対象TODOの所有確認は1クエリで行い、書き込みはJDBCバッチでまとめてフラッシュする。
+     * 対象が見つからない等の操作は失敗として結果に含め、他の操作は適用する。
+     */
+    @Transactional
+    public TodoBatchResponse applyBatch(TodoBatchRequest request) {
+        List<TodoBatchOperation> operations = request.operations();
+        log.debug("Applying {} TODO batch operations", operations.size());
+        
+        UUID currentUserId = userContextService.getCurrentUserId();
+        
+        // 操作対象と親タスクをまとめて取得（他ユーザーのTODOは含まれない）
+        Set<Long> referencedIds = new HashSet<>();
+        for (TodoBatchOperation operation : operations) {
+            if (operation.id() != null) {
+                referencedIds.add(operation.id());
+            }
+            if (operation.create() != null && operation.create().parentId() != null) {
+                referencedIds.add(operation.create().parentId());
+            }
+            if (operation.update() != null && operation.update().parentId() != null) {
+                referencedIds.add(operation.update().parentId());
+            }
+        }
+        Map<Long, TodoEntity> ownedTodos = new HashMap<>();
+        if (!referencedIds.isEmpty()) {
+            todoRepository.findByIdsAndUserId(referencedIds, currentUserId)
+                .forEach(todo -> ownedTodos.put(todo.getId(), todo));
+        }
+        
+        // 期限日を変更する繰り返しインスタンスについて、同じ元TODOのインスタンスの期限日を1クエリで取得する
+        Set<Long> movedOriginalTodoIds = new HashSet<>();
+        for (TodoBatchOperation operation : operations) {
+            TodoEntity todo = ownedTodos.get(operation.id());
+            if (operation.type() == TodoBatchOperation.Type.UPDATE && todo != null
+                    && movesOntoOtherInstanceDate(todo, operation.update().dueDate())) {
+                movedOriginalTodoIds.add(todo.getOriginalTodoId());
+            }
+        }
+        Map<Long, Set<LocalDate>> instanceDueDates = new HashMap<>();
+        if (!movedOriginalTodoIds.isEmpty()) {
+            todoRepository.findInstanceDueDatesByOriginalTodoIds(movedOriginalTodoIds)
+                .forEach((originalTodoId, dueDates) -> instanceDueDates.put(originalTodoId, new HashSet<>(dueDates)));
+        }
+        
+        List<TodoBatchResponse.ItemResult> results = new ArrayList<>();
+        // 集計テーブル更新等のクエリは自動フラッシュを誘発するため、全操作の後にまとめて実行する
+        List<Runnable> deferredActions = new ArrayList<>();
+        
+        for (int i = 0; i < operations.size(); i++) {
+            TodoBatchOperation operation = operations.get(i);
+            TodoBatchOperation.Type type = operation.type();
+            
+            if (type == TodoBatchOperation.Type.CREATE) {
+                Long parentId = operation.create().parentId();
+                if (parentId != null && !ownedTodos.containsKey(parentId)) {
+                    results.add(TodoBatchResponse.ItemResult.failed(i, type, null, "Parent TODO not found with id: " + parentId));
+                    continue;
+                }
+                TodoEntity saved = todoRepository.save(newTodoEntity(currentUserId, operation.create()));
+                deferredActions.add(() -> activityRollupService.recordTodoCreated(saved));
+                results.add(TodoBatchResponse.ItemResult.succeeded(i, type, saved.getId(), TodoResponse.from(saved)));
+                continue;
+            }
+            
+            TodoEntity todo = ownedTodos.get(operation.id());
+            if (todo == null) {
+                results.add(TodoBatchResponse.ItemResult.failed(i, type, operation.id(), "TODO not found with id: " + operation.id()));
+                continue;
+            }
+            
+            TodoStatus previousStatus = todo.getStatus();
+            ZonedDateTime previousUpdatedAt = todo.getUpdatedAt();
+            
+            switch (type) {
+                case UPDATE -> {
+                    UpdateTodoRequest update = operation.update();
+                    if (update.parentId() != null && !update.parentId().equals(todo.getParentId())) {
+                        if (update.parentId().equals(todo.getId())) {
+                            results.add(TodoBatchResponse.ItemResult.failed(i, type, todo.getId(), "A task cannot be its own parent"));
+                            continue;
+                        }
+                        if (!ownedTodos.containsKey(update.parentId())) {
+                            results.add(TodoBatchResponse.ItemResult.failed(i, type, todo.getId(),
+                                "Parent TODO not found with id: " + update.parentId()));
+                            continue;
+                        }
+                    }
+                    if (movesOntoOtherInstanceDate(todo, update.dueDate())) {
+                        // フラッシュ時の更新・削除の実行順は操作順と一致しないため、同じバッチで空けた期限日も使用中とみなす
+                        Set<LocalDate> siblingDueDates = instanceDueDates.computeIfAbsent(todo.getOriginalTodoId(), id -> new HashSet<>());
+                        if (!siblingDueDates.add(update.dueDate())) {
+                            results.add(TodoBatchResponse.ItemResult.failed(i, type, todo.getId(),
+                                RepeatInstanceConflictException.conflictMessage(todo.getOriginalTodoId(), update.dueDate())));
+                            continue;
+                        }
+                    }
+                    applyUpdate(todo, update);
+                    todoRepository.save(todo);
+                    deferredActions.add(() -> {
+                        if (update.status() == TodoStatus.DONE && Boolean.TRUE.equals(todo.getIsRepeatable())
+                                && todo.getOriginalTodoId() == null && ownedTodos.containsKey(todo.getId())) {
+                            handleTodoCompletion(todo);
+                        }
+                        activityRollupService.recordTodoUpdated(currentUserId, previousStatus, previousUpdatedAt, update.status());
+                    });
+                    results.add(TodoBatchResponse.ItemResult.succeeded(i, type, todo.getId(), TodoResponse.from(todo)));
+                }
+                case TOGGLE -> {
+                    TodoStatus newStatus = toggledStatus(previousStatus);
+                    todo.setStatus(newStatus);
+                    todoRepository.save(todo);
+                    deferredActions.add(() -> {
+                        if (newStatus == TodoStatus.DONE && todo.getOriginalTodoId() != null) {
+                            todoRepository.findById(todo.getOriginalTodoId())
+                                .filter(originalTodo -> Boolean.TRUE.equals(originalTodo.getIsRepeatable()))
+                                .ifPresent(this::handleRepeatInstanceCompletion);
+                        }
+                        activityRollupService.recordTodoUpdated(currentUserId, previousStatus, previousUpdatedAt, newStatus);
+                    });
+                    results.add(TodoBatchResponse.ItemResult.succeeded(i, type, todo.getId(), TodoResponse.from(todo)));
+                }
+                case DELETE -> {
+                    todoRepository.deleteById(todo.getId());
+                    removeWithDescendants(ownedTodos, todo.getId());
+                    deferredActions.add(() -> activityRollupService.recordTodoDeleted(todo));
+                    results.add(TodoBatchResponse.ItemResult.succeeded(i, type, todo.getId(), null));
+                }
+                default -> throw new IllegalStateException("Unexpected batch operation type: " + type);
+            }
+        }
+        
+        deferredActions.forEach(Runnable::run);
+        
+        TodoBatchResponse response = TodoBatchResponse.of(results);
+        if (response.succeeded() > 0) {
+            eventPublisher.publishEvent(new UserActivityChangedEvent(currentUserId));
+            eventPublisher.publishEvent(new CollectionChangedEvent(currentUserId, VersionedCollection.TODOS));
+        }
+        log.info("Applied TODO batch for user: {} ({} succeeded, {} failed)",
+                 currentUserId, response.succeeded(), response.failed());
+        
+        return response;
+    }
+    
+    /**
+     * 繰り返しインスタンスの期限日を別の日付に変更するかどうか（変更先が他のインスタンスと重複しうる）
+     */
+    private boolean movesOntoOtherInstanceDate(TodoEntity todo, LocalDate dueDate) {
+        return todo.getOriginalTodoId() != null && dueDate != null && !dueDate.equals(todo.getDueDate());
+    }
+    
+    /**
+     * 削除で連鎖削除される子孫タスクを、以降のバッチ操作の対象から外す
+     */
+    private void removeWithDescendants(Map<Long, TodoEntity> todos, Long id) {
+        todos.remove(id);
+        List<Long> childIds = todos.values().stream()
+            .filter(todo -> id.equals(todo.getParentId()))
+            .map(TodoEntity::getId)
+            .toList();
+        childIds.forEach(childId -> removeWithDescendants(todos, childId));
+    }
+    
+    /**
+     * 作成リクエストからTODOエンティティを生成
+     */
+    private TodoEntity newTodoEntity(UUID userId, CreateTodoRequest request) {
+        if (Boolean.TRUE.equals(request.isRepeatable()) && request.repeatConfig() != null) {
+            // 繰り返し設定ありのTODO作成
+            return new TodoEntity(
+                userId,
+                request.title(),
+                request.description(),
+                TodoStatus.TODO,
+                request.priority(),
+                request.dueDate(),
+                request.parentId(),
+                request.isRepeatable(),
+                request.repeatConfig().repeatType(),
+                request.repeatConfig().interval(),
+                request.repeatConfig().getDaysOfWeekString(),
+                request.repeatConfig().dayOfMonth(),
+                request.repeatConfig().endDate(),
+                null // originalTodoId - 元となるTODOなのでnull
+            );
+        } else {
+            // 通常のTODO作成
+            return new TodoEntity(
+                userId,
+                request.title(),
+                request.description(),
+                TodoStatus.TODO,
+                request.priority(),
+                request.dueDate(),
+                request.parentId()
+            );
+        }
+    }
+    
+    /**
+     * 更新リクエストの内容をTODOエンティティに反映
+     */
+    private void applyUpdate(TodoEntity todo, UpdateTodoRequest request) {
+        // 基本フィールドの更新
+        todo.setTitle(request.title());
+        todo.setDescription(request.description());
+        todo.setStatus(request.status());
+        todo.setPriority(request.priority());
+        todo.setDueDate(request.dueDate());
+        todo.setParentId(request.parentId());
+        
+        // 繰り返し設定の更新
+        if (Boolean.TRUE.equals(request.isRepeatable()) && request.repeatConfig() != null) {
+            todo.setIsRepeatable(true);
+            todo.setRepeatType(request.repeatConfig().repeatType());
+            todo.setRepeatInterval(request.repeatConfig().interval());
+            todo.setRepeatDaysOfWeek(request.repeatConfig().getDaysOfWeekString());
+            todo.setRepeatDayOfMonth(request.repeatConfig().dayOfMonth());
+            todo.setRepeatEndDate(request.repeatConfig().endDate());
+        } else {
+            // 繰り返し設定を無効化
+            todo.setIsRepeatable(false);
+            todo.setRepeatType(null);
+            todo.setRepeatInterval(null);
+            todo.setRepeatDaysOfWeek(null);
+            todo.setRepeatDayOfMonth(null);
+            todo.setRepeatEndDate(null);
+        }
+    }
+    
+    /**
+     * ステータス切り替えロジック
+     */
+    private TodoStatus toggledStatus(TodoStatus status) {
+        return switch (status) {
+            case TODO -> TodoStatus.DONE;
+            case IN_PROGRESS -> TodoStatus.DONE;
+            case DONE -> TodoStatus.TODO;
+        };
+    }
+    
     /**
      * TODO完了時の繰り返し処理
      */
@@ -354,7 +682,6 @@ public class TodoService {
         try {
             TodoEntity nextInstance = repeatService.generateNextOccurrence(completedTodo);
             if (nextInstance != null) {
-                todoRepository.save(nextInstance);
                 log.info("Generated next occurrence for completed TODO id: {}", completedTodo.getId());
             }
         } catch (Exception e) {
@@ -370,7 +697,6 @@ public class TodoService {
         try {
             TodoEntity nextInstance = repeatService.generateNextOccurrence(originalTodo);
             if (nextInstance != null) {
-                todoRepository.save(nextInstance);
                 log.info("Generated next repeat instance for original TODO id: {}", originalTodo.getId());
             }
         } catch (Exception e) {
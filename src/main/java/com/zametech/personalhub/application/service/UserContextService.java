@@ -1,58 +1,105 @@
 package com.zametech.personalhub.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zametech.personalhub.domain.event.WeekStartDayChangedEvent;
 import com.zametech.personalhub.domain.model.User;
 import com.zametech.personalhub.domain.repository.UserRepository;
+import com.zametech.personalhub.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Resolves the user of the current request. Requests authenticated with a token that carries the user id have
+ * an {@link AuthenticatedUser} principal, and the id is read from it without a query; other principals, such as
+ * those of legacy tokens, are looked up by email.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserContextService {
 
+    /** Longest time another instance keeps serving a week start day after the user changed it */
+    private static final Duration WEEK_START_DAY_TTL = Duration.ofMinutes(1);
+
     private final UserRepository userRepository;
+    /** Week start days by user id, evicted on this instance when a user changes theirs */
+    private final Cache<UUID, Optional<Integer>> weekStartDays = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(WEEK_START_DAY_TTL)
+            .build();
 
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
-        if (authentication == null || !authentication.isAuthenticated() || 
-            "anonymousUser".equals(authentication.getPrincipal())) {
-            throw new RuntimeException("No authenticated user found");
+        UserDetails userDetails = getCurrentPrincipal();
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            return userRepository.findById(authenticatedUser.userId())
+                    .orElseThrow(() -> new RuntimeException("User not found: " + authenticatedUser.email()));
         }
 
-        Object principal = authentication.getPrincipal();
-        if (!(principal instanceof UserDetails)) {
-            throw new RuntimeException("Invalid authentication principal");
-        }
-
-        UserDetails userDetails = (UserDetails) principal;
         String email = userDetails.getUsername();
-
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
     }
 
     public UUID getCurrentUserId() {
+        if (getCurrentPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.userId();
+        }
         User currentUser = getCurrentUser();
         UUID userId = currentUser.getId();
         log.debug("DEBUG: getCurrentUserId - email: {}, userId: {}", currentUser.getEmail(), userId);
         return userId;
     }
-    
+
+    /**
+     * Week start day of the current user, or null when the user has not set one. Read from the user row, as
+     * the goal streak repair job does, so a change applies to the next request.
+     */
+    public Integer getCurrentWeekStartDay() {
+        return weekStartDays.get(getCurrentUserId(), userId -> Optional.ofNullable(userRepository.findById(userId)
+                        .orElseThrow(() -> new RuntimeException("User not found: " + userId))
+                        .getWeekStartDay()))
+                .orElse(null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWeekStartDayChanged(WeekStartDayChangedEvent event) {
+        weekStartDays.invalidate(event.userId());
+    }
+
     // Temporary method for backward compatibility with Long-based repositories
     public Long getCurrentUserIdAsLong() {
-        // This is a temporary workaround - in a real application, 
+        // This is a temporary workaround - in a real application,
         // all repositories should be migrated to use UUID
-        return getCurrentUser().getId().getMostSignificantBits();
+        return getCurrentUserId().getMostSignificantBits();
     }
 
     public boolean isCurrentUser(UUID userId) {
         return getCurrentUserId().equals(userId);
     }
-}
\ No newline at end of file
+
+    private UserDetails getCurrentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() ||
+            "anonymousUser".equals(authentication.getPrincipal())) {
+            throw new RuntimeException("No authenticated user found");
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetails)) {
+            throw new RuntimeException("Invalid authentication principal");
+        }
+
+        return (UserDetails) principal;
+    }
+}
@@ -1,13 +1,17 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.WeekStartDayChangedEvent;
 import com.zametech.personalhub.domain.model.User;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.domain.repository.TodoRepository;
 import com.zametech.personalhub.domain.repository.UserRepository;
 import com.zametech.personalhub.presentation.dto.request.ChangePasswordRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateUserRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,7 @@ public class UserService {
     private final TodoRepository todoRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserContextService userContextService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public User updateUserProfile(UUID userId, UpdateUserRequest request) {
@@ -129,6 +134,10 @@ public class UserService {
         user.setWeekStartDay(weekStartDay);
         
         log.info("Updating week start day for userId: {} to day: {}", userId, weekStartDay);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new WeekStartDayChangedEvent(userId));
+        // Weekly periods and streaks in the goal list move with the week start
+        eventPublisher.publishEvent(new CollectionChangedEvent(userId, VersionedCollection.GOALS));
+        return savedUser;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.zametech.personalhub.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -56,6 +57,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * 繰り返しインスタンスの期限日が同じ元TODOの他のインスタンスと重複する場合
+     */
+    @ExceptionHandler(RepeatInstanceConflictException.class)
+    public ResponseEntity<ErrorResponse> handleRepeatInstanceConflictException(RepeatInstanceConflictException e) {
+        log.warn("Repeat instance conflict: {}", e.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "REPEAT_INSTANCE_CONFLICT",
+            e.getMessage(),
+            ZonedDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * 一意制約違反（事前チェックをすり抜けた同時更新など）
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.warn("Data integrity violation: {}", e.getMostSpecificCause().getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "DATA_CONFLICT",
+            "データが他の更新と競合しました",
+            ZonedDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * バリデーションエラー
      */
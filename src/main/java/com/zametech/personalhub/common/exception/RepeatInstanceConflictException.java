@@ -0,0 +1,17 @@
+package com.zametech.personalhub.common.exception;
+
+import java.time.LocalDate;
+
+/**
+ * 同じ元TODOの繰り返しインスタンスが既に同じ期限日に存在する場合の例外
+ */
+public class RepeatInstanceConflictException extends RuntimeException {
+    
+    public RepeatInstanceConflictException(Long originalTodoId, LocalDate dueDate) {
+        super(conflictMessage(originalTodoId, dueDate));
+    }
+    
+    public static String conflictMessage(Long originalTodoId, LocalDate dueDate) {
+        return "A repeat instance of TODO " + originalTodoId + " already exists for due date: " + dueDate;
+    }
+}
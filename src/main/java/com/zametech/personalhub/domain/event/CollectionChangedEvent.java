@@ -0,0 +1,11 @@
+package com.zametech.personalhub.domain.event;
+
+import com.zametech.personalhub.domain.model.VersionedCollection;
+
+import java.util.UUID;
+
+/**
+ * Published after a write that changes what the given collection endpoint returns for a user.
+ */
+public record CollectionChangedEvent(UUID userId, VersionedCollection collection) {
+}
@@ -0,0 +1,9 @@
+package com.zametech.personalhub.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a write that changes data summarized by the analytics endpoints of a user.
+ */
+public record UserActivityChangedEvent(UUID userId) {
+}
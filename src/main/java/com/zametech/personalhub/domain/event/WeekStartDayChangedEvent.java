@@ -0,0 +1,9 @@
+package com.zametech.personalhub.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a user changes the day their weeks start on.
+ */
+public record WeekStartDayChangedEvent(UUID userId) {
+}
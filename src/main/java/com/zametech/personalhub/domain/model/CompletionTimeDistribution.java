@@ -0,0 +1,21 @@
+package com.zametech.personalhub.domain.model;
+
+import java.util.List;
+
+/**
+ * Distribution of the time completed TODOs took from creation to their last update, in hours.
+ * Bucket counts follow {@link #BUCKET_UPPER_BOUNDS_HOURS}; the last bucket is open-ended.
+ */
+public record CompletionTimeDistribution(
+        long count,
+        double p50Hours,
+        double p90Hours,
+        double p99Hours,
+        List<Long> bucketCounts
+) {
+    /**
+     * Exclusive upper bounds of all but the last bucket, roughly log-scaled from one hour to a month.
+     * Must match the width_bucket thresholds in TodoJpaRepository.
+     */
+    public static final List<Double> BUCKET_UPPER_BOUNDS_HOURS = List.of(1.0, 4.0, 12.0, 24.0, 72.0, 168.0, 720.0);
+}
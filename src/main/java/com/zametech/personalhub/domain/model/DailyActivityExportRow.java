@@ -0,0 +1,18 @@
+package com.zametech.personalhub.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * One day of a user's activity history as written by the analytics export.
+ */
+public record DailyActivityExportRow(
+        LocalDate date,
+        int todosCreated,
+        int todosCompleted,
+        int eventsCount,
+        int notesCreated,
+        int momentsCreated,
+        int pomodoroSessions,
+        int pomodoroCompletedCycles
+) {
+}
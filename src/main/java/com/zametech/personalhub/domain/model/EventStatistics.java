@@ -0,0 +1,12 @@
+package com.zametech.personalhub.domain.model;
+
+/**
+ * Aggregated event counters of a user relative to a point in time.
+ */
+public record EventStatistics(
+        long total,
+        long upcoming,
+        long past,
+        long today
+) {
+}
@@ -0,0 +1,36 @@
+package com.zametech.personalhub.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.stream.Stream;
+
+/**
+ * Achieved days of a goal in one calendar year. Bit n of {@code days} is day of year n + 1, numbered from
+ * the least significant bit of the first byte, which is the order of both PostgreSQL's get_bit/set_bit on
+ * bytea and {@link BitSet#valueOf(byte[])}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalAchievementYear {
+    private Long goalId;
+    private int year;
+    private byte[] days;
+
+    public static int dayIndex(LocalDate date) {
+        return date.getDayOfYear() - 1;
+    }
+
+    public BitSet toBitSet() {
+        return BitSet.valueOf(days);
+    }
+
+    public Stream<LocalDate> achievedDates() {
+        LocalDate firstDay = LocalDate.ofYearDay(year, 1);
+        return toBitSet().stream().mapToObj(firstDay::plusDays);
+    }
+}
@@ -0,0 +1,31 @@
+package com.zametech.personalhub.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Stored streaks of a goal. {@code currentStreak} counts the consecutive achieved periods ending at
+ * {@code lastAchievedPeriod}, the first day of the latest achieved period. While {@code needsRepair}
+ * is set the counters are stale and must be recomputed from the achievement history.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalStreak {
+    private Long goalId;
+    private int currentStreak;
+    private int longestStreak;
+    private LocalDate lastAchievedPeriod;
+    private boolean needsRepair;
+    private LocalDateTime updatedAt;
+
+    public static GoalStreak empty(Long goalId) {
+        GoalStreak streak = new GoalStreak();
+        streak.setGoalId(goalId);
+        return streak;
+    }
+}
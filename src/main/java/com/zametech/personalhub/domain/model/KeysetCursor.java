@@ -0,0 +1,60 @@
+package com.zametech.personalhub.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a list ordered by (createdAt DESC, id DESC). Clients receive it as an opaque token
+ * and the next page continues strictly after it, so concurrent inserts never shift page boundaries.
+ */
+public record KeysetCursor(Instant createdAt, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * For {@code timestamp without time zone} columns. UTC is only used to make the value round-trip.
+     */
+    public static KeysetCursor of(LocalDateTime createdAt, long id) {
+        return new KeysetCursor(createdAt.toInstant(ZoneOffset.UTC), id);
+    }
+
+    public static KeysetCursor of(ZonedDateTime createdAt, long id) {
+        return new KeysetCursor(createdAt.toInstant(), id);
+    }
+
+    /**
+     * Returns null for a missing or blank token, which means the first page.
+     */
+    public static KeysetCursor decodeOrNull(String token) {
+        return token == null || token.isBlank() ? null : decode(token);
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                    Instant.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime localCreatedAt() {
+        return LocalDateTime.ofInstant(createdAt, ZoneOffset.UTC);
+    }
+}
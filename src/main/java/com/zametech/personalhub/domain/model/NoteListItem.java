@@ -0,0 +1,28 @@
+package com.zametech.personalhub.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only note row for list endpoints, selected by a JPQL constructor expression so no entity is
+ * hydrated. {@code content} is null unless it was requested.
+ */
+public record NoteListItem(
+        Long id,
+        String title,
+        String content,
+        String tags,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public List<String> tagList() {
+        if (tags == null || tags.trim().isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .toList();
+    }
+}
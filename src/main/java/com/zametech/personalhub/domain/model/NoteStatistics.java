@@ -0,0 +1,12 @@
+package com.zametech.personalhub.domain.model;
+
+/**
+ * Aggregated note counters of a user, including the number of distinct tags.
+ */
+public record NoteStatistics(
+        long total,
+        long createdThisWeek,
+        long createdThisMonth,
+        long uniqueTags
+) {
+}
@@ -0,0 +1,190 @@
+package com.zametech.personalhub.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of a todo's repeat columns, with RRULE-like semantics: the todo's due date is the first
+ * occurrence (DTSTART), the repeat type and interval are FREQ and INTERVAL, the days of week are BYDAY for
+ * weekly rules, the day of month is BYMONTHDAY for monthly rules (clamped to the length of short months)
+ * and the end date is an inclusive UNTIL.
+ * Days of week are kept as a bitmask (bit 0 = Monday ... bit 6 = Sunday), so stepping through occurrences
+ * is plain date arithmetic and a window far from the first occurrence is reached without iterating up to it.
+ */
+public record RecurrenceRule(RepeatType type, int interval, int daysOfWeekMask, Integer dayOfMonth, LocalDate until) {
+
+    private static final int ALL_DAYS = (1 << 7) - 1;
+
+    public RecurrenceRule {
+        if (type == null) {
+            throw new IllegalArgumentException("Repeat type is required");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Repeat interval must be at least 1");
+        }
+        if ((daysOfWeekMask & ~ALL_DAYS) != 0) {
+            throw new IllegalArgumentException("Invalid days of week mask: " + daysOfWeekMask);
+        }
+        if (dayOfMonth != null && (dayOfMonth < 1 || dayOfMonth > 31)) {
+            throw new IllegalArgumentException("Day of month must be between 1 and 31");
+        }
+    }
+
+    /**
+     * Compiles the stored columns. A missing interval means 1 and the days of week are a comma separated
+     * list of 1 (Monday) to 7 (Sunday).
+     */
+    public static RecurrenceRule compile(RepeatType type, Integer interval, String daysOfWeek,
+                                         Integer dayOfMonth, LocalDate until) {
+        return new RecurrenceRule(type, interval != null ? interval : 1, parseDaysOfWeekMask(daysOfWeek), dayOfMonth, until);
+    }
+
+    static int parseDaysOfWeekMask(String daysOfWeek) {
+        if (daysOfWeek == null || daysOfWeek.isBlank()) {
+            return 0;
+        }
+        int mask = 0;
+        for (String day : daysOfWeek.split(",")) {
+            if (day.isBlank()) {
+                continue;
+            }
+            int value = Integer.parseInt(day.trim());
+            if (value < 1 || value > 7) {
+                throw new IllegalArgumentException("Day of week must be between 1 and 7: " + value);
+            }
+            mask |= 1 << (value - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * First occurrence after the given occurrence, or null for a one-time rule or when it would be after UNTIL.
+     */
+    public LocalDate next(LocalDate occurrence) {
+        LocalDate next = switch (type) {
+            case DAILY -> occurrence.plusDays(interval);
+            case WEEKLY -> nextWeekly(occurrence);
+            case MONTHLY -> dayOfMonth != null
+                    ? atDayOfMonth(YearMonth.from(occurrence).plusMonths(interval), dayOfMonth)
+                    : occurrence.plusMonths(interval);
+            case YEARLY -> occurrence.plusYears(interval);
+            case ONCE -> null;
+        };
+        return next == null || isAfterUntil(next) ? null : next;
+    }
+
+    private LocalDate nextWeekly(LocalDate occurrence) {
+        if (daysOfWeekMask == 0) {
+            return occurrence.plusWeeks(interval);
+        }
+        int dayOfWeek = occurrence.getDayOfWeek().getValue();
+        // Bits of the days after this one in the same week
+        int laterThisWeek = daysOfWeekMask & (-1 << dayOfWeek);
+        if (laterThisWeek != 0) {
+            return occurrence.plusDays(Integer.numberOfTrailingZeros(laterThisWeek) + 1 - dayOfWeek);
+        }
+        return weekStart(occurrence).plusWeeks(interval).plusDays(Integer.numberOfTrailingZeros(daysOfWeekMask));
+    }
+
+    /**
+     * Occurrences of the rule starting at {@code start} that fall within [from, to], in date order.
+     * Computed from {@code start} rather than by chaining {@link #next}, so a month-end day of month that is
+     * clamped in February is still the 31st in March. The caller bounds the window.
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate start, LocalDate from, LocalDate to) {
+        LocalDate end = until != null && until.isBefore(to) ? until : to;
+        List<LocalDate> occurrences = new ArrayList<>();
+        if (end.isBefore(from) || end.isBefore(start)) {
+            return occurrences;
+        }
+        if (!start.isBefore(from)) {
+            occurrences.add(start);
+        }
+        switch (type) {
+            case DAILY -> addDaily(start, from, end, occurrences);
+            case WEEKLY -> addWeekly(start, from, end, occurrences);
+            case MONTHLY -> addMonthly(start, from, end, occurrences);
+            case YEARLY -> addYearly(start, from, end, occurrences);
+            case ONCE -> { }
+        }
+        return occurrences;
+    }
+
+    private void addDaily(LocalDate start, LocalDate from, LocalDate end, List<LocalDate> occurrences) {
+        long step = firstStep(ChronoUnit.DAYS.between(start, from));
+        for (LocalDate date = start.plusDays(step * interval); !date.isAfter(end); date = date.plusDays(interval)) {
+            occurrences.add(date);
+        }
+    }
+
+    private void addWeekly(LocalDate start, LocalDate from, LocalDate end, List<LocalDate> occurrences) {
+        int mask = daysOfWeekMask != 0 ? daysOfWeekMask : 1 << (start.getDayOfWeek().getValue() - 1);
+        LocalDate firstWeek = weekStart(start);
+        // The week of start is step 0 and may also hold masked days after start
+        long step = Math.max(0, Math.floorDiv(ChronoUnit.WEEKS.between(firstWeek, weekStart(from)) + interval - 1, interval));
+        for (LocalDate week = firstWeek.plusWeeks(step * interval); !week.isAfter(end); week = week.plusWeeks(interval)) {
+            for (int days = mask; days != 0; days &= days - 1) {
+                LocalDate date = week.plusDays(Integer.numberOfTrailingZeros(days));
+                if (date.isAfter(end)) {
+                    return;
+                }
+                if (date.isAfter(start) && !date.isBefore(from)) {
+                    occurrences.add(date);
+                }
+            }
+        }
+    }
+
+    private void addMonthly(LocalDate start, LocalDate from, LocalDate end, List<LocalDate> occurrences) {
+        int day = dayOfMonth != null ? dayOfMonth : start.getDayOfMonth();
+        YearMonth firstMonth = YearMonth.from(start);
+        long step = firstStep(ChronoUnit.MONTHS.between(firstMonth, YearMonth.from(from)));
+        for (YearMonth month = firstMonth.plusMonths(step * interval); ; month = month.plusMonths(interval)) {
+            LocalDate date = atDayOfMonth(month, day);
+            if (date.isAfter(end)) {
+                return;
+            }
+            if (!date.isBefore(from)) {
+                occurrences.add(date);
+            }
+        }
+    }
+
+    private void addYearly(LocalDate start, LocalDate from, LocalDate end, List<LocalDate> occurrences) {
+        long step = firstStep(ChronoUnit.YEARS.between(start.withDayOfYear(1), from.withDayOfYear(1)));
+        for (long n = step; ; n++) {
+            // plusYears from start keeps Feb 29 in leap years and clamps it to Feb 28 otherwise
+            LocalDate date = start.plusYears(n * interval);
+            if (date.isAfter(end)) {
+                return;
+            }
+            if (!date.isBefore(from)) {
+                occurrences.add(date);
+            }
+        }
+    }
+
+    /**
+     * Index of the first step after start whose period is not before the period of from.
+     */
+    private long firstStep(long periodsUntilFrom) {
+        return Math.max(1, Math.floorDiv(periodsUntilFrom + interval - 1, interval));
+    }
+
+    private boolean isAfterUntil(LocalDate date) {
+        return until != null && date.isAfter(until);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDate atDayOfMonth(YearMonth month, int day) {
+        return month.atDay(Math.min(day, month.lengthOfMonth()));
+    }
+}
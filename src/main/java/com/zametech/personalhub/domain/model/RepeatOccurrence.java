@@ -0,0 +1,21 @@
+package com.zametech.personalhub.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * One occurrence of a repeatable todo. {@code todoId} and {@code status} are null while the occurrence
+ * is virtual, i.e. only computed from the recurrence rule and not stored as a todo row.
+ */
+public record RepeatOccurrence(
+        Long originalTodoId,
+        String title,
+        TodoPriority priority,
+        LocalDate date,
+        Long todoId,
+        TodoStatus status
+) {
+
+    public boolean materialized() {
+        return todoId != null;
+    }
+}
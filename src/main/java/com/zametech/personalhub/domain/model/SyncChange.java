@@ -0,0 +1,7 @@
+package com.zametech.personalhub.domain.model;
+
+/**
+ * A row returned by delta sync together with the position of its last write.
+ */
+public record SyncChange<T>(SyncPosition position, T item) {
+}
@@ -0,0 +1,11 @@
+package com.zametech.personalhub.domain.model;
+
+/**
+ * Kinds of rows tracked by delta sync. Stored by name in {@code sync_tombstones.entity_type}.
+ */
+public enum SyncEntityType {
+    TODO,
+    NOTE,
+    EVENT,
+    MOMENT
+}
@@ -0,0 +1,20 @@
+package com.zametech.personalhub.domain.model;
+
+import java.util.Comparator;
+
+/**
+ * Where a change sits in the delta sync order: the transaction that wrote it, then its {@code change_seq}
+ * within that transaction. A sync token is the position of the last change a client has received.
+ */
+public record SyncPosition(long changeXid, long changeSeq) implements Comparable<SyncPosition> {
+
+    public static final SyncPosition START = new SyncPosition(0L, 0L);
+
+    private static final Comparator<SyncPosition> ORDER =
+            Comparator.comparingLong(SyncPosition::changeXid).thenComparingLong(SyncPosition::changeSeq);
+
+    @Override
+    public int compareTo(SyncPosition other) {
+        return ORDER.compare(this, other);
+    }
+}
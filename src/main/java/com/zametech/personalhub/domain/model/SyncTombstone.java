@@ -0,0 +1,14 @@
+package com.zametech.personalhub.domain.model;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Marker left behind when a todo, note, event or moment is deleted, so sync clients can drop their copy.
+ */
+public record SyncTombstone(
+        SyncEntityType entityType,
+        Long entityId,
+        SyncPosition position,
+        ZonedDateTime deletedAt
+) {
+}
@@ -0,0 +1,28 @@
+package com.zametech.personalhub.domain.model;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only TODO row for list endpoints, selected by a JPQL constructor expression so no entity is
+ * hydrated or tracked by the persistence context. {@code description} is null unless it was requested.
+ */
+public record TodoListItem(
+        Long id,
+        String title,
+        String description,
+        TodoStatus status,
+        TodoPriority priority,
+        LocalDate dueDate,
+        Long parentId,
+        Boolean isRepeatable,
+        RepeatType repeatType,
+        Integer repeatInterval,
+        String repeatDaysOfWeek,
+        Integer repeatDayOfMonth,
+        LocalDate repeatEndDate,
+        Long originalTodoId,
+        ZonedDateTime createdAt,
+        ZonedDateTime updatedAt
+) {
+}
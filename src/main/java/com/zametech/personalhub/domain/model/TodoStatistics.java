@@ -0,0 +1,14 @@
+package com.zametech.personalhub.domain.model;
+
+/**
+ * Aggregated TODO counters of a user, computed in a single query.
+ */
+public record TodoStatistics(
+        long total,
+        long completed,
+        long inProgress,
+        long pending,
+        long overdue,
+        double averageCompletionDays
+) {
+}
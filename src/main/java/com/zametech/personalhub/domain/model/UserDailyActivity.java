@@ -0,0 +1,35 @@
+package com.zametech.personalhub.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Daily activity counters of a user. Also used as a delta when the rollup is incremented.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyActivity {
+    private UUID userId;
+    private LocalDate activityDate;
+    private int todosCreated;
+    private int todosCompleted;
+    private int eventsCount;
+    private int notesCreated;
+    private int momentsCreated;
+    private int goalsAchieved;
+
+    public UserDailyActivity(UUID userId, LocalDate activityDate) {
+        this.userId = userId;
+        this.activityDate = activityDate;
+    }
+
+    public boolean isEmpty() {
+        return todosCreated == 0 && todosCompleted == 0 && eventsCount == 0
+                && notesCreated == 0 && momentsCreated == 0 && goalsAchieved == 0;
+    }
+}
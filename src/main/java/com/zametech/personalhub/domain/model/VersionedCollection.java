@@ -0,0 +1,11 @@
+package com.zametech.personalhub.domain.model;
+
+/**
+ * Per-user read models whose version is surfaced as an ETag for conditional GETs.
+ */
+public enum VersionedCollection {
+    TODOS,
+    GOALS,
+    POMODORO,
+    DASHBOARD
+}
@@ -1,6 +1,10 @@
 package com.zametech.personalhub.domain.repository;
 
 import com.zametech.personalhub.domain.model.Event;
+import com.zametech.personalhub.domain.model.EventStatistics;
+import com.zametech.personalhub.domain.model.KeysetCursor;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,9 +18,12 @@ public interface EventRepository {
     Optional<Event> findById(Long id);
     Optional<Event> findByIdAndUserId(Long id, UUID userId);
     Page<Event> findByUserId(UUID userId, Pageable pageable);
+    List<Event> findKeysetPage(UUID userId, KeysetCursor cursor, int limit);
     List<Event> findByUserIdAndDateRange(UUID userId, LocalDateTime startDate, LocalDateTime endDate);
+    List<SyncChange<Event>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit);
     void deleteById(Long id);
     void deleteByUserId(UUID userId);
+    EventStatistics getStatisticsByUserId(UUID userId, LocalDateTime now);
     
     // Google Calendar sync methods
     Optional<Event> findByGoogleEventId(String googleEventId);
@@ -0,0 +1,16 @@
+package com.zametech.personalhub.domain.repository;
+
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read side of the yearly achievement bitmaps; they are written by {@link GoalAchievementHistoryRepository}
+ * together with each history row.
+ */
+public interface GoalAchievementYearRepository {
+    List<GoalAchievementYear> findByGoalIdAndYearBetween(Long goalId, int fromYear, int toYear);
+    List<GoalAchievementYear> findByGoalIdIn(Collection<Long> goalIds);
+    List<GoalAchievementYear> findByGoalIdInAndYearBetween(Collection<Long> goalIds, int fromYear, int toYear);
+}
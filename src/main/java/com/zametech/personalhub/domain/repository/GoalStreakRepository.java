@@ -0,0 +1,25 @@
+package com.zametech.personalhub.domain.repository;
+
+import com.zametech.personalhub.domain.model.GoalStreak;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface GoalStreakRepository {
+    GoalStreak save(GoalStreak streak);
+    /**
+     * Locks the row until the end of the transaction, so toggles of the same goal are applied one at a time.
+     */
+    Optional<GoalStreak> findByGoalIdForUpdate(Long goalId);
+    List<GoalStreak> findByGoalIds(Collection<Long> goalIds);
+    /**
+     * Locks up to limit rows that need repair, skipping rows locked by a toggle or another node.
+     */
+    List<GoalStreak> lockNeedingRepair(int limit);
+    /**
+     * Marks the streaks of the user's weekly goals for repair and returns how many were marked.
+     */
+    int markWeeklyForRepair(UUID userId);
+}
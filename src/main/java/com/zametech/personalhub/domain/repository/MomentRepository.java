@@ -1,6 +1,10 @@
 package com.zametech.personalhub.domain.repository;
 
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.MomentListItem;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,10 +18,13 @@ public interface MomentRepository {
     Optional<Moment> findById(Long id);
     Optional<Moment> findByIdAndUserId(Long id, UUID userId);
     Page<Moment> findByUserId(UUID userId, Pageable pageable);
+    Page<MomentListItem> findListItemsByUserId(UUID userId, Pageable pageable);
+    List<MomentListItem> findListItemKeysetPage(UUID userId, KeysetCursor cursor, int limit);
     Page<Moment> findByUserIdAndCreatedAtBetween(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     List<Moment> searchByContent(UUID userId, String query);
     List<Moment> findByTag(UUID userId, String tag);
     List<Moment> searchByContentAndTag(UUID userId, String query, String tag);
+    List<SyncChange<Moment>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit);
     void deleteById(Long id);
     void deleteByUserId(UUID userId);
 }
\ No newline at end of file
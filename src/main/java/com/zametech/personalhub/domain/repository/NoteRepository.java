@@ -1,9 +1,15 @@
 package com.zametech.personalhub.domain.repository;
 
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.NoteListItem;
+import com.zametech.personalhub.domain.model.NoteStatistics;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,8 +19,12 @@ public interface NoteRepository {
     Optional<Note> findById(Long id);
     Optional<Note> findByIdAndUserId(Long id, UUID userId);
     Page<Note> findByUserId(UUID userId, Pageable pageable);
+    Page<NoteListItem> findListItemsByUserId(UUID userId, boolean includeContent, Pageable pageable);
+    List<NoteListItem> findListItemKeysetPage(UUID userId, KeysetCursor cursor, int limit, boolean includeContent);
     List<Note> searchByTitleOrContent(UUID userId, String query);
     List<Note> findByTag(UUID userId, String tag);
+    List<SyncChange<Note>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit);
     void deleteById(Long id);
     void deleteByUserId(UUID userId);
+    NoteStatistics getStatisticsByUserId(UUID userId, LocalDateTime weekAgo, LocalDateTime monthAgo);
 }
\ No newline at end of file
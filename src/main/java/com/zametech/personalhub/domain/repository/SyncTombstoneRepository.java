@@ -0,0 +1,24 @@
+package com.zametech.personalhub.domain.repository;
+
+import com.zametech.personalhub.domain.model.SyncPosition;
+import com.zametech.personalhub.domain.model.SyncTombstone;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tombstones are written by the todo, note, event and moment repositories on delete; this is the read side.
+ */
+public interface SyncTombstoneRepository {
+    /**
+     * Returns up to {@code limit} of the user's tombstones after {@code since}, oldest first, leaving out
+     * those written by transactions from {@code committedBeforeXid} on.
+     */
+    List<SyncTombstone> findByUserIdSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit);
+
+    /**
+     * Id of the oldest transaction still running as of the current snapshot. Every transaction with a lower
+     * id has finished, so no change can commit before a position whose transaction is below it.
+     */
+    long findOldestRunningXid();
+}
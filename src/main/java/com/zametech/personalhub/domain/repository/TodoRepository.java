@@ -1,14 +1,23 @@
 package com.zametech.personalhub.domain.repository;
 
+import com.zametech.personalhub.domain.model.CompletionTimeDistribution;
+import com.zametech.personalhub.domain.model.KeysetCursor;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatistics;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -56,11 +65,32 @@ public interface TodoRepository {
      */
     boolean existsById(Long id);
     
+    /**
+     * ID一覧のうち指定ユーザーが所有するTODOを1クエリで取得する
+     */
+    List<TodoEntity> findByIdsAndUserId(Collection<Long> ids, UUID userId);
+    
     /**
      * ユーザーIDでTODOを検索する（ページング）
      */
     Page<TodoEntity> findByUserId(UUID userId, Pageable pageable);
     
+    /**
+     * ユーザーのTODO一覧を射影で取得する（ページング、説明は指定時のみ）
+     */
+    Page<TodoListItem> findListItemsByUserId(UUID userId, boolean includeDescription, Pageable pageable);
+    
+    /**
+     * ユーザーのTODO一覧を(作成日時, ID)の降順で射影取得する（cursorがnullなら先頭から、指定時はその位置より後）
+     */
+    List<TodoListItem> findListItemKeysetPage(UUID userId, KeysetCursor cursor, int limit, boolean includeDescription);
+    
+    /**
+     * 同期位置sinceより後に変更されたユーザーのTODOを変更順に取得する（同期用）
+     * committedBeforeXidより前のトランザクションによる変更のみを返す
+     */
+    List<SyncChange<TodoEntity>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit);
+    
     /**
      * ユーザーIDとステータスでTODOを検索する
      */
@@ -86,6 +116,22 @@ public interface TodoRepository {
      */
     List<TodoEntity> findByUserIdAndIsRepeatableTrue(UUID userId);
     
+    /**
+     * 期限が指定日以前でIDがafterIdより大きい繰り返しTODOをID順にロックして取得する（他のトランザクションがロック中の行は飛ばす）
+     */
+    List<TodoEntity> lockRepeatableTodosDueBy(LocalDate date, long afterId, int limit);
+    
+    /**
+     * 元TODOごとに生成済みインスタンスの期限日を取得する
+     */
+    Map<Long, Set<LocalDate>> findInstanceDueDatesByOriginalTodoIds(Collection<Long> originalTodoIds);
+    
+    /**
+     * 元TODOの内容から指定期限日の繰り返しインスタンスを1文で挿入し、挿入したTODOを返す
+     * （同じ元TODOと期限日のインスタンスが既にあれば、その分は挿入しない）
+     */
+    List<TodoEntity> insertRepeatInstances(Map<Long, LocalDate> dueDatesByOriginalTodoId);
+    
     /**
      * 元TODOIDと期限日でTODOを検索する（繰り返しインスタンス検索用）
      */
@@ -95,4 +141,34 @@ public interface TodoRepository {
      * 元TODOIDで生成されたインスタンスを検索する
      */
     List<TodoEntity> findByOriginalTodoId(Long originalTodoId);
-}
\ No newline at end of file
+    
+    /**
+     * 元TODOごとの生成済みインスタンスのうち期限日が指定期間内のものを1クエリで取得する
+     */
+    List<TodoEntity> findInstancesByOriginalTodoIdsAndDueDateBetween(Collection<Long> originalTodoIds, LocalDate from, LocalDate to);
+    
+    /**
+     * 指定TODOを根とするユーザーのサブツリーを取得する（根の深さを0とし、maxDepthまで。深さ順）
+     */
+    List<TodoEntity> findSubtree(Long rootId, UUID userId, int maxDepth);
+    
+    /**
+     * ユーザーのTODO集計値を取得する（期限切れは指定日基準）
+     */
+    TodoStatistics getStatisticsByUserId(UUID userId, LocalDate today);
+    
+    /**
+     * ユーザーのTODO件数をステータス別に集計する
+     */
+    Map<TodoStatus, Long> countByUserIdGroupByStatus(UUID userId);
+    
+    /**
+     * ユーザーのTODO件数を優先度別に集計する
+     */
+    Map<TodoPriority, Long> countByUserIdGroupByPriority(UUID userId);
+    
+    /**
+     * 完了済みTODOの所要時間分布を優先度別に集計する
+     */
+    Map<TodoPriority, CompletionTimeDistribution> getCompletionTimeDistributionByPriority(UUID userId);
+}
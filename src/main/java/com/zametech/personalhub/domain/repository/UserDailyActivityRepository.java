@@ -0,0 +1,30 @@
+package com.zametech.personalhub.domain.repository;
+
+import com.zametech.personalhub.domain.model.DailyActivityExportRow;
+import com.zametech.personalhub.domain.model.UserDailyActivity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface UserDailyActivityRepository {
+    /**
+     * Adds the counters of the given delta to the user's row for that date, creating it if missing.
+     * Counters never drop below zero.
+     */
+    void increment(UserDailyActivity delta);
+
+    List<UserDailyActivity> findByUserIdAndDateRange(UUID userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Recomputes all of the user's rows from the todos, events, notes and moments tables.
+     */
+    void rebuildForUser(UUID userId);
+
+    /**
+     * Streams one row per day of the range, including days without activity, from a server-side cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    Stream<DailyActivityExportRow> streamExportRows(UUID userId, LocalDate startDate, LocalDate endDate);
+}
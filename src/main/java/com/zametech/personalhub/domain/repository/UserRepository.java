@@ -2,6 +2,7 @@ package com.zametech.personalhub.domain.repository;
 
 import com.zametech.personalhub.domain.model.User;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +21,6 @@ public interface UserRepository {
     void deleteById(UUID id);
     
     Optional<User> findByUsername(String username);
+    
+    List<UUID> findAllIds();
 }
\ No newline at end of file
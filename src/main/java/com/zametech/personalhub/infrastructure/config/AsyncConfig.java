@@ -6,6 +6,8 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Async configuration for background tasks
@@ -24,4 +26,12 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+    
+    /**
+     * Virtual threads for the concurrent dashboard sections, which mostly wait on the database
+     */
+    @Bean(name = "analyticsExecutor", destroyMethod = "shutdown")
+    public ExecutorService analyticsExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
 }
\ No newline at end of file
@@ -16,6 +16,9 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
     
+    public static final String ANALYTICS_DASHBOARD_CACHE = "analyticsDashboard";
+    public static final String ANALYTICS_TODO_ACTIVITY_CACHE = "analyticsTodoActivity";
+    
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
@@ -27,13 +30,6 @@ public class CacheConfig {
                         .maximumSize(1000)
                         .build());
         
-        // Configure rate limit cache
-        cacheManager.registerCustomCache("rateLimits",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(1, TimeUnit.HOURS)
-                        .maximumSize(10000)
-                        .build());
-        
         // Configure user session cache
         cacheManager.registerCustomCache("userSessions",
                 Caffeine.newBuilder()
@@ -41,6 +37,22 @@ public class CacheConfig {
                         .maximumSize(1000)
                         .build());
         
+        // Configure analytics caches, evicted on writes by AnalyticsCacheEvictionListener.
+        // The TTL bounds staleness of time-relative figures such as overdue or today's events.
+        cacheManager.registerCustomCache(ANALYTICS_DASHBOARD_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(5, TimeUnit.MINUTES)
+                        .maximumSize(10000)
+                        .recordStats()
+                        .build());
+        
+        cacheManager.registerCustomCache(ANALYTICS_TODO_ACTIVITY_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(5, TimeUnit.MINUTES)
+                        .maximumSize(10000)
+                        .recordStats()
+                        .build());
+        
         return cacheManager;
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.zametech.personalhub.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration for background jobs
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -54,6 +54,12 @@ public class EventEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+
     // Google Calendar sync fields
     @Column(name = "google_calendar_id")
     private String googleCalendarId;
@@ -0,0 +1,39 @@
+package com.zametech.personalhub.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "goal_achievement_years")
+@IdClass(GoalAchievementYearEntity.GoalAchievementYearId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalAchievementYearEntity {
+    @Id
+    @Column(name = "goal_id", nullable = false)
+    private Long goalId;
+
+    @Id
+    @Column(name = "year", nullable = false)
+    private int year;
+
+    @Column(name = "days", nullable = false)
+    private byte[] days;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GoalAchievementYearId implements Serializable {
+        private Long goalId;
+        private int year;
+    }
+}
@@ -0,0 +1,37 @@
+package com.zametech.personalhub.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "goal_streaks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalStreakEntity {
+    @Id
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "longest_streak", nullable = false)
+    private int longestStreak;
+
+    @Column(name = "last_achieved_period")
+    private LocalDate lastAchievedPeriod;
+
+    @Column(name = "needs_repair", nullable = false)
+    private boolean needsRepair;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
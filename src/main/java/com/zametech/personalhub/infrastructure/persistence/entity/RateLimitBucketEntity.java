@@ -0,0 +1,31 @@
+package com.zametech.personalhub.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "rate_limit_buckets")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitBucketEntity {
+    @Id
+    @Column(name = "bucket_key", nullable = false)
+    private String bucketKey;
+
+    @Column(name = "tokens", nullable = false)
+    private long tokens;
+
+    @Column(name = "refilled_at", nullable = false)
+    private LocalDateTime refilledAt;
+
+    @Column(name = "last_reserved", nullable = false)
+    private long lastReserved;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,43 @@
+package com.zametech.personalhub.infrastructure.persistence.entity;
+
+import com.zametech.personalhub.domain.model.SyncEntityType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Read side of {@code sync_tombstones}. Rows are only written by the native inserts in
+ * {@link com.zametech.personalhub.infrastructure.persistence.jpa.JpaSyncTombstoneRepository}.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "sync_tombstones")
+public class SyncTombstoneEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    private Long changeSeq;
+
+    @Column(name = "change_xid", nullable = false, insertable = false, updatable = false)
+    private Long changeXid;
+
+    @Column(name = "deleted_at", nullable = false, insertable = false, updatable = false)
+    private ZonedDateTime deletedAt;
+}
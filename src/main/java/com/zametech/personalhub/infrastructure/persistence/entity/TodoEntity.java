@@ -20,7 +20,8 @@ import java.util.UUID;
 public class TodoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_id_seq")
+    @SequenceGenerator(name = "todos_id_seq", sequenceName = "todos_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -84,6 +85,14 @@ public class TodoEntity {
     @Column(name = "updated_at", nullable = false)
     private ZonedDateTime updatedAt;
 
+    // 同期用の変更番号（DBのシーケンスとトリガーで採番）
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // 最後に書き込んだトランザクションのID（同期トークンの上限判定用）
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+
     // コンストラクタ
     public TodoEntity() {
     }
@@ -192,6 +201,14 @@ public class TodoEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Long getChangeXid() {
+        return changeXid;
+    }
+
     public Long getParentId() {
         return parentId;
     }
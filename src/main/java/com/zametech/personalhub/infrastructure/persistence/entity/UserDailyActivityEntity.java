@@ -0,0 +1,56 @@
+package com.zametech.personalhub.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "user_daily_activity")
+@IdClass(UserDailyActivityEntity.UserDailyActivityId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyActivityEntity {
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "todos_created", nullable = false)
+    private int todosCreated;
+
+    @Column(name = "todos_completed", nullable = false)
+    private int todosCompleted;
+
+    @Column(name = "events_count", nullable = false)
+    private int eventsCount;
+
+    @Column(name = "notes_created", nullable = false)
+    private int notesCreated;
+
+    @Column(name = "moments_created", nullable = false)
+    private int momentsCreated;
+
+    @Column(name = "goals_achieved", nullable = false)
+    private int goalsAchieved;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserDailyActivityId implements Serializable {
+        private UUID userId;
+        private LocalDate activityDate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.zametech.personalhub.infrastructure.persistence.jpa;
+
+import com.zametech.personalhub.infrastructure.persistence.entity.GoalAchievementYearEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaGoalAchievementYearRepository
+        extends JpaRepository<GoalAchievementYearEntity, GoalAchievementYearEntity.GoalAchievementYearId> {
+
+    List<GoalAchievementYearEntity> findByGoalIdAndYearBetweenOrderByYearAsc(Long goalId, int fromYear, int toYear);
+
+    List<GoalAchievementYearEntity> findByGoalIdIn(Collection<Long> goalIds);
+
+    List<GoalAchievementYearEntity> findByGoalIdInAndYearBetween(Collection<Long> goalIds, int fromYear, int toYear);
+
+    /**
+     * Sets or clears one day in a single statement, so concurrent toggles of other days of the same year
+     * do not overwrite each other.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO goal_achievement_years (goal_id, year, days, updated_at) " +
+            "VALUES (:goalId, :year, set_bit(decode(repeat('00', 46), 'hex'), :dayIndex, :bit), CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (goal_id, year) DO UPDATE SET " +
+            "days = set_bit(goal_achievement_years.days, :dayIndex, :bit), " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void upsertDay(@Param("goalId") Long goalId,
+                   @Param("year") int year,
+                   @Param("dayIndex") int dayIndex,
+                   @Param("bit") int bit);
+}
@@ -0,0 +1,35 @@
+package com.zametech.personalhub.infrastructure.persistence.jpa;
+
+import com.zametech.personalhub.infrastructure.persistence.entity.GoalStreakEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JpaGoalStreakRepository extends JpaRepository<GoalStreakEntity, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GoalStreakEntity s WHERE s.goalId = :goalId")
+    Optional<GoalStreakEntity> findByGoalIdForUpdate(@Param("goalId") Long goalId);
+
+    List<GoalStreakEntity> findByGoalIdIn(Collection<Long> goalIds);
+
+    @Query(value = "SELECT * FROM goal_streaks WHERE needs_repair " +
+            "ORDER BY goal_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<GoalStreakEntity> lockNeedingRepair(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE goal_streaks s SET needs_repair = TRUE, updated_at = CURRENT_TIMESTAMP FROM goals g " +
+            "WHERE g.id = s.goal_id AND g.user_id = :userId AND g.goal_type = 'WEEKLY' AND NOT s.needs_repair",
+            nativeQuery = true)
+    int markWeeklyForRepair(@Param("userId") UUID userId);
+}
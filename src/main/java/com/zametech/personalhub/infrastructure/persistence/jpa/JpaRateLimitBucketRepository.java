@@ -0,0 +1,49 @@
+package com.zametech.personalhub.infrastructure.persistence.jpa;
+
+import com.zametech.personalhub.infrastructure.persistence.entity.RateLimitBucketEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaRateLimitBucketRepository extends JpaRepository<RateLimitBucketEntity, String> {
+
+    /**
+     * Adds the refills of the periods elapsed since the last refill and takes up to {@code requested} tokens, in a
+     * single statement that locks the row, so concurrent reservations from several instances never overdraw the
+     * bucket. A key not seen before starts with a full bucket. Returns the number of tokens taken.
+     * Runs on the request path, so a slow database fails the reservation after a second instead of holding the request.
+     */
+    @Transactional
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "1000"))
+    @Query(value = "WITH reserved AS (" +
+            "INSERT INTO rate_limit_buckets AS b (bucket_key, tokens, refilled_at, last_reserved, expires_at) " +
+            "VALUES (:key, GREATEST(:capacity - :requested, 0), LOCALTIMESTAMP, LEAST(:requested, :capacity), " +
+            "LOCALTIMESTAMP + :idleMillis * INTERVAL '1 millisecond') " +
+            "ON CONFLICT (bucket_key) DO UPDATE SET " +
+            // Every expression reads the row as it was before the update
+            "last_reserved = LEAST(:requested, LEAST(:capacity, b.tokens + CAST(FLOOR(EXTRACT(EPOCH FROM (LOCALTIMESTAMP - b.refilled_at)) * 1000 / :refillMillis) AS BIGINT) * :refillTokens)), " +
+            "tokens = GREATEST(LEAST(:capacity, b.tokens + CAST(FLOOR(EXTRACT(EPOCH FROM (LOCALTIMESTAMP - b.refilled_at)) * 1000 / :refillMillis) AS BIGINT) * :refillTokens) - :requested, 0), " +
+            "refilled_at = b.refilled_at + CAST(FLOOR(EXTRACT(EPOCH FROM (LOCALTIMESTAMP - b.refilled_at)) * 1000 / :refillMillis) AS BIGINT) * :refillMillis * INTERVAL '1 millisecond', " +
+            "expires_at = LOCALTIMESTAMP + :idleMillis * INTERVAL '1 millisecond' " +
+            "RETURNING b.last_reserved" +
+            ") SELECT last_reserved FROM reserved",
+            nativeQuery = true)
+    long reserve(@Param("key") String key,
+                 @Param("capacity") long capacity,
+                 @Param("refillTokens") long refillTokens,
+                 @Param("refillMillis") long refillMillis,
+                 @Param("idleMillis") long idleMillis,
+                 @Param("requested") long requested);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM rate_limit_buckets WHERE expires_at < LOCALTIMESTAMP", nativeQuery = true)
+    int deleteExpired();
+}
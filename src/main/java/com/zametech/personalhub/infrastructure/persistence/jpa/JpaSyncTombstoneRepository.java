@@ -0,0 +1,65 @@
+package com.zametech.personalhub.infrastructure.persistence.jpa;
+
+import com.zametech.personalhub.infrastructure.persistence.entity.SyncTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The record* methods copy the owner from the row that is about to be deleted, so they must run before the delete.
+ */
+@Repository
+public interface JpaSyncTombstoneRepository extends JpaRepository<SyncTombstoneEntity, Long> {
+
+    @Query("SELECT s FROM SyncTombstoneEntity s WHERE s.userId = :userId AND s.changeXid < :committedBeforeXid " +
+           "AND (s.changeXid, s.changeSeq) > (:sinceXid, :sinceSeq) ORDER BY s.changeXid ASC, s.changeSeq ASC")
+    List<SyncTombstoneEntity> findChangedSince(@Param("userId") UUID userId,
+                                 @Param("sinceXid") long sinceXid,
+                                 @Param("sinceSeq") long sinceSeq,
+                                 @Param("committedBeforeXid") long committedBeforeXid,
+                                 Limit limit);
+
+    /**
+     * Oldest transaction still running as of the current snapshot; every transaction before it has finished.
+     */
+    @Query(value = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", nativeQuery = true)
+    long findOldestRunningXid();
+
+    /**
+     * Records the todo and every descendant that the parent_id foreign key will cascade-delete with it.
+     */
+    @Modifying
+    @Query(value = "WITH RECURSIVE subtree AS (" +
+            "SELECT id, user_id FROM todos WHERE id = :id " +
+            "UNION ALL " +
+            "SELECT t.id, t.user_id FROM todos t JOIN subtree s ON t.parent_id = s.id" +
+            ") " +
+            "INSERT INTO sync_tombstones (user_id, entity_type, entity_id) " +
+            "SELECT user_id, 'TODO', id FROM subtree",
+            nativeQuery = true)
+    void recordTodoSubtreeDeletion(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id) " +
+            "SELECT user_id, 'NOTE', id FROM notes WHERE id = :id",
+            nativeQuery = true)
+    void recordNoteDeletion(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id) " +
+            "SELECT user_id, 'EVENT', id FROM events WHERE id = :id",
+            nativeQuery = true)
+    void recordEventDeletion(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id) " +
+            "SELECT user_id, 'MOMENT', id FROM moments WHERE id = :id",
+            nativeQuery = true)
+    void recordMomentDeletion(@Param("id") Long id);
+}
@@ -0,0 +1,107 @@
+package com.zametech.personalhub.infrastructure.persistence.jpa;
+
+import com.zametech.personalhub.infrastructure.persistence.entity.UserDailyActivityEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface JpaUserDailyActivityRepository
+        extends JpaRepository<UserDailyActivityEntity, UserDailyActivityEntity.UserDailyActivityId> {
+
+    List<UserDailyActivityEntity> findByUserIdAndActivityDateBetweenOrderByActivityDateAsc(
+            UUID userId, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_activity " +
+            "(user_id, activity_date, todos_created, todos_completed, events_count, notes_created, moments_created, " +
+            "goals_achieved, updated_at) " +
+            "VALUES (:userId, :activityDate, GREATEST(:todosCreated, 0), GREATEST(:todosCompleted, 0), " +
+            "GREATEST(:eventsCount, 0), GREATEST(:notesCreated, 0), GREATEST(:momentsCreated, 0), " +
+            "GREATEST(:goalsAchieved, 0), CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, activity_date) DO UPDATE SET " +
+            "todos_created = GREATEST(user_daily_activity.todos_created + :todosCreated, 0), " +
+            "todos_completed = GREATEST(user_daily_activity.todos_completed + :todosCompleted, 0), " +
+            "events_count = GREATEST(user_daily_activity.events_count + :eventsCount, 0), " +
+            "notes_created = GREATEST(user_daily_activity.notes_created + :notesCreated, 0), " +
+            "moments_created = GREATEST(user_daily_activity.moments_created + :momentsCreated, 0), " +
+            "goals_achieved = GREATEST(user_daily_activity.goals_achieved + :goalsAchieved, 0), " +
+            "updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void upsertIncrement(@Param("userId") UUID userId,
+                         @Param("activityDate") LocalDate activityDate,
+                         @Param("todosCreated") int todosCreated,
+                         @Param("todosCompleted") int todosCompleted,
+                         @Param("eventsCount") int eventsCount,
+                         @Param("notesCreated") int notesCreated,
+                         @Param("momentsCreated") int momentsCreated,
+                         @Param("goalsAchieved") int goalsAchieved);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_daily_activity WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_activity " +
+            "(user_id, activity_date, todos_created, todos_completed, events_count, notes_created, moments_created, " +
+            "goals_achieved, updated_at) " +
+            "SELECT :userId, activity_date, SUM(todos_created), SUM(todos_completed), SUM(events_count), " +
+            "SUM(notes_created), SUM(moments_created), SUM(goals_achieved), CURRENT_TIMESTAMP FROM (" +
+            "SELECT created_at::date AS activity_date, 1 AS todos_created, 0 AS todos_completed, 0 AS events_count, " +
+            "0 AS notes_created, 0 AS moments_created, 0 AS goals_achieved FROM todos WHERE user_id = :userId " +
+            "UNION ALL SELECT updated_at::date, 0, 1, 0, 0, 0, 0 FROM todos WHERE user_id = :userId AND status = 'DONE' " +
+            "UNION ALL SELECT start_date_time::date, 0, 0, 1, 0, 0, 0 FROM events WHERE user_id = :userId " +
+            "UNION ALL SELECT created_at::date, 0, 0, 0, 1, 0, 0 FROM notes WHERE user_id = :userId AND created_at IS NOT NULL " +
+            "UNION ALL SELECT created_at::date, 0, 0, 0, 0, 1, 0 FROM moments WHERE user_id = :userId AND created_at IS NOT NULL " +
+            "UNION ALL SELECT h.achieved_date, 0, 0, 0, 0, 0, 1 FROM goal_achievement_history h " +
+            "JOIN goals g ON g.id = h.goal_id WHERE g.user_id = :userId" +
+            ") activity GROUP BY activity_date",
+            nativeQuery = true)
+    void insertRebuiltRows(@Param("userId") UUID userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT CAST(d.day AS date) AS \"date\", " +
+            "COALESCE(a.todos_created, 0) AS \"todosCreated\", " +
+            "COALESCE(a.todos_completed, 0) AS \"todosCompleted\", " +
+            "COALESCE(a.events_count, 0) AS \"eventsCount\", " +
+            "COALESCE(a.notes_created, 0) AS \"notesCreated\", " +
+            "COALESCE(a.moments_created, 0) AS \"momentsCreated\", " +
+            "COALESCE(p.sessions, 0) AS \"pomodoroSessions\", " +
+            "COALESCE(p.completed_cycles, 0) AS \"pomodoroCompletedCycles\" " +
+            "FROM generate_series(CAST(:startDate AS timestamp), CAST(:endDate AS timestamp), interval '1 day') AS d(day) " +
+            "LEFT JOIN user_daily_activity a ON a.user_id = :userId AND a.activity_date = CAST(d.day AS date) " +
+            "LEFT JOIN (SELECT CAST(COALESCE(start_time, created_at) AS date) AS session_date, " +
+            "COUNT(*) AS sessions, SUM(completed_cycles) AS completed_cycles " +
+            "FROM pomodoro_sessions WHERE user_id = :userId " +
+            "AND CAST(COALESCE(start_time, created_at) AS date) BETWEEN :startDate AND :endDate " +
+            "GROUP BY CAST(COALESCE(start_time, created_at) AS date)) p ON p.session_date = CAST(d.day AS date) " +
+            "ORDER BY d.day",
+            nativeQuery = true)
+    Stream<DailyActivityExportView> streamExportRows(@Param("userId") UUID userId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    interface DailyActivityExportView {
+        LocalDate getDate();
+        int getTodosCreated();
+        int getTodosCompleted();
+        int getEventsCount();
+        int getNotesCreated();
+        int getMomentsCreated();
+        int getPomodoroSessions();
+        int getPomodoroCompletedCycles();
+    }
+}
@@ -1,6 +1,7 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
 import com.zametech.personalhub.infrastructure.persistence.entity.EventEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +18,14 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long> {
     Optional<EventEntity> findByIdAndUserId(Long id, UUID userId);
     
     Page<EventEntity> findByUserId(UUID userId, Pageable pageable);
+
+    @Query("SELECT e FROM EventEntity e WHERE e.userId = :userId AND e.changeXid < :committedBeforeXid " +
+           "AND (e.changeXid, e.changeSeq) > (:sinceXid, :sinceSeq) ORDER BY e.changeXid ASC, e.changeSeq ASC")
+    List<EventEntity> findChangedSince(@Param("userId") UUID userId,
+                                 @Param("sinceXid") long sinceXid,
+                                 @Param("sinceSeq") long sinceSeq,
+                                 @Param("committedBeforeXid") long committedBeforeXid,
+                                 Limit limit);
     
     @Query("SELECT e FROM EventEntity e WHERE e.userId = :userId AND " +
            "((e.startDateTime >= :startDate AND e.startDateTime <= :endDate) OR " +
@@ -28,12 +37,47 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, Long> {
             @Param("endDate") LocalDateTime endDate
     );
     
+    @Query(value = "SELECT * FROM events WHERE user_id = :userId " +
+           "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<EventEntity> findKeysetPage(@Param("userId") UUID userId, @Param("limit") int limit);
+    
+    @Query(value = "SELECT * FROM events WHERE user_id = :userId AND (created_at, id) < (:createdAt, :id) " +
+           "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<EventEntity> findKeysetPageAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") long id,
+            @Param("limit") int limit
+    );
+    
     void deleteByUserId(UUID userId);
     
+    @Query(value = "SELECT COUNT(*) AS \"total\", " +
+           "COUNT(*) FILTER (WHERE start_date_time > :now) AS \"upcoming\", " +
+           "COUNT(*) FILTER (WHERE end_date_time < :now) AS \"past\", " +
+           "COUNT(*) FILTER (WHERE start_date_time < :endOfDay AND end_date_time > :startOfDay) AS \"today\" " +
+           "FROM events WHERE user_id = :userId",
+           nativeQuery = true)
+    EventStatisticsView getStatisticsByUserId(
+            @Param("userId") UUID userId,
+            @Param("now") LocalDateTime now,
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("endOfDay") LocalDateTime endOfDay
+    );
+    
     // Google Calendar sync methods
     Optional<EventEntity> findByGoogleEventId(String googleEventId);
     
     List<EventEntity> findByUserIdAndSyncStatus(UUID userId, String syncStatus);
     
     List<EventEntity> findByUserIdAndLastSyncedAtAfter(UUID userId, LocalDateTime lastSyncedAt);
-}
\ No newline at end of file
+    
+    interface EventStatisticsView {
+        long getTotal();
+        long getUpcoming();
+        long getPast();
+        long getToday();
+    }
+}
@@ -1,9 +1,15 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
 import com.zametech.personalhub.domain.model.Event;
+import com.zametech.personalhub.domain.model.EventStatistics;
+import com.zametech.personalhub.domain.model.KeysetCursor;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
 import com.zametech.personalhub.domain.repository.EventRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.EventEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaSyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -18,6 +24,7 @@ import java.util.UUID;
 public class EventRepositoryImpl implements EventRepository {
 
     private final EventJpaRepository eventJpaRepository;
+    private final JpaSyncTombstoneRepository syncTombstoneJpaRepository;
 
     @Override
     public Event save(Event event) {
@@ -44,6 +51,16 @@ public class EventRepositoryImpl implements EventRepository {
                 .map(this::toModel);
     }
 
+    @Override
+    public List<Event> findKeysetPage(UUID userId, KeysetCursor cursor, int limit) {
+        List<EventEntity> entities = cursor == null
+                ? eventJpaRepository.findKeysetPage(userId, limit)
+                : eventJpaRepository.findKeysetPageAfter(userId, cursor.localCreatedAt(), cursor.id(), limit);
+        return entities.stream()
+                .map(this::toModel)
+                .toList();
+    }
+
     @Override
     public List<Event> findByUserIdAndDateRange(UUID userId, LocalDateTime startDate, LocalDateTime endDate) {
         return eventJpaRepository.findByUserIdAndDateRange(userId, startDate, endDate)
@@ -52,8 +69,18 @@ public class EventRepositoryImpl implements EventRepository {
                 .toList();
     }
 
+    @Override
+    public List<SyncChange<Event>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit) {
+        return eventJpaRepository.findChangedSince(
+                        userId, since.changeXid(), since.changeSeq(), committedBeforeXid, Limit.of(limit))
+                .stream()
+                .map(entity -> new SyncChange<>(new SyncPosition(entity.getChangeXid(), entity.getChangeSeq()), toModel(entity)))
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
+        syncTombstoneJpaRepository.recordEventDeletion(id);
         eventJpaRepository.deleteById(id);
     }
 
@@ -62,6 +89,15 @@ public class EventRepositoryImpl implements EventRepository {
         eventJpaRepository.deleteByUserId(userId);
     }
 
+    @Override
+    public EventStatistics getStatisticsByUserId(UUID userId, LocalDateTime now) {
+        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+        LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
+        EventJpaRepository.EventStatisticsView view =
+                eventJpaRepository.getStatisticsByUserId(userId, now, startOfDay, endOfDay);
+        return new EventStatistics(view.getTotal(), view.getUpcoming(), view.getPast(), view.getToday());
+    }
+
     @Override
     public Optional<Event> findByGoogleEventId(String googleEventId) {
         return eventJpaRepository.findByGoogleEventId(googleEventId)
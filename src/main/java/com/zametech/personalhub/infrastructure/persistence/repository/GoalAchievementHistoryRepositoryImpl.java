@@ -1,9 +1,11 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
 import com.zametech.personalhub.domain.model.GoalAchievementHistory;
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
 import com.zametech.personalhub.domain.repository.GoalAchievementHistoryRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.GoalAchievementHistoryEntity;
 import com.zametech.personalhub.infrastructure.persistence.jpa.JpaGoalAchievementHistoryRepository;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaGoalAchievementYearRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -16,11 +18,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GoalAchievementHistoryRepositoryImpl implements GoalAchievementHistoryRepository {
     private final JpaGoalAchievementHistoryRepository jpaRepository;
+    private final JpaGoalAchievementYearRepository yearJpaRepository;
 
     @Override
     public GoalAchievementHistory save(GoalAchievementHistory achievement) {
         GoalAchievementHistoryEntity entity = toEntity(achievement);
         GoalAchievementHistoryEntity saved = jpaRepository.save(entity);
+        updateYearBitmap(saved.getGoalId(), saved.getAchievedDate(), true);
         return toDomain(saved);
     }
 
@@ -47,11 +51,13 @@ public class GoalAchievementHistoryRepositoryImpl implements GoalAchievementHist
     public void delete(GoalAchievementHistory achievement) {
         GoalAchievementHistoryEntity entity = toEntity(achievement);
         jpaRepository.delete(entity);
+        updateYearBitmap(achievement.getGoalId(), achievement.getAchievedDate(), false);
     }
 
     @Override
     public void deleteByGoalIdAndAchievedDate(Long goalId, LocalDate achievedDate) {
         jpaRepository.deleteByGoalIdAndAchievedDate(goalId, achievedDate);
+        updateYearBitmap(goalId, achievedDate, false);
     }
 
     @Override
@@ -64,6 +70,10 @@ public class GoalAchievementHistoryRepositoryImpl implements GoalAchievementHist
         return jpaRepository.countByGoalIdAndAchievedDateBetween(goalId, startDate, endDate);
     }
 
+    private void updateYearBitmap(Long goalId, LocalDate date, boolean achieved) {
+        yearJpaRepository.upsertDay(goalId, date.getYear(), GoalAchievementYear.dayIndex(date), achieved ? 1 : 0);
+    }
+
     private GoalAchievementHistory toDomain(GoalAchievementHistoryEntity entity) {
         GoalAchievementHistory achievement = new GoalAchievementHistory();
         achievement.setId(entity.getId());
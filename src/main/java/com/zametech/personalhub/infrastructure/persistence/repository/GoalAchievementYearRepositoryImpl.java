@@ -0,0 +1,49 @@
+package com.zametech.personalhub.infrastructure.persistence.repository;
+
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
+import com.zametech.personalhub.domain.repository.GoalAchievementYearRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.GoalAchievementYearEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaGoalAchievementYearRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class GoalAchievementYearRepositoryImpl implements GoalAchievementYearRepository {
+    private final JpaGoalAchievementYearRepository jpaRepository;
+
+    @Override
+    public List<GoalAchievementYear> findByGoalIdAndYearBetween(Long goalId, int fromYear, int toYear) {
+        return jpaRepository.findByGoalIdAndYearBetweenOrderByYearAsc(goalId, fromYear, toYear).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<GoalAchievementYear> findByGoalIdIn(Collection<Long> goalIds) {
+        if (goalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByGoalIdIn(goalIds).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<GoalAchievementYear> findByGoalIdInAndYearBetween(Collection<Long> goalIds, int fromYear, int toYear) {
+        if (goalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByGoalIdInAndYearBetween(goalIds, fromYear, toYear).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private GoalAchievementYear toDomain(GoalAchievementYearEntity entity) {
+        return new GoalAchievementYear(entity.getGoalId(), entity.getYear(), entity.getDays());
+    }
+}
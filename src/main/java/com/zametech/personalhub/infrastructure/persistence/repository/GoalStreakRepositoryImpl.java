@@ -0,0 +1,75 @@
+package com.zametech.personalhub.infrastructure.persistence.repository;
+
+import com.zametech.personalhub.domain.model.GoalStreak;
+import com.zametech.personalhub.domain.repository.GoalStreakRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.GoalStreakEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaGoalStreakRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class GoalStreakRepositoryImpl implements GoalStreakRepository {
+    private final JpaGoalStreakRepository jpaRepository;
+
+    @Override
+    public GoalStreak save(GoalStreak streak) {
+        GoalStreakEntity saved = jpaRepository.save(toEntity(streak));
+        return toDomain(saved);
+    }
+
+    @Override
+    public Optional<GoalStreak> findByGoalIdForUpdate(Long goalId) {
+        return jpaRepository.findByGoalIdForUpdate(goalId).map(this::toDomain);
+    }
+
+    @Override
+    public List<GoalStreak> findByGoalIds(Collection<Long> goalIds) {
+        if (goalIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByGoalIdIn(goalIds).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<GoalStreak> lockNeedingRepair(int limit) {
+        return jpaRepository.lockNeedingRepair(limit).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int markWeeklyForRepair(UUID userId) {
+        return jpaRepository.markWeeklyForRepair(userId);
+    }
+
+    private GoalStreak toDomain(GoalStreakEntity entity) {
+        GoalStreak streak = new GoalStreak();
+        streak.setGoalId(entity.getGoalId());
+        streak.setCurrentStreak(entity.getCurrentStreak());
+        streak.setLongestStreak(entity.getLongestStreak());
+        streak.setLastAchievedPeriod(entity.getLastAchievedPeriod());
+        streak.setNeedsRepair(entity.isNeedsRepair());
+        streak.setUpdatedAt(entity.getUpdatedAt());
+        return streak;
+    }
+
+    private GoalStreakEntity toEntity(GoalStreak streak) {
+        GoalStreakEntity entity = new GoalStreakEntity();
+        entity.setGoalId(streak.getGoalId());
+        entity.setCurrentStreak(streak.getCurrentStreak());
+        entity.setLongestStreak(streak.getLongestStreak());
+        entity.setLastAchievedPeriod(streak.getLastAchievedPeriod());
+        entity.setNeedsRepair(streak.isNeedsRepair());
+        entity.setUpdatedAt(streak.getUpdatedAt());
+        return entity;
+    }
+}
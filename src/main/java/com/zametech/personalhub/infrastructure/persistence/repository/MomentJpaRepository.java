@@ -1,6 +1,8 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
+import com.zametech.personalhub.domain.model.MomentListItem;
 import com.zametech.personalhub.infrastructure.persistence.entity.MomentEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +19,14 @@ public interface MomentJpaRepository extends JpaRepository<MomentEntity, Long> {
     Optional<MomentEntity> findByIdAndUserId(Long id, UUID userId);
     
     Page<MomentEntity> findByUserId(UUID userId, Pageable pageable);
+
+    @Query("SELECT m FROM MomentEntity m WHERE m.userId = :userId AND m.changeXid < :committedBeforeXid " +
+           "AND (m.changeXid, m.changeSeq) > (:sinceXid, :sinceSeq) ORDER BY m.changeXid ASC, m.changeSeq ASC")
+    List<MomentEntity> findChangedSince(@Param("userId") UUID userId,
+                                 @Param("sinceXid") long sinceXid,
+                                 @Param("sinceSeq") long sinceSeq,
+                                 @Param("committedBeforeXid") long committedBeforeXid,
+                                 Limit limit);
     
     Page<MomentEntity> findByUserIdAndCreatedAtBetween(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
@@ -39,5 +49,22 @@ public interface MomentJpaRepository extends JpaRepository<MomentEntity, Long> {
            "m.tags LIKE CONCAT('%,', :tag))")
     List<MomentEntity> searchByContentAndTag(@Param("userId") UUID userId, @Param("query") String query, @Param("tag") String tag);
     
+    String MOMENT_LIST_ITEM_SELECT = "SELECT new com.zametech.personalhub.domain.model.MomentListItem(" +
+           "m.id, m.content, m.tags, m.createdAt, m.updatedAt) FROM MomentEntity m ";
+    
+    @Query(value = MOMENT_LIST_ITEM_SELECT + "WHERE m.userId = :userId",
+           countQuery = "SELECT COUNT(m) FROM MomentEntity m WHERE m.userId = :userId")
+    Page<MomentListItem> findListItemsByUserId(@Param("userId") UUID userId, Pageable pageable);
+    
+    @Query(MOMENT_LIST_ITEM_SELECT + "WHERE m.userId = :userId ORDER BY m.createdAt DESC, m.id DESC")
+    List<MomentListItem> findListItemKeysetPage(@Param("userId") UUID userId, Limit limit);
+    
+    @Query(MOMENT_LIST_ITEM_SELECT + "WHERE m.userId = :userId AND (m.createdAt, m.id) < (:createdAt, :id) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MomentListItem> findListItemKeysetPageAfter(@Param("userId") UUID userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") long id,
+                                                     Limit limit);
+    
     void deleteByUserId(UUID userId);
 }
\ No newline at end of file
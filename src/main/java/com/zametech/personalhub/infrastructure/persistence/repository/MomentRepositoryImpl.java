@@ -1,9 +1,15 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.MomentListItem;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
 import com.zametech.personalhub.domain.repository.MomentRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.MomentEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaSyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -18,6 +24,7 @@ import java.util.UUID;
 public class MomentRepositoryImpl implements MomentRepository {
 
     private final MomentJpaRepository momentJpaRepository;
+    private final JpaSyncTombstoneRepository syncTombstoneJpaRepository;
 
     @Override
     public Moment save(Moment moment) {
@@ -44,6 +51,19 @@ public class MomentRepositoryImpl implements MomentRepository {
                 .map(this::toModel);
     }
 
+    @Override
+    public Page<MomentListItem> findListItemsByUserId(UUID userId, Pageable pageable) {
+        return momentJpaRepository.findListItemsByUserId(userId, pageable);
+    }
+
+    @Override
+    public List<MomentListItem> findListItemKeysetPage(UUID userId, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return momentJpaRepository.findListItemKeysetPage(userId, Limit.of(limit));
+        }
+        return momentJpaRepository.findListItemKeysetPageAfter(userId, cursor.localCreatedAt(), cursor.id(), Limit.of(limit));
+    }
+
     @Override
     public Page<Moment> findByUserIdAndCreatedAtBetween(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         return momentJpaRepository.findByUserIdAndCreatedAtBetween(userId, startDate, endDate, pageable)
@@ -74,8 +94,18 @@ public class MomentRepositoryImpl implements MomentRepository {
                 .toList();
     }
 
+    @Override
+    public List<SyncChange<Moment>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit) {
+        return momentJpaRepository.findChangedSince(
+                        userId, since.changeXid(), since.changeSeq(), committedBeforeXid, Limit.of(limit))
+                .stream()
+                .map(entity -> new SyncChange<>(new SyncPosition(entity.getChangeXid(), entity.getChangeSeq()), toModel(entity)))
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
+        syncTombstoneJpaRepository.recordMomentDeletion(id);
         momentJpaRepository.deleteById(id);
     }
 
@@ -1,12 +1,15 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
+import com.zametech.personalhub.domain.model.NoteListItem;
 import com.zametech.personalhub.infrastructure.persistence.entity.NoteEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +19,14 @@ public interface NoteJpaRepository extends JpaRepository<NoteEntity, Long> {
     Optional<NoteEntity> findByIdAndUserId(Long id, UUID userId);
     
     Page<NoteEntity> findByUserId(UUID userId, Pageable pageable);
+
+    @Query("SELECT n FROM NoteEntity n WHERE n.userId = :userId AND n.changeXid < :committedBeforeXid " +
+           "AND (n.changeXid, n.changeSeq) > (:sinceXid, :sinceSeq) ORDER BY n.changeXid ASC, n.changeSeq ASC")
+    List<NoteEntity> findChangedSince(@Param("userId") UUID userId,
+                                 @Param("sinceXid") long sinceXid,
+                                 @Param("sinceSeq") long sinceSeq,
+                                 @Param("committedBeforeXid") long committedBeforeXid,
+                                 Limit limit);
     
     @Query("SELECT n FROM NoteEntity n WHERE n.userId = :userId AND " +
            "(LOWER(n.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
@@ -26,5 +37,49 @@ public interface NoteJpaRepository extends JpaRepository<NoteEntity, Long> {
            "(n.tags LIKE CONCAT('%', :tag, '%'))")
     List<NoteEntity> findByTag(@Param("userId") UUID userId, @Param("tag") String tag);
     
+    String NOTE_LIST_ITEM_SELECT = "SELECT new com.zametech.personalhub.domain.model.NoteListItem(" +
+           "n.id, n.title, CASE WHEN :includeContent = true THEN n.content ELSE NULL END, n.tags, n.createdAt, n.updatedAt) " +
+           "FROM NoteEntity n ";
+    
+    @Query(value = NOTE_LIST_ITEM_SELECT + "WHERE n.userId = :userId",
+           countQuery = "SELECT COUNT(n) FROM NoteEntity n WHERE n.userId = :userId")
+    Page<NoteListItem> findListItemsByUserId(@Param("userId") UUID userId,
+                                             @Param("includeContent") boolean includeContent,
+                                             Pageable pageable);
+    
+    @Query(NOTE_LIST_ITEM_SELECT + "WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoteListItem> findListItemKeysetPage(@Param("userId") UUID userId,
+                                              @Param("includeContent") boolean includeContent,
+                                              Limit limit);
+    
+    @Query(NOTE_LIST_ITEM_SELECT + "WHERE n.userId = :userId AND (n.createdAt, n.id) < (:createdAt, :id) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoteListItem> findListItemKeysetPageAfter(@Param("userId") UUID userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") long id,
+                                                   @Param("includeContent") boolean includeContent,
+                                                   Limit limit);
+    
     void deleteByUserId(UUID userId);
+    
+    @Query(value = "SELECT COUNT(*) AS \"total\", " +
+           "COUNT(*) FILTER (WHERE created_at > :weekAgo) AS \"createdThisWeek\", " +
+           "COUNT(*) FILTER (WHERE created_at > :monthAgo) AS \"createdThisMonth\", " +
+           "(SELECT COUNT(DISTINCT TRIM(tag)) FROM notes tagged " +
+           "CROSS JOIN LATERAL unnest(string_to_array(tagged.tags, ',')) AS tag " +
+           "WHERE tagged.user_id = :userId AND TRIM(tag) <> '') AS \"uniqueTags\" " +
+           "FROM notes WHERE user_id = :userId",
+           nativeQuery = true)
+    NoteStatisticsView getStatisticsByUserId(
+            @Param("userId") UUID userId,
+            @Param("weekAgo") LocalDateTime weekAgo,
+            @Param("monthAgo") LocalDateTime monthAgo
+    );
+    
+    interface NoteStatisticsView {
+        long getTotal();
+        long getCreatedThisWeek();
+        long getCreatedThisMonth();
+        long getUniqueTags();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,21 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.NoteListItem;
+import com.zametech.personalhub.domain.model.NoteStatistics;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
 import com.zametech.personalhub.domain.repository.NoteRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.NoteEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaSyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +25,7 @@ import java.util.UUID;
 public class NoteRepositoryImpl implements NoteRepository {
 
     private final NoteJpaRepository noteJpaRepository;
+    private final JpaSyncTombstoneRepository syncTombstoneJpaRepository;
 
     @Override
     public Note save(Note note) {
@@ -43,6 +52,19 @@ public class NoteRepositoryImpl implements NoteRepository {
                 .map(this::toModel);
     }
 
+    @Override
+    public Page<NoteListItem> findListItemsByUserId(UUID userId, boolean includeContent, Pageable pageable) {
+        return noteJpaRepository.findListItemsByUserId(userId, includeContent, pageable);
+    }
+
+    @Override
+    public List<NoteListItem> findListItemKeysetPage(UUID userId, KeysetCursor cursor, int limit, boolean includeContent) {
+        if (cursor == null) {
+            return noteJpaRepository.findListItemKeysetPage(userId, includeContent, Limit.of(limit));
+        }
+        return noteJpaRepository.findListItemKeysetPageAfter(userId, cursor.localCreatedAt(), cursor.id(), includeContent, Limit.of(limit));
+    }
+
     @Override
     public List<Note> searchByTitleOrContent(UUID userId, String query) {
         return noteJpaRepository.searchByTitleOrContent(userId, query)
@@ -59,8 +81,18 @@ public class NoteRepositoryImpl implements NoteRepository {
                 .toList();
     }
 
+    @Override
+    public List<SyncChange<Note>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit) {
+        return noteJpaRepository.findChangedSince(
+                        userId, since.changeXid(), since.changeSeq(), committedBeforeXid, Limit.of(limit))
+                .stream()
+                .map(entity -> new SyncChange<>(new SyncPosition(entity.getChangeXid(), entity.getChangeSeq()), toModel(entity)))
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
+        syncTombstoneJpaRepository.recordNoteDeletion(id);
         noteJpaRepository.deleteById(id);
     }
 
@@ -69,6 +101,17 @@ public class NoteRepositoryImpl implements NoteRepository {
         noteJpaRepository.deleteByUserId(userId);
     }
 
+    @Override
+    public NoteStatistics getStatisticsByUserId(UUID userId, LocalDateTime weekAgo, LocalDateTime monthAgo) {
+        NoteJpaRepository.NoteStatisticsView view = noteJpaRepository.getStatisticsByUserId(userId, weekAgo, monthAgo);
+        return new NoteStatistics(
+                view.getTotal(),
+                view.getCreatedThisWeek(),
+                view.getCreatedThisMonth(),
+                view.getUniqueTags()
+        );
+    }
+
     private NoteEntity toEntity(Note note) {
         NoteEntity entity = new NoteEntity();
         entity.setId(note.getId());
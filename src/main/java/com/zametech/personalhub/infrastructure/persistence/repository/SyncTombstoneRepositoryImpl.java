@@ -0,0 +1,42 @@
+package com.zametech.personalhub.infrastructure.persistence.repository;
+
+import com.zametech.personalhub.domain.model.SyncPosition;
+import com.zametech.personalhub.domain.model.SyncTombstone;
+import com.zametech.personalhub.domain.repository.SyncTombstoneRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.SyncTombstoneEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaSyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class SyncTombstoneRepositoryImpl implements SyncTombstoneRepository {
+    private final JpaSyncTombstoneRepository jpaRepository;
+
+    @Override
+    public List<SyncTombstone> findByUserIdSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit) {
+        return jpaRepository.findChangedSince(
+                        userId, since.changeXid(), since.changeSeq(), committedBeforeXid, Limit.of(limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long findOldestRunningXid() {
+        return jpaRepository.findOldestRunningXid();
+    }
+
+    private SyncTombstone toDomain(SyncTombstoneEntity entity) {
+        return new SyncTombstone(
+                entity.getEntityType(),
+                entity.getEntityId(),
+                new SyncPosition(entity.getChangeXid(), entity.getChangeSeq()),
+                entity.getDeletedAt()
+        );
+    }
+}
@@ -1,8 +1,10 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +13,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -42,6 +46,11 @@ public interface TodoJpaRepository extends JpaRepository<TodoEntity, Long> {
      */
     List<TodoEntity> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String keyword);
     
+    /**
+     * ID一覧のうち指定ユーザーが所有するTODOを検索する
+     */
+    List<TodoEntity> findByIdInAndUserId(Collection<Long> ids, UUID userId);
+    
     /**
      * ユーザーIDでTODOを検索する
      */
@@ -57,6 +66,45 @@ public interface TodoJpaRepository extends JpaRepository<TodoEntity, Long> {
      */
     Page<TodoEntity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
     
+    /**
+     * 同期位置より後に変更されたユーザーのTODOを変更順に取得する（committedBeforeXidより前のトランザクションの変更のみ）
+     */
+    @Query("SELECT t FROM TodoEntity t WHERE t.userId = :userId AND t.changeXid < :committedBeforeXid " +
+           "AND (t.changeXid, t.changeSeq) > (:sinceXid, :sinceSeq) ORDER BY t.changeXid ASC, t.changeSeq ASC")
+    List<TodoEntity> findChangedSince(@Param("userId") UUID userId,
+                                 @Param("sinceXid") long sinceXid,
+                                 @Param("sinceSeq") long sinceSeq,
+                                 @Param("committedBeforeXid") long committedBeforeXid,
+                                 Limit limit);
+    
+    /**
+     * ユーザーのTODO一覧をエンティティを経由せずに取得する（説明は指定時のみ）
+     */
+    @Query(value = TODO_LIST_ITEM_SELECT + "WHERE t.userId = :userId ORDER BY t.createdAt DESC",
+            countQuery = "SELECT COUNT(t) FROM TodoEntity t WHERE t.userId = :userId")
+    Page<TodoListItem> findListItemsByUserId(@Param("userId") UUID userId,
+                                             @Param("includeDescription") boolean includeDescription,
+                                             Pageable pageable);
+    
+    /**
+     * ユーザーのTODO一覧を(作成日時, ID)の降順で先頭から取得する（キーセットページング）
+     */
+    @Query(TODO_LIST_ITEM_SELECT + "WHERE t.userId = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TodoListItem> findListItemKeysetPage(@Param("userId") UUID userId,
+                                              @Param("includeDescription") boolean includeDescription,
+                                              Limit limit);
+    
+    /**
+     * 指定位置(作成日時, ID)より後のTODO一覧を取得する（キーセットページング）
+     */
+    @Query(TODO_LIST_ITEM_SELECT + "WHERE t.userId = :userId AND (t.createdAt, t.id) < (:createdAt, :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TodoListItem> findListItemKeysetPageAfter(@Param("userId") UUID userId,
+                                                   @Param("createdAt") ZonedDateTime createdAt,
+                                                   @Param("id") long id,
+                                                   @Param("includeDescription") boolean includeDescription,
+                                                   Limit limit);
+    
     /**
      * ユーザーIDですべてのTODOを削除する
      */
@@ -77,6 +125,39 @@ public interface TodoJpaRepository extends JpaRepository<TodoEntity, Long> {
      */
     List<TodoEntity> findByUserIdAndIsRepeatableTrueOrderByCreatedAtDesc(UUID userId);
     
+    /**
+     * 期限を迎えた繰り返しTODOをID順にロックして取得する（SKIP LOCKEDにより複数ノードで同じ行を奪い合わない）
+     */
+    @Query(value = "SELECT * FROM todos WHERE is_repeatable = true AND repeat_type <> 'ONCE' " +
+            "AND due_date <= :date AND id > :afterId " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<TodoEntity> lockRepeatableTodosDueBy(@Param("date") LocalDate date,
+                                              @Param("afterId") long afterId,
+                                              @Param("limit") int limit);
+    
+    /**
+     * 元TODOごとに生成済みインスタンスの期限日を1クエリで取得する
+     */
+    @Query("SELECT t.originalTodoId AS originalTodoId, t.dueDate AS dueDate FROM TodoEntity t " +
+            "WHERE t.originalTodoId IN :originalTodoIds")
+    List<InstanceDueDateView> findInstanceDueDates(@Param("originalTodoIds") Collection<Long> originalTodoIds);
+    
+    /**
+     * 元TODOと期限日の組ごとに繰り返しインスタンスを挿入し、挿入したIDを返す
+     * （一意制約uq_todos_original_todo_due_dateに当たる組は ON CONFLICT DO NOTHING で飛ばす）
+     */
+    @Query(value = "INSERT INTO todos (user_id, title, description, status, priority, due_date, parent_id, " +
+            "is_repeatable, repeat_interval, original_todo_id) " +
+            "SELECT o.user_id, o.title, o.description, 'TODO', o.priority, c.due_date, o.parent_id, false, NULL, o.id " +
+            "FROM unnest(CAST(:originalTodoIds AS bigint[]), CAST(:dueDates AS date[])) AS c(original_todo_id, due_date) " +
+            "JOIN todos o ON o.id = c.original_todo_id " +
+            "ON CONFLICT (original_todo_id, due_date) DO NOTHING " +
+            "RETURNING id",
+            nativeQuery = true)
+    List<Long> insertRepeatInstances(@Param("originalTodoIds") Long[] originalTodoIds,
+                                     @Param("dueDates") LocalDate[] dueDates);
+    
     /**
      * 元TODOIDと期限日でTODOを検索する
      */
@@ -86,4 +167,122 @@ public interface TodoJpaRepository extends JpaRepository<TodoEntity, Long> {
      * 元TODOIDで生成されたインスタンスを検索する
      */
     List<TodoEntity> findByOriginalTodoIdOrderByCreatedAtDesc(Long originalTodoId);
-}
\ No newline at end of file
+    
+    /**
+     * 元TODOID一覧と期限日の範囲でインスタンスを検索する
+     */
+    List<TodoEntity> findByOriginalTodoIdInAndDueDateBetween(Collection<Long> originalTodoIds, LocalDate from, LocalDate to);
+    
+    /**
+     * ユーザーのTODO集計値を1クエリで取得する
+     */
+    @Query(value = "SELECT COUNT(*) AS \"total\", " +
+            "COUNT(*) FILTER (WHERE status = 'DONE') AS \"completed\", " +
+            "COUNT(*) FILTER (WHERE status = 'IN_PROGRESS') AS \"inProgress\", " +
+            "COUNT(*) FILTER (WHERE status = 'TODO') AS \"pending\", " +
+            "COUNT(*) FILTER (WHERE due_date < :today AND status <> 'DONE') AS \"overdue\", " +
+            "COALESCE(AVG(CAST(updated_at AS date) - CAST(created_at AS date)) " +
+            "FILTER (WHERE status = 'DONE' AND CAST(updated_at AS date) >= CAST(created_at AS date)), 0) " +
+            "AS \"averageCompletionDays\" " +
+            "FROM todos WHERE user_id = :userId",
+            nativeQuery = true)
+    TodoStatisticsView getStatisticsByUserId(@Param("userId") UUID userId, @Param("today") LocalDate today);
+    
+    /**
+     * ユーザーのTODO件数をステータス別に集計する
+     */
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM TodoEntity t WHERE t.userId = :userId GROUP BY t.status")
+    List<StatusCountView> countByUserIdGroupByStatus(@Param("userId") UUID userId);
+    
+    /**
+     * ユーザーのTODO件数を優先度別に集計する
+     */
+    @Query("SELECT t.priority AS priority, COUNT(t) AS count FROM TodoEntity t WHERE t.userId = :userId GROUP BY t.priority")
+    List<PriorityCountView> countByUserIdGroupByPriority(@Param("userId") UUID userId);
+    
+    /**
+     * 完了済みTODOの所要時間（時間単位）のパーセンタイルを優先度別に集計する
+     */
+    @Query(value = "SELECT priority AS \"priority\", COUNT(*) AS \"count\", " +
+            "percentile_cont(0.5) WITHIN GROUP (ORDER BY hours) AS \"p50Hours\", " +
+            "percentile_cont(0.9) WITHIN GROUP (ORDER BY hours) AS \"p90Hours\", " +
+            "percentile_cont(0.99) WITHIN GROUP (ORDER BY hours) AS \"p99Hours\" " +
+            "FROM (" + COMPLETION_HOURS_SUBQUERY + ") completed GROUP BY priority",
+            nativeQuery = true)
+    List<CompletionTimePercentilesView> getCompletionTimePercentilesByPriority(@Param("userId") UUID userId);
+    
+    /**
+     * 完了済みTODOの所要時間を優先度・バケット別に集計する（閾値はCompletionTimeDistributionと一致させる）
+     */
+    @Query(value = "SELECT priority AS \"priority\", " +
+            "width_bucket(hours, CAST(ARRAY[1, 4, 12, 24, 72, 168, 720] AS double precision[])) AS \"bucket\", " +
+            "COUNT(*) AS \"count\" " +
+            "FROM (" + COMPLETION_HOURS_SUBQUERY + ") completed GROUP BY 1, 2",
+            nativeQuery = true)
+    List<CompletionTimeBucketView> countCompletionTimeBucketsByPriority(@Param("userId") UUID userId);
+    
+    /**
+     * 指定TODOを根とするサブツリーを深さ制限付きで1クエリ取得する（深さ順、同階層は作成日時の降順）
+     */
+    @Query(value = "WITH RECURSIVE subtree AS (" +
+            "SELECT id, 0 AS depth FROM todos WHERE id = :rootId AND user_id = :userId " +
+            "UNION ALL " +
+            "SELECT child.id, subtree.depth + 1 FROM todos child " +
+            "JOIN subtree ON child.parent_id = subtree.id " +
+            "WHERE subtree.depth < :maxDepth AND child.user_id = :userId" +
+            ") " +
+            "SELECT t.* FROM todos t JOIN subtree ON t.id = subtree.id " +
+            "ORDER BY subtree.depth, t.created_at DESC",
+            nativeQuery = true)
+    List<TodoEntity> findSubtree(@Param("rootId") Long rootId,
+                                 @Param("userId") UUID userId,
+                                 @Param("maxDepth") int maxDepth);
+    
+    String TODO_LIST_ITEM_SELECT = "SELECT new com.zametech.personalhub.domain.model.TodoListItem(" +
+            "t.id, t.title, CASE WHEN :includeDescription = true THEN t.description ELSE NULL END, " +
+            "t.status, t.priority, t.dueDate, t.parentId, t.isRepeatable, t.repeatType, t.repeatInterval, " +
+            "t.repeatDaysOfWeek, t.repeatDayOfMonth, t.repeatEndDate, t.originalTodoId, t.createdAt, t.updatedAt) " +
+            "FROM TodoEntity t ";
+    
+    String COMPLETION_HOURS_SUBQUERY = "SELECT priority, " +
+            "CAST(EXTRACT(EPOCH FROM (updated_at - created_at)) / 3600 AS double precision) AS hours " +
+            "FROM todos WHERE user_id = :userId AND status = 'DONE' AND updated_at >= created_at";
+    
+    interface TodoStatisticsView {
+        long getTotal();
+        long getCompleted();
+        long getInProgress();
+        long getPending();
+        long getOverdue();
+        double getAverageCompletionDays();
+    }
+    
+    interface StatusCountView {
+        TodoStatus getStatus();
+        long getCount();
+    }
+    
+    interface PriorityCountView {
+        TodoPriority getPriority();
+        long getCount();
+    }
+    
+    interface CompletionTimePercentilesView {
+        String getPriority();
+        long getCount();
+        double getP50Hours();
+        double getP90Hours();
+        double getP99Hours();
+    }
+    
+    interface InstanceDueDateView {
+        Long getOriginalTodoId();
+        LocalDate getDueDate();
+    }
+    
+    interface CompletionTimeBucketView {
+        String getPriority();
+        int getBucket();
+        long getCount();
+    }
+}
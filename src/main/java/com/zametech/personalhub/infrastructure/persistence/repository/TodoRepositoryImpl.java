@@ -1,18 +1,34 @@
 package com.zametech.personalhub.infrastructure.persistence.repository;
 
+import com.zametech.personalhub.domain.model.CompletionTimeDistribution;
+import com.zametech.personalhub.domain.model.KeysetCursor;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncPosition;
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatistics;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.domain.repository.TodoRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaSyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * TODOリポジトリ実装
@@ -22,6 +38,7 @@ import java.util.UUID;
 public class TodoRepositoryImpl implements TodoRepository {
 
     private final TodoJpaRepository todoJpaRepository;
+    private final JpaSyncTombstoneRepository syncTombstoneJpaRepository;
 
     @Override
     public TodoEntity save(TodoEntity todo) {
@@ -55,6 +72,8 @@ public class TodoRepositoryImpl implements TodoRepository {
 
     @Override
     public void deleteById(Long id) {
+        // 外部キーで連鎖削除される子孫も含めて削除済みとして記録する
+        syncTombstoneJpaRepository.recordTodoSubtreeDeletion(id);
         todoJpaRepository.deleteById(id);
     }
 
@@ -63,11 +82,39 @@ public class TodoRepositoryImpl implements TodoRepository {
         return todoJpaRepository.existsById(id);
     }
 
+    @Override
+    public List<TodoEntity> findByIdsAndUserId(Collection<Long> ids, UUID userId) {
+        return todoJpaRepository.findByIdInAndUserId(ids, userId);
+    }
+
     @Override
     public Page<TodoEntity> findByUserId(UUID userId, Pageable pageable) {
         return todoJpaRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    @Override
+    public Page<TodoListItem> findListItemsByUserId(UUID userId, boolean includeDescription, Pageable pageable) {
+        return todoJpaRepository.findListItemsByUserId(userId, includeDescription, pageable);
+    }
+
+    @Override
+    public List<TodoListItem> findListItemKeysetPage(UUID userId, KeysetCursor cursor, int limit, boolean includeDescription) {
+        if (cursor == null) {
+            return todoJpaRepository.findListItemKeysetPage(userId, includeDescription, Limit.of(limit));
+        }
+        return todoJpaRepository.findListItemKeysetPageAfter(
+                userId, cursor.createdAt().atZone(ZoneOffset.UTC), cursor.id(), includeDescription, Limit.of(limit));
+    }
+
+    @Override
+    public List<SyncChange<TodoEntity>> findChangedSince(UUID userId, SyncPosition since, long committedBeforeXid, int limit) {
+        return todoJpaRepository.findChangedSince(
+                        userId, since.changeXid(), since.changeSeq(), committedBeforeXid, Limit.of(limit))
+                .stream()
+                .map(todo -> new SyncChange<>(new SyncPosition(todo.getChangeXid(), todo.getChangeSeq()), todo))
+                .toList();
+    }
+
     @Override
     public List<TodoEntity> findByUserIdAndStatus(UUID userId, TodoStatus status) {
         return todoJpaRepository.findByUserIdAndStatusOrderByCreatedAtDesc(userId, status);
@@ -93,6 +140,34 @@ public class TodoRepositoryImpl implements TodoRepository {
         return todoJpaRepository.findByUserIdAndIsRepeatableTrueOrderByCreatedAtDesc(userId);
     }
     
+    @Override
+    public List<TodoEntity> lockRepeatableTodosDueBy(LocalDate date, long afterId, int limit) {
+        return todoJpaRepository.lockRepeatableTodosDueBy(date, afterId, limit);
+    }
+    
+    @Override
+    public Map<Long, Set<LocalDate>> findInstanceDueDatesByOriginalTodoIds(Collection<Long> originalTodoIds) {
+        if (originalTodoIds.isEmpty()) {
+            return Map.of();
+        }
+        return todoJpaRepository.findInstanceDueDates(originalTodoIds).stream()
+                .collect(Collectors.groupingBy(TodoJpaRepository.InstanceDueDateView::getOriginalTodoId,
+                        Collectors.mapping(TodoJpaRepository.InstanceDueDateView::getDueDate,
+                                Collectors.toCollection(HashSet::new))));
+    }
+    
+    @Override
+    public List<TodoEntity> insertRepeatInstances(Map<Long, LocalDate> dueDatesByOriginalTodoId) {
+        if (dueDatesByOriginalTodoId.isEmpty()) {
+            return List.of();
+        }
+        Long[] originalTodoIds = dueDatesByOriginalTodoId.keySet().toArray(Long[]::new);
+        LocalDate[] dueDates = Arrays.stream(originalTodoIds).map(dueDatesByOriginalTodoId::get).toArray(LocalDate[]::new);
+        
+        List<Long> insertedIds = todoJpaRepository.insertRepeatInstances(originalTodoIds, dueDates);
+        return insertedIds.isEmpty() ? List.of() : todoJpaRepository.findAllById(insertedIds);
+    }
+    
     @Override
     public List<TodoEntity> findByOriginalTodoIdAndDueDate(Long originalTodoId, LocalDate dueDate) {
         return todoJpaRepository.findByOriginalTodoIdAndDueDate(originalTodoId, dueDate);
@@ -102,4 +177,72 @@ public class TodoRepositoryImpl implements TodoRepository {
     public List<TodoEntity> findByOriginalTodoId(Long originalTodoId) {
         return todoJpaRepository.findByOriginalTodoIdOrderByCreatedAtDesc(originalTodoId);
     }
-}
\ No newline at end of file
+    
+    @Override
+    public List<TodoEntity> findInstancesByOriginalTodoIdsAndDueDateBetween(Collection<Long> originalTodoIds,
+                                                                            LocalDate from, LocalDate to) {
+        if (originalTodoIds.isEmpty()) {
+            return List.of();
+        }
+        return todoJpaRepository.findByOriginalTodoIdInAndDueDateBetween(originalTodoIds, from, to);
+    }
+    
+    @Override
+    public List<TodoEntity> findSubtree(Long rootId, UUID userId, int maxDepth) {
+        return todoJpaRepository.findSubtree(rootId, userId, maxDepth);
+    }
+    
+    @Override
+    public TodoStatistics getStatisticsByUserId(UUID userId, LocalDate today) {
+        TodoJpaRepository.TodoStatisticsView view = todoJpaRepository.getStatisticsByUserId(userId, today);
+        return new TodoStatistics(
+                view.getTotal(),
+                view.getCompleted(),
+                view.getInProgress(),
+                view.getPending(),
+                view.getOverdue(),
+                view.getAverageCompletionDays()
+        );
+    }
+    
+    @Override
+    public Map<TodoStatus, Long> countByUserIdGroupByStatus(UUID userId) {
+        Map<TodoStatus, Long> counts = new EnumMap<>(TodoStatus.class);
+        todoJpaRepository.countByUserIdGroupByStatus(userId)
+                .forEach(view -> counts.put(view.getStatus(), view.getCount()));
+        return counts;
+    }
+    
+    @Override
+    public Map<TodoPriority, Long> countByUserIdGroupByPriority(UUID userId) {
+        Map<TodoPriority, Long> counts = new EnumMap<>(TodoPriority.class);
+        todoJpaRepository.countByUserIdGroupByPriority(userId)
+                .forEach(view -> counts.put(view.getPriority(), view.getCount()));
+        return counts;
+    }
+    
+    @Override
+    public Map<TodoPriority, CompletionTimeDistribution> getCompletionTimeDistributionByPriority(UUID userId) {
+        int bucketCount = CompletionTimeDistribution.BUCKET_UPPER_BOUNDS_HOURS.size() + 1;
+        Map<TodoPriority, long[]> bucketCounts = new EnumMap<>(TodoPriority.class);
+        for (TodoJpaRepository.CompletionTimeBucketView view : todoJpaRepository.countCompletionTimeBucketsByPriority(userId)) {
+            long[] counts = bucketCounts.computeIfAbsent(
+                    TodoPriority.valueOf(view.getPriority()), priority -> new long[bucketCount]);
+            counts[view.getBucket()] = view.getCount();
+        }
+        
+        Map<TodoPriority, CompletionTimeDistribution> distributions = new EnumMap<>(TodoPriority.class);
+        for (TodoJpaRepository.CompletionTimePercentilesView view : todoJpaRepository.getCompletionTimePercentilesByPriority(userId)) {
+            TodoPriority priority = TodoPriority.valueOf(view.getPriority());
+            long[] counts = bucketCounts.getOrDefault(priority, new long[bucketCount]);
+            distributions.put(priority, new CompletionTimeDistribution(
+                    view.getCount(),
+                    view.getP50Hours(),
+                    view.getP90Hours(),
+                    view.getP99Hours(),
+                    Arrays.stream(counts).boxed().toList()
+            ));
+        }
+        return distributions;
+    }
+}
@@ -0,0 +1,79 @@
+package com.zametech.personalhub.infrastructure.persistence.repository;
+
+import com.zametech.personalhub.domain.model.DailyActivityExportRow;
+import com.zametech.personalhub.domain.model.UserDailyActivity;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.UserDailyActivityEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaUserDailyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
+public class UserDailyActivityRepositoryImpl implements UserDailyActivityRepository {
+    private final JpaUserDailyActivityRepository jpaRepository;
+
+    @Override
+    @Transactional
+    public void increment(UserDailyActivity delta) {
+        jpaRepository.upsertIncrement(
+                delta.getUserId(),
+                delta.getActivityDate(),
+                delta.getTodosCreated(),
+                delta.getTodosCompleted(),
+                delta.getEventsCount(),
+                delta.getNotesCreated(),
+                delta.getMomentsCreated(),
+                delta.getGoalsAchieved()
+        );
+    }
+
+    @Override
+    public List<UserDailyActivity> findByUserIdAndDateRange(UUID userId, LocalDate startDate, LocalDate endDate) {
+        return jpaRepository.findByUserIdAndActivityDateBetweenOrderByActivityDateAsc(userId, startDate, endDate)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void rebuildForUser(UUID userId) {
+        jpaRepository.deleteByUserId(userId);
+        jpaRepository.insertRebuiltRows(userId);
+    }
+
+    @Override
+    public Stream<DailyActivityExportRow> streamExportRows(UUID userId, LocalDate startDate, LocalDate endDate) {
+        return jpaRepository.streamExportRows(userId, startDate, endDate)
+                .map(view -> new DailyActivityExportRow(
+                        view.getDate(),
+                        view.getTodosCreated(),
+                        view.getTodosCompleted(),
+                        view.getEventsCount(),
+                        view.getNotesCreated(),
+                        view.getMomentsCreated(),
+                        view.getPomodoroSessions(),
+                        view.getPomodoroCompletedCycles()
+                ));
+    }
+
+    private UserDailyActivity toDomain(UserDailyActivityEntity entity) {
+        return new UserDailyActivity(
+                entity.getUserId(),
+                entity.getActivityDate(),
+                entity.getTodosCreated(),
+                entity.getTodosCompleted(),
+                entity.getEventsCount(),
+                entity.getNotesCreated(),
+                entity.getMomentsCreated(),
+                entity.getGoalsAchieved()
+        );
+    }
+}
@@ -2,8 +2,10 @@ package com.zametech.personalhub.infrastructure.persistence.repository;
 
 import com.zametech.personalhub.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +19,7 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
     Optional<UserEntity> findByUsername(String username);
     
     boolean existsByUsername(String username);
+    
+    @Query("SELECT u.id FROM UserEntity u ORDER BY u.id")
+    List<UUID> findAllIds();
 }
\ No newline at end of file
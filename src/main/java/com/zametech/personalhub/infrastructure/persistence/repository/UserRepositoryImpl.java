@@ -6,6 +6,7 @@ import com.zametech.personalhub.infrastructure.persistence.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -52,6 +53,11 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.findByUsername(username).map(this::toModel);
     }
 
+    @Override
+    public List<UUID> findAllIds() {
+        return userJpaRepository.findAllIds();
+    }
+
     private User toModel(UserEntity entity) {
         User user = new User();
         user.setId(entity.getId());
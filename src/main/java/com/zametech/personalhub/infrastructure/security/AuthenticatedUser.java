@@ -0,0 +1,38 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal built from the claims of a verified access token, so an authenticated request needs no user
+ * lookup. The values are those at the time the token was issued, so settings the user can change, such as the
+ * week start day, are not part of it.
+ */
+public record AuthenticatedUser(
+        UUID userId,
+        String email,
+        List<GrantedAuthority> authorities
+) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Tokens never carry the password.
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +17,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,7 +39,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
         
         log.debug("Processing JWT for request: {}", request.getRequestURI());
 
@@ -50,32 +51,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            userEmail = jwtService.extractUsername(jwt);
-
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    // Extract authorities from JWT token
-                    List<String> authoritiesFromToken = jwtService.extractAuthorities(jwt);
-                    List<SimpleGrantedAuthority> authorities = authoritiesFromToken != null 
-                        ? authoritiesFromToken.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList())
-                        : userDetails.getAuthorities().stream()
-                            .map(auth -> new SimpleGrantedAuthority(auth.getAuthority()))
-                            .collect(Collectors.toList());
-
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            authorities
-                    );
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    log.debug("JWT authentication successful for user: {}", userEmail);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                AuthenticatedUser authenticatedUser = jwtService.extractAuthenticatedUser(jwt);
+                if (authenticatedUser != null) {
+                    // Everything the request needs is in the verified claims
+                    authenticate(request, authenticatedUser, authenticatedUser.getAuthorities());
+                    log.debug("JWT authentication successful for user: {}", authenticatedUser.getUsername());
+                } else {
+                    authenticateLegacyToken(request, jwt);
                 }
             }
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
@@ -95,4 +78,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tokens issued before the user_id claim was added are checked against the user loaded by email.
+     */
+    private void authenticateLegacyToken(HttpServletRequest request, String jwt) {
+        String userEmail = jwtService.extractUsername(jwt);
+        if (userEmail == null) {
+            return;
+        }
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+
+        if (jwtService.isTokenValid(jwt, userDetails)) {
+            // Extract authorities from JWT token
+            List<String> authoritiesFromToken = jwtService.extractAuthorities(jwt);
+            List<SimpleGrantedAuthority> authorities = authoritiesFromToken != null 
+                ? authoritiesFromToken.stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toList())
+                : userDetails.getAuthorities().stream()
+                    .map(auth -> new SimpleGrantedAuthority(auth.getAuthority()))
+                    .collect(Collectors.toList());
+
+            authenticate(request, userDetails, authorities);
+            log.debug("JWT authentication successful for legacy token of user: {}", userEmail);
+        }
+    }
+
+    private void authenticate(HttpServletRequest request, UserDetails principal,
+                              Collection<? extends GrantedAuthority> authorities) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                authorities
+        );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+}
@@ -19,6 +19,8 @@ public class JwtConfiguration {
     private String secretKey = "your-default-secret-key-that-is-at-least-256-bits-long-for-HS256-algorithm-security";
     private long expiration = 900000;
     private String keyId = "default-key";
+    /** Maximum number of verified tokens whose claims are cached until they expire */
+    private long claimsCacheSize = 10_000;
 
     // JwtService is now defined as @Service component with @RequiredArgsConstructor
     // No need for @Bean definition here
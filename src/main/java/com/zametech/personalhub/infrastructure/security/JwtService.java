@@ -1,11 +1,15 @@
 package com.zametech.personalhub.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import com.zametech.personalhub.application.service.JwksService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -14,17 +18,23 @@ import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPublicKey;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,34 +42,61 @@ import java.util.stream.Collectors;
 @Service
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "user_id";
+
     private final JwksService jwksService;
     private final SecretKey secretKey;
     private final Duration tokenExpiration;
+    /**
+     * Claims of verified, unexpired tokens keyed by the SHA-256 of the token, each kept until its expiration,
+     * so a token seen again skips signature verification and decoding.
+     */
+    private final Cache<String, Claims> verifiedClaims;
 
     public JwtService(JwksService jwksService, JwtConfiguration jwtConfiguration) {
         this.jwksService = jwksService;
         this.secretKey = Keys.hmacShaKeyFor(jwtConfiguration.getSecretKey().getBytes());
         this.tokenExpiration = Duration.ofMillis(jwtConfiguration.getExpiration());
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(jwtConfiguration.getClaimsCacheSize())
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), claims.getExpiration().toInstant()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String extractUsername(String token) {
+        final Claims claims = extractAllClaims(token);
         try {
             // Primary: Try to get email claim directly
-            String email = extractClaim(token, claims -> (String) claims.get("email"));
+            String email = (String) claims.get("email");
             if (email != null) {
                 log.debug("Extracted email from token: {}", email);
                 return email;
             }
             
             // Secondary: Use subject (which should also be email in our tokens)
-            String subject = extractClaim(token, Claims::getSubject);
+            String subject = claims.getSubject();
             if (subject != null && subject.contains("@")) {
                 log.debug("Using subject as email: {}", subject);
                 return subject;
             }
             
             // Legacy support: For old tokens that might have username instead of email
-            String username = extractClaim(token, claims -> (String) claims.get("username"));
+            String username = (String) claims.get("username");
             if (username != null && username.contains("@")) {
                 log.debug("Legacy token with email in username claim: {}", username);
                 return username;
@@ -70,7 +107,7 @@ public class JwtService {
             return subject;
         } catch (Exception e) {
             log.warn("Error extracting email from token: {}", e.getMessage());
-            return extractClaim(token, Claims::getSubject);
+            return claims.getSubject();
         }
     }
 
@@ -78,6 +115,33 @@ public class JwtService {
         return extractClaim(token, claims -> (List<String>) claims.get("authorities"));
     }
 
+    /**
+     * Verifies the token once and builds the principal from its claims, or returns null for a token without
+     * a user_id claim, which has to be resolved from the database. Tokens without authorities get ROLE_USER,
+     * the role every user has.
+     *
+     * @throws ExpiredJwtException if the token has expired or has no expiration
+     */
+    public AuthenticatedUser extractAuthenticatedUser(String token) {
+        Claims claims = extractAllClaims(token);
+        // The RS256 path only checks the signature
+        if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+            throw new ExpiredJwtException(null, claims, "JWT expired");
+        }
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (userId == null) {
+            return null;
+        }
+        String email = claims.get("email") != null ? (String) claims.get("email") : claims.getSubject();
+        List<String> authorities = (List<String>) claims.get("authorities");
+        return new AuthenticatedUser(
+                UUID.fromString(userId.toString()),
+                email,
+                (authorities != null ? authorities : List.of("ROLE_USER")).stream()
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList());
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
@@ -106,11 +170,16 @@ public class JwtService {
         // userDetails.getUsername() actually contains email in our implementation
         String email = userDetails.getUsername();
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claims(extraClaims)
                 .subject(email)  // Use email as subject
                 .claim("email", email)  // Also explicitly add email claim
-                .claim("authorities", authorities)
+                .claim("authorities", authorities);
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            // Lets requests authenticate without loading the user
+            builder.claim(USER_ID_CLAIM, authenticatedUser.userId().toString());
+        }
+        return builder
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plus(expiration)))
                 .signWith(secretKey)
@@ -119,10 +188,11 @@ public class JwtService {
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        boolean isValid = (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final boolean expired = isTokenExpired(token);
+        boolean isValid = (username.equals(userDetails.getUsername())) && !expired;
         if (!isValid) {
             log.debug("Token validation failed - Token username: {}, UserDetails username: {}, Expired: {}", 
-                username, userDetails.getUsername(), isTokenExpired(token));
+                username, userDetails.getUsername(), expired);
         }
         return isValid;
     }
@@ -135,7 +205,34 @@ public class JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * Verified claims of the token, from the cache when the token was verified before and has not expired.
+     * Expired RS256 tokens are returned without caching; the callers check the expiration.
+     */
     private Claims extractAllClaims(String token) {
+        String key = sha256(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = verifyClaims(token);
+        if (claims.getExpiration() != null && claims.getExpiration().after(new Date())) {
+            verifiedClaims.put(key, claims);
+        }
+        return claims;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Claims verifyClaims(String token) {
         try {
             // First try to parse as RS256 token (from OIDC service)
             SignedJWT signedJWT = SignedJWT.parse(token);
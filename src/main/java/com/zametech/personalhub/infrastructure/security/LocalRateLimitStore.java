@@ -0,0 +1,74 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.local.SynchronizationStrategy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buckets kept in the memory of this instance. Each limit has a cache keyed by client, and a bucket idle long
+ * enough to have refilled completely expires, which grants a client no more requests than waiting would.
+ * <p>
+ * The cache is also bounded by {@code max-buckets}, and evicting a bucket for size resets the client to a full
+ * bucket. Client IPs come from X-Forwarded-For, so a flood of spoofed addresses can push an active client out
+ * early. This is the accepted trade-off for bounded memory: the cache's frequency-based admission prefers
+ * keeping buckets in use over one-off keys, and each eviction gains the client at most one bucket capacity.
+ * Deployments that need a hard limit use the Postgres store, where evicting a lease only drops the tokens
+ * reserved by this instance.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Cache<String, Bucket>> buckets = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long maxBuckets;
+
+    public LocalRateLimitStore(MeterRegistry meterRegistry, long maxBuckets) {
+        this.meterRegistry = meterRegistry;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public boolean tryConsume(RateLimit limit, String clientKey) {
+        return buckets.computeIfAbsent(limit.name(), name -> clientCache(limit, maxBuckets, meterRegistry))
+                .get(clientKey, key -> createBucket(limit))
+                .tryConsume(1);
+    }
+
+    /**
+     * Cache of per-client state for the limit, evicting entries idle for the limit's full refill time.
+     * Its size is reported as the {@code security.rate.limit.buckets} gauge, tagged with the limit name.
+     */
+    static <V> Cache<String, V> clientCache(RateLimit limit, long maxBuckets, MeterRegistry meterRegistry) {
+        Cache<String, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(limit.fullRefillTime())
+                .build();
+        Gauge.builder("security.rate.limit.buckets", cache, c -> {
+                    // Evictions are applied asynchronously; settle them so the gauge reflects live buckets
+                    c.cleanUp();
+                    return c.estimatedSize();
+                })
+                .tag("endpoint", limit.name())
+                .register(meterRegistry);
+        return cache;
+    }
+
+    private static Bucket createBucket(RateLimit limit) {
+        Bandwidth bandwidth = Bandwidth.classic(
+                limit.capacity(),
+                Refill.intervally(limit.refillTokens(), limit.refillPeriod()));
+        // A synchronized bucket updates its single state in place, unlike the default lock-free bucket,
+        // which allocates a copy of the state on every consumption
+        return Bucket.builder()
+                .addLimit(bandwidth)
+                .withSynchronizationStrategy(SynchronizationStrategy.SYNCHRONIZED)
+                .build();
+    }
+}
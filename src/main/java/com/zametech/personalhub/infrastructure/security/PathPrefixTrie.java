@@ -0,0 +1,87 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import java.util.Arrays;
+
+/**
+ * Maps request paths to values by path patterns compiled into a character trie, so a lookup walks the path once
+ * without splitting it, building strings or evaluating regular expressions. A pattern is an exact path, or a prefix
+ * ending in {@code /**} that matches the prefix itself and every path below it. The longest matching pattern wins,
+ * and an exact path wins over a prefix ending at the same place.
+ */
+final class PathPrefixTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    void add(String pattern, T value) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Path pattern must start with /: " + pattern);
+        }
+        boolean prefix = pattern.endsWith("/**");
+        String path = prefix ? pattern.substring(0, pattern.length() - 3) : pattern;
+        Node<T> node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.childOrCreate(path.charAt(i));
+        }
+        if ((prefix ? node.prefixValue : node.exactValue) != null) {
+            throw new IllegalArgumentException("Duplicate path pattern: " + pattern);
+        }
+        if (prefix) {
+            node.prefixValue = value;
+        } else {
+            node.exactValue = value;
+        }
+    }
+
+    /**
+     * Value of the longest pattern matching the path, or null when no pattern matches.
+     */
+    T match(String path) {
+        Node<T> node = root;
+        // A prefix ending at the root is "/**", which matches every path
+        T match = root.prefixValue;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return match;
+            }
+            boolean end = i + 1 == path.length();
+            if (end && node.exactValue != null) {
+                return node.exactValue;
+            }
+            if (node.prefixValue != null && (end || path.charAt(i + 1) == '/')) {
+                match = node.prefixValue;
+            }
+        }
+        return match;
+    }
+
+    private static final class Node<T> {
+        // Few children per node, so a linear scan of parallel arrays beats a map
+        private char[] keys = new char[0];
+        @SuppressWarnings("unchecked")
+        private Node<T>[] children = new Node[0];
+        private T exactValue;
+        private T prefixValue;
+
+        private Node<T> child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node<T> childOrCreate(char c) {
+            Node<T> child = child(c);
+            if (child == null) {
+                child = new Node<>();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = c;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaRateLimitBucketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buckets shared by every instance in the rate_limit_buckets table, so the limits hold across the cluster.
+ * An instance reserves a share of a client's bucket in one statement and serves the client's requests from that
+ * lease in memory until it runs out, so most requests do not reach the database. Tokens left in a lease are never
+ * returned, so a client can be limited slightly early but never gets more than the configured limit.
+ *
+ * <p>While the database is unreachable requests are allowed. After a failed reservation the store stops asking
+ * the database for {@link #UNAVAILABLE_BACKOFF}, so an outage costs one slow reservation per backoff instead of
+ * one per request.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.rate-limit.store", havingValue = "postgres")
+public class PostgresRateLimitStore implements RateLimitStore {
+
+    /** Longest time a client whose bucket was empty is rejected locally before the database is asked again */
+    private static final Duration EMPTY_RECHECK_INTERVAL = Duration.ofSeconds(1);
+
+    /** How long requests skip the database after a reservation failed */
+    private static final Duration UNAVAILABLE_BACKOFF = Duration.ofSeconds(5);
+
+    /** Longest client key stored as is; longer ones, such as an oversized X-Forwarded-For, are hashed */
+    private static final int MAX_PLAIN_CLIENT_KEY_LENGTH = 64;
+
+    private final JpaRateLimitBucketRepository rateLimitBucketRepository;
+    private final MeterRegistry meterRegistry;
+    private final long maxBuckets;
+    private final int leasePercent;
+    private final Map<String, Cache<String, TokenLease>> leases = new ConcurrentHashMap<>();
+    private volatile long unavailableUntil;
+    private volatile boolean unavailable;
+
+    public PostgresRateLimitStore(JpaRateLimitBucketRepository rateLimitBucketRepository,
+                                  MeterRegistry meterRegistry,
+                                  RateLimitProperties rateLimitProperties) {
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxBuckets = rateLimitProperties.getMaxBuckets();
+        this.leasePercent = rateLimitProperties.getLeasePercent();
+    }
+
+    @Override
+    public boolean tryConsume(RateLimit limit, String clientKey) {
+        String bucketClientKey = bucketClientKey(clientKey);
+        TokenLease lease = leases
+                .computeIfAbsent(limit.name(), name -> LocalRateLimitStore.<TokenLease>clientCache(limit, maxBuckets, meterRegistry))
+                .get(bucketClientKey, key -> new TokenLease());
+        synchronized (lease) {
+            if (lease.tokens > 0) {
+                lease.tokens--;
+                return true;
+            }
+            long now = System.nanoTime();
+            if (lease.empty && now - lease.emptyUntil < 0) {
+                return false;
+            }
+            if (unavailable) {
+                if (now - unavailableUntil < 0) {
+                    return true;
+                }
+                // This request probes the database; the others keep skipping it until the probe is done
+                unavailableUntil = now + UNAVAILABLE_BACKOFF.toNanos();
+            }
+            long reserved;
+            try {
+                reserved = reserve(limit, bucketClientKey);
+            } catch (DataAccessException e) {
+                // Failing open keeps the API available while the database is unreachable
+                if (!unavailable) {
+                    log.warn("Rate limit store unavailable, allowing requests for {}: {}", UNAVAILABLE_BACKOFF, e.getMessage());
+                }
+                unavailableUntil = System.nanoTime() + UNAVAILABLE_BACKOFF.toNanos();
+                unavailable = true;
+                return true;
+            }
+            if (unavailable) {
+                unavailable = false;
+                log.info("Rate limit store available again");
+            }
+            lease.empty = reserved == 0;
+            if (lease.empty) {
+                lease.emptyUntil = now + min(limit.refillPeriod(), EMPTY_RECHECK_INTERVAL).toNanos();
+                return false;
+            }
+            lease.tokens = reserved - 1;
+            return true;
+        }
+    }
+
+    /**
+     * Deletes buckets that have been idle long enough to have refilled completely; a new bucket is identical.
+     */
+    @Scheduled(cron = "${app.security.rate-limit.cleanup-cron:0 15 * * * *}")
+    public void deleteExpiredBuckets() {
+        int deleted = rateLimitBucketRepository.deleteExpired();
+        if (deleted > 0) {
+            log.debug("Deleted {} expired rate limit buckets", deleted);
+        }
+    }
+
+    private long reserve(RateLimit limit, String clientKey) {
+        long leaseSize = Math.max(1, limit.capacity() * leasePercent / 100);
+        return rateLimitBucketRepository.reserve(
+                limit.name() + ":" + clientKey,
+                limit.capacity(),
+                limit.refillTokens(),
+                limit.refillPeriod().toMillis(),
+                limit.fullRefillTime().toMillis(),
+                leaseSize);
+    }
+
+    /**
+     * The client key as stored in bucket_key. Keys come from request headers, so an oversized one is replaced by its
+     * SHA-256 to keep the key within the column and the lease cache small.
+     */
+    static String bucketClientKey(String clientKey) {
+        if (clientKey.length() <= MAX_PLAIN_CLIENT_KEY_LENGTH) {
+            return clientKey;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(clientKey.getBytes(StandardCharsets.UTF_8));
+            return "sha256:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    /**
+     * Tokens of the client's shared bucket reserved by this instance.
+     */
+    private static final class TokenLease {
+        private long tokens;
+        private boolean empty;
+        private long emptyUntil;
+    }
+}
@@ -0,0 +1,18 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import java.time.Duration;
+
+/**
+ * Token bucket limit: a new bucket holds {@code capacity} tokens and {@code refillTokens} are added at the end of
+ * every {@code refillPeriod}, up to the capacity. The name tells apart the buckets of different limits in a store.
+ */
+public record RateLimit(String name, long capacity, long refillTokens, Duration refillPeriod) {
+
+    /**
+     * Time after which an unused bucket has refilled to its capacity, and is therefore no different from a new one.
+     */
+    public Duration fullRefillTime() {
+        long periods = (capacity + refillTokens - 1) / Math.max(1, refillTokens);
+        return refillPeriod.multipliedBy(Math.max(1, periods));
+    }
+}
@@ -0,0 +1,54 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limit policies of {@link RateLimitingFilter}. The auth and general policies always exist; further
+ * policies give routes such as expensive exports their own limits. A request is limited by the policy with the
+ * longest matching path.
+ */
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "app.security.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /** Maximum number of buckets kept in memory per policy */
+    private long maxBuckets = 100_000;
+    /** Share of a Postgres bucket, in percent of its capacity, that an instance reserves at a time */
+    private int leasePercent = 10;
+    private Policy auth = new Policy("auth", new ArrayList<>(List.of("/api/v1/auth/**")), KeyType.IP, 10, 10, 15);
+    private Policy general = new Policy("general", new ArrayList<>(List.of("/**")), KeyType.USER, 100, 100, 1);
+    private List<Policy> policies = new ArrayList<>();
+
+    public enum KeyType {
+        /** Buckets per client IP */
+        IP,
+        /** Buckets per authenticated user, or per client IP for anonymous requests */
+        USER
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private String name;
+        /** Exact paths, or prefixes ending in /** that also match every path below them */
+        private List<String> paths = new ArrayList<>();
+        private KeyType key = KeyType.IP;
+        private long capacity = 100;
+        private long refillTokens = 100;
+        private long refillPeriodMinutes = 1;
+    }
+}
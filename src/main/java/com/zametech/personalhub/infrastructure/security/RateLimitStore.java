@@ -0,0 +1,15 @@
+package com.zametech.personalhub.infrastructure.security;
+
+/**
+ * Holds the token buckets of {@link RateLimitingFilter}. Without a store bean the filter keeps its buckets in
+ * memory with {@link LocalRateLimitStore}, so each instance enforces the limits on its own.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes a token from the client's bucket for the limit, starting a full bucket for a client not seen before.
+     *
+     * @return false when the bucket is empty and the request must be rejected
+     */
+    boolean tryConsume(RateLimit limit, String clientKey);
+}
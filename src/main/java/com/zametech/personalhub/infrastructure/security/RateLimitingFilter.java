@@ -1,98 +1,161 @@
 package com.zametech.personalhub.infrastructure.security;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Bucket4j;
-import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
- * Rate limiting filter to protect authentication endpoints from brute force attacks
+ * Rate limiting filter to protect authentication endpoints from brute force attacks and expensive routes from
+ * overuse. Each request is limited by the {@link RateLimitProperties} policy with the longest matching path, using
+ * a bucket per client IP or per authenticated user. Buckets are kept by the configured {@link RateLimitStore}, or
+ * in memory when there is none.
+ *
+ * <p>The filter runs ahead of {@link JwtAuthenticationFilter} and limits every request it can key by IP: those of
+ * IP policies such as auth, and requests without a bearer token. Requests of user policies that carry a bearer
+ * token are limited by {@link #userKeyedStage()}, which runs after the JWT filter so the user is known. Those pay
+ * for the token's signature check before their limit; the legacy user lookup only follows a valid signature.
+ *
+ * <p>Paths are matched as the servlet container decoded and normalized them within the application, so neither
+ * the context path nor percent-encoding changes which policy applies.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitingFilter extends OncePerRequestFilter {
     
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitStore rateLimitStore;
+    private final PathPrefixTrie<Policy> policies;
+    private final Filter userKeyedStage = new UserKeyedStage();
     
-    @Value("${app.security.rate-limit.auth.capacity:10}")
-    private int authCapacity;
-    
-    @Value("${app.security.rate-limit.auth.refill-tokens:10}")
-    private int authRefillTokens;
-    
-    @Value("${app.security.rate-limit.auth.refill-period-minutes:15}")
-    private int authRefillPeriodMinutes;
-    
-    @Value("${app.security.rate-limit.general.capacity:100}")
-    private int generalCapacity;
+    @Autowired
+    public RateLimitingFilter(ObjectProvider<RateLimitStore> rateLimitStoreProvider,
+                              ObjectProvider<MeterRegistry> meterRegistryProvider,
+                              ObjectProvider<RateLimitProperties> rateLimitPropertiesProvider,
+                              Environment environment) {
+        // Filters are also created in web slice tests, which have no meter registry and no properties bean
+        this(rateLimitStoreProvider.getIfAvailable(),
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                rateLimitPropertiesProvider.getIfAvailable(() -> Binder.get(environment)
+                        .bindOrCreate("app.security.rate-limit", RateLimitProperties.class)));
+    }
     
-    @Value("${app.security.rate-limit.general.refill-tokens:100}")
-    private int generalRefillTokens;
+    RateLimitingFilter(RateLimitStore rateLimitStore, MeterRegistry meterRegistry, RateLimitProperties properties) {
+        this.rateLimitStore = rateLimitStore != null
+                ? rateLimitStore
+                : new LocalRateLimitStore(meterRegistry, properties.getMaxBuckets());
+        this.policies = compilePolicies(properties, meterRegistry);
+    }
     
-    @Value("${app.security.rate-limit.general.refill-period-minutes:1}")
-    private int generalRefillPeriodMinutes;
+    /**
+     * The stage to run after {@link JwtAuthenticationFilter}. It limits the requests this filter left to it.
+     */
+    public Filter userKeyedStage() {
+        return userKeyedStage;
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
-        String clientIp = getClientIp(request);
-        String path = request.getRequestURI();
-        
-        log.debug("Processing rate limit for: {} from IP: {}", path, clientIp);
-        
-        // Different rate limits for authentication endpoints
-        boolean isAuthEndpoint = path.startsWith("/api/v1/auth/");
-        
-        String bucketKey = clientIp + ":" + (isAuthEndpoint ? "auth" : "general");
-        Bucket bucket = buckets.computeIfAbsent(bucketKey, k -> createBucket(isAuthEndpoint));
+        String path = getPathWithinApplication(request);
+        Policy policy = policies.match(path);
+        if (policy == null || isUserKeyed(request, policy)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        limit(request, response, filterChain, path, policy, getClientIp(request));
+    }
+    
+    private void limit(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                       String path, Policy policy, String clientKey) throws ServletException, IOException {
+        log.debug("Processing rate limit for: {} from: {} with policy: {}", path, clientKey, policy.limit().name());
         
-        if (bucket.tryConsume(1)) {
+        if (rateLimitStore.tryConsume(policy.limit(), clientKey)) {
             log.debug("Rate limit check passed");
+            policy.allowedCounter().increment();
             filterChain.doFilter(request, response);
         } else {
-            log.warn("Rate limit exceeded for IP: {} on path: {}", clientIp, path);
+            policy.rejectedCounter().increment();
+            log.warn("Rate limit exceeded for: {} on path: {}", clientKey, path);
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setHeader("X-Rate-Limit-Retry-After-Seconds", "60");
             response.getWriter().write("{\"error\": \"Rate limit exceeded. Please try again later.\"}");
         }
     }
     
-    private Bucket createBucket(boolean isAuthEndpoint) {
-        Bandwidth limit;
-        
-        if (isAuthEndpoint) {
-            // Stricter limits for authentication endpoints
-            limit = Bandwidth.classic(
-                authCapacity, 
-                Refill.intervally(authRefillTokens, Duration.ofMinutes(authRefillPeriodMinutes))
-            );
-        } else {
-            // General API rate limits
-            limit = Bandwidth.classic(
-                generalCapacity,
-                Refill.intervally(generalRefillTokens, Duration.ofMinutes(generalRefillPeriodMinutes))
-            );
+    private static PathPrefixTrie<Policy> compilePolicies(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        PathPrefixTrie<Policy> trie = new PathPrefixTrie<>();
+        Set<String> names = new HashSet<>();
+        Stream.concat(Stream.of(properties.getAuth(), properties.getGeneral()), properties.getPolicies().stream())
+                .forEach(config -> {
+                    // Stores keep the buckets of each policy apart by its name
+                    if (config.getName() == null || !names.add(config.getName())) {
+                        throw new IllegalArgumentException("Rate limit policy needs a unique name: " + config.getName());
+                    }
+                    RateLimit limit = new RateLimit(config.getName(), config.getCapacity(), config.getRefillTokens(),
+                            Duration.ofMinutes(config.getRefillPeriodMinutes()));
+                    Policy policy = new Policy(limit, config.getKey(),
+                            requestCounter(meterRegistry, config.getName(), "allowed"),
+                            requestCounter(meterRegistry, config.getName(), "rejected"));
+                    config.getPaths().forEach(pattern -> trie.add(pattern, policy));
+                });
+        return trie;
+    }
+    
+    private static Counter requestCounter(MeterRegistry meterRegistry, String endpoint, String outcome) {
+        return Counter.builder("security.rate.limit.requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
+    private static String getPathWithinApplication(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? request.getServletPath() + pathInfo : request.getServletPath();
+    }
+    
+    /**
+     * Whether the request is limited per user, after the JWT filter. Without a bearer token the request is
+     * anonymous and keyed by IP anyway.
+     */
+    private static boolean isUserKeyed(HttpServletRequest request, Policy policy) {
+        if (policy.keyType() != RateLimitProperties.KeyType.USER) {
+            return false;
         }
-        
-        return Bucket4j.builder()
-                .addLimit(limit)
-                .build();
+        String authHeader = request.getHeader("Authorization");
+        return authHeader != null && authHeader.startsWith("Bearer ");
+    }
+    
+    private String getUserKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.userId().toString();
+        }
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        // The token was not accepted
+        return getClientIp(request);
     }
     
     private String getClientIp(HttpServletRequest request) {
@@ -108,4 +171,23 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         
         return request.getRemoteAddr();
     }
-}
\ No newline at end of file
+    
+    private class UserKeyedStage extends OncePerRequestFilter {
+        
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String path = getPathWithinApplication(request);
+            Policy policy = policies.match(path);
+            if (policy == null || !isUserKeyed(request, policy)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            limit(request, response, filterChain, path, policy, getUserKey(request));
+        }
+    }
+    
+    private record Policy(RateLimit limit, RateLimitProperties.KeyType keyType,
+                          Counter allowedCounter, Counter rejectedCounter) {
+    }
+}
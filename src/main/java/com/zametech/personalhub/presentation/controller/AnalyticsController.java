@@ -1,19 +1,30 @@
 package com.zametech.personalhub.presentation.controller;
 
+import com.zametech.personalhub.application.service.AnalyticsExportService;
 import com.zametech.personalhub.application.service.AnalyticsService;
+import com.zametech.personalhub.application.service.CollectionVersionService;
+import com.zametech.personalhub.application.service.ExportFormat;
+import com.zametech.personalhub.application.service.UserContextService;
+import com.zametech.personalhub.domain.model.VersionedCollection;
+import com.zametech.personalhub.presentation.dto.response.ActivityHeatmapResponse;
 import com.zametech.personalhub.presentation.dto.response.DashboardResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoActivityResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -23,12 +34,19 @@ import java.time.LocalDate;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final AnalyticsExportService analyticsExportService;
+    private final UserContextService userContextService;
+    private final CollectionVersionService collectionVersionService;
 
     @GetMapping("/dashboard")
-    public ResponseEntity<DashboardResponse> getDashboard() {
+    public ResponseEntity<DashboardResponse> getDashboard(WebRequest webRequest) {
         log.info("Getting dashboard analytics");
+        String eTag = collectionVersionService.eTag(userContextService.getCurrentUserId(), VersionedCollection.DASHBOARD);
+        if (webRequest.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
         DashboardResponse response = analyticsService.getDashboard();
-        return ResponseEntity.ok(response);
+        return ConditionalGet.ok(eTag, response);
     }
 
     @GetMapping("/todos/activity")
@@ -46,4 +64,48 @@ public class AnalyticsController {
         TodoActivityResponse response = analyticsService.getTodoActivity(startDate, endDate);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/heatmap")
+    public ResponseEntity<ActivityHeatmapResponse> getActivityHeatmap(
+            @RequestParam(defaultValue = "365") int days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo) {
+        
+        log.info("Getting activity heatmap with days={}, dateTo={}", days, dateTo);
+        
+        if (days < 1 || days > 366) {
+            throw new IllegalArgumentException("days must be between 1 and 366");
+        }
+        LocalDate endDate = dateTo != null ? dateTo : LocalDate.now();
+        LocalDate startDate = endDate.minusDays(days - 1);
+        
+        ActivityHeatmapResponse response = analyticsService.getActivityHeatmap(startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDailyActivity(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo) {
+        
+        log.info("Exporting daily activity with format={}, dateFrom={}, dateTo={}", format, dateFrom, dateTo);
+        
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        LocalDate endDate = dateTo != null ? dateTo : LocalDate.now();
+        LocalDate startDate = dateFrom != null ? dateFrom : endDate.minusYears(1);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("dateFrom must not be after dateTo");
+        }
+        
+        // Resolved here because the body is written on an async thread
+        UUID userId = userContextService.getCurrentUserId();
+        StreamingResponseBody body = outputStream ->
+                analyticsExportService.exportDailyActivity(userId, startDate, endDate, exportFormat, outputStream);
+        
+        String filename = "activity-" + startDate + "-" + endDate + "." + exportFormat.getValue();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,25 @@
+package com.zametech.personalhub.presentation.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Responses for GET endpoints tagged by {@link com.zametech.personalhub.application.service.CollectionVersionService}.
+ * An explicit Cache-Control keeps Spring Security from writing no-store, which would stop clients from revalidating.
+ */
+final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> ok(String eTag, T body) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body);
+    }
+
+    static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+    }
+}
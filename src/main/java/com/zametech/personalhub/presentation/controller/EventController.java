@@ -1,6 +1,7 @@
 package com.zametech.personalhub.presentation.controller;
 
 import com.zametech.personalhub.application.service.EventService;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.Event;
 import com.zametech.personalhub.presentation.dto.request.CreateEventRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateEventRequest;
@@ -50,6 +51,16 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<EventResponse>> getEventsAfterCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit) {
+        log.info("Getting events with cursor: {}, limit: {}", cursor, limit);
+        CursorPage<Event> events = eventService.getEventsByUserAfterCursor(cursor, limit);
+        CursorPage<EventResponse> response = events.map(this::mapToEventResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/range")
     public ResponseEntity<List<EventResponse>> getEventsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
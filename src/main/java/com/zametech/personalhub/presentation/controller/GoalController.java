@@ -2,13 +2,17 @@ package com.zametech.personalhub.presentation.controller;
 
 import com.zametech.personalhub.application.goal.dto.*;
 import com.zametech.personalhub.application.goal.service.GoalServiceV2;
+import com.zametech.personalhub.application.service.CollectionVersionService;
+import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.domain.model.Goal;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -17,13 +21,20 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class GoalController {
     private final GoalServiceV2 goalService;
+    private final UserContextService userContextService;
+    private final CollectionVersionService collectionVersionService;
 
     @GetMapping
     public ResponseEntity<GroupedGoalsResponse> getGoals(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam(required = false, defaultValue = "active") String filter) {
+            @RequestParam(required = false, defaultValue = "active") String filter,
+            WebRequest webRequest) {
+        String eTag = collectionVersionService.eTag(userContextService.getCurrentUserId(), VersionedCollection.GOALS);
+        if (webRequest.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
         GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(date, filter);
-        return ResponseEntity.ok(response);
+        return ConditionalGet.ok(eTag, response);
     }
 
     @PostMapping
@@ -67,8 +78,10 @@ public class GoalController {
     public ResponseEntity<AchievementHistoryResponse> getAchievementHistory(
             @PathVariable Long id,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
-        AchievementHistoryResponse response = goalService.getAchievementHistory(id, from, to);
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "verbose") String format) {
+        AchievementHistoryResponse response = goalService.getAchievementHistory(
+                id, from, to, AchievementHistoryFormat.fromValue(format));
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.zametech.personalhub.presentation.controller;
 
 import com.zametech.personalhub.application.service.MomentService;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.MomentListItem;
 import com.zametech.personalhub.presentation.dto.request.CreateMomentRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateMomentRequest;
 import com.zametech.personalhub.presentation.dto.response.MomentResponse;
@@ -45,11 +47,21 @@ public class MomentController {
     @GetMapping
     public ResponseEntity<Page<MomentResponse>> getMoments(Pageable pageable) {
         log.info("Getting moments with pageable: {}", pageable);
-        Page<Moment> moments = momentService.getMomentsByUser(pageable);
+        Page<MomentListItem> moments = momentService.getMomentsByUser(pageable);
         Page<MomentResponse> response = moments.map(this::mapToMomentResponse);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<MomentResponse>> getMomentsAfterCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit) {
+        log.info("Getting moments with cursor: {}, limit: {}", cursor, limit);
+        CursorPage<MomentListItem> moments = momentService.getMomentsByUserAfterCursor(cursor, limit);
+        CursorPage<MomentResponse> response = moments.map(this::mapToMomentResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/range")
     public ResponseEntity<Page<MomentResponse>> getMomentsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -127,4 +139,14 @@ public class MomentController {
                 moment.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    private MomentResponse mapToMomentResponse(MomentListItem moment) {
+        return new MomentResponse(
+                moment.id(),
+                moment.content(),
+                moment.tagList(),
+                moment.createdAt(),
+                moment.updatedAt()
+        );
+    }
+}
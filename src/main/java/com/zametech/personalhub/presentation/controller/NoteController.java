@@ -1,7 +1,9 @@
 package com.zametech.personalhub.presentation.controller;
 
 import com.zametech.personalhub.application.service.NoteService;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.NoteListItem;
 import com.zametech.personalhub.presentation.dto.request.CreateNoteRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateNoteRequest;
 import com.zametech.personalhub.presentation.dto.response.NoteResponse;
@@ -41,13 +43,26 @@ public class NoteController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<NoteResponse>> getNotes(Pageable pageable) {
+    public ResponseEntity<Page<NoteResponse>> getNotes(
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean includeContent) {
         log.info("Getting notes with pageable: {}", pageable);
-        Page<Note> notes = noteService.getNotesByUser(pageable);
+        Page<NoteListItem> notes = noteService.getNotesByUser(pageable, includeContent);
         Page<NoteResponse> response = notes.map(this::mapToNoteResponse);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<NoteResponse>> getNotesAfterCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "false") boolean includeContent) {
+        log.info("Getting notes with cursor: {}, limit: {}", cursor, limit);
+        CursorPage<NoteListItem> notes = noteService.getNotesByUserAfterCursor(cursor, limit, includeContent);
+        CursorPage<NoteResponse> response = notes.map(this::mapToNoteResponse);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<NoteResponse>> searchNotes(@RequestParam String query) {
         log.info("Searching notes with query: {}", query);
@@ -95,4 +110,15 @@ public class NoteController {
                 note.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    private NoteResponse mapToNoteResponse(NoteListItem note) {
+        return new NoteResponse(
+                note.id(),
+                note.title(),
+                note.content(),
+                note.tagList(),
+                note.createdAt(),
+                note.updatedAt()
+        );
+    }
+}
@@ -1,6 +1,9 @@
 package com.zametech.personalhub.presentation.controller;
 
+import com.zametech.personalhub.application.service.CollectionVersionService;
 import com.zametech.personalhub.application.service.PomodoroService;
+import com.zametech.personalhub.application.service.UserContextService;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.presentation.dto.request.*;
 import com.zametech.personalhub.presentation.dto.response.*;
 import jakarta.validation.Valid;
@@ -10,6 +13,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,9 +25,15 @@ import java.util.UUID;
 @RequestMapping("/api/v1/pomodoro")
 public class PomodoroController {
     private final PomodoroService pomodoroService;
+    private final UserContextService userContextService;
+    private final CollectionVersionService collectionVersionService;
 
-    public PomodoroController(PomodoroService pomodoroService) {
+    public PomodoroController(PomodoroService pomodoroService,
+                              UserContextService userContextService,
+                              CollectionVersionService collectionVersionService) {
         this.pomodoroService = pomodoroService;
+        this.userContextService = userContextService;
+        this.collectionVersionService = collectionVersionService;
     }
 
     @PostMapping("/sessions")
@@ -41,9 +51,13 @@ public class PomodoroController {
     }
 
     @GetMapping("/sessions/active")
-    public ResponseEntity<PomodoroSessionResponse> getActiveSession() {
+    public ResponseEntity<PomodoroSessionResponse> getActiveSession(WebRequest webRequest) {
+        String eTag = collectionVersionService.eTag(userContextService.getCurrentUserId(), VersionedCollection.POMODORO);
+        if (webRequest.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
         PomodoroSessionResponse response = pomodoroService.getActiveSession();
-        return ResponseEntity.ok(response);
+        return ConditionalGet.ok(eTag, response);
     }
 
     @GetMapping("/sessions")
@@ -0,0 +1,31 @@
+package com.zametech.personalhub.presentation.controller;
+
+import com.zametech.personalhub.application.service.SyncService;
+import com.zametech.personalhub.presentation.dto.response.SyncChangesResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/sync")
+@PreAuthorize("hasRole('USER')")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        log.info("Getting sync changes since: {}, limit: {}", since, limit);
+        SyncChangesResponse response = syncService.getChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,10 +1,18 @@
 package com.zametech.personalhub.presentation.controller;
 
+import com.zametech.personalhub.application.service.CollectionVersionService;
 import com.zametech.personalhub.application.service.TodoService;
+import com.zametech.personalhub.application.service.UserContextService;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateTodoRequest;
+import com.zametech.personalhub.presentation.dto.response.RepeatOccurrenceResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoBatchResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoTreeResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +20,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -28,6 +39,8 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
+    private final UserContextService userContextService;
+    private final CollectionVersionService collectionVersionService;
 
     /**
      * TODO作成
@@ -39,6 +52,16 @@ public class TodoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * TODO一括操作（作成・更新・削除・ステータス切り替え）
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TodoBatchResponse> applyBatch(@Valid @RequestBody TodoBatchRequest request) {
+        log.info("POST /api/v1/todos/batch - Applying {} TODO operations", request.operations().size());
+        TodoBatchResponse response = todoService.applyBatch(request);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * TODO取得（ID指定）
      */
@@ -51,13 +74,38 @@ public class TodoController {
 
     /**
      * TODO一覧取得（ページング）
+     * If-None-Matchが現在のバージョンと一致する場合は一覧を取得せず304を返す
      */
     @GetMapping
     public ResponseEntity<Page<TodoResponse>> getTodos(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean includeDescription,
+            WebRequest webRequest) {
         log.info("GET /api/v1/todos - Getting TODO list");
-        Page<TodoResponse> response = todoService.getTodos(pageable);
-        return ResponseEntity.ok(response);
+        String eTag = collectionVersionService.eTag(userContextService.getCurrentUserId(), VersionedCollection.TODOS);
+        if (webRequest.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        Page<TodoResponse> response = todoService.getTodos(pageable, includeDescription);
+        return ConditionalGet.ok(eTag, response);
+    }
+
+    /**
+     * TODO一覧取得（キーセットページング）
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<TodoResponse>> getTodosAfterCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            WebRequest webRequest) {
+        log.info("GET /api/v1/todos - Getting TODO list with cursor");
+        String eTag = collectionVersionService.eTag(userContextService.getCurrentUserId(), VersionedCollection.TODOS);
+        if (webRequest.checkNotModified(eTag)) {
+            return ConditionalGet.notModified(eTag);
+        }
+        CursorPage<TodoResponse> response = todoService.getTodosAfterCursor(cursor, limit, includeDescription);
+        return ConditionalGet.ok(eTag, response);
     }
 
     /**
@@ -102,6 +150,18 @@ public class TodoController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * サブツリー取得（子孫タスクを入れ子で返す）
+     */
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<TodoTreeResponse> getTodoTree(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int maxDepth) {
+        log.info("GET /api/v1/todos/{}/tree - Getting TODO tree with maxDepth={}", id, maxDepth);
+        TodoTreeResponse response = todoService.getTodoTree(id, maxDepth);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * 繰り返し可能なTODO一覧取得
      */
@@ -122,6 +182,18 @@ public class TodoController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 繰り返しTODOの指定期間内の発生日を展開（インスタンスは生成しない）
+     */
+    @GetMapping("/repeat/occurrences")
+    public ResponseEntity<List<RepeatOccurrenceResponse>> getRepeatOccurrences(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("GET /api/v1/todos/repeat/occurrences - Expanding repeat occurrences from {} to {}", from, to);
+        List<RepeatOccurrenceResponse> response = todoService.getRepeatOccurrences(from, to);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * 期限到来した繰り返しTODOの新しいインスタンスを生成
      */
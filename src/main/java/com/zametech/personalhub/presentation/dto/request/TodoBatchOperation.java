@@ -0,0 +1,40 @@
+package com.zametech.personalhub.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * TODO一括操作の1件分
+ * CREATEはcreate、UPDATEはidとupdate、DELETEとTOGGLEはidを指定する
+ */
+public record TodoBatchOperation(
+    @NotNull(message = "操作種別は必須です")
+    Type type,
+    
+    Long id,
+    
+    @Valid
+    CreateTodoRequest create,
+    
+    @Valid
+    UpdateTodoRequest update
+) {
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE,
+        TOGGLE
+    }
+    
+    public TodoBatchOperation {
+        if (type == Type.CREATE && create == null) {
+            throw new IllegalArgumentException("CREATE操作にはcreateが必須です");
+        }
+        if (type == Type.UPDATE && update == null) {
+            throw new IllegalArgumentException("UPDATE操作にはupdateが必須です");
+        }
+        if (type != null && type != Type.CREATE && id == null) {
+            throw new IllegalArgumentException(type + "操作にはidが必須です");
+        }
+    }
+}
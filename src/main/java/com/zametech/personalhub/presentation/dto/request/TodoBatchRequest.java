@@ -0,0 +1,17 @@
+package com.zametech.personalhub.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * TODO一括操作リクエスト（操作は指定順に適用される）
+ */
+public record TodoBatchRequest(
+    @NotEmpty(message = "操作は1件以上指定してください")
+    @Size(max = 100, message = "操作は100件以内で指定してください")
+    List<@Valid TodoBatchOperation> operations
+) {
+}
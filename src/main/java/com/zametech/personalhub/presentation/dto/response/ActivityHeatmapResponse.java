@@ -0,0 +1,18 @@
+package com.zametech.personalhub.presentation.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * Per-day counters packed into arrays where index {@code i} is {@code startDate + i} days.
+ * Weekly scores cover consecutive 7-day blocks from {@code startDate}; the last block may be shorter.
+ */
+public record ActivityHeatmapResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        int[] todosCompleted,
+        int[] eventsCount,
+        int[] notesCreated,
+        int[] goalsAchieved,
+        double[] weeklyProductivityScores
+) {
+}
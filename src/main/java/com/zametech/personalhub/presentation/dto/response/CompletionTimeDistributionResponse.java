@@ -0,0 +1,20 @@
+package com.zametech.personalhub.presentation.dto.response;
+
+import java.util.List;
+
+public record CompletionTimeDistributionResponse(
+        long count,
+        double p50Hours,
+        double p90Hours,
+        double p99Hours,
+        List<HistogramBucket> buckets
+) {
+    /**
+     * Count of completion times below {@code upperBoundHours}; null for the open-ended last bucket.
+     */
+    public record HistogramBucket(
+            Double upperBoundHours,
+            long count
+    ) {
+    }
+}
@@ -1,9 +1,18 @@
 package com.zametech.personalhub.presentation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Sections that could not be computed in time are null.
+ */
 public record DashboardResponse(
         TodoStatsResponse todoStats,
         EventStatsResponse eventStats,
         NoteStatsResponse noteStats,
         ProductivityStatsResponse productivityStats
 ) {
-}
\ No newline at end of file
+    @JsonProperty("partial")
+    public boolean partial() {
+        return todoStats == null || eventStats == null || noteStats == null || productivityStats == null;
+    }
+}
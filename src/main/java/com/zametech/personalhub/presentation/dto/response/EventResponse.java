@@ -1,5 +1,7 @@
 package com.zametech.personalhub.presentation.dto.response;
 
+import com.zametech.personalhub.domain.model.Event;
+
 import java.time.LocalDateTime;
 
 public record EventResponse(
@@ -15,4 +17,19 @@ public record EventResponse(
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
-}
\ No newline at end of file
+    public static EventResponse from(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getStartDateTime(),
+                event.getEndDateTime(),
+                event.getLocation(),
+                event.isAllDay(),
+                event.getReminderMinutes(),
+                event.getColor(),
+                event.getCreatedAt(),
+                event.getUpdatedAt()
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package com.zametech.personalhub.presentation.dto.response;
 
+import com.zametech.personalhub.domain.model.Moment;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -10,4 +12,13 @@ public record MomentResponse(
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
-}
\ No newline at end of file
+    public static MomentResponse from(Moment moment) {
+        return new MomentResponse(
+                moment.getId(),
+                moment.getContent(),
+                moment.getTagList(),
+                moment.getCreatedAt(),
+                moment.getUpdatedAt()
+        );
+    }
+}
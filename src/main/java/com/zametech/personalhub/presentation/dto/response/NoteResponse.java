@@ -1,5 +1,7 @@
 package com.zametech.personalhub.presentation.dto.response;
 
+import com.zametech.personalhub.domain.model.Note;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -11,4 +13,14 @@ public record NoteResponse(
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
-}
\ No newline at end of file
+    public static NoteResponse from(Note note) {
+        return new NoteResponse(
+                note.getId(),
+                note.getTitle(),
+                note.getContent(),
+                note.getTagList(),
+                note.getCreatedAt(),
+                note.getUpdatedAt()
+        );
+    }
+}
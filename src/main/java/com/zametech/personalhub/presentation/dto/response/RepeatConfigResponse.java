@@ -1,6 +1,7 @@
 package com.zametech.personalhub.presentation.dto.response;
 
 import com.zametech.personalhub.domain.model.RepeatType;
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 
 import java.time.LocalDate;
@@ -21,24 +22,38 @@ public record RepeatConfigResponse(
      * TodoEntityから生成
      */
     public static RepeatConfigResponse from(TodoEntity entity) {
-        if (!Boolean.TRUE.equals(entity.getIsRepeatable()) || entity.getRepeatType() == null) {
+        return of(entity.getIsRepeatable(), entity.getRepeatType(), entity.getRepeatInterval(),
+                entity.getRepeatDaysOfWeek(), entity.getRepeatDayOfMonth(), entity.getRepeatEndDate());
+    }
+    
+    /**
+     * 一覧用の射影から生成
+     */
+    public static RepeatConfigResponse from(TodoListItem item) {
+        return of(item.isRepeatable(), item.repeatType(), item.repeatInterval(),
+                item.repeatDaysOfWeek(), item.repeatDayOfMonth(), item.repeatEndDate());
+    }
+    
+    private static RepeatConfigResponse of(Boolean isRepeatable, RepeatType repeatType, Integer interval,
+                                           String repeatDaysOfWeek, Integer dayOfMonth, LocalDate endDate) {
+        if (!Boolean.TRUE.equals(isRepeatable) || repeatType == null) {
             return null;
         }
         
         List<Integer> daysOfWeek = null;
-        if (entity.getRepeatDaysOfWeek() != null && !entity.getRepeatDaysOfWeek().isEmpty()) {
-            daysOfWeek = Arrays.stream(entity.getRepeatDaysOfWeek().split(","))
+        if (repeatDaysOfWeek != null && !repeatDaysOfWeek.isEmpty()) {
+            daysOfWeek = Arrays.stream(repeatDaysOfWeek.split(","))
                     .map(String::trim)
                     .map(Integer::parseInt)
                     .toList();
         }
         
         return new RepeatConfigResponse(
-                entity.getRepeatType(),
-                entity.getRepeatInterval(),
+                repeatType,
+                interval,
                 daysOfWeek,
-                entity.getRepeatDayOfMonth(),
-                entity.getRepeatEndDate()
+                dayOfMonth,
+                endDate
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.zametech.personalhub.presentation.dto.response;
+
+import com.zametech.personalhub.domain.model.RepeatOccurrence;
+import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 繰り返しTODOの発生日レスポンス（未生成の発生日はtodoIdとstatusがnull）
+ */
+public record RepeatOccurrenceResponse(
+    Long originalTodoId,
+    String title,
+    TodoPriority priority,
+    LocalDate date,
+    Long todoId,
+    TodoStatus status,
+    boolean materialized
+) {
+    /**
+     * ドメインモデルから生成
+     */
+    public static RepeatOccurrenceResponse from(RepeatOccurrence occurrence) {
+        return new RepeatOccurrenceResponse(
+            occurrence.originalTodoId(),
+            occurrence.title(),
+            occurrence.priority(),
+            occurrence.date(),
+            occurrence.todoId(),
+            occurrence.status(),
+            occurrence.materialized()
+        );
+    }
+}
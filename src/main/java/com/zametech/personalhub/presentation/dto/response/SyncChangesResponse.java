@@ -0,0 +1,27 @@
+package com.zametech.personalhub.presentation.dto.response;
+
+import com.zametech.personalhub.domain.model.SyncEntityType;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Rows written or deleted after the request's {@code since} token. Pass {@code nextToken} back as
+ * {@code since} on the next call; when {@code hasMore} is true, call again immediately to drain the rest.
+ */
+public record SyncChangesResponse(
+        List<TodoResponse> todos,
+        List<NoteResponse> notes,
+        List<EventResponse> events,
+        List<MomentResponse> moments,
+        List<DeletedItem> deleted,
+        String nextToken,
+        boolean hasMore
+) {
+    public record DeletedItem(
+            SyncEntityType type,
+            Long id,
+            ZonedDateTime deletedAt
+    ) {
+    }
+}
@@ -8,6 +8,7 @@ public record TodoActivityResponse(
         List<DailyCount> dailyCreations,
         Map<String, Integer> priorityDistribution,
         Map<String, Integer> statusDistribution,
-        double averageCompletionTimeInDays
+        double averageCompletionTimeInDays,
+        Map<String, CompletionTimeDistributionResponse> completionTimeByPriority
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.zametech.personalhub.presentation.dto.response;
+
+import com.zametech.personalhub.presentation.dto.request.TodoBatchOperation;
+
+import java.util.List;
+
+/**
+ * TODO一括操作レスポンス（結果はリクエストの操作順）
+ */
+public record TodoBatchResponse(
+    int succeeded,
+    int failed,
+    List<ItemResult> results
+) {
+    public static TodoBatchResponse of(List<ItemResult> results) {
+        int succeeded = (int) results.stream().filter(ItemResult::success).count();
+        return new TodoBatchResponse(succeeded, results.size() - succeeded, results);
+    }
+    
+    /**
+     * 1操作分の結果（削除成功時と失敗時はtodoがnull）
+     */
+    public record ItemResult(
+        int index,
+        TodoBatchOperation.Type type,
+        Long id,
+        boolean success,
+        TodoResponse todo,
+        String error
+    ) {
+        public static ItemResult succeeded(int index, TodoBatchOperation.Type type, Long id, TodoResponse todo) {
+            return new ItemResult(index, type, id, true, todo, null);
+        }
+        
+        public static ItemResult failed(int index, TodoBatchOperation.Type type, Long id, String error) {
+            return new ItemResult(index, type, id, false, null, error);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.zametech.personalhub.presentation.dto.response;
 
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
@@ -43,4 +44,24 @@ public record TodoResponse(
             entity.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+    
+    /**
+     * 一覧用の射影から生成
+     */
+    public static TodoResponse from(TodoListItem item) {
+        return new TodoResponse(
+            item.id(),
+            item.title(),
+            item.description(),
+            item.status(),
+            item.priority(),
+            item.dueDate(),
+            item.parentId(),
+            item.isRepeatable(),
+            RepeatConfigResponse.from(item),
+            item.originalTodoId(),
+            item.createdAt(),
+            item.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.zametech.personalhub.presentation.dto.response;
+
+import java.util.List;
+
+/**
+ * TODOツリーレスポンス（サブツリーの完了状況を含む）
+ *
+ * @param childCount         直下の子タスク数（深さ制限で省略された子も含む）
+ * @param subtreeSize        自身を含むサブツリー内のタスク数（深さ制限内）
+ * @param completedCount     サブツリー内の完了済みタスク数
+ * @param completionRate     サブツリーの完了率（%）
+ * @param truncated          深さ制限により子タスクが省略されている場合true
+ */
+public record TodoTreeResponse(
+    TodoResponse todo,
+    int depth,
+    int childCount,
+    int subtreeSize,
+    int completedCount,
+    double completionRate,
+    boolean truncated,
+    List<TodoTreeResponse> children
+) {
+}
@@ -0,0 +1,38 @@
+-- Per-user daily activity rollup maintained on every write in the todo/event/note/moment services
+CREATE TABLE user_daily_activity (
+    user_id UUID NOT NULL,
+    activity_date DATE NOT NULL,
+    todos_created INTEGER NOT NULL DEFAULT 0,
+    todos_completed INTEGER NOT NULL DEFAULT 0,
+    events_count INTEGER NOT NULL DEFAULT 0,
+    notes_created INTEGER NOT NULL DEFAULT 0,
+    moments_created INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_user_daily_activity PRIMARY KEY (user_id, activity_date),
+    CONSTRAINT fk_user_daily_activity_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Backfill from existing rows
+INSERT INTO user_daily_activity (user_id, activity_date, todos_created, todos_completed, events_count, notes_created, moments_created)
+SELECT user_id, activity_date, SUM(todos_created), SUM(todos_completed), SUM(events_count), SUM(notes_created), SUM(moments_created)
+FROM (
+    SELECT user_id, created_at::date AS activity_date, 1 AS todos_created, 0 AS todos_completed, 0 AS events_count, 0 AS notes_created, 0 AS moments_created
+    FROM todos
+    UNION ALL
+    SELECT user_id, updated_at::date, 0, 1, 0, 0, 0
+    FROM todos WHERE status = 'DONE'
+    UNION ALL
+    SELECT user_id, start_date_time::date, 0, 0, 1, 0, 0
+    FROM events
+    UNION ALL
+    SELECT user_id, created_at::date, 0, 0, 0, 1, 0
+    FROM notes WHERE created_at IS NOT NULL
+    UNION ALL
+    SELECT user_id, created_at::date, 0, 0, 0, 0, 1
+    FROM moments WHERE created_at IS NOT NULL
+) activity
+GROUP BY user_id, activity_date;
+
+COMMENT ON TABLE user_daily_activity IS 'Daily activity counters per user used by the analytics dashboard';
+COMMENT ON COLUMN user_daily_activity.todos_completed IS 'Todos in DONE status whose last update falls on this date';
+COMMENT ON COLUMN user_daily_activity.events_count IS 'Events starting on this date';
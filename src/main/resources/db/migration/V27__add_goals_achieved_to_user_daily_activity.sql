@@ -0,0 +1,13 @@
+-- Track goal achievements in the daily activity rollup for the activity heatmap
+ALTER TABLE user_daily_activity
+    ADD COLUMN goals_achieved INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from existing achievements
+INSERT INTO user_daily_activity (user_id, activity_date, goals_achieved)
+SELECT g.user_id, h.achieved_date, COUNT(*)
+FROM goal_achievement_history h
+JOIN goals g ON g.id = h.goal_id
+GROUP BY g.user_id, h.achieved_date
+ON CONFLICT (user_id, activity_date) DO UPDATE SET goals_achieved = EXCLUDED.goals_achieved;
+
+COMMENT ON COLUMN user_daily_activity.goals_achieved IS 'Goal achievements recorded for this date';
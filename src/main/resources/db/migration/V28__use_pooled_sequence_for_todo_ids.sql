@@ -0,0 +1,4 @@
+-- Todo ids are now allocated by Hibernate's pooled sequence optimizer instead of IDENTITY,
+-- which lets inserts be JDBC-batched. Each nextval reserves a block of 50 ids, so the increment
+-- must match the allocationSize on TodoEntity. The column default keeps working for plain SQL inserts.
+ALTER SEQUENCE todos_id_seq INCREMENT BY 50;
@@ -0,0 +1,6 @@
+-- Composite indexes for keyset pagination: lists are read as
+-- WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC.
+-- moments already has idx_moments_user_created (user_id, created_at DESC).
+CREATE INDEX IF NOT EXISTS idx_todos_user_created ON todos(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notes_user_created ON notes(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_events_user_created ON events(user_id, created_at DESC, id DESC);
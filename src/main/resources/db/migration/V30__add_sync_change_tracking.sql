@@ -0,0 +1,49 @@
+-- Change tracking for delta sync (/api/v1/sync/changes).
+-- Every insert and update of a todo, note, event or moment takes the next value of one shared
+-- sequence, so a client can ask for everything after the highest change_seq it has seen.
+CREATE SEQUENCE sync_change_seq;
+
+-- A volatile default fills existing rows without firing the updated_at triggers
+ALTER TABLE todos ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+ALTER TABLE notes ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+ALTER TABLE events ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+ALTER TABLE moments ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+
+CREATE INDEX idx_todos_user_change_seq ON todos(user_id, change_seq);
+CREATE INDEX idx_notes_user_change_seq ON notes(user_id, change_seq);
+CREATE INDEX idx_events_user_change_seq ON events(user_id, change_seq);
+CREATE INDEX idx_moments_user_change_seq ON moments(user_id, change_seq);
+
+CREATE OR REPLACE FUNCTION update_change_seq_column()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq = nextval('sync_change_seq');
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER update_todos_change_seq BEFORE UPDATE
+    ON todos FOR EACH ROW EXECUTE FUNCTION update_change_seq_column();
+CREATE TRIGGER update_notes_change_seq BEFORE UPDATE
+    ON notes FOR EACH ROW EXECUTE FUNCTION update_change_seq_column();
+CREATE TRIGGER update_events_change_seq BEFORE UPDATE
+    ON events FOR EACH ROW EXECUTE FUNCTION update_change_seq_column();
+CREATE TRIGGER update_moments_change_seq BEFORE UPDATE
+    ON moments FOR EACH ROW EXECUTE FUNCTION update_change_seq_column();
+
+-- Deleted rows, written by the repository implementations before the delete is issued
+CREATE TABLE sync_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    user_id UUID NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq'),
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_sync_tombstones_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_sync_tombstones_entity_type CHECK (entity_type IN ('TODO', 'NOTE', 'EVENT', 'MOMENT'))
+);
+
+CREATE INDEX idx_sync_tombstones_user_change_seq ON sync_tombstones(user_id, change_seq);
+
+COMMENT ON COLUMN todos.change_seq IS 'Value of sync_change_seq at the last insert or update';
+COMMENT ON TABLE sync_tombstones IS 'Deleted todos, notes, events and moments returned by delta sync';
@@ -0,0 +1,3 @@
+-- Repeat generation job: walks repeatable todos in id order, chunk by chunk,
+-- with SELECT ... FOR UPDATE SKIP LOCKED. Only originals are repeatable, so the index stays small.
+CREATE INDEX idx_todos_repeatable_due ON todos(id, due_date) WHERE is_repeatable = true;
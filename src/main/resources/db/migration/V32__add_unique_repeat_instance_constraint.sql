@@ -0,0 +1,19 @@
+-- At most one generated instance per original todo and due date, so repeat generation can insert
+-- with ON CONFLICT DO NOTHING instead of check-then-insert, which let concurrent requests duplicate instances.
+
+-- Existing duplicates are kept as plain todos rather than deleted:
+-- every instance but the oldest of each (original_todo_id, due_date) loses its link to the original.
+UPDATE todos SET original_todo_id = NULL
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id, ROW_NUMBER() OVER (PARTITION BY original_todo_id, due_date ORDER BY id) AS rn
+        FROM todos
+        WHERE original_todo_id IS NOT NULL AND due_date IS NOT NULL
+    ) duplicates
+    WHERE rn > 1
+);
+
+ALTER TABLE todos ADD CONSTRAINT uq_todos_original_todo_due_date UNIQUE (original_todo_id, due_date);
+
+-- The unique index leads with original_todo_id, so it also serves the foreign key and instance lookups
+DROP INDEX IF EXISTS idx_todos_original_todo_id;
@@ -0,0 +1,23 @@
+-- Stored goal streaks, maintained by each achievement toggle so listing goals no longer scans the whole
+-- goal_achievement_history. Replaces the goal_streaks table dropped in V22.
+CREATE TABLE goal_streaks (
+    goal_id BIGINT PRIMARY KEY,
+    current_streak INT NOT NULL DEFAULT 0,
+    longest_streak INT NOT NULL DEFAULT 0,
+    last_achieved_period DATE,
+    needs_repair BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_goal_streaks_goal FOREIGN KEY (goal_id) REFERENCES goals(id) ON DELETE CASCADE
+);
+
+-- Only the few rows left behind by back-dated toggles are indexed
+CREATE INDEX idx_goal_streaks_needs_repair ON goal_streaks(goal_id) WHERE needs_repair;
+
+-- Goals with history are computed by the repair job, or on first read, whichever comes first
+INSERT INTO goal_streaks (goal_id, needs_repair)
+SELECT g.id, EXISTS (SELECT 1 FROM goal_achievement_history h WHERE h.goal_id = g.id)
+FROM goals g;
+
+COMMENT ON COLUMN goal_streaks.current_streak IS 'Consecutive achieved periods ending at last_achieved_period';
+COMMENT ON COLUMN goal_streaks.last_achieved_period IS 'First day of the latest achieved day, week, month or year';
+COMMENT ON COLUMN goal_streaks.needs_repair IS 'Set when a toggle cannot be applied incrementally; recomputed from the history';
@@ -0,0 +1,29 @@
+-- Achieved days of each goal per calendar year as a 366-bit bitmap, kept next to goal_achievement_history
+-- by the repository on every insert and delete. Bit n is day of year n + 1, numbered from the least
+-- significant bit of the first byte as get_bit/set_bit do, so a multi-year history is a few rows.
+CREATE TABLE goal_achievement_years (
+    goal_id BIGINT NOT NULL,
+    year INT NOT NULL,
+    days BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (goal_id, year),
+    CONSTRAINT fk_goal_achievement_years_goal FOREIGN KEY (goal_id) REFERENCES goals(id) ON DELETE CASCADE,
+    CONSTRAINT chk_goal_achievement_years_days CHECK (octet_length(days) = 46)
+);
+
+-- One byte per 8 days: OR the bits of each byte's achieved days, then hex-encode the 46 bytes in order
+INSERT INTO goal_achievement_years (goal_id, year, days)
+SELECT y.goal_id, y.year,
+       decode(string_agg(lpad(to_hex(COALESCE(b.value, 0)), 2, '0'), '' ORDER BY i.idx), 'hex')
+FROM (SELECT DISTINCT goal_id, EXTRACT(YEAR FROM achieved_date)::int AS year
+      FROM goal_achievement_history) y
+CROSS JOIN generate_series(0, 45) AS i(idx)
+LEFT JOIN (SELECT goal_id, EXTRACT(YEAR FROM achieved_date)::int AS year,
+                  (EXTRACT(DOY FROM achieved_date)::int - 1) / 8 AS idx,
+                  SUM(1 << ((EXTRACT(DOY FROM achieved_date)::int - 1) % 8)) AS value
+           FROM goal_achievement_history
+           GROUP BY 1, 2, 3) b ON b.goal_id = y.goal_id AND b.year = y.year AND b.idx = i.idx
+GROUP BY y.goal_id, y.year;
+
+COMMENT ON TABLE goal_achievement_years IS 'Per-year bitmaps of goal_achievement_history';
+COMMENT ON COLUMN goal_achievement_years.days IS 'Bit n (get_bit order) is set when day of year n + 1 is achieved';
@@ -0,0 +1,16 @@
+-- Token buckets shared by all instances when app.security.rate-limit.store is postgres.
+-- Rows are written only by a single upsert per reservation; instances serve most requests from reserved tokens.
+CREATE TABLE rate_limit_buckets (
+    bucket_key VARCHAR(255) PRIMARY KEY,
+    tokens BIGINT NOT NULL,
+    refilled_at TIMESTAMP NOT NULL,
+    last_reserved BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_buckets_expires_at ON rate_limit_buckets(expires_at);
+
+COMMENT ON COLUMN rate_limit_buckets.bucket_key IS 'Limit name and client IP, e.g. auth:203.0.113.7';
+COMMENT ON COLUMN rate_limit_buckets.refilled_at IS 'End of the last refill period added to tokens';
+COMMENT ON COLUMN rate_limit_buckets.last_reserved IS 'Tokens taken by the latest reservation, returned to the caller';
+COMMENT ON COLUMN rate_limit_buckets.expires_at IS 'When the bucket has refilled completely if unused and can be deleted';
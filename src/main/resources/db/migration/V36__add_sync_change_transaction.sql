@@ -0,0 +1,34 @@
+-- change_seq is taken when a row is written, not when its transaction commits, so a long transaction
+-- (a todo batch, a repeat generation chunk, an activity rollup rebuild) could commit a change_seq below a
+-- sync token a client already holds, and that change was never delivered.
+-- Every change now also records the id of the transaction that wrote it. Delta sync orders changes by
+-- (change_xid, change_seq) and only returns changes of transactions older than the oldest one still
+-- running, so nothing can commit behind a token once it has been handed out.
+ALTER TABLE todos ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+ALTER TABLE notes ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+ALTER TABLE events ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+ALTER TABLE moments ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+ALTER TABLE sync_tombstones ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+
+DROP INDEX idx_todos_user_change_seq;
+DROP INDEX idx_notes_user_change_seq;
+DROP INDEX idx_events_user_change_seq;
+DROP INDEX idx_moments_user_change_seq;
+DROP INDEX idx_sync_tombstones_user_change_seq;
+
+CREATE INDEX idx_todos_user_change ON todos(user_id, change_xid, change_seq);
+CREATE INDEX idx_notes_user_change ON notes(user_id, change_xid, change_seq);
+CREATE INDEX idx_events_user_change ON events(user_id, change_xid, change_seq);
+CREATE INDEX idx_moments_user_change ON moments(user_id, change_xid, change_seq);
+CREATE INDEX idx_sync_tombstones_user_change ON sync_tombstones(user_id, change_xid, change_seq);
+
+CREATE OR REPLACE FUNCTION update_change_seq_column()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq = nextval('sync_change_seq');
+    NEW.change_xid = pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+COMMENT ON COLUMN todos.change_xid IS 'Transaction that made the last insert or update';
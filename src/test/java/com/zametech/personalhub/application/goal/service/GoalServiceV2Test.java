@@ -1,12 +1,15 @@
 package com.zametech.personalhub.application.goal.service;
 
 import com.zametech.personalhub.application.goal.dto.*;
+import com.zametech.personalhub.application.service.ActivityRollupService;
 import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.domain.model.Goal;
 import com.zametech.personalhub.domain.model.GoalAchievementHistory;
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
 import com.zametech.personalhub.domain.model.GoalType;
 import com.zametech.personalhub.domain.model.User;
 import com.zametech.personalhub.domain.repository.GoalAchievementHistoryRepository;
+import com.zametech.personalhub.domain.repository.GoalAchievementYearRepository;
 import com.zametech.personalhub.domain.repository.GoalRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -33,9 +37,21 @@ class GoalServiceV2Test {
     @Mock
     private GoalAchievementHistoryRepository achievementRepository;
 
+    @Mock
+    private GoalAchievementYearRepository achievementYearRepository;
+
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GoalStreakService goalStreakService;
+
     @InjectMocks
     private GoalServiceV2 goalService;
 
@@ -49,8 +65,8 @@ class GoalServiceV2Test {
         testUser.setId(userId);
         testUser.setWeekStartDay(1); // Monday
 
-        when(userContextService.getCurrentUserId()).thenReturn(userId);
-        lenient().when(userContextService.getCurrentUser()).thenReturn(testUser);
+        lenient().when(userContextService.getCurrentUserId()).thenReturn(userId);
+        lenient().when(userContextService.getCurrentWeekStartDay()).thenReturn(testUser.getWeekStartDay());
     }
 
     @Test
@@ -119,6 +135,7 @@ class GoalServiceV2Test {
         assertEquals(LocalDate.of(2025, 1, 1), result.getStartDate());
         assertEquals(LocalDate.of(2025, 12, 31), result.getEndDate());
         verify(goalRepository).save(any(Goal.class));
+        verify(goalStreakService).initialize(1L);
     }
 
     @Test
@@ -174,6 +191,8 @@ class GoalServiceV2Test {
 
         // Then
         verify(achievementRepository).save(any(GoalAchievementHistory.class));
+        verify(goalStreakService).recordAchieved(goal, achievementDate, 1);
+        verify(activityRollupService).recordGoalAchieved(any(), eq(achievementDate));
     }
 
     @Test
@@ -196,6 +215,8 @@ class GoalServiceV2Test {
 
         // Then
         verify(achievementRepository).delete(existingAchievement);
+        verify(goalStreakService).recordRemoved(goal, achievementDate, 1);
+        verify(activityRollupService).recordGoalAchievementRemoved(any(), eq(achievementDate));
     }
 
     @Test
@@ -206,18 +227,14 @@ class GoalServiceV2Test {
         LocalDate endDate = LocalDate.of(2025, 1, 5);
         Goal goal = createTestGoal(goalId, GoalType.DAILY, true);
         
-        List<GoalAchievementHistory> achievements = Arrays.asList(
-                createAchievement(goalId, LocalDate.of(2025, 1, 1)),
-                createAchievement(goalId, LocalDate.of(2025, 1, 3)),
-                createAchievement(goalId, LocalDate.of(2025, 1, 5))
-        );
-
         when(goalRepository.findById(goalId)).thenReturn(Optional.of(goal));
-        when(achievementRepository.findByGoalIdAndAchievedDateBetween(goalId, startDate, endDate))
-                .thenReturn(achievements);
+        when(achievementYearRepository.findByGoalIdAndYearBetween(goalId, 2025, 2025))
+                .thenReturn(List.of(createYear(goalId, 2025,
+                        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 5))));
 
         // When
-        AchievementHistoryResponse response = goalService.getAchievementHistory(goalId, startDate, endDate);
+        AchievementHistoryResponse response = goalService.getAchievementHistory(
+                goalId, startDate, endDate, AchievementHistoryFormat.VERBOSE);
 
         // Then
         assertNotNull(response);
@@ -225,6 +242,72 @@ class GoalServiceV2Test {
         assertEquals(3, response.achievedDays());
         assertEquals(0.6, response.achievementRate());
         assertEquals(5, response.achievements().size());
+        assertTrue(response.achievements().get(2).achieved());
+        assertFalse(response.achievements().get(3).achieved());
+        assertNull(response.runs());
+        assertNull(response.bitmap());
+    }
+
+    @Test
+    void getAchievementHistory_RunLengthFormat_ShouldSpanYearBoundary() {
+        // Given
+        Long goalId = 1L;
+        LocalDate startDate = LocalDate.of(2024, 12, 30);
+        LocalDate endDate = LocalDate.of(2025, 1, 4);
+        Goal goal = createTestGoal(goalId, GoalType.DAILY, true);
+
+        when(goalRepository.findById(goalId)).thenReturn(Optional.of(goal));
+        // Days outside the range are ignored
+        when(achievementYearRepository.findByGoalIdAndYearBetween(goalId, 2024, 2025))
+                .thenReturn(List.of(
+                        createYear(goalId, 2024, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31)),
+                        createYear(goalId, 2025, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 4),
+                                LocalDate.of(2025, 1, 5))));
+
+        // When
+        AchievementHistoryResponse response = goalService.getAchievementHistory(
+                goalId, startDate, endDate, AchievementHistoryFormat.RUNS);
+
+        // Then - 12/30 missed, 12/31 and 1/1 achieved, 1/2 and 1/3 missed, 1/4 achieved
+        assertEquals(List.of(1, 2, 2, 1), response.runs());
+        assertEquals(6, response.totalDays());
+        assertEquals(3, response.achievedDays());
+        assertEquals("rle", response.format());
+        assertNull(response.achievements());
+    }
+
+    @Test
+    void getAchievementHistory_BitmapFormat_ShouldEncodeOneBitPerDay() {
+        // Given
+        Long goalId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 10);
+        Goal goal = createTestGoal(goalId, GoalType.DAILY, true);
+
+        when(goalRepository.findById(goalId)).thenReturn(Optional.of(goal));
+        when(achievementYearRepository.findByGoalIdAndYearBetween(goalId, 2025, 2025))
+                .thenReturn(List.of(createYear(goalId, 2025,
+                        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 10))));
+
+        // When
+        AchievementHistoryResponse response = goalService.getAchievementHistory(
+                goalId, startDate, endDate, AchievementHistoryFormat.BITMAP);
+
+        // Then - bits 0, 2 and 9 over two bytes
+        assertArrayEquals(new byte[]{0b101, 0b10}, Base64.getDecoder().decode(response.bitmap()));
+        assertEquals(3, response.achievedDays());
+        assertNull(response.achievements());
+    }
+
+    @Test
+    void getAchievementHistory_WithFromAfterTo_ShouldThrowException() {
+        // Given
+        Goal goal = createTestGoal(1L, GoalType.DAILY, true);
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(goal));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> goalService.getAchievementHistory(
+                1L, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), AchievementHistoryFormat.VERBOSE));
     }
 
     @Test
@@ -238,11 +321,8 @@ class GoalServiceV2Test {
         when(goalRepository.findByUserId(userId)).thenReturn(Arrays.asList(weeklyGoal));
         
         // Achievement on Tuesday (not the week start)
-        GoalAchievementHistory achievement = createAchievement(goalId, LocalDate.of(2025, 1, 14));
-        when(achievementRepository.findByGoalIdAndAchievedDateBetween(
-                goalId, weekStart, weekStart.plusDays(6)))
-                .thenReturn(Arrays.asList(achievement));
-        when(achievementRepository.findByGoalId(goalId)).thenReturn(Arrays.asList(achievement));
+        when(achievementYearRepository.findByGoalIdInAndYearBetween(List.of(goalId), 2025, 2025))
+                .thenReturn(List.of(createYear(goalId, 2025, weekStart.plusDays(1))));
 
         // When
         GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(testDate, "active");
@@ -263,11 +343,8 @@ class GoalServiceV2Test {
         when(goalRepository.findByUserId(userId)).thenReturn(Arrays.asList(monthlyGoal));
         
         // Achievement on January 5th (not the first day of month)
-        GoalAchievementHistory achievement = createAchievement(goalId, LocalDate.of(2025, 1, 5));
-        when(achievementRepository.findByGoalIdAndAchievedDateBetween(
-                goalId, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)))
-                .thenReturn(Arrays.asList(achievement));
-        when(achievementRepository.findByGoalId(goalId)).thenReturn(Arrays.asList(achievement));
+        when(achievementYearRepository.findByGoalIdInAndYearBetween(List.of(goalId), 2025, 2025))
+                .thenReturn(List.of(createYear(goalId, 2025, LocalDate.of(2025, 1, 5))));
 
         // When
         GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(testDate, "active");
@@ -288,11 +365,8 @@ class GoalServiceV2Test {
         when(goalRepository.findByUserId(userId)).thenReturn(Arrays.asList(annualGoal));
         
         // Achievement on March 10th (not the first day of year)
-        GoalAchievementHistory achievement = createAchievement(goalId, LocalDate.of(2025, 3, 10));
-        when(achievementRepository.findByGoalIdAndAchievedDateBetween(
-                goalId, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
-                .thenReturn(Arrays.asList(achievement));
-        when(achievementRepository.findByGoalId(goalId)).thenReturn(Arrays.asList(achievement));
+        when(achievementYearRepository.findByGoalIdInAndYearBetween(List.of(goalId), 2025, 2025))
+                .thenReturn(List.of(createYear(goalId, 2025, LocalDate.of(2025, 3, 10))));
 
         // When
         GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(testDate, "active");
@@ -312,11 +386,9 @@ class GoalServiceV2Test {
         Goal dailyGoal = createTestGoal(goalId, GoalType.DAILY, true);
         when(goalRepository.findByUserId(userId)).thenReturn(Arrays.asList(dailyGoal));
         
-        // Achievement on different day
-        GoalAchievementHistory achievement = createAchievement(goalId, LocalDate.of(2025, 1, 14));
-        when(achievementRepository.findByGoalIdAndAchievedDate(goalId, testDate))
-                .thenReturn(Optional.empty());
-        when(achievementRepository.findByGoalId(goalId)).thenReturn(Arrays.asList(achievement));
+        // Achieved on the day before only
+        when(achievementYearRepository.findByGoalIdInAndYearBetween(List.of(goalId), 2025, 2025))
+                .thenReturn(List.of(createYear(goalId, 2025, testDate.minusDays(1))));
 
         // When
         GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(testDate, "active");
@@ -328,27 +400,45 @@ class GoalServiceV2Test {
     }
 
     @Test
-    void calculateStreak_ShouldReturnCorrectStreaks() {
+    void getGoalsByDateAndFilter_ShouldQueryCompletionOnceForAllGoals() {
+        // Given
+        LocalDate testDate = LocalDate.of(2025, 1, 15); // Wednesday
+        Goal dailyGoal = createTestGoal(1L, GoalType.DAILY, true);
+        Goal weeklyGoal = createTestGoal(2L, GoalType.WEEKLY, true);
+        Goal monthlyGoal = createTestGoal(3L, GoalType.MONTHLY, true);
+        when(goalRepository.findByUserId(userId)).thenReturn(Arrays.asList(dailyGoal, weeklyGoal, monthlyGoal));
+
+        // One bitmap per goal covers all three periods; the daily achievement on the 14th is outside the daily period
+        when(achievementYearRepository.findByGoalIdInAndYearBetween(List.of(1L, 2L, 3L), 2025, 2025))
+                .thenReturn(Arrays.asList(
+                        createYear(1L, 2025, LocalDate.of(2025, 1, 14)),
+                        createYear(2L, 2025, LocalDate.of(2025, 1, 13)),
+                        createYear(3L, 2025, LocalDate.of(2025, 1, 2))
+                ));
+
+        // When
+        GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(testDate, "active");
+
+        // Then
+        assertFalse(response.daily().get(0).completed());
+        assertTrue(response.weekly().get(0).completed());
+        assertTrue(response.monthly().get(0).completed());
+        verify(userContextService, times(1)).getCurrentUserId();
+        verify(userContextService, never()).getCurrentUser();
+        verify(achievementRepository, never()).findByGoalIdAndAchievedDate(any(), any());
+        verify(achievementRepository, never()).findByGoalIdAndAchievedDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void getGoalsByDateAndFilter_ShouldUseStoredStreaks() {
         // Given
         Long goalId = 1L;
-        LocalDate today = LocalDate.now();
+        // Within the test goal's 2025 date range, so the "active" filter keeps it
+        LocalDate today = LocalDate.of(2025, 6, 15);
         List<Goal> goals = Arrays.asList(createTestGoal(goalId, GoalType.DAILY, true));
-        
-        // Create achievements for current streak of 3 days
-        List<GoalAchievementHistory> achievements = Arrays.asList(
-                createAchievement(goalId, today),
-                createAchievement(goalId, today.minusDays(1)),
-                createAchievement(goalId, today.minusDays(2)),
-                // Gap
-                createAchievement(goalId, today.minusDays(5)),
-                createAchievement(goalId, today.minusDays(6)),
-                createAchievement(goalId, today.minusDays(7)),
-                createAchievement(goalId, today.minusDays(8)),
-                createAchievement(goalId, today.minusDays(9))
-        );
 
         when(goalRepository.findByUserId(userId)).thenReturn(goals);
-        when(achievementRepository.findByGoalId(goalId)).thenReturn(achievements);
+        when(goalStreakService.getStreaks(goals, today, 1)).thenReturn(Map.of(goalId, new StreakInfo(3, 5)));
 
         // When
         GroupedGoalsResponse response = goalService.getGoalsByDateAndFilter(today, "active");
@@ -358,6 +448,7 @@ class GoalServiceV2Test {
         GoalResponse goalResponse = response.daily().get(0);
         assertEquals(3, goalResponse.currentStreak());
         assertEquals(5, goalResponse.longestStreak());
+        verify(achievementRepository, never()).findByGoalId(any());
     }
 
     private List<Goal> createMockGoals() {
@@ -391,12 +482,11 @@ class GoalServiceV2Test {
         return goal;
     }
 
-    private GoalAchievementHistory createAchievement(Long goalId, LocalDate date) {
-        GoalAchievementHistory achievement = new GoalAchievementHistory();
-        achievement.setId(Long.valueOf(UUID.randomUUID().hashCode()));
-        achievement.setGoalId(goalId);
-        achievement.setAchievedDate(date);
-        achievement.setCreatedAt(LocalDateTime.now());
-        return achievement;
+    private GoalAchievementYear createYear(Long goalId, int year, LocalDate... dates) {
+        BitSet days = new BitSet();
+        for (LocalDate date : dates) {
+            days.set(GoalAchievementYear.dayIndex(date));
+        }
+        return new GoalAchievementYear(goalId, year, Arrays.copyOf(days.toByteArray(), 46));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,339 @@
+package com.zametech.personalhub.application.goal.service;
+
+import com.zametech.personalhub.domain.event.WeekStartDayChangedEvent;
+import com.zametech.personalhub.domain.model.Goal;
+import com.zametech.personalhub.domain.model.GoalAchievementHistory;
+import com.zametech.personalhub.domain.model.GoalAchievementYear;
+import com.zametech.personalhub.domain.model.GoalStreak;
+import com.zametech.personalhub.domain.model.GoalType;
+import com.zametech.personalhub.domain.model.User;
+import com.zametech.personalhub.domain.repository.GoalAchievementHistoryRepository;
+import com.zametech.personalhub.domain.repository.GoalAchievementYearRepository;
+import com.zametech.personalhub.domain.repository.GoalRepository;
+import com.zametech.personalhub.domain.repository.GoalStreakRepository;
+import com.zametech.personalhub.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalStreakServiceTest {
+
+    @Mock
+    private GoalStreakRepository streakRepository;
+
+    @Mock
+    private GoalAchievementHistoryRepository achievementRepository;
+
+    @Mock
+    private GoalAchievementYearRepository achievementYearRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private GoalStreakService goalStreakService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void recordAchieved_ShouldExtendLatestStreak() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate date = LocalDate.of(2025, 1, 10);
+        when(streakRepository.findByGoalIdForUpdate(1L))
+                .thenReturn(Optional.of(createStreak(1L, 3, 3, date.minusDays(1))));
+        when(achievementRepository.findByGoalIdAndAchievedDate(1L, date))
+                .thenReturn(Optional.of(createAchievement(1L, date)));
+
+        // When
+        goalStreakService.recordAchieved(goal, date, 1);
+
+        // Then
+        GoalStreak saved = captureSaved();
+        assertEquals(4, saved.getCurrentStreak());
+        assertEquals(4, saved.getLongestStreak());
+        assertEquals(date, saved.getLastAchievedPeriod());
+        assertFalse(saved.isNeedsRepair());
+        verify(achievementRepository, never()).findByGoalId(any());
+    }
+
+    @Test
+    void recordAchieved_ShouldStartNewStreakAfterGap() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate date = LocalDate.of(2025, 1, 10);
+        when(streakRepository.findByGoalIdForUpdate(1L))
+                .thenReturn(Optional.of(createStreak(1L, 2, 5, date.minusDays(3))));
+        when(achievementRepository.findByGoalIdAndAchievedDate(1L, date))
+                .thenReturn(Optional.of(createAchievement(1L, date)));
+
+        // When
+        goalStreakService.recordAchieved(goal, date, 1);
+
+        // Then
+        GoalStreak saved = captureSaved();
+        assertEquals(1, saved.getCurrentStreak());
+        assertEquals(5, saved.getLongestStreak());
+        assertEquals(date, saved.getLastAchievedPeriod());
+    }
+
+    @Test
+    void recordAchieved_WeeklyGoal_ShouldIgnoreSecondDayOfAchievedWeek() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.WEEKLY);
+        LocalDate weekStart = LocalDate.of(2025, 1, 13); // Monday
+        when(streakRepository.findByGoalIdForUpdate(1L))
+                .thenReturn(Optional.of(createStreak(1L, 2, 2, weekStart)));
+        when(achievementRepository.countByGoalIdAndAchievedDateBetween(1L, weekStart, weekStart.plusDays(6)))
+                .thenReturn(2L);
+
+        // When
+        goalStreakService.recordAchieved(goal, LocalDate.of(2025, 1, 16), 1);
+
+        // Then
+        verify(streakRepository, never()).save(any());
+    }
+
+    @Test
+    void recordAchieved_BackDated_ShouldMarkForRepair() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate date = LocalDate.of(2025, 1, 5);
+        when(streakRepository.findByGoalIdForUpdate(1L))
+                .thenReturn(Optional.of(createStreak(1L, 2, 2, LocalDate.of(2025, 1, 10))));
+        when(achievementRepository.findByGoalIdAndAchievedDate(1L, date))
+                .thenReturn(Optional.of(createAchievement(1L, date)));
+
+        // When
+        goalStreakService.recordAchieved(goal, date, 1);
+
+        // Then
+        GoalStreak saved = captureSaved();
+        assertTrue(saved.isNeedsRepair());
+        assertEquals(2, saved.getCurrentStreak());
+    }
+
+    @Test
+    void recordRemoved_ShouldShortenLatestStreak() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate date = LocalDate.of(2025, 1, 10);
+        when(streakRepository.findByGoalIdForUpdate(1L))
+                .thenReturn(Optional.of(createStreak(1L, 3, 7, date)));
+        when(achievementRepository.findByGoalIdAndAchievedDate(1L, date)).thenReturn(Optional.empty());
+
+        // When
+        goalStreakService.recordRemoved(goal, date, 1);
+
+        // Then
+        GoalStreak saved = captureSaved();
+        assertEquals(2, saved.getCurrentStreak());
+        assertEquals(7, saved.getLongestStreak());
+        assertEquals(date.minusDays(1), saved.getLastAchievedPeriod());
+        assertFalse(saved.isNeedsRepair());
+    }
+
+    @Test
+    void recordRemoved_FromLongestStreak_ShouldMarkForRepair() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate date = LocalDate.of(2025, 1, 10);
+        when(streakRepository.findByGoalIdForUpdate(1L))
+                .thenReturn(Optional.of(createStreak(1L, 5, 5, date)));
+        when(achievementRepository.findByGoalIdAndAchievedDate(1L, date)).thenReturn(Optional.empty());
+
+        // When
+        goalStreakService.recordRemoved(goal, date, 1);
+
+        // Then
+        assertTrue(captureSaved().isNeedsRepair());
+    }
+
+    @Test
+    void getStreaks_ShouldUseStoredValuesWithoutReadingHistory() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate today = LocalDate.of(2025, 1, 10);
+        when(streakRepository.findByGoalIds(List.of(1L)))
+                .thenReturn(List.of(createStreak(1L, 4, 6, today)));
+
+        // When
+        Map<Long, StreakInfo> streaks = goalStreakService.getStreaks(List.of(goal), today, 1);
+        Map<Long, StreakInfo> yesterday = goalStreakService.getStreaks(List.of(goal), today.minusDays(1), 1);
+        Map<Long, StreakInfo> tomorrow = goalStreakService.getStreaks(List.of(goal), today.plusDays(1), 1);
+
+        // Then
+        assertEquals(new StreakInfo(4, 6), streaks.get(1L));
+        assertEquals(new StreakInfo(3, 6), yesterday.get(1L));
+        assertEquals(new StreakInfo(0, 6), tomorrow.get(1L));
+        verify(achievementYearRepository, never()).findByGoalIdIn(any());
+    }
+
+    @Test
+    void getStreaks_ShouldComputeStreakMarkedForRepairWithoutSaving() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.DAILY);
+        LocalDate today = LocalDate.of(2025, 1, 10);
+        GoalStreak stale = createStreak(1L, 1, 1, today);
+        stale.setNeedsRepair(true);
+        when(streakRepository.findByGoalIds(List.of(1L))).thenReturn(List.of(stale));
+        // Current streak of 3 days, and 5 days before the gap
+        when(achievementYearRepository.findByGoalIdIn(List.of(1L))).thenReturn(createYears(1L,
+                today,
+                today.minusDays(1),
+                today.minusDays(2),
+                today.minusDays(5),
+                today.minusDays(6),
+                today.minusDays(7),
+                today.minusDays(8),
+                today.minusDays(9)
+        ));
+
+        // When
+        Map<Long, StreakInfo> streaks = goalStreakService.getStreaks(List.of(goal), today, 1);
+
+        // Then
+        assertEquals(new StreakInfo(3, 5), streaks.get(1L));
+        assertTrue(stale.isNeedsRepair());
+        verify(streakRepository, never()).save(any());
+    }
+
+    @Test
+    void getStreaks_WeeklyGoal_ShouldRecomputeAfterWeekStartDayChange() {
+        // Given - stored with Monday weeks, now read with Sunday weeks
+        Goal goal = createGoal(1L, GoalType.WEEKLY);
+        GoalStreak stored = createStreak(1L, 1, 1, LocalDate.of(2025, 1, 13));
+        when(streakRepository.findByGoalIds(List.of(1L))).thenReturn(List.of(stored));
+        when(achievementYearRepository.findByGoalIdIn(List.of(1L))).thenReturn(createYears(1L,
+                LocalDate.of(2025, 1, 11), // Saturday
+                LocalDate.of(2025, 1, 13) // Monday
+        ));
+
+        // When
+        Map<Long, StreakInfo> streaks = goalStreakService.getStreaks(List.of(goal), LocalDate.of(2025, 1, 15), 7);
+
+        // Then
+        assertEquals(new StreakInfo(2, 2), streaks.get(1L));
+        verify(streakRepository, never()).save(any());
+    }
+
+    @Test
+    void onWeekStartDayChanged_ShouldMarkWeeklyStreaksForRepair() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        goalStreakService.onWeekStartDayChanged(new WeekStartDayChangedEvent(userId));
+
+        // Then
+        verify(streakRepository).markWeeklyForRepair(userId);
+    }
+
+    @Test
+    void getStreaks_BeforeLatestStreak_ShouldReadHistoryOnceForAllGoals() {
+        // Given - both streaks ended after the reference date
+        Goal first = createGoal(1L, GoalType.DAILY);
+        Goal second = createGoal(2L, GoalType.DAILY);
+        LocalDate referenceDate = LocalDate.of(2025, 1, 3);
+        when(streakRepository.findByGoalIds(List.of(1L, 2L))).thenReturn(List.of(
+                createStreak(1L, 2, 2, LocalDate.of(2025, 1, 10)),
+                createStreak(2L, 1, 2, LocalDate.of(2025, 1, 10))));
+        List<GoalAchievementYear> years = new ArrayList<>(createYears(1L, LocalDate.of(2025, 1, 2),
+                LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 9), LocalDate.of(2025, 1, 10)));
+        years.addAll(createYears(2L, LocalDate.of(2025, 1, 10)));
+        when(achievementYearRepository.findByGoalIdIn(any())).thenReturn(years);
+
+        // When
+        Map<Long, StreakInfo> streaks = goalStreakService.getStreaks(List.of(first, second), referenceDate, 1);
+
+        // Then
+        assertEquals(new StreakInfo(2, 2), streaks.get(1L));
+        assertEquals(new StreakInfo(0, 2), streaks.get(2L));
+        verify(achievementYearRepository, times(1)).findByGoalIdIn(any());
+        verify(streakRepository, never()).save(any());
+    }
+
+    @Test
+    void repairPending_ShouldRecomputeLockedStreaks() {
+        // Given
+        Goal goal = createGoal(1L, GoalType.MONTHLY);
+        GoalStreak stale = createStreak(1L, 0, 0, null);
+        stale.setNeedsRepair(true);
+        User user = new User();
+        user.setId(userId);
+        when(streakRepository.lockNeedingRepair(10)).thenReturn(List.of(stale));
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(achievementYearRepository.findByGoalIdIn(List.of(1L))).thenReturn(createYears(1L,
+                LocalDate.of(2024, 12, 20),
+                LocalDate.of(2025, 1, 3),
+                LocalDate.of(2025, 1, 28)
+        ));
+
+        // When
+        int claimed = goalStreakService.repairPending(10);
+
+        // Then
+        assertEquals(1, claimed);
+        GoalStreak saved = captureSaved();
+        assertEquals(2, saved.getCurrentStreak());
+        assertEquals(2, saved.getLongestStreak());
+        assertEquals(LocalDate.of(2025, 1, 1), saved.getLastAchievedPeriod());
+        assertFalse(saved.isNeedsRepair());
+    }
+
+    private GoalStreak captureSaved() {
+        ArgumentCaptor<GoalStreak> captor = ArgumentCaptor.forClass(GoalStreak.class);
+        verify(streakRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private Goal createGoal(Long id, GoalType type) {
+        Goal goal = new Goal();
+        goal.setId(id);
+        goal.setUserId(userId);
+        goal.setTitle(type + " Goal");
+        goal.setGoalType(type);
+        goal.setIsActive(true);
+        goal.setStartDate(LocalDate.of(2025, 1, 1));
+        goal.setEndDate(LocalDate.of(2025, 12, 31));
+        return goal;
+    }
+
+    private GoalStreak createStreak(Long goalId, int currentStreak, int longestStreak, LocalDate lastAchievedPeriod) {
+        return new GoalStreak(goalId, currentStreak, longestStreak, lastAchievedPeriod, false, LocalDateTime.now());
+    }
+
+    private GoalAchievementHistory createAchievement(Long goalId, LocalDate date) {
+        GoalAchievementHistory achievement = new GoalAchievementHistory();
+        achievement.setGoalId(goalId);
+        achievement.setAchievedDate(date);
+        achievement.setCreatedAt(LocalDateTime.now());
+        return achievement;
+    }
+
+    private List<GoalAchievementYear> createYears(Long goalId, LocalDate... dates) {
+        Map<Integer, BitSet> days = new TreeMap<>();
+        for (LocalDate date : dates) {
+            days.computeIfAbsent(date.getYear(), year -> new BitSet()).set(GoalAchievementYear.dayIndex(date));
+        }
+        return days.entrySet().stream()
+                .map(entry -> new GoalAchievementYear(goalId, entry.getKey(), Arrays.copyOf(entry.getValue().toByteArray(), 46)))
+                .toList();
+    }
+}
@@ -0,0 +1,187 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.model.Event;
+import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.UserDailyActivity;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityRollupServiceTest {
+
+    @Mock
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @InjectMocks
+    private ActivityRollupService activityRollupService;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void recordTodoCreated_ShouldIncrementCreatedOnCreationDate() {
+        TodoEntity todo = new TodoEntity();
+        todo.setUserId(userId);
+        todo.setStatus(TodoStatus.TODO);
+        todo.setCreatedAt(ZonedDateTime.now().minusDays(2));
+
+        activityRollupService.recordTodoCreated(todo);
+
+        List<UserDailyActivity> deltas = captureDeltas(1);
+        assertThat(deltas.get(0).getActivityDate()).isEqualTo(LocalDate.now().minusDays(2));
+        assertThat(deltas.get(0).getTodosCreated()).isEqualTo(1);
+        assertThat(deltas.get(0).getTodosCompleted()).isZero();
+    }
+
+    @Test
+    void recordTodosCreated_ShouldIncrementOncePerUserAndDay() {
+        UUID otherUserId = UUID.randomUUID();
+        ZonedDateTime now = ZonedDateTime.now();
+
+        activityRollupService.recordTodosCreated(List.of(
+                todoCreatedAt(userId, now), todoCreatedAt(userId, now), todoCreatedAt(otherUserId, now)));
+
+        List<UserDailyActivity> deltas = captureDeltas(2);
+        assertThat(deltas)
+                .extracting(UserDailyActivity::getUserId, UserDailyActivity::getTodosCreated)
+                .containsExactlyInAnyOrder(
+                        tuple(userId, 2),
+                        tuple(otherUserId, 1));
+    }
+
+    @Test
+    void recordTodoUpdated_ShouldMoveCompletionToToday() {
+        ZonedDateTime previousUpdatedAt = ZonedDateTime.now().minusDays(3);
+
+        activityRollupService.recordTodoUpdated(userId, TodoStatus.DONE, previousUpdatedAt, TodoStatus.DONE);
+
+        List<UserDailyActivity> deltas = captureDeltas(2);
+        assertThat(deltas.get(0).getActivityDate()).isEqualTo(previousUpdatedAt.toLocalDate());
+        assertThat(deltas.get(0).getTodosCompleted()).isEqualTo(-1);
+        assertThat(deltas.get(1).getActivityDate()).isEqualTo(LocalDate.now());
+        assertThat(deltas.get(1).getTodosCompleted()).isEqualTo(1);
+    }
+
+    @Test
+    void recordTodoUpdated_ShouldDoNothingWhenNeitherStatusIsDone() {
+        activityRollupService.recordTodoUpdated(userId, TodoStatus.TODO, ZonedDateTime.now(), TodoStatus.IN_PROGRESS);
+
+        verifyNoInteractions(userDailyActivityRepository);
+    }
+
+    @Test
+    void recordTodoDeleted_ShouldDecrementCreatedAndCompleted() {
+        TodoEntity todo = new TodoEntity();
+        todo.setUserId(userId);
+        todo.setStatus(TodoStatus.DONE);
+        todo.setCreatedAt(ZonedDateTime.now().minusDays(5));
+        todo.setUpdatedAt(ZonedDateTime.now().minusDays(1));
+
+        activityRollupService.recordTodoDeleted(todo);
+
+        List<UserDailyActivity> deltas = captureDeltas(2);
+        assertThat(deltas.get(0).getTodosCreated()).isEqualTo(-1);
+        assertThat(deltas.get(1).getActivityDate()).isEqualTo(LocalDate.now().minusDays(1));
+        assertThat(deltas.get(1).getTodosCompleted()).isEqualTo(-1);
+    }
+
+    @Test
+    void recordEventRescheduled_ShouldMoveCountBetweenDates() {
+        LocalDateTime previousStart = LocalDateTime.now().minusDays(1);
+        LocalDateTime newStart = LocalDateTime.now().plusDays(1);
+
+        activityRollupService.recordEventRescheduled(userId, previousStart, newStart);
+
+        List<UserDailyActivity> deltas = captureDeltas(2);
+        assertThat(deltas.get(0).getActivityDate()).isEqualTo(previousStart.toLocalDate());
+        assertThat(deltas.get(0).getEventsCount()).isEqualTo(-1);
+        assertThat(deltas.get(1).getActivityDate()).isEqualTo(newStart.toLocalDate());
+        assertThat(deltas.get(1).getEventsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recordEventRescheduled_ShouldSkipWhenDateIsUnchanged() {
+        LocalDateTime start = LocalDate.now().atTime(9, 0);
+
+        activityRollupService.recordEventRescheduled(userId, start, start.plusHours(2));
+
+        verifyNoInteractions(userDailyActivityRepository);
+    }
+
+    @Test
+    void recordEventCreated_ShouldSkipWhenUserIsUnknown() {
+        Event event = new Event();
+        event.setStartDateTime(LocalDateTime.now());
+
+        activityRollupService.recordEventCreated(event);
+
+        verifyNoInteractions(userDailyActivityRepository);
+    }
+
+    @Test
+    void recordNoteCreated_ShouldFallBackToTodayWhenCreatedAtIsMissing() {
+        Note note = new Note();
+        note.setUserId(userId);
+
+        activityRollupService.recordNoteCreated(note);
+
+        List<UserDailyActivity> deltas = captureDeltas(1);
+        assertThat(deltas.get(0).getActivityDate()).isEqualTo(LocalDate.now());
+        assertThat(deltas.get(0).getNotesCreated()).isEqualTo(1);
+    }
+
+    @Test
+    void recordGoalAchievementRemoved_ShouldDecrementOnAchievedDate() {
+        LocalDate achievedDate = LocalDate.now().minusDays(4);
+
+        activityRollupService.recordGoalAchievementRemoved(userId, achievedDate);
+
+        List<UserDailyActivity> deltas = captureDeltas(1);
+        assertThat(deltas.get(0).getActivityDate()).isEqualTo(achievedDate);
+        assertThat(deltas.get(0).getGoalsAchieved()).isEqualTo(-1);
+    }
+
+    @Test
+    void rebuild_ShouldDelegateToRepository() {
+        activityRollupService.rebuild(userId);
+
+        verify(userDailyActivityRepository).rebuildForUser(userId);
+    }
+
+    private TodoEntity todoCreatedAt(UUID ownerId, ZonedDateTime createdAt) {
+        TodoEntity todo = new TodoEntity();
+        todo.setUserId(ownerId);
+        todo.setStatus(TodoStatus.TODO);
+        todo.setCreatedAt(createdAt);
+        return todo;
+    }
+
+    private List<UserDailyActivity> captureDeltas(int expectedCount) {
+        ArgumentCaptor<UserDailyActivity> captor = ArgumentCaptor.forClass(UserDailyActivity.class);
+        verify(userDailyActivityRepository, times(expectedCount)).increment(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,52 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsCacheEvictionListenerTest {
+
+    private Cache dashboardCache;
+    private Cache activityCache;
+    private AnalyticsCacheEvictionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager();
+        dashboardCache = cacheManager.getCache(CacheConfig.ANALYTICS_DASHBOARD_CACHE);
+        activityCache = cacheManager.getCache(CacheConfig.ANALYTICS_TODO_ACTIVITY_CACHE);
+        listener = new AnalyticsCacheEvictionListener(cacheManager);
+    }
+
+    @Test
+    void onUserActivityChanged_ShouldEvictOnlyEntriesOfThatUser() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        TodoActivityCacheKey lastWeek = new TodoActivityCacheKey(userId, today.minusDays(7), today);
+        TodoActivityCacheKey lastMonth = new TodoActivityCacheKey(userId, today.minusDays(30), today);
+        TodoActivityCacheKey otherUsers = new TodoActivityCacheKey(otherUserId, today.minusDays(7), today);
+
+        dashboardCache.put(userId, "dashboard");
+        dashboardCache.put(otherUserId, "other dashboard");
+        activityCache.put(lastWeek, "week");
+        activityCache.put(lastMonth, "month");
+        activityCache.put(otherUsers, "other week");
+
+        listener.onUserActivityChanged(new UserActivityChangedEvent(userId));
+
+        assertThat(dashboardCache.get(userId)).isNull();
+        assertThat(dashboardCache.get(otherUserId)).isNotNull();
+        assertThat(activityCache.get(lastWeek)).isNull();
+        assertThat(activityCache.get(lastMonth)).isNull();
+        assertThat(activityCache.get(otherUsers)).isNotNull();
+    }
+}
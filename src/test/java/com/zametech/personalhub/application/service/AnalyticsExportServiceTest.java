@@ -0,0 +1,79 @@
+package com.zametech.personalhub.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zametech.personalhub.domain.model.DailyActivityExportRow;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsExportServiceTest {
+
+    @Mock
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    private AnalyticsExportService analyticsExportService;
+
+    private UUID userId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        analyticsExportService = new AnalyticsExportService(userDailyActivityRepository, objectMapper);
+        userId = UUID.randomUUID();
+        startDate = LocalDate.of(2024, 1, 1);
+        endDate = LocalDate.of(2024, 1, 2);
+    }
+
+    @Test
+    void exportDailyActivity_ShouldWriteCsvWithHeaderAndCloseStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<DailyActivityExportRow> rows = Stream.of(
+                new DailyActivityExportRow(startDate, 2, 1, 3, 0, 1, 4, 8),
+                new DailyActivityExportRow(endDate, 0, 0, 0, 0, 0, 0, 0)
+        ).onClose(() -> closed.set(true));
+        when(userDailyActivityRepository.streamExportRows(userId, startDate, endDate)).thenReturn(rows);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        analyticsExportService.exportDailyActivity(userId, startDate, endDate, ExportFormat.CSV, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                AnalyticsExportService.CSV_HEADER + "\n" +
+                "2024-01-01,2,1,3,0,1,4,8\n" +
+                "2024-01-02,0,0,0,0,0,0,0\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void exportDailyActivity_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        when(userDailyActivityRepository.streamExportRows(userId, startDate, endDate)).thenReturn(Stream.of(
+                new DailyActivityExportRow(startDate, 2, 1, 3, 0, 1, 4, 8)
+        ));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        analyticsExportService.exportDailyActivity(userId, startDate, endDate, ExportFormat.NDJSON, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"date\":\"2024-01-01\",\"todosCreated\":2,\"todosCompleted\":1,\"eventsCount\":3," +
+                "\"notesCreated\":0,\"momentsCreated\":1,\"pomodoroSessions\":4,\"pomodoroCompletedCycles\":8}\n");
+    }
+}
@@ -1,36 +1,47 @@
 package com.zametech.personalhub.application.service;
 
-import com.zametech.personalhub.domain.model.Event;
-import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.CompletionTimeDistribution;
+import com.zametech.personalhub.domain.model.EventStatistics;
+import com.zametech.personalhub.domain.model.NoteStatistics;
 import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatistics;
 import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.UserDailyActivity;
 import com.zametech.personalhub.domain.repository.EventRepository;
 import com.zametech.personalhub.domain.repository.NoteRepository;
 import com.zametech.personalhub.domain.repository.TodoRepository;
-import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import com.zametech.personalhub.domain.repository.UserDailyActivityRepository;
+import com.zametech.personalhub.presentation.dto.response.ActivityHeatmapResponse;
+import com.zametech.personalhub.presentation.dto.response.CompletionTimeDistributionResponse;
 import com.zametech.personalhub.presentation.dto.response.DashboardResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoActivityResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,48 +59,44 @@ class AnalyticsServiceTest {
     @Mock
     private UserContextService userContextService;
 
-    @InjectMocks
+    @Mock
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService analyticsExecutor;
+    private SimpleMeterRegistry meterRegistry;
     private AnalyticsService analyticsService;
 
     private UUID testUserId;
-    private List<TodoEntity> testTodos;
-    private List<Event> testEvents;
-    private List<Note> testNotes;
 
     @BeforeEach
     void setUp() {
         testUserId = UUID.randomUUID();
-        
-        // Setup test todos
-        testTodos = Arrays.asList(
-            createTodoEntity(1L, "Todo 1", TodoStatus.DONE, TodoPriority.HIGH, LocalDate.now().minusDays(1)),
-            createTodoEntity(2L, "Todo 2", TodoStatus.IN_PROGRESS, TodoPriority.MEDIUM, null),
-            createTodoEntity(3L, "Todo 3", TodoStatus.TODO, TodoPriority.LOW, LocalDate.now().minusDays(1)) // Past due date to create overdue todo
-        );
-        
-        // Setup test events
-        testEvents = Arrays.asList(
-            createEvent(1L, "Event 1", LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2)),
-            createEvent(2L, "Event 2", LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1))
-        );
-        
-        // Setup test notes
-        testNotes = Arrays.asList(
-            createNote(1L, "Note 1", LocalDateTime.now().minusDays(1)),
-            createNote(2L, "Note 2", LocalDateTime.now().minusDays(7))
-        );
+        analyticsExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        analyticsService = new AnalyticsService(todoRepository, eventRepository, noteRepository,
+                userContextService, userDailyActivityRepository, analyticsExecutor, meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(analyticsService, "dashboardDeadlineMs", 2000L);
+        ReflectionTestUtils.setField(analyticsService, "sectionTimeoutMs", 1500L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        analyticsExecutor.shutdownNow();
     }
 
     @Test
     void testGetDashboard() {
         // Given
         when(userContextService.getCurrentUserId()).thenReturn(testUserId);
-        when(todoRepository.findByUserId(eq(testUserId), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(testTodos));
-        when(eventRepository.findByUserId(eq(testUserId), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(testEvents));
-        when(noteRepository.findByUserId(eq(testUserId), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(testNotes));
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenReturn(new TodoStatistics(3, 1, 1, 1, 1, 4.0));
+        when(eventRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class)))
+                .thenReturn(new EventStatistics(2, 1, 1, 2));
+        when(noteRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new NoteStatistics(2, 1, 2, 0));
 
         // When
         DashboardResponse result = analyticsService.getDashboard();
@@ -107,8 +114,13 @@ class AnalyticsServiceTest {
         assertEquals(1, result.todoStats().pendingTodos());
         assertEquals(1, result.todoStats().overdueCount());
         
+        assertEquals(33.33, result.todoStats().completionRate());
+        
         assertEquals(2, result.eventStats().totalEvents());
+        assertEquals(2, result.eventStats().todayEvents());
         assertEquals(2, result.noteStats().totalNotes());
+        assertEquals(1, result.noteStats().notesThisWeek());
+        assertFalse(result.partial());
     }
 
     @Test
@@ -118,8 +130,15 @@ class AnalyticsServiceTest {
         LocalDate endDate = LocalDate.now();
         
         when(userContextService.getCurrentUserId()).thenReturn(testUserId);
-        when(todoRepository.findByUserId(eq(testUserId), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(testTodos));
+        when(todoRepository.countByUserIdGroupByPriority(testUserId))
+                .thenReturn(Map.of(TodoPriority.HIGH, 1L, TodoPriority.MEDIUM, 1L, TodoPriority.LOW, 1L));
+        when(todoRepository.countByUserIdGroupByStatus(testUserId))
+                .thenReturn(Map.of(TodoStatus.DONE, 1L, TodoStatus.IN_PROGRESS, 1L, TodoStatus.TODO, 1L));
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenReturn(new TodoStatistics(3, 1, 1, 1, 1, 4.0));
+        when(todoRepository.getCompletionTimeDistributionByPriority(testUserId))
+                .thenReturn(Map.of(TodoPriority.HIGH, new CompletionTimeDistribution(
+                        1, 2.345, 2.345, 2.345, List.of(0L, 1L, 0L, 0L, 0L, 0L, 0L, 0L))));
 
         // When
         TodoActivityResponse result = analyticsService.getTodoActivity(startDate, endDate);
@@ -137,40 +156,183 @@ class AnalyticsServiceTest {
         assertEquals(3, result.statusDistribution().get("DONE") + 
                         result.statusDistribution().get("IN_PROGRESS") + 
                         result.statusDistribution().get("TODO"));
+        assertEquals(4.0, result.averageCompletionTimeInDays());
+        
+        CompletionTimeDistributionResponse highPriority = result.completionTimeByPriority().get("HIGH");
+        assertEquals(1, highPriority.count());
+        assertEquals(2.35, highPriority.p50Hours());
+        assertEquals(8, highPriority.buckets().size());
+        assertEquals(4.0, highPriority.buckets().get(1).upperBoundHours());
+        assertEquals(1, highPriority.buckets().get(1).count());
+        assertNull(highPriority.buckets().get(7).upperBoundHours());
     }
 
-    private TodoEntity createTodoEntity(Long id, String title, TodoStatus status, TodoPriority priority, LocalDate dueDate) {
-        TodoEntity todo = new TodoEntity();
-        todo.setId(id);
-        todo.setTitle(title);
-        todo.setStatus(status);
-        todo.setPriority(priority);
-        todo.setDueDate(dueDate);
-        todo.setCreatedAt(ZonedDateTime.now().minusDays(5));
-        if (status == TodoStatus.DONE) {
-            todo.setUpdatedAt(ZonedDateTime.now().minusDays(1));
-        }
-        return todo;
+    @Test
+    void testGetTodoActivity_ShouldReadDailyCountsFromRollup() {
+        // Given
+        LocalDate startDate = LocalDate.now().minusDays(7);
+        LocalDate endDate = LocalDate.now();
+        UserDailyActivity yesterday = new UserDailyActivity(testUserId, endDate.minusDays(1));
+        yesterday.setTodosCreated(4);
+        yesterday.setTodosCompleted(2);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(testUserId);
+        when(userDailyActivityRepository.findByUserIdAndDateRange(testUserId, startDate, endDate))
+                .thenReturn(List.of(yesterday));
+        when(todoRepository.countByUserIdGroupByPriority(testUserId))
+                .thenReturn(Map.of(TodoPriority.HIGH, 1L, TodoPriority.MEDIUM, 1L, TodoPriority.LOW, 1L));
+        when(todoRepository.countByUserIdGroupByStatus(testUserId))
+                .thenReturn(Map.of(TodoStatus.DONE, 1L, TodoStatus.IN_PROGRESS, 1L, TodoStatus.TODO, 1L));
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenReturn(new TodoStatistics(3, 1, 1, 1, 1, 4.0));
+
+        // When
+        TodoActivityResponse result = analyticsService.getTodoActivity(startDate, endDate);
+
+        // Then
+        assertEquals(8, result.dailyCompletions().size());
+        assertEquals(8, result.dailyCreations().size());
+        assertEquals(startDate, result.dailyCompletions().get(0).date());
+        assertEquals(2, result.dailyCompletions().get(6).count());
+        assertEquals(4, result.dailyCreations().get(6).count());
+        assertEquals(0, result.dailyCompletions().get(7).count());
     }
 
-    private Event createEvent(Long id, String title, LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        Event event = new Event();
-        event.setId(id);
-        event.setTitle(title);
-        event.setStartDateTime(startDateTime);
-        event.setEndDateTime(endDateTime);
-        event.setUserId(testUserId);
-        return event;
+    @Test
+    void testGetDashboard_ShouldComputeProductivityFromRollup() {
+        // Given
+        LocalDate today = LocalDate.now();
+        UserDailyActivity activity = new UserDailyActivity(testUserId, today);
+        activity.setTodosCompleted(2);
+        activity.setEventsCount(3);
+        activity.setNotesCreated(1);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(testUserId);
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenReturn(new TodoStatistics(3, 1, 1, 1, 1, 4.0));
+        when(eventRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class)))
+                .thenReturn(new EventStatistics(2, 1, 1, 2));
+        when(noteRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new NoteStatistics(2, 1, 2, 0));
+        when(userDailyActivityRepository.findByUserIdAndDateRange(testUserId, today.minusDays(7), today))
+                .thenReturn(List.of(activity));
+
+        // When
+        DashboardResponse result = analyticsService.getDashboard();
+
+        // Then
+        assertEquals(8, result.productivityStats().dailyTodoCompletions().size());
+        assertEquals(2, result.productivityStats().dailyTodoCompletions().get(7).count());
+        assertEquals(3, result.productivityStats().dailyEventCounts().get(7).count());
+        assertEquals(1, result.productivityStats().dailyNoteCreations().get(7).count());
+        assertEquals(11.0, result.productivityStats().weeklyProductivityScore());
     }
 
-    private Note createNote(Long id, String title, LocalDateTime createdAt) {
-        Note note = new Note();
-        note.setId(id);
-        note.setTitle(title);
-        note.setContent("Test content");
-        note.setTags("");
-        note.setUserId(testUserId);
-        note.setCreatedAt(createdAt);
-        return note;
+    @Test
+    void testGetDashboard_ShouldReturnPartialResponseWhenSectionTimesOut() {
+        // Given
+        ReflectionTestUtils.setField(analyticsService, "sectionTimeoutMs", 100L);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(testUserId);
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenReturn(new TodoStatistics(3, 1, 1, 1, 1, 4.0));
+        when(eventRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(1000);
+                    return new EventStatistics(2, 1, 1, 2);
+                });
+        when(noteRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new NoteStatistics(2, 1, 2, 0));
+
+        // When
+        DashboardResponse result = analyticsService.getDashboard();
+
+        // Then
+        assertTrue(result.partial());
+        assertNull(result.eventStats());
+        assertEquals(3, result.todoStats().totalTodos());
+        assertEquals(2, result.noteStats().totalNotes());
+        assertNotNull(result.productivityStats());
+        assertNotNull(meterRegistry.find("analytics.dashboard.section").tag("section", "todo").timer());
+    }
+
+    @Test
+    void testGetDashboard_ShouldRunSectionsInReadOnlyTransactionsWithTimeout() {
+        // Given
+        when(userContextService.getCurrentUserId()).thenReturn(testUserId);
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenReturn(new TodoStatistics(3, 1, 1, 1, 1, 4.0));
+        when(eventRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class)))
+                .thenReturn(new EventStatistics(2, 1, 1, 2));
+        when(noteRepository.getStatisticsByUserId(eq(testUserId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new NoteStatistics(2, 1, 2, 0));
+
+        // When
+        analyticsService.getDashboard();
+
+        // Then: 1500 ms rounds up to a 2 second transaction timeout
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definitions.capture());
+        assertEquals(4, definitions.getAllValues().size());
+        definitions.getAllValues().forEach(definition -> {
+            assertTrue(definition.isReadOnly());
+            assertEquals(2, definition.getTimeout());
+        });
+    }
+
+    @Test
+    void testGetDashboard_ShouldCancelQueuedSectionsAtTheDeadline() throws InterruptedException {
+        // Given: one worker, so the later sections wait behind the slow todo section
+        analyticsExecutor.shutdownNow();
+        analyticsExecutor = Executors.newSingleThreadExecutor();
+        analyticsService = new AnalyticsService(todoRepository, eventRepository, noteRepository,
+                userContextService, userDailyActivityRepository, analyticsExecutor, meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(analyticsService, "dashboardDeadlineMs", 100L);
+        ReflectionTestUtils.setField(analyticsService, "sectionTimeoutMs", 1500L);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(testUserId);
+        when(todoRepository.getStatisticsByUserId(eq(testUserId), any(LocalDate.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(300);
+                    return new TodoStatistics(3, 1, 1, 1, 1, 4.0);
+                });
+
+        // When
+        DashboardResponse result = analyticsService.getDashboard();
+        analyticsExecutor.shutdown();
+        assertTrue(analyticsExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertTrue(result.partial());
+        verifyNoInteractions(eventRepository, noteRepository, userDailyActivityRepository);
+    }
+
+    @Test
+    void testGetActivityHeatmap_ShouldPackRollupIntoDailyArrays() {
+        // Given
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 10);
+        UserDailyActivity firstDay = new UserDailyActivity(testUserId, startDate);
+        firstDay.setTodosCompleted(1);
+        firstDay.setGoalsAchieved(2);
+        UserDailyActivity eighthDay = new UserDailyActivity(testUserId, startDate.plusDays(7));
+        eighthDay.setEventsCount(3);
+        eighthDay.setNotesCreated(1);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(testUserId);
+        when(userDailyActivityRepository.findByUserIdAndDateRange(testUserId, startDate, endDate))
+                .thenReturn(List.of(firstDay, eighthDay));
+
+        // When
+        ActivityHeatmapResponse result = analyticsService.getActivityHeatmap(startDate, endDate);
+
+        // Then
+        assertEquals(10, result.todosCompleted().length);
+        assertEquals(1, result.todosCompleted()[0]);
+        assertEquals(2, result.goalsAchieved()[0]);
+        assertEquals(3, result.eventsCount()[7]);
+        assertEquals(1, result.notesCreated()[7]);
+        assertEquals(0, result.eventsCount()[9]);
+        assertArrayEquals(new double[] {3.0, 5.0}, result.weeklyProductivityScores());
     }
-}
\ No newline at end of file
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -58,6 +59,12 @@ class CalendarSyncServiceTest {
     @Mock
     private GoogleCalendarOAuth2Service googleCalendarOAuth2Service;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CalendarSyncService calendarSyncService;
 
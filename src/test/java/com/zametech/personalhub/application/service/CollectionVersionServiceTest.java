@@ -0,0 +1,83 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.VersionedCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionVersionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+
+    private CollectionVersionService service;
+    private UUID userId;
+    private UUID otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        service = new CollectionVersionService(Clock.fixed(NOW, ZoneOffset.UTC));
+        userId = UUID.randomUUID();
+        otherUserId = UUID.randomUUID();
+    }
+
+    @Test
+    void eTag_ShouldBeWeakAndStableUntilChanged() {
+        String eTag = service.eTag(userId, VersionedCollection.TODOS);
+
+        assertThat(eTag).startsWith("W/\"").endsWith("\"");
+        assertThat(service.eTag(userId, VersionedCollection.TODOS)).isEqualTo(eTag);
+    }
+
+    @Test
+    void onCollectionChanged_ShouldChangeOnlyThatUsersCollection() {
+        String todos = service.eTag(userId, VersionedCollection.TODOS);
+        String goals = service.eTag(userId, VersionedCollection.GOALS);
+        String otherTodos = service.eTag(otherUserId, VersionedCollection.TODOS);
+
+        service.onCollectionChanged(new CollectionChangedEvent(userId, VersionedCollection.TODOS));
+
+        assertThat(service.eTag(userId, VersionedCollection.TODOS)).isNotEqualTo(todos);
+        assertThat(service.eTag(userId, VersionedCollection.GOALS)).isEqualTo(goals);
+        assertThat(service.eTag(otherUserId, VersionedCollection.TODOS)).isEqualTo(otherTodos);
+    }
+
+    @Test
+    void eTag_FromAnotherInstance_ShouldNotMatch() {
+        CollectionVersionService restarted = new CollectionVersionService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(restarted.eTag(userId, VersionedCollection.TODOS))
+                .isNotEqualTo(service.eTag(userId, VersionedCollection.TODOS));
+    }
+
+    @Test
+    void onUserActivityChanged_ShouldChangeDashboard() {
+        String dashboard = service.eTag(userId, VersionedCollection.DASHBOARD);
+
+        service.onUserActivityChanged(new UserActivityChangedEvent(userId));
+
+        assertThat(service.eTag(userId, VersionedCollection.DASHBOARD)).isNotEqualTo(dashboard);
+    }
+
+    @Test
+    void eTag_ForDashboard_ShouldChangeWhenTimeBucketPasses() {
+        CollectionVersionService later = new CollectionVersionService(
+                Clock.fixed(NOW.plus(CollectionVersionService.DASHBOARD_BUCKET), ZoneOffset.UTC));
+
+        String now = service.eTag(userId, VersionedCollection.DASHBOARD);
+        String next = later.eTag(userId, VersionedCollection.DASHBOARD);
+
+        assertThat(suffix(now)).isNotEqualTo(suffix(next));
+    }
+
+    private static String suffix(String eTag) {
+        return eTag.substring(eTag.lastIndexOf('-'));
+    }
+}
@@ -2,6 +2,7 @@ package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.application.goal.dto.GoalWithTrackingResponse;
 import com.zametech.personalhub.application.goal.dto.ToggleAchievementResponse;
+import com.zametech.personalhub.application.goal.service.GoalStreakService;
 import com.zametech.personalhub.domain.model.Goal;
 import com.zametech.personalhub.domain.model.GoalAchievementHistory;
 import com.zametech.personalhub.domain.model.GoalType;
@@ -40,6 +41,9 @@ class GoalServiceTest {
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private GoalStreakService goalStreakService;
+
     @InjectMocks
     private GoalService goalService;
 
@@ -284,6 +288,7 @@ class GoalServiceTest {
         // Given
         LocalDate today = LocalDate.now();
         when(goalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(userContextService.getCurrentWeekStartDay()).thenReturn(null);
         when(achievementHistoryRepository.findByGoalIdAndAchievedDate(1L, today))
             .thenReturn(Optional.empty());
         
@@ -308,6 +313,7 @@ class GoalServiceTest {
         assertThat(result.achievementId()).isEqualTo("10");
         
         verify(achievementHistoryRepository).save(any(GoalAchievementHistory.class));
+        verify(goalStreakService).recordAchieved(goal, today, 1);
     }
 
     @Test
@@ -320,6 +326,7 @@ class GoalServiceTest {
         existingAchievement.setAchievedDate(today);
         
         when(goalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(userContextService.getCurrentWeekStartDay()).thenReturn(null);
         when(achievementHistoryRepository.findByGoalIdAndAchievedDate(1L, today))
             .thenReturn(Optional.of(existingAchievement));
 
@@ -334,6 +341,7 @@ class GoalServiceTest {
         
         verify(achievementHistoryRepository).delete(existingAchievement);
         verify(achievementHistoryRepository, never()).save(any(GoalAchievementHistory.class));
+        verify(goalStreakService).recordRemoved(goal, today, 1);
     }
 
     private Goal createGoal(Long id, String title, GoalType type) {
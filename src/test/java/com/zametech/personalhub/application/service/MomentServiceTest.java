@@ -1,7 +1,10 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.MomentNotFoundException;
+import com.zametech.personalhub.domain.model.CursorPage;
+import com.zametech.personalhub.domain.model.KeysetCursor;
 import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.MomentListItem;
 import com.zametech.personalhub.domain.repository.MomentRepository;
 import com.zametech.personalhub.presentation.dto.request.CreateMomentRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateMomentRequest;
@@ -36,6 +39,9 @@ class MomentServiceTest {
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
     @InjectMocks
     private MomentService momentService;
 
@@ -147,19 +153,64 @@ class MomentServiceTest {
     void getMomentsByUser_shouldReturnPagedMoments() {
         // Given
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<Moment> momentList = Arrays.asList(moment);
-        Page<Moment> momentPage = new PageImpl<>(momentList, pageRequest, 1);
+        Page<MomentListItem> momentPage = new PageImpl<>(List.of(listItem(moment)), pageRequest, 1);
         
         when(userContextService.getCurrentUserId()).thenReturn(userId);
-        when(momentRepository.findByUserId(userId, pageRequest)).thenReturn(momentPage);
+        when(momentRepository.findListItemsByUserId(userId, pageRequest)).thenReturn(momentPage);
 
         // When
-        Page<Moment> result = momentService.getMomentsByUser(pageRequest);
+        Page<MomentListItem> result = momentService.getMomentsByUser(pageRequest);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getContent()).isEqualTo("Test moment content");
+        assertThat(result.getContent().get(0).content()).isEqualTo("Test moment content");
+        assertThat(result.getContent().get(0).tagList()).containsExactly("Ideas", "test");
+    }
+
+    @Test
+    void getMomentsByUserAfterCursor_shouldFetchOneExtraRowAndReturnNextCursor() {
+        // Given
+        MomentListItem first = listItem(moment);
+        MomentListItem older = new MomentListItem(2L, "Older", null, moment.getCreatedAt().minusMinutes(1), null);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(momentRepository.findListItemKeysetPage(userId, null, 2)).thenReturn(List.of(first, older));
+
+        // When
+        CursorPage<MomentListItem> result = momentService.getMomentsByUserAfterCursor(null, 1);
+
+        // Then
+        assertThat(result.items()).containsExactly(first);
+        assertThat(result.nextCursor()).isNotNull();
+        assertThat(KeysetCursor.decode(result.nextCursor()))
+            .isEqualTo(KeysetCursor.of(moment.getCreatedAt(), moment.getId()));
+    }
+
+    @Test
+    void getMomentsByUserAfterCursor_onLastPage_shouldReturnNoCursor() {
+        // Given
+        KeysetCursor cursor = KeysetCursor.of(moment.getCreatedAt().plusMinutes(1), 5L);
+        MomentListItem item = listItem(moment);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(momentRepository.findListItemKeysetPage(userId, cursor, 11)).thenReturn(List.of(item));
+
+        // When
+        CursorPage<MomentListItem> result = momentService.getMomentsByUserAfterCursor(cursor.encode(), 10);
+
+        // Then
+        assertThat(result.items()).containsExactly(item);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getMomentsByUserAfterCursor_withInvalidInput_shouldThrowException() {
+        assertThatThrownBy(() -> momentService.getMomentsByUserAfterCursor(null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> momentService.getMomentsByUserAfterCursor("not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(momentRepository);
     }
 
     @Test
@@ -369,4 +420,9 @@ class MomentServiceTest {
         // Then
         assertThat(defaultTags).containsExactly("Ideas", "Discoveries", "Emotions", "Log", "Other");
     }
-}
\ No newline at end of file
+
+    private MomentListItem listItem(Moment source) {
+        return new MomentListItem(source.getId(), source.getContent(), source.getTags(),
+            source.getCreatedAt(), source.getUpdatedAt());
+    }
+}
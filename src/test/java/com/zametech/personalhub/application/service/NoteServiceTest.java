@@ -1,7 +1,9 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.NoteListItem;
 import com.zametech.personalhub.domain.repository.NoteRepository;
 import com.zametech.personalhub.presentation.dto.request.CreateNoteRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateNoteRequest;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +39,12 @@ class NoteServiceTest {
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private NoteService noteService;
 
@@ -151,19 +160,38 @@ class NoteServiceTest {
     void getNotesByUser_shouldReturnPagedNotes() {
         // Given
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<Note> noteList = Arrays.asList(note);
-        Page<Note> notePage = new PageImpl<>(noteList, pageRequest, 1);
+        NoteListItem item = new NoteListItem(1L, "Test Note", "Test Content", "test,note",
+            note.getCreatedAt(), note.getUpdatedAt());
+        Page<NoteListItem> notePage = new PageImpl<>(List.of(item), pageRequest, 1);
         
         when(userContextService.getCurrentUserId()).thenReturn(userId);
-        when(noteRepository.findByUserId(userId, pageRequest)).thenReturn(notePage);
+        when(noteRepository.findListItemsByUserId(userId, true, pageRequest)).thenReturn(notePage);
 
         // When
-        Page<Note> result = noteService.getNotesByUser(pageRequest);
+        Page<NoteListItem> result = noteService.getNotesByUser(pageRequest, true);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Note");
+        assertThat(result.getContent().get(0).title()).isEqualTo("Test Note");
+        assertThat(result.getContent().get(0).tagList()).containsExactly("test", "note");
+    }
+
+    @Test
+    void getNotesByUserAfterCursor_withoutContent_shouldPassFlagToRepository() {
+        // Given
+        NoteListItem item = new NoteListItem(1L, "Test Note", null, null, note.getCreatedAt(), note.getUpdatedAt());
+        
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(noteRepository.findListItemKeysetPage(userId, null, 11, false)).thenReturn(List.of(item));
+
+        // When
+        CursorPage<NoteListItem> result = noteService.getNotesByUserAfterCursor(null, 10, false);
+
+        // Then
+        assertThat(result.items()).containsExactly(item);
+        assertThat(result.items().get(0).tagList()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
@@ -1,8 +1,13 @@
 package com.zametech.personalhub.application.service;
 
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.RecurrenceRule;
+import com.zametech.personalhub.domain.model.RepeatOccurrence;
 import com.zametech.personalhub.domain.model.RepeatType;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.domain.repository.TodoRepository;
 import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,13 +16,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +36,12 @@ class RepeatServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RepeatService repeatService;
 
@@ -178,14 +194,9 @@ class RepeatServiceTest {
         );
         originalTodo.setId(1L);
 
-        when(todoRepository.findByOriginalTodoIdAndDueDate(1L, LocalDate.of(2025, 1, 2))).thenReturn(List.of());
-        
-        // Mock the save operation to return the entity with an ID
-        when(todoRepository.save(any(TodoEntity.class))).thenAnswer(invocation -> {
-            TodoEntity entity = invocation.getArgument(0);
-            entity.setId(2L); // Simulate generated ID
-            return entity;
-        });
+        TodoEntity inserted = instanceOf(originalTodo, LocalDate.of(2025, 1, 2));
+        inserted.setId(2L); // Simulate generated ID
+        when(todoRepository.insertRepeatInstances(Map.of(1L, LocalDate.of(2025, 1, 2)))).thenReturn(List.of(inserted));
 
         // When
         TodoEntity nextOccurrence = repeatService.generateNextOccurrence(originalTodo);
@@ -208,10 +219,8 @@ class RepeatServiceTest {
         );
         originalTodo.setId(1L);
 
-        // すでに存在するインスタンス
-        TodoEntity existingInstance = new TodoEntity();
-        when(todoRepository.findByOriginalTodoIdAndDueDate(1L, LocalDate.of(2025, 1, 2)))
-            .thenReturn(List.of(existingInstance));
+        // すでに存在するインスタンスは ON CONFLICT DO NOTHING で挿入されない
+        when(todoRepository.insertRepeatInstances(Map.of(1L, LocalDate.of(2025, 1, 2)))).thenReturn(List.of());
 
         // When
         TodoEntity nextOccurrence = repeatService.generateNextOccurrence(originalTodo);
@@ -248,14 +257,9 @@ class RepeatServiceTest {
         repeatableTodo.setId(1L);
 
         when(todoRepository.findByUserIdAndIsRepeatableTrue(userId)).thenReturn(List.of(repeatableTodo));
-        when(todoRepository.findByOriginalTodoIdAndDueDate(1L, LocalDate.of(2025, 1, 2))).thenReturn(List.of());
-        
-        // Mock the save operation to return the entity with an ID
-        when(todoRepository.save(any(TodoEntity.class))).thenAnswer(invocation -> {
-            TodoEntity entity = invocation.getArgument(0);
-            entity.setId(2L); // Simulate generated ID
-            return entity;
-        });
+        when(todoRepository.findInstanceDueDatesByOriginalTodoIds(Set.of(1L))).thenReturn(Map.of());
+        when(todoRepository.insertRepeatInstances(Map.of(1L, LocalDate.of(2025, 1, 2))))
+            .thenReturn(List.of(instanceOf(repeatableTodo, LocalDate.of(2025, 1, 2))));
 
         // When
         List<TodoEntity> pendingOccurrences = repeatService.generateAllPendingOccurrences(userId);
@@ -264,4 +268,202 @@ class RepeatServiceTest {
         assertThat(pendingOccurrences).hasSize(1);
         assertThat(pendingOccurrences.get(0).getDueDate()).isAfter(LocalDate.of(2025, 1, 1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGeneratePendingOccurrencesChunk() {
+        // Given
+        LocalDate today = LocalDate.of(2025, 1, 10);
+        TodoEntity pending = createRepeatableTodo(RepeatType.DAILY, 1, null, null, LocalDate.of(2025, 1, 9), null);
+        pending.setId(11L);
+        TodoEntity alreadyGenerated = createRepeatableTodo(RepeatType.WEEKLY, 1, null, null, LocalDate.of(2025, 1, 3), null);
+        alreadyGenerated.setId(12L);
+        TodoEntity ended = createRepeatableTodo(RepeatType.DAILY, 1, null, null, LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 5));
+        ended.setId(13L);
+
+        when(todoRepository.lockRepeatableTodosDueBy(today, 10L, 3)).thenReturn(List.of(pending, alreadyGenerated, ended));
+        // 終了日を過ぎたものは既存インスタンスの確認前に除外される
+        when(todoRepository.findInstanceDueDatesByOriginalTodoIds(Set.of(11L, 12L)))
+            .thenReturn(Map.of(12L, Set.of(LocalDate.of(2025, 1, 10))));
+        List<TodoEntity> inserted = List.of(instanceOf(pending, LocalDate.of(2025, 1, 10)));
+        when(todoRepository.insertRepeatInstances(Map.of(11L, LocalDate.of(2025, 1, 10)))).thenReturn(inserted);
+
+        // When
+        RepeatGenerationChunk chunk = repeatService.generatePendingOccurrencesChunk(today, 10L, 3);
+
+        // Then
+        assertThat(chunk).isEqualTo(new RepeatGenerationChunk(3, 1, 13L));
+        verify(activityRollupService).recordTodosCreated(inserted);
+        verify(eventPublisher).publishEvent(new UserActivityChangedEvent(pending.getUserId()));
+        verify(eventPublisher).publishEvent(new CollectionChangedEvent(pending.getUserId(), VersionedCollection.TODOS));
+    }
+
+    @Test
+    void testGeneratePendingOccurrencesChunk_SkipsInvalidRepeatRule() {
+        // Given
+        LocalDate today = LocalDate.of(2025, 1, 10);
+        TodoEntity malformed = createRepeatableTodo(RepeatType.WEEKLY, 1, "1,9", null, LocalDate.of(2025, 1, 6), null);
+        malformed.setId(11L);
+        TodoEntity pending = createRepeatableTodo(RepeatType.DAILY, 1, null, null, LocalDate.of(2025, 1, 9), null);
+        pending.setId(12L);
+
+        when(todoRepository.lockRepeatableTodosDueBy(today, 10L, 2)).thenReturn(List.of(malformed, pending));
+        when(todoRepository.findInstanceDueDatesByOriginalTodoIds(Set.of(12L))).thenReturn(Map.of());
+        List<TodoEntity> inserted = List.of(instanceOf(pending, LocalDate.of(2025, 1, 10)));
+        when(todoRepository.insertRepeatInstances(Map.of(12L, LocalDate.of(2025, 1, 10)))).thenReturn(inserted);
+
+        // When
+        RepeatGenerationChunk chunk = repeatService.generatePendingOccurrencesChunk(today, 10L, 2);
+
+        // Then
+        // 不正な曜日指定のTodoは飛ばし、後続のTodoとチャンクの続きは処理される
+        assertThat(chunk).isEqualTo(new RepeatGenerationChunk(2, 1, 12L));
+        verify(activityRollupService).recordTodosCreated(inserted);
+    }
+
+    @Test
+    void testGeneratePendingOccurrencesChunk_NothingToClaim() {
+        // Given
+        LocalDate today = LocalDate.of(2025, 1, 10);
+        when(todoRepository.lockRepeatableTodosDueBy(today, 42L, 100)).thenReturn(List.of());
+
+        // When
+        RepeatGenerationChunk chunk = repeatService.generatePendingOccurrencesChunk(today, 42L, 100);
+
+        // Then
+        assertThat(chunk).isEqualTo(new RepeatGenerationChunk(0, 0, 42L));
+        verify(todoRepository, never()).insertRepeatInstances(anyMap());
+    }
+
+    @Test
+    void testCalculateNextDueDate_WeeklyWithInterval() {
+        // Given - 隔週の月・金、金曜日(2025/1/10)から
+        TodoEntity todo = createRepeatableTodo(RepeatType.WEEKLY, 2, "1,5", null, LocalDate.of(2025, 1, 10), null);
+
+        // When
+        LocalDate nextDueDate = repeatService.calculateNextDueDate(todo);
+
+        // Then
+        assertThat(nextDueDate).isEqualTo(LocalDate.of(2025, 1, 20)); // 2週後の月曜日
+    }
+
+    @Test
+    void testCalculateNextDueDate_BeyondEndDate() {
+        // Given
+        TodoEntity todo = createRepeatableTodo(RepeatType.DAILY, 1, null, null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1));
+
+        // When
+        LocalDate nextDueDate = repeatService.calculateNextDueDate(todo);
+
+        // Then
+        assertThat(nextDueDate).isNull();
+    }
+
+    @Test
+    void testRecurrenceRuleOf_CachedByRepeatSettings() {
+        // Given
+        TodoEntity todo = createRepeatableTodo(RepeatType.WEEKLY, 1, "1,3,5", null, LocalDate.of(2025, 1, 6), null);
+        TodoEntity sameSettings = createRepeatableTodo(RepeatType.WEEKLY, 1, "1,3,5", null, LocalDate.of(2025, 2, 3), null);
+
+        // When
+        RecurrenceRule rule = repeatService.recurrenceRuleOf(todo);
+
+        // Then
+        assertThat(rule.daysOfWeekMask()).isEqualTo(0b10101);
+        assertThat(repeatService.recurrenceRuleOf(sameSettings)).isSameAs(rule);
+        todo.setRepeatDaysOfWeek("2");
+        assertThat(repeatService.recurrenceRuleOf(todo)).isNotSameAs(rule);
+    }
+
+    @Test
+    void testOccurrencesBetween_DailyFarFromStart() {
+        // Given - 2020/1/1から3日ごと（2025/1/1までは1827日）
+        TodoEntity todo = createRepeatableTodo(RepeatType.DAILY, 3, null, null, LocalDate.of(2020, 1, 1), null);
+
+        // When
+        List<LocalDate> occurrences = repeatService.recurrenceRuleOf(todo)
+            .occurrencesBetween(todo.getDueDate(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 7));
+
+        // Then
+        assertThat(occurrences).containsExactly(
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 7));
+    }
+
+    @Test
+    void testOccurrencesBetween_YearlyOnLeapDay() {
+        // Given
+        TodoEntity todo = createRepeatableTodo(RepeatType.YEARLY, 1, null, null, LocalDate.of(2024, 2, 29), null);
+
+        // When
+        List<LocalDate> occurrences = repeatService.recurrenceRuleOf(todo)
+            .occurrencesBetween(todo.getDueDate(), LocalDate.of(2025, 1, 1), LocalDate.of(2028, 12, 31));
+
+        // Then
+        assertThat(occurrences).containsExactly(
+            LocalDate.of(2025, 2, 28), LocalDate.of(2026, 2, 28), LocalDate.of(2027, 2, 28), LocalDate.of(2028, 2, 29));
+    }
+
+    @Test
+    void testOccurrencesBetween_UntilEndDate() {
+        // Given
+        TodoEntity todo = createRepeatableTodo(RepeatType.WEEKLY, 1, "6,7", null, LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 12));
+
+        // When
+        List<LocalDate> occurrences = repeatService.recurrenceRuleOf(todo)
+            .occurrencesBetween(todo.getDueDate(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        // Then
+        assertThat(occurrences).containsExactly(
+            LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 11), LocalDate.of(2025, 1, 12));
+    }
+
+    @Test
+    void testExpandOccurrences() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        // 隔週の月・水、2025/1/6(月)から
+        TodoEntity biweekly = createRepeatableTodo(RepeatType.WEEKLY, 2, "1,3", null, LocalDate.of(2025, 1, 6), null);
+        biweekly.setId(1L);
+        // 毎月31日（短い月は月末）
+        TodoEntity monthEnd = createRepeatableTodo(RepeatType.MONTHLY, 1, null, 31, LocalDate.of(2025, 1, 31), null);
+        monthEnd.setId(2L);
+        TodoEntity done = instanceOf(biweekly, LocalDate.of(2025, 2, 3));
+        done.setId(100L);
+        done.setStatus(TodoStatus.DONE);
+
+        when(todoRepository.findByUserIdAndIsRepeatableTrue(userId)).thenReturn(List.of(biweekly, monthEnd));
+        when(todoRepository.findInstancesByOriginalTodoIdsAndDueDateBetween(List.of(1L, 2L), from, to))
+            .thenReturn(List.of(done));
+
+        // When
+        List<RepeatOccurrence> occurrences = repeatService.expandOccurrences(userId, from, to);
+
+        // Then
+        assertThat(occurrences).extracting(RepeatOccurrence::date).containsExactly(
+            LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 17), LocalDate.of(2025, 2, 19),
+            LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 17),
+            LocalDate.of(2025, 3, 19), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 3, 31));
+        assertThat(occurrences.get(0)).isEqualTo(new RepeatOccurrence(
+            1L, biweekly.getTitle(), TodoPriority.MEDIUM, LocalDate.of(2025, 2, 3), 100L, TodoStatus.DONE));
+        assertThat(occurrences.get(1).materialized()).isFalse();
+        assertThat(occurrences).filteredOn(occurrence -> occurrence.originalTodoId().equals(2L))
+            .extracting(RepeatOccurrence::date)
+            .containsExactly(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31)); // 3月は31日に戻る
+        verify(todoRepository, never()).insertRepeatInstances(anyMap());
+    }
+
+    private TodoEntity instanceOf(TodoEntity originalTodo, LocalDate dueDate) {
+        TodoEntity instance = new TodoEntity(
+            originalTodo.getUserId(),
+            originalTodo.getTitle(),
+            originalTodo.getDescription(),
+            TodoStatus.TODO,
+            originalTodo.getPriority(),
+            dueDate
+        );
+        instance.setIsRepeatable(false);
+        instance.setOriginalTodoId(originalTodo.getId());
+        return instance;
+    }
+}
@@ -0,0 +1,185 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.SyncChange;
+import com.zametech.personalhub.domain.model.SyncEntityType;
+import com.zametech.personalhub.domain.model.SyncPosition;
+import com.zametech.personalhub.domain.model.SyncTombstone;
+import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.repository.EventRepository;
+import com.zametech.personalhub.domain.repository.MomentRepository;
+import com.zametech.personalhub.domain.repository.NoteRepository;
+import com.zametech.personalhub.domain.repository.SyncTombstoneRepository;
+import com.zametech.personalhub.domain.repository.TodoRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import com.zametech.personalhub.presentation.dto.response.SyncChangesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private MomentRepository momentRepository;
+
+    @Mock
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void getChanges_withoutToken_shouldReturnEverythingAndLatestToken() {
+        // Given
+        TodoEntity todo = new TodoEntity(userId, "Todo", null, TodoStatus.TODO, TodoPriority.MEDIUM, null);
+        todo.setId(1L);
+        Note note = new Note(2L, "Note", "Content", "a,b", userId, LocalDateTime.now(), LocalDateTime.now());
+        SyncTombstone tombstone = new SyncTombstone(SyncEntityType.MOMENT, 9L, new SyncPosition(101L, 12L), ZonedDateTime.now());
+
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(syncTombstoneRepository.findOldestRunningXid()).thenReturn(200L);
+        when(todoRepository.findChangedSince(userId, SyncPosition.START, 200L, 501))
+            .thenReturn(List.of(new SyncChange<>(new SyncPosition(100L, 10L), todo)));
+        when(noteRepository.findChangedSince(userId, SyncPosition.START, 200L, 501))
+            .thenReturn(List.of(new SyncChange<>(new SyncPosition(100L, 11L), note)));
+        when(eventRepository.findChangedSince(userId, SyncPosition.START, 200L, 501)).thenReturn(List.of());
+        when(momentRepository.findChangedSince(userId, SyncPosition.START, 200L, 501)).thenReturn(List.of());
+        when(syncTombstoneRepository.findByUserIdSince(userId, SyncPosition.START, 200L, 501)).thenReturn(List.of(tombstone));
+
+        // When
+        SyncChangesResponse response = syncService.getChanges(null, 500);
+
+        // Then
+        assertThat(response.todos()).extracting("id").containsExactly(1L);
+        assertThat(response.notes()).extracting("id").containsExactly(2L);
+        assertThat(response.notes().get(0).tags()).containsExactly("a", "b");
+        assertThat(response.events()).isEmpty();
+        assertThat(response.deleted()).containsExactly(
+            new SyncChangesResponse.DeletedItem(SyncEntityType.MOMENT, 9L, tombstone.deletedAt()));
+        assertThat(response.nextToken()).isEqualTo("101.12");
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    void getChanges_overLimit_shouldCutAtTheLimitAcrossTypes() {
+        // Given
+        Moment first = new Moment();
+        first.setId(1L);
+        Moment third = new Moment();
+        third.setId(3L);
+        Note second = new Note(2L, "Note", null, null, userId, null, null);
+
+        SyncPosition since = new SyncPosition(300L, 40L);
+
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(syncTombstoneRepository.findOldestRunningXid()).thenReturn(400L);
+        when(todoRepository.findChangedSince(userId, since, 400L, 3)).thenReturn(List.of());
+        when(noteRepository.findChangedSince(userId, since, 400L, 3))
+            .thenReturn(List.of(new SyncChange<>(new SyncPosition(301L, 42L), second)));
+        when(eventRepository.findChangedSince(userId, since, 400L, 3)).thenReturn(List.of());
+        // Ordered by transaction first: 43 was written by an older transaction than 42
+        when(momentRepository.findChangedSince(userId, since, 400L, 3))
+            .thenReturn(List.of(new SyncChange<>(new SyncPosition(300L, 43L), first), new SyncChange<>(new SyncPosition(302L, 41L), third)));
+        when(syncTombstoneRepository.findByUserIdSince(userId, since, 400L, 3)).thenReturn(List.of());
+
+        // When
+        SyncChangesResponse response = syncService.getChanges("300.40", 2);
+
+        // Then
+        assertThat(response.moments()).extracting("id").containsExactly(1L);
+        assertThat(response.notes()).extracting("id").containsExactly(2L);
+        assertThat(response.nextToken()).isEqualTo("301.42");
+        assertThat(response.hasMore()).isTrue();
+    }
+
+    @Test
+    void getChanges_withNoChanges_shouldKeepToken() {
+        // Given
+        SyncPosition since = new SyncPosition(90L, 7L);
+
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(syncTombstoneRepository.findOldestRunningXid()).thenReturn(95L);
+        when(todoRepository.findChangedSince(userId, since, 95L, 11)).thenReturn(List.of());
+        when(noteRepository.findChangedSince(userId, since, 95L, 11)).thenReturn(List.of());
+        when(eventRepository.findChangedSince(userId, since, 95L, 11)).thenReturn(List.of());
+        when(momentRepository.findChangedSince(userId, since, 95L, 11)).thenReturn(List.of());
+        when(syncTombstoneRepository.findByUserIdSince(userId, since, 95L, 11)).thenReturn(List.of());
+
+        // When
+        SyncChangesResponse response = syncService.getChanges("90.7", 10);
+
+        // Then
+        assertThat(response.nextToken()).isEqualTo("90.7");
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    void getChanges_withLegacyToken_shouldStartOver() {
+        // Given
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(syncTombstoneRepository.findOldestRunningXid()).thenReturn(95L);
+        when(todoRepository.findChangedSince(userId, SyncPosition.START, 95L, 11)).thenReturn(List.of());
+        when(noteRepository.findChangedSince(userId, SyncPosition.START, 95L, 11)).thenReturn(List.of());
+        when(eventRepository.findChangedSince(userId, SyncPosition.START, 95L, 11)).thenReturn(List.of());
+        when(momentRepository.findChangedSince(userId, SyncPosition.START, 95L, 11)).thenReturn(List.of());
+        when(syncTombstoneRepository.findByUserIdSince(userId, SyncPosition.START, 95L, 11)).thenReturn(List.of());
+
+        // When
+        SyncChangesResponse response = syncService.getChanges("10482", 10);
+
+        // Then
+        assertThat(response.nextToken()).isEqualTo("0.0");
+    }
+
+    @Test
+    void getChanges_withInvalidInput_shouldThrowException() {
+        assertThatThrownBy(() -> syncService.getChanges("abc", 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid sync token");
+        assertThatThrownBy(() -> syncService.getChanges("-1", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncService.getChanges("12.-3", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncService.getChanges("12.", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncService.getChanges(null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncService.getChanges(null, SyncService.MAX_LIMIT + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(todoRepository, syncTombstoneRepository);
+    }
+}
@@ -1,6 +1,7 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.domain.repository.TodoRepository;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -41,11 +43,17 @@ class TodoOwnershipServiceTest {
     @Mock
     private RepeatService repeatService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private TodoService todoService;
 
     @BeforeEach
     void setUp() {
-        todoService = new TodoService(todoRepository, userContextService, repeatService);
+        todoService = new TodoService(todoRepository, userContextService, repeatService, activityRollupService, eventPublisher);
     }
 
     @Test
@@ -143,39 +151,26 @@ class TodoOwnershipServiceTest {
         UUID currentUserId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 10);
 
-        TodoEntity todo1 = new TodoEntity(
-                currentUserId,
-                "Todo 1",
-                "Description 1",
-                TodoStatus.TODO,
-                TodoPriority.HIGH,
-                LocalDate.now()
-        );
-        todo1.setId(1L);
-
-        TodoEntity todo2 = new TodoEntity(
-                currentUserId,
-                "Todo 2",
-                "Description 2",
-                TodoStatus.DONE,
-                TodoPriority.LOW,
-                LocalDate.now()
-        );
-        todo2.setId(2L);
+        TodoListItem todo1 = new TodoListItem(1L, "Todo 1", "Description 1", TodoStatus.TODO, TodoPriority.HIGH,
+                LocalDate.now(), null, false, null, null, null, null, null, null,
+                ZonedDateTime.now(), ZonedDateTime.now());
+        TodoListItem todo2 = new TodoListItem(2L, "Todo 2", "Description 2", TodoStatus.DONE, TodoPriority.LOW,
+                LocalDate.now(), null, false, null, null, null, null, null, null,
+                ZonedDateTime.now(), ZonedDateTime.now());
 
-        Page<TodoEntity> todoPage = new PageImpl<>(List.of(todo1, todo2), pageable, 2);
+        Page<TodoListItem> todoPage = new PageImpl<>(List.of(todo1, todo2), pageable, 2);
 
         when(userContextService.getCurrentUserId()).thenReturn(currentUserId);
-        when(todoRepository.findByUserId(currentUserId, pageable)).thenReturn(todoPage);
+        when(todoRepository.findListItemsByUserId(currentUserId, true, pageable)).thenReturn(todoPage);
 
-        Page<TodoResponse> response = todoService.getTodos(pageable);
+        Page<TodoResponse> response = todoService.getTodos(pageable, true);
 
         assertNotNull(response);
         assertEquals(2, response.getContent().size());
         assertEquals("Todo 1", response.getContent().get(0).title());
         assertEquals("Todo 2", response.getContent().get(1).title());
         verify(userContextService).getCurrentUserId();
-        verify(todoRepository).findByUserId(currentUserId, pageable);
+        verify(todoRepository).findListItemsByUserId(currentUserId, true, pageable);
     }
 
     @Test
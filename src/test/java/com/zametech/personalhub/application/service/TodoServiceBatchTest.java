@@ -0,0 +1,210 @@
+package com.zametech.personalhub.application.service;
+
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.UserActivityChangedEvent;
+import com.zametech.personalhub.domain.model.TodoPriority;
+import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.VersionedCollection;
+import com.zametech.personalhub.domain.repository.TodoRepository;
+import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
+import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchOperation;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchRequest;
+import com.zametech.personalhub.presentation.dto.request.UpdateTodoRequest;
+import com.zametech.personalhub.presentation.dto.response.TodoBatchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceBatchTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @Mock
+    private RepeatService repeatService;
+
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TodoService todoService;
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private TodoEntity todo1;
+    private TodoEntity todo2;
+
+    @BeforeEach
+    void setUp() {
+        todo1 = new TodoEntity(USER_ID, "Todo 1", null, TodoStatus.TODO, TodoPriority.MEDIUM, null);
+        todo1.setId(1L);
+        todo2 = new TodoEntity(USER_ID, "Todo 2", null, TodoStatus.IN_PROGRESS, TodoPriority.HIGH, null);
+        todo2.setId(2L);
+
+        when(userContextService.getCurrentUserId()).thenReturn(USER_ID);
+    }
+
+    @Test
+    void applyBatch_ValidatesOwnershipWithSingleQueryAndAppliesAllOperations() {
+        // Given
+        when(todoRepository.findByIdsAndUserId(Set.of(1L, 2L), USER_ID)).thenReturn(List.of(todo1, todo2));
+        when(todoRepository.save(any(TodoEntity.class))).thenAnswer(invocation -> {
+            TodoEntity todo = invocation.getArgument(0);
+            if (todo.getId() == null) {
+                todo.setId(10L);
+            }
+            return todo;
+        });
+        TodoBatchRequest request = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(TodoBatchOperation.Type.CREATE, null,
+                        new CreateTodoRequest("Subtask", null, null, null, 1L, false, null), null),
+                new TodoBatchOperation(TodoBatchOperation.Type.TOGGLE, 1L, null, null),
+                new TodoBatchOperation(TodoBatchOperation.Type.UPDATE, 2L, null,
+                        new UpdateTodoRequest("Todo 2 renamed", null, TodoStatus.DONE, TodoPriority.LOW, null, null, false, null)),
+                new TodoBatchOperation(TodoBatchOperation.Type.DELETE, 2L, null, null)
+        ));
+
+        // When
+        TodoBatchResponse response = todoService.applyBatch(request);
+
+        // Then
+        assertThat(response.succeeded()).isEqualTo(4);
+        assertThat(response.failed()).isZero();
+        assertThat(response.results()).extracting(TodoBatchResponse.ItemResult::id).containsExactly(10L, 1L, 2L, 2L);
+        assertThat(response.results().get(0).todo().parentId()).isEqualTo(1L);
+        assertThat(todo1.getStatus()).isEqualTo(TodoStatus.DONE);
+        assertThat(todo2.getTitle()).isEqualTo("Todo 2 renamed");
+
+        verify(todoRepository, times(1)).findByIdsAndUserId(any(), eq(USER_ID));
+        verify(todoRepository, never()).findById(any());
+        verify(todoRepository).deleteById(2L);
+
+        // 集計の更新はすべての書き込みの後に行う
+        InOrder inOrder = inOrder(todoRepository, activityRollupService);
+        inOrder.verify(todoRepository).deleteById(2L);
+        inOrder.verify(activityRollupService).recordTodoCreated(any(TodoEntity.class));
+        inOrder.verify(activityRollupService).recordTodoUpdated(USER_ID, TodoStatus.TODO, null, TodoStatus.DONE);
+        inOrder.verify(activityRollupService).recordTodoUpdated(USER_ID, TodoStatus.IN_PROGRESS, null, TodoStatus.DONE);
+        inOrder.verify(activityRollupService).recordTodoDeleted(todo2);
+        verify(eventPublisher).publishEvent(new UserActivityChangedEvent(USER_ID));
+        verify(eventPublisher).publishEvent(new CollectionChangedEvent(USER_ID, VersionedCollection.TODOS));
+    }
+
+    @Test
+    void applyBatch_ReportsUnknownAndForeignTodosAsFailedItems() {
+        // Given: ID 99 is missing or owned by another user, so the ownership query does not return it
+        when(todoRepository.findByIdsAndUserId(Set.of(1L, 99L), USER_ID)).thenReturn(List.of(todo1));
+        when(todoRepository.save(todo1)).thenReturn(todo1);
+        TodoBatchRequest request = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(TodoBatchOperation.Type.DELETE, 99L, null, null),
+                new TodoBatchOperation(TodoBatchOperation.Type.CREATE, null,
+                        new CreateTodoRequest("Orphan", null, null, null, 99L, false, null), null),
+                new TodoBatchOperation(TodoBatchOperation.Type.UPDATE, 1L, null,
+                        new UpdateTodoRequest("Todo 1", null, TodoStatus.TODO, TodoPriority.MEDIUM, null, 1L, false, null)),
+                new TodoBatchOperation(TodoBatchOperation.Type.TOGGLE, 1L, null, null)
+        ));
+
+        // When
+        TodoBatchResponse response = todoService.applyBatch(request);
+
+        // Then
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.results()).extracting(TodoBatchResponse.ItemResult::success)
+                .containsExactly(false, false, false, true);
+        assertThat(response.results().get(0).error()).isEqualTo("TODO not found with id: 99");
+        assertThat(response.results().get(1).error()).isEqualTo("Parent TODO not found with id: 99");
+        assertThat(response.results().get(2).error()).isEqualTo("A task cannot be its own parent");
+        verify(todoRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void applyBatch_ReportsRepeatInstanceMovedOntoSiblingDueDateAsFailedItem() {
+        // Given: todo1 and todo2 are instances of the same repeatable todo, a week apart
+        LocalDate firstDueDate = LocalDate.of(2025, 1, 1);
+        LocalDate secondDueDate = LocalDate.of(2025, 1, 8);
+        todo1.setOriginalTodoId(100L);
+        todo1.setDueDate(firstDueDate);
+        todo2.setOriginalTodoId(100L);
+        todo2.setDueDate(secondDueDate);
+        when(todoRepository.findByIdsAndUserId(Set.of(1L, 2L), USER_ID)).thenReturn(List.of(todo1, todo2));
+        when(todoRepository.findInstanceDueDatesByOriginalTodoIds(Set.of(100L)))
+                .thenReturn(Map.of(100L, Set.of(firstDueDate, secondDueDate)));
+        when(todoRepository.save(todo2)).thenReturn(todo2);
+        TodoBatchRequest request = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(TodoBatchOperation.Type.UPDATE, 1L, null,
+                        new UpdateTodoRequest("Todo 1", null, TodoStatus.TODO, TodoPriority.MEDIUM, secondDueDate, null, false, null)),
+                new TodoBatchOperation(TodoBatchOperation.Type.UPDATE, 2L, null,
+                        new UpdateTodoRequest("Todo 2", null, TodoStatus.TODO, TodoPriority.MEDIUM, LocalDate.of(2025, 1, 9), null, false, null))
+        ));
+
+        // When
+        TodoBatchResponse response = todoService.applyBatch(request);
+
+        // Then: the conflicting move fails on its own instead of aborting the batch with a constraint violation
+        assertThat(response.results()).extracting(TodoBatchResponse.ItemResult::success).containsExactly(false, true);
+        assertThat(response.results().get(0).error())
+                .isEqualTo("A repeat instance of TODO 100 already exists for due date: 2025-01-08");
+        assertThat(todo1.getDueDate()).isEqualTo(firstDueDate);
+        verify(todoRepository, never()).save(todo1);
+    }
+
+    @Test
+    void applyBatch_SkipsOperationsOnTodosDeletedEarlierInBatch() {
+        // Given
+        todo2.setParentId(1L);
+        when(todoRepository.findByIdsAndUserId(Set.of(1L, 2L), USER_ID)).thenReturn(List.of(todo1, todo2));
+        TodoBatchRequest request = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(TodoBatchOperation.Type.DELETE, 1L, null, null),
+                new TodoBatchOperation(TodoBatchOperation.Type.TOGGLE, 2L, null, null)
+        ));
+
+        // When
+        TodoBatchResponse response = todoService.applyBatch(request);
+
+        // Then: the child was removed by the cascading delete of its parent
+        assertThat(response.results()).extracting(TodoBatchResponse.ItemResult::success).containsExactly(true, false);
+        assertThat(todo2.getStatus()).isEqualTo(TodoStatus.IN_PROGRESS);
+        verify(todoRepository, never()).save(any());
+    }
+
+    @Test
+    void applyBatch_DoesNotPublishEventWhenNothingSucceeded() {
+        // Given
+        when(todoRepository.findByIdsAndUserId(Set.of(5L), USER_ID)).thenReturn(List.of());
+        TodoBatchRequest request = new TodoBatchRequest(List.of(
+                new TodoBatchOperation(TodoBatchOperation.Type.TOGGLE, 5L, null, null)
+        ));
+
+        // When
+        TodoBatchResponse response = todoService.applyBatch(request);
+
+        // Then
+        assertThat(response.failed()).isEqualTo(1);
+        verifyNoInteractions(eventPublisher, activityRollupService);
+    }
+}
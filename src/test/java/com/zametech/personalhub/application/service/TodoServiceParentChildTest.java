@@ -8,12 +8,14 @@ import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateTodoRequest;
 import com.zametech.personalhub.presentation.dto.response.TodoResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoTreeResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDate;
@@ -39,6 +41,12 @@ class TodoServiceParentChildTest {
     @Mock
     private RepeatService repeatService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -250,4 +258,95 @@ class TodoServiceParentChildTest {
         assertThatThrownBy(() -> todoService.getChildTasks(999L))
                 .isInstanceOf(TodoNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTodoTree_BuildsNestedTreeWithCompletionRollup() {
+        // Given
+        childTodo.setParentId(PARENT_TODO_ID);
+        childTodo.setStatus(TodoStatus.DONE);
+        TodoEntity grandChild = new TodoEntity();
+        grandChild.setId(300L);
+        grandChild.setUserId(USER_ID);
+        grandChild.setTitle("Grandchild Task");
+        grandChild.setStatus(TodoStatus.DONE);
+        grandChild.setPriority(TodoPriority.LOW);
+        grandChild.setParentId(CHILD_TODO_ID);
+
+        when(userContextService.getCurrentUserId()).thenReturn(USER_ID);
+        when(todoRepository.findSubtree(PARENT_TODO_ID, USER_ID, 11))
+                .thenReturn(List.of(parentTodo, childTodo, grandChild));
+
+        // When
+        TodoTreeResponse result = todoService.getTodoTree(PARENT_TODO_ID, 10);
+
+        // Then
+        assertThat(result.todo().id()).isEqualTo(PARENT_TODO_ID);
+        assertThat(result.depth()).isZero();
+        assertThat(result.childCount()).isEqualTo(1);
+        assertThat(result.subtreeSize()).isEqualTo(3);
+        assertThat(result.completedCount()).isEqualTo(2);
+        assertThat(result.completionRate()).isEqualTo(66.7);
+        assertThat(result.truncated()).isFalse();
+
+        TodoTreeResponse child = result.children().get(0);
+        assertThat(child.todo().id()).isEqualTo(CHILD_TODO_ID);
+        assertThat(child.depth()).isEqualTo(1);
+        assertThat(child.subtreeSize()).isEqualTo(2);
+        assertThat(child.completionRate()).isEqualTo(100.0);
+        assertThat(child.children()).extracting(tree -> tree.todo().id()).containsExactly(300L);
+        verify(todoRepository, never()).findById(any());
+    }
+
+    @Test
+    void getTodoTree_MarksNodesBeyondDepthLimitAsTruncated() {
+        // Given
+        childTodo.setParentId(PARENT_TODO_ID);
+
+        when(userContextService.getCurrentUserId()).thenReturn(USER_ID);
+        when(todoRepository.findSubtree(PARENT_TODO_ID, USER_ID, 1)).thenReturn(List.of(parentTodo, childTodo));
+
+        // When
+        TodoTreeResponse result = todoService.getTodoTree(PARENT_TODO_ID, 0);
+
+        // Then
+        assertThat(result.childCount()).isEqualTo(1);
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.children()).isEmpty();
+        assertThat(result.subtreeSize()).isEqualTo(1);
+        assertThat(result.completionRate()).isEqualTo(0.0);
+    }
+
+    @Test
+    void getTodoTree_AccessDenied() {
+        // Given
+        parentTodo.setUserId(OTHER_USER_ID);
+
+        when(userContextService.getCurrentUserId()).thenReturn(USER_ID);
+        when(todoRepository.findSubtree(PARENT_TODO_ID, USER_ID, 11)).thenReturn(List.of());
+        when(todoRepository.findById(PARENT_TODO_ID)).thenReturn(Optional.of(parentTodo));
+
+        // When & Then
+        assertThatThrownBy(() -> todoService.getTodoTree(PARENT_TODO_ID, 10))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Access denied to TODO with id: " + PARENT_TODO_ID);
+    }
+
+    @Test
+    void getTodoTree_NotFound() {
+        // Given
+        when(userContextService.getCurrentUserId()).thenReturn(USER_ID);
+        when(todoRepository.findSubtree(999L, USER_ID, 11)).thenReturn(List.of());
+        when(todoRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> todoService.getTodoTree(999L, 10))
+                .isInstanceOf(TodoNotFoundException.class);
+    }
+
+    @Test
+    void getTodoTree_RejectsDepthOutOfRange() {
+        assertThatThrownBy(() -> todoService.getTodoTree(PARENT_TODO_ID, TodoService.MAX_TREE_DEPTH + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(todoRepository);
+    }
+}
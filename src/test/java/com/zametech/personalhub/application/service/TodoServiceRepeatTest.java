@@ -1,6 +1,7 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.model.RepeatOccurrence;
 import com.zametech.personalhub.domain.model.RepeatType;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
@@ -9,12 +10,14 @@ import com.zametech.personalhub.infrastructure.persistence.entity.TodoEntity;
 import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
 import com.zametech.personalhub.presentation.dto.request.RepeatConfigRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateTodoRequest;
+import com.zametech.personalhub.presentation.dto.response.RepeatOccurrenceResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDate;
@@ -39,6 +42,12 @@ class TodoServiceRepeatTest {
     @Mock
     private RepeatService repeatService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -246,7 +255,8 @@ class TodoServiceRepeatTest {
 
         // Then
         verify(repeatService).generateNextOccurrence(existingTodo);
-        verify(todoRepository, times(2)).save(any(TodoEntity.class)); // 元のTODOと次のインスタンス
+        verify(todoRepository).save(existingTodo); // 次のインスタンスはRepeatServiceが挿入済み
+        verify(todoRepository, never()).save(nextInstance);
     }
 
     @Test
@@ -343,7 +353,6 @@ class TodoServiceRepeatTest {
         newInstance.setTitle("Generated Instance");
 
         when(repeatService.generateAllPendingOccurrences(userId)).thenReturn(List.of(newInstance));
-        when(todoRepository.save(newInstance)).thenReturn(newInstance);
 
         // When
         List<TodoResponse> responses = todoService.generatePendingRepeatInstances();
@@ -352,6 +361,41 @@ class TodoServiceRepeatTest {
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).title()).isEqualTo("Generated Instance");
         verify(repeatService).generateAllPendingOccurrences(userId);
-        verify(todoRepository).save(newInstance);
+        verify(todoRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetRepeatOccurrences() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 28);
+        when(repeatService.expandOccurrences(userId, from, to)).thenReturn(List.of(
+            new RepeatOccurrence(1L, "Weekly Task", TodoPriority.HIGH, LocalDate.of(2025, 2, 3), null, null)));
+
+        // When
+        List<RepeatOccurrenceResponse> result = todoService.getRepeatOccurrences(from, to);
+
+        // Then
+        assertThat(result).containsExactly(new RepeatOccurrenceResponse(
+            1L, "Weekly Task", TodoPriority.HIGH, LocalDate.of(2025, 2, 3), null, null, false));
+        verify(todoRepository, never()).save(any());
+    }
+
+    @Test
+    void testGetRepeatOccurrences_WindowTooLarge() {
+        // When & Then
+        assertThatThrownBy(() -> todoService.getRepeatOccurrences(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repeatService);
+    }
+
+    @Test
+    void testGetRepeatOccurrences_ToBeforeFrom() {
+        // When & Then
+        assertThatThrownBy(() -> todoService.getRepeatOccurrences(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 31)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repeatService);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.zametech.personalhub.application.service;
 
+import com.zametech.personalhub.common.exception.RepeatInstanceConflictException;
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.RepeatType;
+import com.zametech.personalhub.domain.model.TodoListItem;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.domain.repository.TodoRepository;
@@ -16,12 +19,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +50,12 @@ class TodoServiceTest {
     @Mock
     private RepeatService repeatService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -240,19 +251,44 @@ class TodoServiceTest {
     void getTodos_shouldReturnPagedTodos() {
         // Given
         PageRequest pageRequest = PageRequest.of(0, 10);
-        List<TodoEntity> todoList = Arrays.asList(todoEntity);
-        Page<TodoEntity> todoPage = new PageImpl<>(todoList, pageRequest, 1);
+        TodoListItem item = new TodoListItem(1L, "Test TODO", "Test Description", TodoStatus.TODO,
+            TodoPriority.HIGH, LocalDate.now().plusDays(7), null, false, null, null, null, null, null, null,
+            ZonedDateTime.now(), ZonedDateTime.now());
+        Page<TodoListItem> todoPage = new PageImpl<>(List.of(item), pageRequest, 1);
         
         when(userContextService.getCurrentUserId()).thenReturn(userId);
-        when(todoRepository.findByUserId(userId, pageRequest)).thenReturn(todoPage);
+        when(todoRepository.findListItemsByUserId(userId, true, pageRequest)).thenReturn(todoPage);
 
         // When
-        Page<TodoResponse> response = todoService.getTodos(pageRequest);
+        Page<TodoResponse> response = todoService.getTodos(pageRequest, true);
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).title()).isEqualTo("Test TODO");
+        assertThat(response.getContent().get(0).description()).isEqualTo("Test Description");
+        assertThat(response.getContent().get(0).repeatConfig()).isNull();
+        verify(todoRepository, never()).findByUserId(any(), any());
+    }
+
+    @Test
+    void getTodosAfterCursor_shouldMapRepeatConfigFromListItem() {
+        // Given
+        ZonedDateTime createdAt = ZonedDateTime.now();
+        TodoListItem repeating = new TodoListItem(2L, "Weekly", null, TodoStatus.TODO, TodoPriority.LOW,
+            null, null, true, RepeatType.WEEKLY, 1, "1,3", null, null, null, createdAt, createdAt);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(todoRepository.findListItemKeysetPage(userId, null, 21, false)).thenReturn(List.of(repeating));
+
+        // When
+        CursorPage<TodoResponse> response = todoService.getTodosAfterCursor(null, 20, false);
+
+        // Then
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.items().get(0).description()).isNull();
+        assertThat(response.items().get(0).repeatConfig().daysOfWeek()).containsExactly(1, 3);
+        assertThat(response.nextCursor()).isNull();
     }
 
     @Test
@@ -309,6 +345,29 @@ class TodoServiceTest {
         verify(todoRepository).save(any(TodoEntity.class));
     }
 
+    @Test
+    void updateTodo_movingRepeatInstanceOntoSiblingDueDate_shouldThrowConflict() {
+        // Given
+        LocalDate siblingDueDate = LocalDate.of(2025, 1, 8);
+        todoEntity.setOriginalTodoId(100L);
+        todoEntity.setDueDate(LocalDate.of(2025, 1, 1));
+        TodoEntity sibling = new TodoEntity(userId, "Weekly", null, TodoStatus.TODO, TodoPriority.MEDIUM, siblingDueDate);
+        sibling.setId(2L);
+        sibling.setOriginalTodoId(100L);
+        UpdateTodoRequest request = new UpdateTodoRequest(
+            "Weekly", null, TodoStatus.TODO, TodoPriority.MEDIUM, siblingDueDate, null, false, null);
+        
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(todoEntity));
+        when(todoRepository.findByOriginalTodoIdAndDueDate(100L, siblingDueDate)).thenReturn(List.of(sibling));
+
+        // When & Then
+        assertThatThrownBy(() -> todoService.updateTodo(1L, request))
+            .isInstanceOf(RepeatInstanceConflictException.class)
+            .hasMessageContaining("already exists for due date: 2025-01-08");
+        verify(todoRepository, never()).save(any(TodoEntity.class));
+    }
+
     @Test
     void updateTodo_withCircularDependency_shouldThrowException() {
         // Given
@@ -465,7 +524,6 @@ class TodoServiceTest {
         when(userContextService.getCurrentUserId()).thenReturn(userId);
         when(repeatService.generateAllPendingOccurrences(userId))
             .thenReturn(Arrays.asList(newInstance));
-        when(todoRepository.save(any(TodoEntity.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // When
         List<TodoResponse> response = todoService.generatePendingRepeatInstances();
@@ -473,7 +531,7 @@ class TodoServiceTest {
         // Then
         assertThat(response).hasSize(1);
         assertThat(response.get(0).title()).isEqualTo("Generated TODO");
-        verify(todoRepository).save(any(TodoEntity.class));
+        verify(todoRepository, never()).save(any(TodoEntity.class)); // Inserted by RepeatService
     }
 
     @Test
@@ -598,7 +656,7 @@ class TodoServiceTest {
         // Then
         assertThat(response.status()).isEqualTo(TodoStatus.DONE);
         verify(repeatService).generateNextOccurrence(any(TodoEntity.class));
-        verify(todoRepository, times(2)).save(any(TodoEntity.class)); // Once for update, once for new instance
+        verify(todoRepository).save(any(TodoEntity.class)); // The new instance is inserted by RepeatService
     }
 
     @Test
@@ -789,7 +847,7 @@ class TodoServiceTest {
         // Then
         assertThat(response.status()).isEqualTo(TodoStatus.DONE);
         verify(repeatService).generateNextOccurrence(originalTodo);
-        verify(todoRepository, times(2)).save(any(TodoEntity.class)); // Once for status update, once for new instance
+        verify(todoRepository).save(any(TodoEntity.class)); // The new instance is inserted by RepeatService
     }
 
     @Test
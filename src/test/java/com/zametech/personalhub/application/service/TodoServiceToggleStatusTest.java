@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.ZonedDateTime;
@@ -33,6 +34,12 @@ class TodoServiceToggleStatusTest {
     @Mock
     private RepeatService repeatService;
 
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -123,7 +130,7 @@ class TodoServiceToggleStatusTest {
         // Then
         assertThat(result.status()).isEqualTo(TodoStatus.DONE);
         verify(repeatService).generateNextOccurrence(originalTodo);
-        verify(todoRepository, times(2)).save(any(TodoEntity.class)); // Update instance + save new instance
+        verify(todoRepository).save(any(TodoEntity.class)); // Update instance; RepeatService inserts the new one
     }
 
     @Test
@@ -1,7 +1,9 @@
 package com.zametech.personalhub.application.service;
 
+import com.zametech.personalhub.domain.event.WeekStartDayChangedEvent;
 import com.zametech.personalhub.domain.model.User;
 import com.zametech.personalhub.domain.repository.UserRepository;
+import com.zametech.personalhub.infrastructure.security.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +16,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -202,4 +206,78 @@ class UserContextServiceTest {
 
         assertFalse(isCurrentUser);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnCurrentUserIdFromTokenClaimsWithoutQuery() {
+        UUID userId = UUID.randomUUID();
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, "test@example.com", List.of());
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(authenticatedUser);
+
+        assertEquals(userId, userContextService.getCurrentUserId());
+        assertTrue(userContextService.isCurrentUser(userId));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldLoadCurrentUserByIdFromTokenClaims() {
+        UUID userId = UUID.randomUUID();
+        User user = new User();
+        user.setId(userId);
+        user.setEmail("test@example.com");
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal())
+                .thenReturn(new AuthenticatedUser(userId, "test@example.com", List.of()));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertEquals(user, userContextService.getCurrentUser());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void shouldCacheWeekStartDayUntilItChanges() {
+        UUID userId = UUID.randomUUID();
+        User user = new User();
+        user.setId(userId);
+        user.setWeekStartDay(0);
+        User updatedUser = new User();
+        updatedUser.setId(userId);
+        updatedUser.setWeekStartDay(1);
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal())
+                .thenReturn(new AuthenticatedUser(userId, "test@example.com", List.of()));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user), Optional.of(updatedUser));
+
+        assertEquals(0, userContextService.getCurrentWeekStartDay());
+        assertEquals(0, userContextService.getCurrentWeekStartDay());
+        verify(userRepository, times(1)).findById(userId);
+
+        userContextService.onWeekStartDayChanged(new WeekStartDayChangedEvent(userId));
+
+        assertEquals(1, userContextService.getCurrentWeekStartDay());
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    void shouldReturnNullWeekStartDayWhenUserHasNotSetOne() {
+        UUID userId = UUID.randomUUID();
+        User user = new User();
+        user.setId(userId);
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal())
+                .thenReturn(new AuthenticatedUser(userId, "test@example.com", List.of()));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertNull(userContextService.getCurrentWeekStartDay());
+        assertNull(userContextService.getCurrentWeekStartDay());
+        verify(userRepository, times(1)).findById(userId);
+    }
+}
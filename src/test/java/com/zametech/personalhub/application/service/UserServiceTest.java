@@ -1,7 +1,10 @@
 package com.zametech.personalhub.application.service;
 
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.event.CollectionChangedEvent;
+import com.zametech.personalhub.domain.event.WeekStartDayChangedEvent;
 import com.zametech.personalhub.domain.model.User;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.domain.repository.TodoRepository;
 import com.zametech.personalhub.domain.repository.UserRepository;
 import com.zametech.personalhub.presentation.dto.request.ChangePasswordRequest;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -40,6 +44,9 @@ class UserServiceTest {
     @Mock
     private UserContextService userContextService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -334,6 +341,8 @@ class UserServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(userRepository).save(argThat(user -> user.getWeekStartDay().equals(weekStartDay)));
+        verify(eventPublisher).publishEvent(new WeekStartDayChangedEvent(USER_ID));
+        verify(eventPublisher).publishEvent(new CollectionChangedEvent(USER_ID, VersionedCollection.GOALS));
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.zametech.personalhub.common.exception;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -11,6 +12,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.Map;
 
@@ -38,6 +40,30 @@ class GlobalExceptionHandlerUnitTest {
         assertNotNull(response.getBody().timestamp());
     }
 
+    @Test
+    void handleRepeatInstanceConflictException_shouldReturn409() {
+        RepeatInstanceConflictException exception = new RepeatInstanceConflictException(100L, LocalDate.of(2025, 1, 8));
+        
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleRepeatInstanceConflictException(exception);
+        
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("REPEAT_INSTANCE_CONFLICT", response.getBody().code());
+        assertEquals("A repeat instance of TODO 100 already exists for due date: 2025-01-08", response.getBody().message());
+    }
+
+    @Test
+    void handleDataIntegrityViolationException_shouldReturn409() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+            "duplicate key value violates unique constraint \"uq_todos_original_todo_due_date\"");
+        
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleDataIntegrityViolationException(exception);
+        
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("DATA_CONFLICT", response.getBody().code());
+    }
+
     // MethodArgumentNotValidException is complex to unit test due to its internal dependencies
     // This is better tested through integration tests
     // @Test
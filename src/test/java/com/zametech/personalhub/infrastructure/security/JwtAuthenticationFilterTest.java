@@ -1,14 +1,17 @@
 package com.zametech.personalhub.infrastructure.security;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
@@ -16,7 +19,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -75,12 +81,12 @@ class JwtAuthenticationFilterTest {
     @Test
     void shouldSkipFilterWhenUserAlreadyAuthenticated() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer valid.jwt.token");
-        when(jwtService.extractUsername("valid.jwt.token")).thenReturn("testuser");
         when(securityContext.getAuthentication()).thenReturn(mock(Authentication.class));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
+        verify(jwtService, never()).extractAuthenticatedUser(anyString());
         verify(userDetailsService, never()).loadUserByUsername(anyString());
         verify(securityContext, never()).setAuthentication(any(Authentication.class));
     }
@@ -128,4 +134,40 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
         verify(securityContext, never()).setAuthentication(any(Authentication.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        String token = "claims.jwt.token";
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(
+                UUID.randomUUID(), "test@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(securityContext.getAuthentication()).thenReturn(null);
+        when(jwtService.extractAuthenticatedUser(token)).thenReturn(authenticatedUser);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        ArgumentCaptor<Authentication> captor = ArgumentCaptor.forClass(Authentication.class);
+        verify(securityContext).setAuthentication(captor.capture());
+        assertSame(authenticatedUser, captor.getValue().getPrincipal());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(jwtService, never()).isTokenValid(anyString(), any(UserDetails.class));
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void shouldNotAuthenticateWithExpiredClaimsToken() throws Exception {
+        String token = "expired.jwt.token";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(securityContext.getAuthentication()).thenReturn(null);
+        when(jwtService.extractAuthenticatedUser(token))
+                .thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        verify(securityContext, never()).setAuthentication(any(Authentication.class));
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+}
@@ -1,5 +1,10 @@
 package com.zametech.personalhub.infrastructure.security;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import com.zametech.personalhub.application.service.JwksService;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -8,16 +13,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JwtServiceTest {
@@ -30,6 +42,8 @@ class JwtServiceTest {
     
     private JwtConfiguration jwtConfiguration;
 
+    private KeyPair keyPair;
+
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
@@ -37,7 +51,7 @@ class JwtServiceTest {
         // Setup mock JwksService with RSA key pair
         KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
         keyPairGenerator.initialize(2048);
-        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        keyPair = keyPairGenerator.generateKeyPair();
         
         when(jwksService.getKeyPair()).thenReturn(keyPair);
         when(jwksService.getKeyId()).thenReturn("test-key");
@@ -171,4 +185,82 @@ class JwtServiceTest {
         
         assertFalse(isExpired);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldExtractAuthenticatedUserFromTokenWithUserId() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtService.generateToken(new AuthenticatedUser(
+                userId, "test@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        AuthenticatedUser authenticatedUser = jwtService.extractAuthenticatedUser(token);
+
+        assertEquals(userId, authenticatedUser.userId());
+        assertEquals("test@example.com", authenticatedUser.getUsername());
+        assertNull(jwtService.extractClaim(token, claims -> claims.get("week_start_day")));
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), authenticatedUser.getAuthorities());
+    }
+
+    @Test
+    void shouldReturnNullAuthenticatedUserForLegacyToken() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertNull(jwtService.extractAuthenticatedUser(token));
+    }
+
+    @Test
+    void shouldRejectExpiredRs256TokenWhenExtractingAuthenticatedUser() throws Exception {
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(2));
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+                .subject("test@example.com")
+                .issueTime(Date.from(issuedAt))
+                .expirationTime(Date.from(issuedAt.plus(Duration.ofHours(1))))
+                .claim("email", "test@example.com")
+                .claim("user_id", UUID.randomUUID().toString())
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claimsSet);
+        signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+
+        assertThrows(ExpiredJwtException.class, () -> {
+            jwtService.extractAuthenticatedUser(signedJWT.serialize());
+        });
+    }
+
+    @Test
+    void shouldVerifyRs256TokenOnceWhileItIsCached() throws Exception {
+        String token = signRs256Token(Instant.now(), Duration.ofHours(1));
+        UserDetails tokenUser = User.builder()
+                .username("test@example.com")
+                .password("password")
+                .authorities(new ArrayList<>())
+                .build();
+
+        assertEquals("test@example.com", jwtService.extractUsername(token));
+        assertTrue(jwtService.isTokenValid(token, tokenUser));
+        assertNotNull(jwtService.extractAuthenticatedUser(token));
+
+        verify(jwksService, times(1)).getKeyPair();
+    }
+
+    @Test
+    void shouldNotCacheExpiredToken() throws Exception {
+        String token = signRs256Token(Instant.now().minus(Duration.ofHours(2)), Duration.ofHours(1));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractAuthenticatedUser(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractAuthenticatedUser(token));
+
+        verify(jwksService, times(2)).getKeyPair();
+    }
+
+    private String signRs256Token(Instant issuedAt, Duration lifetime) throws Exception {
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+                .subject("test@example.com")
+                .issueTime(Date.from(issuedAt))
+                .expirationTime(Date.from(issuedAt.plus(lifetime)))
+                .claim("email", "test@example.com")
+                .claim("user_id", UUID.randomUUID().toString())
+                .build();
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claimsSet);
+        signedJWT.sign(new RSASSASigner(keyPair.getPrivate()));
+        return signedJWT.serialize();
+    }
+}
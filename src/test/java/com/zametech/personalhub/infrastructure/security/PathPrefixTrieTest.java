@@ -0,0 +1,57 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathPrefixTrieTest {
+
+    private PathPrefixTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PathPrefixTrie<>();
+        trie.add("/**", "general");
+        trie.add("/api/v1/auth/**", "auth");
+        trie.add("/api/v1/calendar/sync", "sync");
+        trie.add("/api/v1/calendar/sync/manual/**", "sync");
+        trie.add("/api/v1/analytics/export", "export");
+    }
+
+    @Test
+    void match_ShouldPreferLongestPattern() {
+        assertEquals("auth", trie.match("/api/v1/auth/login"));
+        assertEquals("sync", trie.match("/api/v1/calendar/sync/manual/detailed"));
+        assertEquals("general", trie.match("/api/v1/todos/1"));
+    }
+
+    @Test
+    void match_PrefixShouldMatchItselfButOnlyWholeSegments() {
+        assertEquals("auth", trie.match("/api/v1/auth"));
+        assertEquals("general", trie.match("/api/v1/authors"));
+    }
+
+    @Test
+    void match_ExactPatternShouldNotMatchPathsBelowIt() {
+        assertEquals("sync", trie.match("/api/v1/calendar/sync"));
+        assertEquals("general", trie.match("/api/v1/calendar/sync/status"));
+        assertEquals("export", trie.match("/api/v1/analytics/export"));
+        assertEquals("general", trie.match("/api/v1/analytics/exports"));
+    }
+
+    @Test
+    void match_WithoutCatchAll_ShouldReturnNullForUnmatchedPath() {
+        PathPrefixTrie<String> routes = new PathPrefixTrie<>();
+        routes.add("/api/v1/auth/**", "auth");
+
+        assertNull(routes.match("/api/v1/todos"));
+        assertNull(routes.match("/api/v1/au"));
+    }
+
+    @Test
+    void add_ShouldRejectDuplicateAndRelativePatterns() {
+        assertThrows(IllegalArgumentException.class, () -> trie.add("/api/v1/auth/**", "other"));
+        assertThrows(IllegalArgumentException.class, () -> trie.add("api/v1/todos", "other"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.zametech.personalhub.infrastructure.security;
+
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaRateLimitBucketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresRateLimitStoreTest {
+
+    @Mock
+    private JpaRateLimitBucketRepository rateLimitBucketRepository;
+
+    private PostgresRateLimitStore rateLimitStore;
+
+    private final RateLimit limit = new RateLimit("general", 100, 100, Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(1000);
+        rateLimitStore = new PostgresRateLimitStore(rateLimitBucketRepository, new SimpleMeterRegistry(), properties);
+    }
+
+    @Test
+    void tryConsume_ShouldServeRequestsFromLeaseUntilItRunsOut() {
+        when(rateLimitBucketRepository.reserve("general:10.0.0.1", 100, 100, 60_000, 60_000, 10)).thenReturn(10L);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+        }
+        verify(rateLimitBucketRepository, times(1)).reserve("general:10.0.0.1", 100, 100, 60_000, 60_000, 10);
+
+        assertTrue(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+        verify(rateLimitBucketRepository, times(2)).reserve("general:10.0.0.1", 100, 100, 60_000, 60_000, 10);
+    }
+
+    @Test
+    void tryConsume_WhenLeaseIsPartial_ShouldUseOnlyReservedTokens() {
+        when(rateLimitBucketRepository.reserve("general:10.0.0.1", 100, 100, 60_000, 60_000, 10))
+                .thenReturn(2L)
+                .thenReturn(0L);
+
+        assertTrue(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+        assertTrue(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+        assertFalse(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+    }
+
+    @Test
+    void tryConsume_WhenBucketIsEmpty_ShouldRejectWithoutQueryingAgain() {
+        when(rateLimitBucketRepository.reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(0L);
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+        }
+
+        verify(rateLimitBucketRepository, times(1))
+                .reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void tryConsume_ShouldKeepClientsAndLimitsSeparate() {
+        RateLimit authLimit = new RateLimit("auth", 10, 10, Duration.ofMinutes(15));
+        when(rateLimitBucketRepository.reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(1L);
+
+        rateLimitStore.tryConsume(limit, "10.0.0.1");
+        rateLimitStore.tryConsume(limit, "10.0.0.2");
+        rateLimitStore.tryConsume(authLimit, "10.0.0.1");
+
+        verify(rateLimitBucketRepository).reserve("general:10.0.0.1", 100, 100, 60_000, 60_000, 10);
+        verify(rateLimitBucketRepository).reserve("general:10.0.0.2", 100, 100, 60_000, 60_000, 10);
+        verify(rateLimitBucketRepository).reserve("auth:10.0.0.1", 10, 10, 900_000, 900_000, 1);
+    }
+
+    @Test
+    void tryConsume_WhenDatabaseIsUnavailable_ShouldAllowRequest() {
+        when(rateLimitBucketRepository.reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertTrue(rateLimitStore.tryConsume(limit, "10.0.0.1"));
+    }
+
+    @Test
+    void tryConsume_WhenDatabaseIsUnavailable_ShouldSkipItForOtherClientsUntilBackoffEnds() {
+        when(rateLimitBucketRepository.reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimitStore.tryConsume(limit, "10.0.0." + i));
+        }
+
+        verify(rateLimitBucketRepository, times(1))
+                .reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void tryConsume_WithOversizedClientKey_ShouldReserveUnderHashedKey() {
+        String forwardedFor = "10.0.0.1".repeat(100);
+        when(rateLimitBucketRepository.reserve(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(10L);
+
+        rateLimitStore.tryConsume(limit, forwardedFor);
+
+        String key = "general:" + PostgresRateLimitStore.bucketClientKey(forwardedFor);
+        verify(rateLimitBucketRepository).reserve(key, 100, 100, 60_000, 60_000, 10);
+        assertTrue(key.length() < 255);
+        assertTrue(key.startsWith("general:sha256:"));
+    }
+}
@@ -1,17 +1,26 @@
 package com.zametech.personalhub.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.PrintWriter;
+import java.util.List;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -30,26 +39,40 @@ class RateLimitingFilterTest {
     @Mock
     private PrintWriter writer;
     
+    private MeterRegistry meterRegistry;
+    
     private RateLimitingFilter rateLimitingFilter;
     
     @BeforeEach
     void setUp() {
-        rateLimitingFilter = new RateLimitingFilter();
+        meterRegistry = new SimpleMeterRegistry();
         
         // Set rate limit configuration
-        ReflectionTestUtils.setField(rateLimitingFilter, "authCapacity", 5);
-        ReflectionTestUtils.setField(rateLimitingFilter, "authRefillTokens", 5);
-        ReflectionTestUtils.setField(rateLimitingFilter, "authRefillPeriodMinutes", 15);
-        ReflectionTestUtils.setField(rateLimitingFilter, "generalCapacity", 10);
-        ReflectionTestUtils.setField(rateLimitingFilter, "generalRefillTokens", 10);
-        ReflectionTestUtils.setField(rateLimitingFilter, "generalRefillPeriodMinutes", 1);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(10);
+        properties.getAuth().setCapacity(5);
+        properties.getAuth().setRefillTokens(5);
+        properties.getAuth().setRefillPeriodMinutes(15);
+        properties.getGeneral().setCapacity(10);
+        properties.getGeneral().setRefillTokens(10);
+        properties.getGeneral().setRefillPeriodMinutes(1);
+        properties.getPolicies().add(new RateLimitProperties.Policy("analytics-export",
+                List.of("/api/v1/analytics/export"), RateLimitProperties.KeyType.USER, 2, 2, 10));
+        
+        // No shared store is configured, so the filter falls back to in-memory buckets
+        rateLimitingFilter = new RateLimitingFilter(null, meterRegistry, properties);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
     
     @Test
     void testRateLimitingAllowsRequestsWithinLimit() throws Exception {
         // Arrange
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
-        when(request.getRequestURI()).thenReturn("/api/v1/todos");
+        when(request.getServletPath()).thenReturn("/api/v1/todos");
         
         // Act - Make requests within limit
         for (int i = 0; i < 10; i++) {
@@ -65,7 +88,7 @@ class RateLimitingFilterTest {
     void testRateLimitingBlocksExcessiveRequests() throws Exception {
         // Arrange
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
-        when(request.getRequestURI()).thenReturn("/api/v1/todos");
+        when(request.getServletPath()).thenReturn("/api/v1/todos");
         when(response.getWriter()).thenReturn(writer);
         
         // Act - Make requests exceeding limit
@@ -83,7 +106,7 @@ class RateLimitingFilterTest {
     void testAuthEndpointHasStricterLimit() throws Exception {
         // Arrange
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
-        when(request.getRequestURI()).thenReturn("/api/v1/auth/login");
+        when(request.getServletPath()).thenReturn("/api/v1/auth/login");
         when(response.getWriter()).thenReturn(writer);
         
         // Act - Make requests to auth endpoint
@@ -99,7 +122,7 @@ class RateLimitingFilterTest {
     @Test
     void testDifferentIPsHaveSeparateLimits() throws Exception {
         // Arrange
-        when(request.getRequestURI()).thenReturn("/api/v1/todos");
+        when(request.getServletPath()).thenReturn("/api/v1/todos");
         
         // Act - Make requests from different IPs
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
@@ -116,4 +139,174 @@ class RateLimitingFilterTest {
         verify(filterChain, times(20)).doFilter(request, response);
         verify(response, never()).setStatus(429);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testRejectedRequestsAreCounted() throws Exception {
+        // Arrange
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(request.getServletPath()).thenReturn("/api/v1/auth/login");
+        when(response.getWriter()).thenReturn(writer);
+        
+        // Act
+        for (int i = 0; i < 8; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+        
+        // Assert
+        assertEquals(5, meterRegistry.get("security.rate.limit.requests")
+                .tags("endpoint", "auth", "outcome", "allowed").counter().count());
+        assertEquals(3, meterRegistry.get("security.rate.limit.requests")
+                .tags("endpoint", "auth", "outcome", "rejected").counter().count());
+    }
+    
+    @Test
+    void testBucketCountStaysWithinMaximum() throws Exception {
+        // Arrange
+        when(request.getServletPath()).thenReturn("/api/v1/todos");
+        
+        // Act - Requests from more IPs than the cache holds
+        for (int i = 0; i < 50; i++) {
+            when(request.getRemoteAddr()).thenReturn("10.0.0." + i);
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+        
+        // Assert
+        assertTrue(meterRegistry.get("security.rate.limit.buckets").tag("endpoint", "general").gauge().value() <= 10);
+        verify(filterChain, times(50)).doFilter(request, response);
+    }
+    
+    @Test
+    void testAuthenticatedUsersBehindSameIpHaveSeparateLimits() throws Exception {
+        // Arrange
+        when(request.getServletPath()).thenReturn("/api/v1/todos");
+        when(request.getHeader("Authorization")).thenReturn("Bearer token");
+        
+        // Act - Two users share one NAT address
+        authenticate(UUID.randomUUID());
+        for (int i = 0; i < 10; i++) {
+            rateLimitingFilter.userKeyedStage().doFilter(request, response, filterChain);
+        }
+        authenticate(UUID.randomUUID());
+        for (int i = 0; i < 10; i++) {
+            rateLimitingFilter.userKeyedStage().doFilter(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(20)).doFilter(request, response);
+        verify(response, never()).setStatus(429);
+        verify(request, never()).getRemoteAddr();
+    }
+    
+    @Test
+    void testRoutePolicyHasItsOwnLimit() throws Exception {
+        // Arrange
+        authenticate(UUID.randomUUID());
+        when(request.getServletPath()).thenReturn("/api/v1/analytics/export");
+        when(request.getHeader("Authorization")).thenReturn("Bearer token");
+        when(response.getWriter()).thenReturn(writer);
+        
+        // Act
+        for (int i = 0; i < 4; i++) {
+            rateLimitingFilter.userKeyedStage().doFilter(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(2)).doFilter(request, response);
+        verify(response, times(2)).setStatus(429);
+        assertEquals(2, meterRegistry.get("security.rate.limit.requests")
+                .tags("endpoint", "analytics-export", "outcome", "rejected").counter().count());
+    }
+    
+    @Test
+    void testAuthEndpointIsLimitedByIpEvenWhenAuthenticated() throws Exception {
+        // Arrange
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(request.getServletPath()).thenReturn("/api/v1/auth/refresh");
+        when(response.getWriter()).thenReturn(writer);
+        
+        // Act - A new user on each request does not get a new bucket
+        for (int i = 0; i < 6; i++) {
+            authenticate(UUID.randomUUID());
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(5)).doFilter(request, response);
+        verify(response, times(1)).setStatus(429);
+    }
+    
+    @Test
+    void testRequestsWithBearerTokenAreLeftToUserKeyedStage() throws Exception {
+        // Arrange
+        when(request.getServletPath()).thenReturn("/api/v1/analytics/export");
+        when(request.getHeader("Authorization")).thenReturn("Bearer token");
+        
+        // Act - More requests than the policy allows, none of them authenticated yet
+        for (int i = 0; i < 4; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(4)).doFilter(request, response);
+        verify(response, never()).setStatus(429);
+        verify(request, never()).getRemoteAddr();
+    }
+    
+    @Test
+    void testUserKeyedStageSkipsIpPolicies() throws Exception {
+        // Arrange
+        when(request.getServletPath()).thenReturn("/api/v1/auth/login");
+        
+        // Act - The auth policy was already applied ahead of the JWT filter
+        for (int i = 0; i < 8; i++) {
+            rateLimitingFilter.userKeyedStage().doFilter(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(8)).doFilter(request, response);
+        verify(response, never()).setStatus(429);
+    }
+    
+    @Test
+    void testUserKeyedStageFallsBackToIpWhenTokenIsRejected() throws Exception {
+        // Arrange
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(request.getServletPath()).thenReturn("/api/v1/analytics/export");
+        when(request.getHeader("Authorization")).thenReturn("Bearer invalid");
+        when(response.getWriter()).thenReturn(writer);
+        
+        // Act
+        for (int i = 0; i < 3; i++) {
+            rateLimitingFilter.userKeyedStage().doFilter(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(2)).doFilter(request, response);
+        verify(response, times(1)).setStatus(429);
+    }
+    
+    @Test
+    void testPolicyMatchesPathWithinApplication() throws Exception {
+        // Arrange - The dispatcher is mapped to /api/*, so the rest of the decoded path is the path info
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(request.getServletPath()).thenReturn("/api");
+        when(request.getPathInfo()).thenReturn("/v1/auth/login");
+        when(response.getWriter()).thenReturn(writer);
+        
+        // Act
+        for (int i = 0; i < 6; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+        
+        // Assert
+        verify(filterChain, times(5)).doFilter(request, response);
+        verify(request, never()).getRequestURI();
+    }
+    
+    private void authenticate(UUID userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, userId + "@example.com",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,196 @@
+package com.zametech.personalhub.integration;
+
+import com.zametech.personalhub.TestcontainersConfiguration;
+import com.zametech.personalhub.infrastructure.persistence.entity.UserEntity;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaGoalAchievementYearRepository;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaGoalStreakRepository;
+import com.zametech.personalhub.infrastructure.persistence.jpa.JpaRateLimitBucketRepository;
+import com.zametech.personalhub.infrastructure.persistence.repository.TodoJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The native SQL and triggers that only PostgreSQL runs: rate limit reservation, sync change tracking,
+ * repeat instance insertion, goal achievement bitmaps and goal streak repair marking. Not transactional itself, so every statement
+ * commits and triggers see separate transactions.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class NativeQueryIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JpaRateLimitBucketRepository rateLimitBucketRepository;
+
+    @Autowired
+    private TodoJpaRepository todoJpaRepository;
+
+    @Autowired
+    private JpaGoalAchievementYearRepository goalAchievementYearRepository;
+
+    @Autowired
+    private JpaGoalStreakRepository goalStreakRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = transactionTemplate.execute(status -> {
+            UserEntity entity = new UserEntity();
+            entity.setUsername("native" + System.nanoTime() % 100_000_000);
+            entity.setEmail(UUID.randomUUID() + "@example.com");
+            entity.setPassword("password");
+            entity.setEnabled(true);
+            entity.setCreatedAt(LocalDateTime.now());
+            entity.setUpdatedAt(LocalDateTime.now());
+            entityManager.persist(entity);
+            return entity;
+        });
+        userId = user.getId();
+    }
+
+    @Test
+    void reserve_takesTokensUntilTheBucketIsEmpty() {
+        String key = "auth:" + UUID.randomUUID();
+
+        // Capacity 3, one token per minute, so nothing is refilled during the test
+        assertThat(rateLimitBucketRepository.reserve(key, 3, 1, 60_000, 60_000, 2)).isEqualTo(2);
+        assertThat(rateLimitBucketRepository.reserve(key, 3, 1, 60_000, 60_000, 2)).isEqualTo(1);
+        assertThat(rateLimitBucketRepository.reserve(key, 3, 1, 60_000, 60_000, 2)).isZero();
+
+        Long tokens = jdbcTemplate.queryForObject(
+                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?", Long.class, key);
+        assertThat(tokens).isZero();
+    }
+
+    @Test
+    void reserve_refillsElapsedPeriods() {
+        String key = "auth:" + UUID.randomUUID();
+        assertThat(rateLimitBucketRepository.reserve(key, 5, 2, 60_000, 60_000, 5)).isEqualTo(5);
+
+        // Two and a half refill periods ago: two periods are added and the half period is kept
+        jdbcTemplate.update("UPDATE rate_limit_buckets SET refilled_at = LOCALTIMESTAMP - INTERVAL '150 seconds' " +
+                "WHERE bucket_key = ?", key);
+
+        assertThat(rateLimitBucketRepository.reserve(key, 5, 2, 60_000, 60_000, 5)).isEqualTo(4);
+        Map<String, Object> bucket = jdbcTemplate.queryForMap(
+                "SELECT tokens, EXTRACT(EPOCH FROM (LOCALTIMESTAMP - refilled_at)) AS since_refill " +
+                        "FROM rate_limit_buckets WHERE bucket_key = ?", key);
+        assertThat(((Number) bucket.get("tokens")).longValue()).isZero();
+        assertThat(((Number) bucket.get("since_refill")).doubleValue()).isBetween(29.0, 60.0);
+    }
+
+    @Test
+    void changeTrackingTrigger_advancesChangeSeqAndTransactionOnUpdate() {
+        Long todoId = jdbcTemplate.queryForObject(
+                "INSERT INTO todos (user_id, title) VALUES (?, 'Tracked') RETURNING id", Long.class, userId);
+        Map<String, Object> inserted = changePosition(todoId);
+
+        jdbcTemplate.update("UPDATE todos SET title = 'Tracked, renamed' WHERE id = ?", todoId);
+        Map<String, Object> updated = changePosition(todoId);
+
+        assertThat((Long) updated.get("change_seq")).isGreaterThan((Long) inserted.get("change_seq"));
+        assertThat((Long) updated.get("change_xid")).isGreaterThan((Long) inserted.get("change_xid"));
+    }
+
+    @Test
+    void insertRepeatInstances_skipsDueDatesThatAlreadyHaveAnInstance() {
+        Long originalId = jdbcTemplate.queryForObject(
+                "INSERT INTO todos (user_id, title, is_repeatable) VALUES (?, 'Repeat', true) RETURNING id",
+                Long.class, userId);
+        LocalDate first = LocalDate.of(2025, 1, 6);
+        LocalDate second = LocalDate.of(2025, 1, 13);
+
+        List<Long> firstRun = transactionTemplate.execute(status -> todoJpaRepository.insertRepeatInstances(
+                new Long[]{originalId}, new LocalDate[]{first}));
+        List<Long> secondRun = transactionTemplate.execute(status -> todoJpaRepository.insertRepeatInstances(
+                new Long[]{originalId, originalId}, new LocalDate[]{first, second}));
+
+        assertThat(firstRun).hasSize(1);
+        assertThat(secondRun).hasSize(1).doesNotContainAnyElementsOf(firstRun);
+        List<LocalDate> dueDates = jdbcTemplate.queryForList(
+                "SELECT due_date FROM todos WHERE original_todo_id = ? ORDER BY due_date", LocalDate.class, originalId);
+        assertThat(dueDates).containsExactly(first, second);
+    }
+
+    @Test
+    void upsertDay_setsAndClearsSingleDaysOfTheYearBitmap() {
+        Long goalId = jdbcTemplate.queryForObject(
+                "INSERT INTO goals (user_id, title, goal_type, start_date, end_date) " +
+                        "VALUES (?, 'Daily', 'DAILY', DATE '2025-01-01', DATE '2025-12-31') RETURNING id",
+                Long.class, userId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            goalAchievementYearRepository.upsertDay(goalId, 2025, 0, 1);
+            goalAchievementYearRepository.upsertDay(goalId, 2025, 9, 1);
+            goalAchievementYearRepository.upsertDay(goalId, 2025, 365, 1);
+        });
+        transactionTemplate.executeWithoutResult(status -> goalAchievementYearRepository.upsertDay(goalId, 2025, 0, 0));
+
+        Map<String, Object> year = jdbcTemplate.queryForMap(
+                "SELECT octet_length(days) AS length, get_bit(days, 0) AS day1, get_bit(days, 9) AS day10, " +
+                        "get_bit(days, 365) AS day366, encode(days, 'hex') AS hex " +
+                        "FROM goal_achievement_years WHERE goal_id = ? AND year = 2025", goalId);
+        assertThat(year.get("length")).isEqualTo(46);
+        assertThat(year.get("day1")).isEqualTo(0);
+        assertThat(year.get("day10")).isEqualTo(1);
+        assertThat(year.get("day366")).isEqualTo(1);
+        // Day 10 is bit 1 of the second byte, day 366 bit 5 of the last
+        assertThat((String) year.get("hex")).startsWith("0002").endsWith("20");
+    }
+
+    @Test
+    void markWeeklyForRepair_marksOnlyTheWeeklyGoalsOfTheUser() {
+        Long weeklyId = insertGoalWithStreak("WEEKLY");
+        Long dailyId = insertGoalWithStreak("DAILY");
+
+        Integer marked = transactionTemplate.execute(status -> goalStreakRepository.markWeeklyForRepair(userId));
+
+        assertThat(marked).isEqualTo(1);
+        assertThat(needsRepair(weeklyId)).isTrue();
+        assertThat(needsRepair(dailyId)).isFalse();
+    }
+
+    private Long insertGoalWithStreak(String goalType) {
+        Long goalId = jdbcTemplate.queryForObject(
+                "INSERT INTO goals (user_id, title, goal_type, start_date, end_date) " +
+                        "VALUES (?, ?, ?, DATE '2025-01-01', DATE '2025-12-31') RETURNING id",
+                Long.class, userId, goalType, goalType);
+        jdbcTemplate.update("INSERT INTO goal_streaks (goal_id, current_streak, longest_streak) VALUES (?, 1, 1)",
+                goalId);
+        return goalId;
+    }
+
+    private Boolean needsRepair(Long goalId) {
+        return jdbcTemplate.queryForObject("SELECT needs_repair FROM goal_streaks WHERE goal_id = ?",
+                Boolean.class, goalId);
+    }
+
+    private Map<String, Object> changePosition(Long todoId) {
+        return jdbcTemplate.queryForMap("SELECT change_seq, change_xid FROM todos WHERE id = ?", todoId);
+    }
+}
@@ -0,0 +1,119 @@
+package com.zametech.personalhub.integration;
+
+import com.zametech.personalhub.TestcontainersConfiguration;
+import com.zametech.personalhub.application.service.SyncService;
+import com.zametech.personalhub.application.service.UserContextService;
+import com.zametech.personalhub.infrastructure.persistence.entity.UserEntity;
+import com.zametech.personalhub.presentation.dto.response.SyncChangesResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Delta sync against PostgreSQL with writers whose transactions overlap. Not transactional itself:
+ * every write has to commit for the sync reads to see it.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class SyncChangesIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private UserContextService userContextService;
+
+    private UUID userId;
+    private Long firstTodoId;
+    private Long secondTodoId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = transactionTemplate.execute(status -> {
+            UserEntity entity = new UserEntity();
+            entity.setUsername("sync" + System.nanoTime() % 100_000_000);
+            entity.setEmail(UUID.randomUUID() + "@example.com");
+            entity.setPassword("password");
+            entity.setEnabled(true);
+            entity.setCreatedAt(LocalDateTime.now());
+            entity.setUpdatedAt(LocalDateTime.now());
+            entityManager.persist(entity);
+            return entity;
+        });
+        userId = user.getId();
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+
+        firstTodoId = jdbcTemplate.queryForObject(
+                "INSERT INTO todos (user_id, title) VALUES (?, 'First') RETURNING id", Long.class, userId);
+        secondTodoId = jdbcTemplate.queryForObject(
+                "INSERT INTO todos (user_id, title) VALUES (?, 'Second') RETURNING id", Long.class, userId);
+    }
+
+    @Test
+    void getChanges_holdsBackChangesUntilAnOverlappingEarlierWriterCommits() throws Exception {
+        SyncChangesResponse initial = syncService.getChanges(null, 100);
+        assertThat(initial.todos()).extracting(TodoResponse::id).containsExactly(firstTodoId, secondTodoId);
+
+        try (Connection slowWriter = dataSource.getConnection(); Connection fastWriter = dataSource.getConnection()) {
+            slowWriter.setAutoCommit(false);
+            fastWriter.setAutoCommit(false);
+
+            // The slow writer takes its transaction id and change_seq first, then keeps running
+            rename(slowWriter, firstTodoId, "First, renamed");
+            rename(fastWriter, secondTodoId, "Second, renamed");
+            fastWriter.commit();
+
+            // The fast writer's change is committed but sorts after the slow writer's, which could still commit
+            SyncChangesResponse whileRunning = syncService.getChanges(initial.nextToken(), 100);
+            assertThat(whileRunning.todos()).isEmpty();
+            assertThat(whileRunning.nextToken()).isEqualTo(initial.nextToken());
+
+            slowWriter.commit();
+        }
+
+        SyncChangesResponse afterCommit = syncService.getChanges(initial.nextToken(), 100);
+        assertThat(afterCommit.todos()).extracting(TodoResponse::title)
+                .containsExactly("First, renamed", "Second, renamed");
+
+        SyncChangesResponse caughtUp = syncService.getChanges(afterCommit.nextToken(), 100);
+        assertThat(caughtUp.todos()).isEmpty();
+    }
+
+    private static void rename(Connection connection, Long todoId, String title) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("UPDATE todos SET title = ? WHERE id = ?")) {
+            statement.setString(1, title);
+            statement.setLong(2, todoId);
+            statement.executeUpdate();
+        }
+    }
+}
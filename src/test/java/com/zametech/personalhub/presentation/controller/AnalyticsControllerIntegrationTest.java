@@ -2,6 +2,7 @@ package com.zametech.personalhub.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zametech.personalhub.application.service.AnalyticsService;
+import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.presentation.dto.response.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +45,9 @@ class AnalyticsControllerIntegrationTest {
     @MockBean
     private AnalyticsService analyticsService;
 
+    @MockBean
+    private UserContextService userContextService;
+
     @Test
     @WithMockUser(roles = "USER")
     void testGetDashboard() throws Exception {
@@ -147,7 +151,8 @@ class AnalyticsControllerIntegrationTest {
                 dailyCreations,
                 priorityDistribution,
                 statusDistribution,
-                2.5
+                2.5,
+                new HashMap<>()
         );
     }
 }
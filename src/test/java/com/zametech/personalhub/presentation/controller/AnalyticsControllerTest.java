@@ -1,6 +1,11 @@
 package com.zametech.personalhub.presentation.controller;
 
+import com.zametech.personalhub.application.service.AnalyticsExportService;
 import com.zametech.personalhub.application.service.AnalyticsService;
+import com.zametech.personalhub.application.service.CollectionVersionService;
+import com.zametech.personalhub.application.service.ExportFormat;
+import com.zametech.personalhub.application.service.UserContextService;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.presentation.dto.response.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,14 +13,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,6 +46,15 @@ class AnalyticsControllerTest {
     @MockBean
     private AnalyticsService analyticsService;
 
+    @MockBean
+    private AnalyticsExportService analyticsExportService;
+
+    @MockBean
+    private UserContextService userContextService;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
     private DashboardResponse dashboardResponse;
     private TodoActivityResponse todoActivityResponse;
 
@@ -101,7 +120,12 @@ class AnalyticsControllerTest {
             dailyCounts,          // dailyCreations
             priorityDistribution, // priorityDistribution
             statusDistribution,   // statusDistribution
-            2.5                   // averageCompletionTimeInDays
+            2.5,                  // averageCompletionTimeInDays
+            Map.of("HIGH", new CompletionTimeDistributionResponse(
+                4, 6.0, 30.0, 48.0,
+                List.of(new CompletionTimeDistributionResponse.HistogramBucket(24.0, 3),
+                        new CompletionTimeDistributionResponse.HistogramBucket(null, 1))
+            ))                    // completionTimeByPriority
         );
     }
 
@@ -127,11 +151,25 @@ class AnalyticsControllerTest {
             .andExpect(jsonPath("$.eventStats.pastEvents").value(5))
             .andExpect(jsonPath("$.eventStats.todayEvents").value(2))
             .andExpect(jsonPath("$.productivityStats.weeklyProductivityScore").value(0.85))
-            .andExpect(jsonPath("$.productivityStats.dailyTodoCompletions", hasSize(3)));
+            .andExpect(jsonPath("$.productivityStats.dailyTodoCompletions", hasSize(3)))
+            .andExpect(jsonPath("$.partial").value(false));
 
         verify(analyticsService).getDashboard();
     }
 
+    @Test
+    @WithMockUser
+    void getDashboard_withMatchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(collectionVersionService.eTag(userId, VersionedCollection.DASHBOARD)).thenReturn("W/\"d1\"");
+
+        mockMvc.perform(get("/api/v1/analytics/dashboard").header(HttpHeaders.IF_NONE_MATCH, "W/\"d1\""))
+            .andExpect(status().isNotModified());
+
+        verify(analyticsService, never()).getDashboard();
+    }
+
     @Test
     @WithMockUser
     void getTodoActivity_withDefaultParameters_shouldUse30Days() throws Exception {
@@ -146,6 +184,8 @@ class AnalyticsControllerTest {
             .andExpect(jsonPath("$.dailyCompletions", hasSize(3)))
             .andExpect(jsonPath("$.dailyCreations", hasSize(3)))
             .andExpect(jsonPath("$.averageCompletionTimeInDays").value(2.5))
+            .andExpect(jsonPath("$.completionTimeByPriority.HIGH.p90Hours").value(30.0))
+            .andExpect(jsonPath("$.completionTimeByPriority.HIGH.buckets", hasSize(2)))
             .andExpect(jsonPath("$.dailyCompletions[0].date").value(LocalDate.now().minusDays(2).toString()))
             .andExpect(jsonPath("$.dailyCompletions[0].count").value(5))
             .andExpect(jsonPath("$.priorityDistribution.HIGH").value(5))
@@ -232,7 +272,8 @@ class AnalyticsControllerTest {
             Arrays.asList(),  // empty dailyCreations
             new HashMap<>(),  // empty priorityDistribution
             new HashMap<>(),  // empty statusDistribution
-            0.0               // averageCompletionTimeInDays
+            0.0,              // averageCompletionTimeInDays
+            new HashMap<>()   // empty completionTimeByPriority
         );
         
         LocalDate endDate = LocalDate.now();
@@ -249,4 +290,39 @@ class AnalyticsControllerTest {
 
         verify(analyticsService).getTodoActivity(eq(startDate), eq(endDate));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void exportDailyActivity_shouldStreamCsv() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(4);
+            outputStream.write("date\n2024-01-01\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(analyticsExportService)
+                .exportDailyActivity(eq(userId), eq(startDate), eq(endDate), eq(ExportFormat.CSV), org.mockito.ArgumentMatchers.any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/analytics/export")
+                .param("format", "csv")
+                .param("dateFrom", "2024-01-01")
+                .param("dateTo", "2024-01-31"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"activity-2024-01-01-2024-01-31.csv\""))
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string("date\n2024-01-01\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void exportDailyActivity_withUnknownFormat_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+}
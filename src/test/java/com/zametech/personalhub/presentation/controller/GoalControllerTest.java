@@ -3,15 +3,19 @@ package com.zametech.personalhub.presentation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zametech.personalhub.application.goal.dto.*;
 import com.zametech.personalhub.application.goal.service.GoalServiceV2;
+import com.zametech.personalhub.application.service.CollectionVersionService;
+import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
 import com.zametech.personalhub.domain.model.Goal;
 import com.zametech.personalhub.domain.model.GoalType;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -46,6 +50,12 @@ class GoalControllerTest {
     @MockBean
     private GoalServiceV2 goalService;
 
+    @MockBean
+    private UserContextService userContextService;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
     private Goal sampleGoal;
     private CreateGoalRequest createGoalRequest;
     private UpdateGoalRequest updateGoalRequest;
@@ -56,6 +66,8 @@ class GoalControllerTest {
     void setUp() {
         UUID userId = UUID.randomUUID();
         LocalDateTime now = LocalDateTime.now();
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(collectionVersionService.eTag(userId, VersionedCollection.GOALS)).thenReturn("W/\"g1\"");
         
         sampleGoal = new Goal();
         sampleGoal.setId(1L);
@@ -127,7 +139,12 @@ class GoalControllerTest {
             Arrays.asList(record),
             30, // totalDays
             21, // achievedDays
-            0.7 // achievementRate
+            0.7, // achievementRate
+            LocalDate.now().minusDays(29), // from
+            LocalDate.now(), // to
+            "verbose", // format
+            null, // runs
+            null // bitmap
         );
     }
 
@@ -165,6 +182,16 @@ class GoalControllerTest {
         verify(goalService).getGoalsByDateAndFilter(eq(testDate), eq("completed"));
     }
 
+    @Test
+    @WithMockUser
+    void getGoals_withMatchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/goals").header(HttpHeaders.IF_NONE_MATCH, "W/\"g1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"g1\""));
+
+        verify(goalService, never()).getGoalsByDateAndFilter(any(), any());
+    }
+
     @Test
     @WithMockUser
     void createGoal_withValidRequest_shouldReturnCreatedGoal() throws Exception {
@@ -341,7 +368,7 @@ class GoalControllerTest {
     @Test
     @WithMockUser
     void getAchievementHistory_withNoDateRange_shouldReturnAllHistory() throws Exception {
-        when(goalService.getAchievementHistory(eq(1L), isNull(), isNull()))
+        when(goalService.getAchievementHistory(eq(1L), isNull(), isNull(), eq(AchievementHistoryFormat.VERBOSE)))
             .thenReturn(achievementHistoryResponse);
 
         mockMvc.perform(get("/api/v1/goals/1/achievements"))
@@ -351,9 +378,10 @@ class GoalControllerTest {
             .andExpect(jsonPath("$.achievements[0].achieved").value(true))
             .andExpect(jsonPath("$.totalDays").value(30))
             .andExpect(jsonPath("$.achievedDays").value(21))
-            .andExpect(jsonPath("$.achievementRate").value(0.7));
+            .andExpect(jsonPath("$.achievementRate").value(0.7))
+            .andExpect(jsonPath("$.runs").doesNotExist());
 
-        verify(goalService).getAchievementHistory(eq(1L), isNull(), isNull());
+        verify(goalService).getAchievementHistory(eq(1L), isNull(), isNull(), eq(AchievementHistoryFormat.VERBOSE));
     }
 
     @Test
@@ -362,7 +390,7 @@ class GoalControllerTest {
         LocalDate from = LocalDate.now().minusDays(30);
         LocalDate to = LocalDate.now();
         
-        when(goalService.getAchievementHistory(eq(1L), eq(from), eq(to)))
+        when(goalService.getAchievementHistory(eq(1L), eq(from), eq(to), eq(AchievementHistoryFormat.VERBOSE)))
             .thenReturn(achievementHistoryResponse);
 
         mockMvc.perform(get("/api/v1/goals/1/achievements")
@@ -371,18 +399,48 @@ class GoalControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.achievements", hasSize(1)));
 
-        verify(goalService).getAchievementHistory(eq(1L), eq(from), eq(to));
+        verify(goalService).getAchievementHistory(eq(1L), eq(from), eq(to), eq(AchievementHistoryFormat.VERBOSE));
     }
 
     @Test
     @WithMockUser
     void getAchievementHistory_withNonExistentGoal_shouldReturnNotFound() throws Exception {
-        when(goalService.getAchievementHistory(eq(999L), isNull(), isNull()))
+        when(goalService.getAchievementHistory(eq(999L), isNull(), isNull(), eq(AchievementHistoryFormat.VERBOSE)))
             .thenThrow(new TodoNotFoundException("Goal not found with id: 999"));
 
         mockMvc.perform(get("/api/v1/goals/999/achievements"))
             .andExpect(status().isNotFound());
 
-        verify(goalService).getAchievementHistory(eq(999L), isNull(), isNull());
+        verify(goalService).getAchievementHistory(eq(999L), isNull(), isNull(), eq(AchievementHistoryFormat.VERBOSE));
+    }
+
+    @Test
+    @WithMockUser
+    void getAchievementHistory_withRunLengthFormat_shouldReturnRuns() throws Exception {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 6);
+        AchievementHistoryResponse runsResponse = new AchievementHistoryResponse(
+            null, 6, 3, 0.5, from, to, "rle", List.of(1, 2, 2, 1), null);
+        when(goalService.getAchievementHistory(eq(1L), eq(from), eq(to), eq(AchievementHistoryFormat.RUNS)))
+            .thenReturn(runsResponse);
+
+        mockMvc.perform(get("/api/v1/goals/1/achievements")
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .param("format", "rle"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.format").value("rle"))
+            .andExpect(jsonPath("$.runs", hasSize(4)))
+            .andExpect(jsonPath("$.achievements").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void getAchievementHistory_withUnknownFormat_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/goals/1/achievements")
+                .param("format", "xml"))
+            .andExpect(status().isBadRequest());
+
+        verify(goalService, never()).getAchievementHistory(any(), any(), any(), any());
     }
-}
\ No newline at end of file
+}
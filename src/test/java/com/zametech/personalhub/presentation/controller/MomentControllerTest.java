@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zametech.personalhub.application.service.MomentService;
 import com.zametech.personalhub.common.exception.MomentNotFoundException;
 import com.zametech.personalhub.domain.model.Moment;
+import com.zametech.personalhub.domain.model.MomentListItem;
 import com.zametech.personalhub.presentation.dto.request.CreateMomentRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateMomentRequest;
 import com.zametech.personalhub.presentation.dto.response.MomentResponse;
@@ -158,8 +159,9 @@ class MomentControllerTest {
     @Test
     @WithMockUser
     void getMoments_withPagination_shouldReturnPagedMoments() throws Exception {
-        List<Moment> momentList = Arrays.asList(sampleMoment);
-        Page<Moment> momentPage = new PageImpl<>(momentList, PageRequest.of(0, 10), 1);
+        MomentListItem item = new MomentListItem(1L, "Just had a great idea about the project", "Ideas,work",
+                sampleMoment.getCreatedAt(), sampleMoment.getUpdatedAt());
+        Page<MomentListItem> momentPage = new PageImpl<>(List.of(item), PageRequest.of(0, 10), 1);
         
         when(momentService.getMomentsByUser(any(Pageable.class))).thenReturn(momentPage);
 
@@ -170,6 +172,7 @@ class MomentControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content", hasSize(1)))
             .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.content[0].tags", hasItem("Ideas")))
             .andExpect(jsonPath("$.totalElements").value(1))
             .andExpect(jsonPath("$.totalPages").value(1))
             .andExpect(jsonPath("$.number").value(0));
@@ -180,7 +183,7 @@ class MomentControllerTest {
     @Test
     @WithMockUser
     void getMoments_withEmptyResult_shouldReturnEmptyPage() throws Exception {
-        Page<Moment> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
+        Page<MomentListItem> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
         
         when(momentService.getMomentsByUser(any(Pageable.class))).thenReturn(emptyPage);
 
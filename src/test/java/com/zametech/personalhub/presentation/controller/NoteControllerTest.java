@@ -3,7 +3,9 @@ package com.zametech.personalhub.presentation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zametech.personalhub.application.service.NoteService;
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.Note;
+import com.zametech.personalhub.domain.model.NoteListItem;
 import com.zametech.personalhub.presentation.dto.request.CreateNoteRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateNoteRequest;
 import com.zametech.personalhub.presentation.dto.response.NoteResponse;
@@ -155,10 +157,11 @@ class NoteControllerTest {
     @Test
     @WithMockUser
     void getNotes_withPagination_shouldReturnPagedNotes() throws Exception {
-        List<Note> noteList = Arrays.asList(sampleNote);
-        Page<Note> notePage = new PageImpl<>(noteList, PageRequest.of(0, 10), 1);
+        NoteListItem item = new NoteListItem(1L, "Test Note", "Test Content", "tag1,tag2",
+                sampleNote.getCreatedAt(), sampleNote.getUpdatedAt());
+        Page<NoteListItem> notePage = new PageImpl<>(List.of(item), PageRequest.of(0, 10), 1);
         
-        when(noteService.getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class))).thenReturn(notePage);
+        when(noteService.getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true))).thenReturn(notePage);
 
         mockMvc.perform(get("/api/v1/notes")
                 .param("page", "0")
@@ -167,26 +170,46 @@ class NoteControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content", hasSize(1)))
             .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.content[0].content").value("Test Content"))
+            .andExpect(jsonPath("$.content[0].tags", hasSize(2)))
             .andExpect(jsonPath("$.totalElements").value(1))
             .andExpect(jsonPath("$.totalPages").value(1))
             .andExpect(jsonPath("$.number").value(0));
 
-        verify(noteService).getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class));
+        verify(noteService).getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true));
     }
 
     @Test
     @WithMockUser
     void getNotes_withEmptyResult_shouldReturnEmptyPage() throws Exception {
-        Page<Note> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
+        Page<NoteListItem> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
         
-        when(noteService.getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class))).thenReturn(emptyPage);
+        when(noteService.getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true))).thenReturn(emptyPage);
 
         mockMvc.perform(get("/api/v1/notes"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content", hasSize(0)))
             .andExpect(jsonPath("$.totalElements").value(0));
 
-        verify(noteService).getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class));
+        verify(noteService).getNotesByUser(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true));
+    }
+
+    @Test
+    @WithMockUser
+    void getNotes_withLimit_shouldOmitContentByDefault() throws Exception {
+        NoteListItem item = new NoteListItem(1L, "Test Note", null, null,
+                sampleNote.getCreatedAt(), sampleNote.getUpdatedAt());
+        when(noteService.getNotesByUserAfterCursor(null, 20, false))
+            .thenReturn(new CursorPage<>(List.of(item), null));
+
+        mockMvc.perform(get("/api/v1/notes").param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].title").value("Test Note"))
+            .andExpect(jsonPath("$.items[0].content").doesNotExist())
+            .andExpect(jsonPath("$.items[0].tags", hasSize(0)));
+
+        verify(noteService).getNotesByUserAfterCursor(null, 20, false);
     }
 
     @Test
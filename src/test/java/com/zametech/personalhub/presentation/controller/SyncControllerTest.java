@@ -0,0 +1,82 @@
+package com.zametech.personalhub.presentation.controller;
+
+import com.zametech.personalhub.application.service.SyncService;
+import com.zametech.personalhub.domain.model.SyncEntityType;
+import com.zametech.personalhub.presentation.dto.response.NoteResponse;
+import com.zametech.personalhub.presentation.dto.response.SyncChangesResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = SyncController.class, excludeAutoConfiguration = {
+    org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+    org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration.class
+})
+@Import(TestSecurityConfig.class)
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SyncService syncService;
+
+    @Test
+    @WithMockUser
+    void getChanges_shouldReturnChangesAndNextToken() throws Exception {
+        NoteResponse note = new NoteResponse(2L, "Note", "Content", List.of("tag"),
+                LocalDateTime.now(), LocalDateTime.now());
+        SyncChangesResponse response = new SyncChangesResponse(
+                List.of(), List.of(note), List.of(), List.of(),
+                List.of(new SyncChangesResponse.DeletedItem(SyncEntityType.TODO, 5L, ZonedDateTime.now())),
+                "301.42", false);
+        when(syncService.getChanges("300.40", 100)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", "300.40").param("limit", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.notes", hasSize(1)))
+            .andExpect(jsonPath("$.notes[0].id").value(2))
+            .andExpect(jsonPath("$.deleted[0].type").value("TODO"))
+            .andExpect(jsonPath("$.deleted[0].id").value(5))
+            .andExpect(jsonPath("$.nextToken").value("301.42"))
+            .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(syncService).getChanges("300.40", 100);
+    }
+
+    @Test
+    @WithMockUser
+    void getChanges_withoutParams_shouldStartFullSyncWithDefaultLimit() throws Exception {
+        when(syncService.getChanges(null, 500)).thenReturn(new SyncChangesResponse(
+                List.of(), List.of(), List.of(), List.of(), List.of(), "0.0", false));
+
+        mockMvc.perform(get("/api/v1/sync/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nextToken").value("0.0"));
+
+        verify(syncService).getChanges(null, 500);
+    }
+
+    @Test
+    @WithMockUser
+    void getChanges_withInvalidToken_shouldReturnBadRequest() throws Exception {
+        when(syncService.getChanges("abc", 500)).thenThrow(new IllegalArgumentException("Invalid sync token"));
+
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", "abc"))
+            .andExpect(status().isBadRequest());
+    }
+}
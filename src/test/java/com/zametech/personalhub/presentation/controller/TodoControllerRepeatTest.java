@@ -1,13 +1,16 @@
 package com.zametech.personalhub.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zametech.personalhub.application.service.CollectionVersionService;
 import com.zametech.personalhub.application.service.TodoService;
+import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.domain.model.RepeatType;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
 import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
 import com.zametech.personalhub.presentation.dto.request.RepeatConfigRequest;
 import com.zametech.personalhub.presentation.dto.response.RepeatConfigResponse;
+import com.zametech.personalhub.presentation.dto.response.RepeatOccurrenceResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +46,12 @@ class TodoControllerRepeatTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private UserContextService userContextService;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
     @Test
     @WithMockUser
     void testCreateRepeatableTodo() throws Exception {
@@ -263,6 +272,30 @@ class TodoControllerRepeatTest {
                 .andExpect(jsonPath("$[1].status").value("DONE"));
     }
 
+    @Test
+    @WithMockUser
+    void testGetRepeatOccurrences() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 28);
+        when(todoService.getRepeatOccurrences(from, to)).thenReturn(List.of(
+            new RepeatOccurrenceResponse(1L, "Weekly Task", TodoPriority.HIGH, LocalDate.of(2025, 2, 3), 100L, TodoStatus.DONE, true),
+            new RepeatOccurrenceResponse(1L, "Weekly Task", TodoPriority.HIGH, LocalDate.of(2025, 2, 10), null, null, false)
+        ));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/todos/repeat/occurrences")
+                .param("from", "2025-02-01")
+                .param("to", "2025-02-28"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].todoId").value(100L))
+                .andExpect(jsonPath("$[0].materialized").value(true))
+                .andExpect(jsonPath("$[1].date").value("2025-02-10"))
+                .andExpect(jsonPath("$[1].todoId").doesNotExist())
+                .andExpect(jsonPath("$[1].materialized").value(false));
+    }
+
     @Test
     @WithMockUser
     void testGeneratePendingRepeatInstances() throws Exception {
@@ -1,13 +1,21 @@
 package com.zametech.personalhub.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zametech.personalhub.application.service.CollectionVersionService;
 import com.zametech.personalhub.application.service.TodoService;
+import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
+import com.zametech.personalhub.domain.model.CursorPage;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
+import com.zametech.personalhub.domain.model.VersionedCollection;
 import com.zametech.personalhub.presentation.dto.request.CreateTodoRequest;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchOperation;
+import com.zametech.personalhub.presentation.dto.request.TodoBatchRequest;
 import com.zametech.personalhub.presentation.dto.request.UpdateTodoRequest;
+import com.zametech.personalhub.presentation.dto.response.TodoBatchResponse;
 import com.zametech.personalhub.presentation.dto.response.TodoResponse;
+import com.zametech.personalhub.presentation.dto.response.TodoTreeResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +26,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -52,12 +61,22 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private UserContextService userContextService;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
+    private final UUID userId = UUID.randomUUID();
     private TodoResponse sampleTodoResponse;
     private CreateTodoRequest createTodoRequest;
     private UpdateTodoRequest updateTodoRequest;
 
     @BeforeEach
     void setUp() {
+        when(userContextService.getCurrentUserId()).thenReturn(userId);
+        when(collectionVersionService.eTag(userId, VersionedCollection.TODOS)).thenReturn("W/\"v1\"");
+
         sampleTodoResponse = new TodoResponse(
             1L,
             "Test TODO",
@@ -180,7 +199,7 @@ class TodoControllerTest {
         List<TodoResponse> todoList = Arrays.asList(sampleTodoResponse);
         Page<TodoResponse> todoPage = new PageImpl<>(todoList, PageRequest.of(0, 10), 1);
         
-        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class))).thenReturn(todoPage);
+        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true))).thenReturn(todoPage);
 
         mockMvc.perform(get("/api/v1/todos")
                 .param("page", "0")
@@ -193,7 +212,7 @@ class TodoControllerTest {
             .andExpect(jsonPath("$.totalPages").value(1))
             .andExpect(jsonPath("$.number").value(0));
 
-        verify(todoService).getTodos(org.mockito.ArgumentMatchers.any(Pageable.class));
+        verify(todoService).getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true));
     }
 
     @Test
@@ -201,14 +220,14 @@ class TodoControllerTest {
     void getTodos_withEmptyResult_shouldReturnEmptyPage() throws Exception {
         Page<TodoResponse> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
         
-        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class))).thenReturn(emptyPage);
+        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true))).thenReturn(emptyPage);
 
         mockMvc.perform(get("/api/v1/todos"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content", hasSize(0)))
             .andExpect(jsonPath("$.totalElements").value(0));
 
-        verify(todoService).getTodos(org.mockito.ArgumentMatchers.any(Pageable.class));
+        verify(todoService).getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true));
     }
 
     @Test
@@ -418,6 +437,153 @@ class TodoControllerTest {
         verify(todoService).getChildTasks(999L);
     }
 
+    @Test
+    @WithMockUser
+    void getTodos_withLimit_shouldUseCursorPagination() throws Exception {
+        when(todoService.getTodosAfterCursor("abc", 20, false))
+            .thenReturn(new CursorPage<>(List.of(sampleTodoResponse), "next"));
+
+        mockMvc.perform(get("/api/v1/todos").param("cursor", "abc").param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].id").value(1))
+            .andExpect(jsonPath("$.nextCursor").value("next"))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(todoService, never()).getTodos(any(), anyBoolean());
+    }
+
+    @Test
+    @WithMockUser
+    void getTodos_withIncludeDescriptionFalse_shouldPassFlagToService() throws Exception {
+        Page<TodoResponse> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(false))).thenReturn(emptyPage);
+
+        mockMvc.perform(get("/api/v1/todos").param("includeDescription", "false"))
+            .andExpect(status().isOk());
+
+        verify(todoService).getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(false));
+    }
+
+    @Test
+    @WithMockUser
+    void getTodos_shouldReturnCollectionETag() throws Exception {
+        Page<TodoResponse> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true))).thenReturn(emptyPage);
+
+        mockMvc.perform(get("/api/v1/todos"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"v1\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")));
+    }
+
+    @Test
+    @WithMockUser
+    void getTodos_withMatchingIfNoneMatch_shouldReturnNotModifiedWithoutLoading() throws Exception {
+        mockMvc.perform(get("/api/v1/todos").header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"v1\""))
+            .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/todos").param("limit", "20").header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""))
+            .andExpect(status().isNotModified());
+
+        verify(todoService, never()).getTodos(any(), anyBoolean());
+        verify(todoService, never()).getTodosAfterCursor(any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @WithMockUser
+    void getTodos_withStaleIfNoneMatch_shouldReturnBody() throws Exception {
+        Page<TodoResponse> todoPage = new PageImpl<>(List.of(sampleTodoResponse), PageRequest.of(0, 20), 1);
+        when(todoService.getTodos(org.mockito.ArgumentMatchers.any(Pageable.class), eq(true))).thenReturn(todoPage);
+
+        mockMvc.perform(get("/api/v1/todos").header(HttpHeaders.IF_NONE_MATCH, "W/\"v0\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    @Test
+    @WithMockUser
+    void applyBatch_shouldReturnPerItemResults() throws Exception {
+        TodoBatchResponse batchResponse = TodoBatchResponse.of(List.of(
+            TodoBatchResponse.ItemResult.succeeded(0, TodoBatchOperation.Type.TOGGLE, 1L, sampleTodoResponse),
+            TodoBatchResponse.ItemResult.failed(1, TodoBatchOperation.Type.DELETE, 99L, "TODO not found with id: 99")
+        ));
+        when(todoService.applyBatch(org.mockito.ArgumentMatchers.any(TodoBatchRequest.class))).thenReturn(batchResponse);
+
+        String body = """
+            {"operations": [
+              {"type": "TOGGLE", "id": 1},
+              {"type": "DELETE", "id": 99}
+            ]}
+            """;
+
+        mockMvc.perform(post("/api/v1/todos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.succeeded").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.results[0].todo.id").value(1))
+            .andExpect(jsonPath("$.results[1].success").value(false))
+            .andExpect(jsonPath("$.results[1].error").value("TODO not found with id: 99"));
+    }
+
+    @Test
+    @WithMockUser
+    void applyBatch_withEmptyOperations_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/todos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operations\": []}"))
+            .andExpect(status().isBadRequest());
+
+        verify(todoService, never()).applyBatch(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getTodoTree_shouldReturnNestedTree() throws Exception {
+        TodoResponse childTodo = new TodoResponse(
+            2L,
+            "Child TODO",
+            null,
+            TodoStatus.DONE,
+            TodoPriority.MEDIUM,
+            null,
+            1L,
+            false,
+            null,
+            null,
+            ZonedDateTime.now(),
+            ZonedDateTime.now()
+        );
+        TodoTreeResponse childTree = new TodoTreeResponse(childTodo, 1, 0, 1, 1, 100.0, false, List.of());
+        TodoTreeResponse tree = new TodoTreeResponse(sampleTodoResponse, 0, 1, 2, 1, 50.0, false, List.of(childTree));
+
+        when(todoService.getTodoTree(1L, 5)).thenReturn(tree);
+
+        mockMvc.perform(get("/api/v1/todos/1/tree").param("maxDepth", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.todo.id").value(1))
+            .andExpect(jsonPath("$.childCount").value(1))
+            .andExpect(jsonPath("$.completionRate").value(50.0))
+            .andExpect(jsonPath("$.children", hasSize(1)))
+            .andExpect(jsonPath("$.children[0].todo.id").value(2))
+            .andExpect(jsonPath("$.children[0].depth").value(1));
+
+        verify(todoService).getTodoTree(1L, 5);
+    }
+
+    @Test
+    @WithMockUser
+    void getTodoTree_withNonExistentRoot_shouldReturnNotFound() throws Exception {
+        when(todoService.getTodoTree(999L, 10)).thenThrow(new TodoNotFoundException(999L));
+
+        mockMvc.perform(get("/api/v1/todos/999/tree"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser
     void createTodo_withParentId_shouldReturnCreatedTodoWithParent() throws Exception {
@@ -1,7 +1,9 @@
 package com.zametech.personalhub.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zametech.personalhub.application.service.CollectionVersionService;
 import com.zametech.personalhub.application.service.TodoService;
+import com.zametech.personalhub.application.service.UserContextService;
 import com.zametech.personalhub.common.exception.TodoNotFoundException;
 import com.zametech.personalhub.domain.model.TodoPriority;
 import com.zametech.personalhub.domain.model.TodoStatus;
@@ -37,6 +39,12 @@ class TodoControllerToggleStatusTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private UserContextService userContextService;
+
+    @MockBean
+    private CollectionVersionService collectionVersionService;
+
     @Test
     @WithMockUser
     void testToggleTodoStatus_Success() throws Exception {